@@ -0,0 +1,260 @@
+package com.back.loadtest;
+
+import com.back.domain.donation.client.TossConfirmStubServer;
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import com.back.global.initData.ZipfSampler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * REST API 부하 테스트
+ *
+ * 인프로세스 애플리케이션(랜덤 포트)에 대량 시드 데이터를 넣고 시나리오별로 부하를 건다.
+ * - 무한 스크롤: 커서를 따라 끝까지 내려가고, 끝나면 처음부터 다시
+ * - 피드 상세: 인기 순위(Zipf)에 따라 피드 조회
+ * - 인기 글 리액션 토글: 가장 인기 있는 피드 하나에 리액션 토글 집중
+ * - 댓글 스레드: 댓글 페이지 조회 후 첫 댓글의 대댓글 조회
+ * - 후원 결제: 지연이 있는 토스 승인 스텁을 거치는 결제
+ * - 함께하기 댓글 작성: 임의의 함께하기 모임에 댓글 작성 (회원/함께하기 단건 조회 + insert)
+ *
+ * 결과(p50/p95/p99, 처리량)는 로그와 build/reports/loadtest/summary.md 로 남긴다.
+ * 기본은 인메모리 H2이며, -Ploadtest.jdbc-url=jdbc:postgresql://... 로 로컬 PostgreSQL에 실행할 수 있다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "app.seed.enabled=false",
+                "spring.jpa.show-sql=false",
+                "payment.toss.max-concurrent-calls=500",
+                "payment.toss.confirm-executor.pool-size=200"
+        }
+)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLoadTest.class);
+
+    private static final LoadTestConfig CONFIG = LoadTestConfig.fromSystemProperties();
+    private static final TossConfirmStubServer TOSS_STUB = new TossConfirmStubServer().start();
+
+    /** 상세/댓글 시나리오가 고르는 인기 피드 후보 수 */
+    private static final int POPULAR_FEED_POOL = 500;
+
+    /** 허용 오류율 (인기 글 리액션 토글은 동시 토글 충돌이 날 수 있어 별도 기준) */
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("payment.toss.base-url", TOSS_STUB::baseUrl);
+        if (CONFIG.jdbcUrl() != null) {
+            registry.add("spring.datasource.url", CONFIG::jdbcUrl);
+            registry.add("spring.datasource.username", CONFIG::jdbcUsername);
+            registry.add("spring.datasource.password", CONFIG::jdbcPassword);
+            // 드라이버는 URL에서 추론 (jdbc:postgresql → org.postgresql.Driver)
+            registry.add("spring.datasource.driver-class-name", () -> "");
+        } else {
+            registry.add("spring.datasource.url", () -> "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** 2차 캐시 사용 여부 (L2_CACHE_ENABLED=false 로 끄고 비교) */
+    @Value("${spring.jpa.properties.hibernate.cache.use_second_level_cache:false}")
+    private boolean secondLevelCacheEnabled;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<LoadResult> results = new ArrayList<>();
+
+    private LoadDriver driver;
+    private List<Long> popularFeedIds;
+    private ZipfSampler feedPopularity;
+    private List<Long> donationIds;
+    private List<Long> togetherIds;
+    private int memberCount;
+
+    @BeforeAll
+    void setUp() {
+        TOSS_STUB.setLatencyMillis(CONFIG.tossLatencyMillis());
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(CONFIG.members())
+                .feeds(CONFIG.feeds())
+                .togethers(Math.max(10, CONFIG.feeds() / 50))
+                .donations(50)
+                .donationPayments(CONFIG.members())
+                .build());
+
+        popularFeedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM feed ORDER BY comment_count DESC, id LIMIT " + POPULAR_FEED_POOL, Long.class);
+        donationIds = jdbcTemplate.queryForList("SELECT id FROM donations WHERE status = 'ACTIVE'", Long.class);
+        togetherIds = jdbcTemplate.queryForList("SELECT id FROM challenges", Long.class);
+        memberCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members", Integer.class);
+        assertThat(popularFeedIds).isNotEmpty();
+        assertThat(donationIds).isNotEmpty();
+        assertThat(togetherIds).isNotEmpty();
+
+        feedPopularity = new ZipfSampler(popularFeedIds.size(), 1.07);
+        driver = new LoadDriver("http://127.0.0.1:" + port);
+        log.info("부하 테스트 준비 완료 - 동시 사용자 {}, 시나리오별 {}초 (워밍업 {}초), DB {}",
+                CONFIG.concurrency(), CONFIG.durationSeconds(), CONFIG.warmupSeconds(),
+                CONFIG.jdbcUrl() == null ? "H2(in-memory)" : CONFIG.jdbcUrl());
+    }
+
+    @AfterAll
+    void writeReport() throws Exception {
+        TOSS_STUB.stop();
+
+        StringBuilder report = new StringBuilder()
+                .append("# API 부하 테스트 결과\n\n")
+                .append("- 실행 시각: ").append(LocalDateTime.now()).append('\n')
+                .append("- DB: ").append(CONFIG.jdbcUrl() == null ? "H2(in-memory)" : CONFIG.jdbcUrl()).append('\n')
+                .append("- 2차 캐시: ").append(secondLevelCacheEnabled ? "켜짐" : "꺼짐").append('\n')
+                .append("- 시드: 회원 ").append(CONFIG.members()).append(", 피드 ").append(CONFIG.feeds()).append('\n')
+                .append("- 시나리오별 측정 ").append(CONFIG.durationSeconds()).append("초, 워밍업 ")
+                .append(CONFIG.warmupSeconds()).append("초, 토스 스텁 지연 ").append(CONFIG.tossLatencyMillis()).append("ms\n\n")
+                .append(LoadResult.markdownHeader()).append('\n');
+        results.forEach(result -> report.append(result.toMarkdownRow()).append('\n'));
+
+        Path reportDir = Path.of(CONFIG.reportDir());
+        Files.createDirectories(reportDir);
+        Path reportFile = reportDir.resolve("summary.md");
+        Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+        log.info("부하 테스트 보고서: {}\n{}", reportFile.toAbsolutePath(), report);
+    }
+
+    @Test
+    @Order(1)
+    void infiniteScroll() throws Exception {
+        LoadResult result = run("무한 스크롤", user -> {
+            String path = user.state == null
+                    ? "/api/feeds/scroll?size=20"
+                    : "/api/feeds/scroll?size=20&lastFeedId=" + user.state;
+            JsonNode body = json(user.get(path));
+            user.state = body.path("hasNext").asBoolean() ? body.path("nextCursor").asLong() : null;
+        });
+
+        assertThat(result.errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    @Test
+    @Order(2)
+    void feedDetail() throws Exception {
+        LoadResult result = run("피드 상세", user -> user.get("/api/feeds/" + popularFeed(user)));
+
+        assertThat(result.errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    @Test
+    @Order(3)
+    void hotPostReactionToggle() throws Exception {
+        long hotFeedId = popularFeedIds.getFirst();
+        LoadResult result = run("인기 글 리액션 토글", user -> user.postJson("/api/feeds/" + hotFeedId + "/reactions", ""));
+
+        // 같은 회원의 동시 토글은 유니크 제약 충돌이 날 수 있으므로 오류는 기록만 하고 완료 여부만 확인
+        assertThat(result.requests()).isPositive();
+    }
+
+    @Test
+    @Order(4)
+    void commentThreads() throws Exception {
+        LoadResult result = run("댓글 스레드", user -> {
+            JsonNode page = json(user.get("/api/comments/feeds/" + popularFeed(user) + "?page=0&size=20"));
+            JsonNode comments = page.path("content");
+            if (!comments.isEmpty()) {
+                long commentId = comments.get(user.random().nextInt(comments.size())).path("id").asLong();
+                user.get("/api/comments/" + commentId + "/replies");
+            }
+        });
+
+        assertThat(result.errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    @Test
+    @Order(5)
+    void donationPayments() throws Exception {
+        LoadResult result = run("후원 결제", user -> {
+            long donationId = donationIds.get(user.random().nextInt(donationIds.size()));
+            long memberId = 1 + user.random().nextInt(memberCount);
+            String orderId = "load-" + UUID.randomUUID();
+            user.postJson("/api/v1/donation/toss/" + donationId + "/pay", """
+                    {"paymentKey":"pk-%s","orderId":"%s","amount":1000,"memberId":%d}
+                    """.formatted(orderId, orderId, memberId));
+        });
+
+        assertThat(result.errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    @Test
+    @Order(6)
+    void togetherComments() throws Exception {
+        LoadResult result = run("함께하기 댓글 작성", user -> {
+            long togetherId = togetherIds.get(user.random().nextInt(togetherIds.size()));
+            user.postJson("/api/comments", """
+                    {"commentType":"TOGETHER","content":"부하 테스트 댓글","targetId":%d}
+                    """.formatted(togetherId));
+        });
+
+        assertThat(result.errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    private LoadResult run(String name, LoadDriver.Scenario scenario) throws Exception {
+        LoadResult result = driver.run(name, CONFIG.concurrency(), CONFIG.warmupSeconds(), CONFIG.durationSeconds(), scenario);
+        results.add(result);
+        log.info("[{}] 요청 {}건, 오류 {}건, 처리량 {} req/s, p50 {}ms, p95 {}ms, p99 {}ms, max {}ms",
+                name, result.requests(), result.errors(), "%.1f".formatted(result.throughput()),
+                "%.1f".formatted(result.p50Millis()), "%.1f".formatted(result.p95Millis()),
+                "%.1f".formatted(result.p99Millis()), "%.1f".formatted(result.maxMillis()));
+        return result;
+    }
+
+    private long popularFeed(LoadDriver.VirtualUser user) {
+        return popularFeedIds.get(feedPopularity.sample(user.random()));
+    }
+
+    /** 응답 본문 파싱 (실패 응답은 드라이버가 이미 오류로 집계했으므로 빈 노드로 취급) */
+    private JsonNode json(HttpResponse<String> response) throws Exception {
+        if (response.statusCode() != 200) {
+            return MissingNode.getInstance();
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
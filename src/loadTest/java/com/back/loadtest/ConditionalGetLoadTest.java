@@ -0,0 +1,165 @@
+package com.back.loadtest;
+
+import com.back.domain.donation.service.DonationProgressSnapshot;
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 조건부 GET 부하 측정 (ETag / If-None-Match)
+ *
+ * 엔드포인트마다 같은 요청을 동시에 보내 If-None-Match 없이(200)와 있을 때(304)의
+ * 응답 본문 크기와 요청당 SQL 수(app.http.jdbc.statements)를 비교해 기록한다.
+ * ETag 갱신 정확성은 단위 테스트(ConditionalGetTest)에서 확인한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:conditional-get;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalGetLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConditionalGetLoadTest.class);
+
+    private static final int CONCURRENT_REQUESTS = 100;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private DonationProgressSnapshot donationProgressSnapshot;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long feedId;
+
+    @BeforeAll
+    void seed() {
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(100)
+                .feeds(500)
+                .togethers(10)
+                .donations(20)
+                .donationPayments(300)
+                .days(7)
+                .build());
+        feedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM feed WHERE deleted_at IS NULL ORDER BY comment_count DESC, id LIMIT 1", Long.class);
+        donationProgressSnapshot.refresh();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 일치하면 본문 조회 없이 304를 반환해 응답 크기와 SQL 수가 줄어든다")
+    void notModifiedSavesBytesAndQueries() throws Exception {
+        // 피드 상세/인기 피드는 200도 응답 JSON 캐시(FeedJsonCache)로 버전 쿼리만 실행해 SQL 수가 같고 본문만 줄어든다.
+        measure("/api/feeds/{feedId}", "/api/feeds/" + feedId, false);
+        measure("/api/feeds/popular", "/api/feeds/popular?size=20", false);
+        measure("/api/comments/feeds/{feedId}", "/api/comments/feeds/" + feedId + "?size=20", true);
+        measure("/api/comments/feeds/{feedId}/all", "/api/comments/feeds/" + feedId + "/all", true);
+        // 리더보드는 메모리 스냅샷이라 200도 SQL이 없고 본문만 줄어든다.
+        measure("/api/v1/donation/leaderboard", "/api/v1/donation/leaderboard?size=50", false);
+    }
+
+    /** If-None-Match 없이 / 있을 때 각각 동시 요청하고 본문 크기와 SQL 수를 비교 */
+    private void measure(String uriPattern, String path, boolean expectFewerQueries) throws Exception {
+        HttpResponse<String> first = send(path, null);
+        assertThat(first.statusCode()).as(first.body()).isEqualTo(200);
+        String eTag = first.headers().firstValue("ETag").orElseThrow();
+        assertThat(first.headers().firstValue("Cache-Control")).get().asString().contains("no-cache");
+
+        Load full = run(uriPattern, path, null, 200);
+        Load notModified = run(uriPattern, path, eTag, 304);
+
+        log.info("[조건부 GET] {} 동시 {}건 - 200: 본문 {}B, SQL {}건 / 304: 본문 {}B, SQL {}건 (절감: 본문 {}B, SQL {}건)",
+                uriPattern, CONCURRENT_REQUESTS, full.bytes(), full.statements(), notModified.bytes(), notModified.statements(),
+                full.bytes() - notModified.bytes(), full.statements() - notModified.statements());
+
+        assertThat(full.bytes()).isPositive();
+        assertThat(notModified.bytes()).isZero();
+        if (expectFewerQueries) {
+            assertThat(notModified.statements()).isLessThan(full.statements());
+        } else {
+            assertThat(notModified.statements()).isLessThanOrEqualTo(full.statements());
+        }
+    }
+
+    private Load run(String uriPattern, String path, String ifNoneMatch, int expectedStatus) throws Exception {
+        DistributionSummary before = statements(uriPattern);
+        long countBefore = before == null ? 0 : before.count();
+        double totalBefore = before == null ? 0 : before.totalAmount();
+
+        long bytes = 0;
+        List<Future<HttpResponse<String>>> results = new ArrayList<>(CONCURRENT_REQUESTS);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(clients.submit(() -> send(path, ifNoneMatch)));
+            }
+            for (Future<HttpResponse<String>> result : results) {
+                HttpResponse<String> response = result.get(60, TimeUnit.SECONDS);
+                assertThat(response.statusCode()).as(response.body()).isEqualTo(expectedStatus);
+                bytes += response.body().getBytes().length;
+            }
+        }
+
+        // 요청 단위 SQL 수는 응답을 보낸 뒤(afterCompletion) 기록된다.
+        await().atMost(Duration.ofSeconds(10)).until(() -> statements(uriPattern) != null
+                && statements(uriPattern).count() >= countBefore + CONCURRENT_REQUESTS);
+        long statements = Math.round(statements(uriPattern).totalAmount() - totalBefore);
+        return new Load(bytes, statements);
+    }
+
+    private HttpResponse<String> send(String path, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path)).GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private DistributionSummary statements(String uriPattern) {
+        return meterRegistry.find("app.http.jdbc.statements").tags("method", "GET", "uri", uriPattern).summary();
+    }
+
+    private record Load(long bytes, long statements) {
+    }
+}
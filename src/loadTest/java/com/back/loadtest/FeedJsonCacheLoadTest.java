@@ -0,0 +1,179 @@
+package com.back.loadtest;
+
+import com.back.domain.feed.dto.feed.request.FeedSearchCondition;
+import com.back.domain.feed.dto.feed.response.FeedSummaryResponse;
+import com.back.domain.feed.repository.FeedRepository;
+import com.back.domain.feed.service.FeedJsonCache;
+import com.back.domain.feed.service.FeedService;
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 응답 JSON 캐시 부하 측정
+ *
+ * 요청당 CPU 시간과 할당 바이트 비교 (기존 경로: 버전 + 상세 조회 + Jackson / 캐시 경로: 버전 + 템플릿)
+ * 스레드별 CPU/할당 카운터(com.sun.management.ThreadMXBean)로 플랫폼 스레드 풀에서 동시 실행해 측정한다.
+ * 템플릿 출력과 Jackson 직렬화 결과의 일치 여부는 단위 테스트(FeedJsonCacheTest)에서 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:feed-json-cache-load;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FeedJsonCacheLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedJsonCacheLoadTest.class);
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 2_000;
+    private static final int POPULAR_SIZE = 20;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private FeedJsonCache feedJsonCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long feedId;
+    private long memberId;
+
+    @BeforeAll
+    void seed() {
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(50)
+                .feeds(200)
+                .togethers(5)
+                .donations(1)
+                .donationPayments(0)
+                .days(7)
+                .build());
+        feedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM feed WHERE deleted_at IS NULL ORDER BY reaction_count DESC, id LIMIT 1", Long.class);
+        memberId = jdbcTemplate.queryForObject(
+                "SELECT member_id FROM feed_reaction WHERE feed_id = ? ORDER BY id LIMIT 1", Long.class, feedId);
+    }
+
+    @Test
+    @DisplayName("캐시 경로는 기존 경로보다 요청당 할당 바이트와 CPU 시간이 적다")
+    void cachedPathUsesLessCpuAndAllocation() throws Exception {
+        Cost plainDetail = measure(() -> {
+            feedService.getFeedVersion(feedId, memberId);
+            objectMapper.writeValue(OutputStream.nullOutputStream(), feedService.getFeed(feedId, memberId));
+        });
+        Cost cachedDetail = measure(() -> feedJsonCache.detail(feedService.getFeedVersion(feedId, memberId))
+                .writeTo(OutputStream.nullOutputStream()));
+        Cost plainPopular = measure(() -> {
+            feedService.getPopularFeedVersions(POPULAR_SIZE);
+            objectMapper.writeValue(OutputStream.nullOutputStream(), popularFeeds(POPULAR_SIZE));
+        });
+        Cost cachedPopular = measure(() -> feedJsonCache.summaries(feedService.getPopularFeedVersions(POPULAR_SIZE))
+                .writeTo(OutputStream.nullOutputStream()));
+
+        log.info("[JSON 캐시] 피드 상세 요청당 - Jackson: {} / 캐시: {}", plainDetail, cachedDetail);
+        log.info("[JSON 캐시] 인기 피드({}건) 요청당 - Jackson: {} / 캐시: {}", POPULAR_SIZE, plainPopular, cachedPopular);
+
+        // CPU 시간은 실행 환경에 따라 흔들리므로 기록만 하고, 할당량으로 검증
+        assertThat(cachedDetail.allocatedBytes()).isLessThan(plainDetail.allocatedBytes());
+        assertThat(cachedPopular.allocatedBytes()).isLessThan(plainPopular.allocatedBytes());
+    }
+
+    /** 템플릿 도입 전 인기 피드 응답 (엔티티 조회 + FeedSummaryResponse, getPopularFeedVersions와 같은 조건/순서) */
+    private List<FeedSummaryResponse> popularFeeds(int size) {
+        FeedSearchCondition condition = FeedSearchCondition.builder()
+                .startDate(LocalDateTime.now().minusDays(7))
+                .build();
+        return transactionTemplate.execute(status -> feedRepository.findPopularFeedsWithCondition(condition, size).stream()
+                .map(FeedSummaryResponse::from)
+                .toList());
+    }
+
+    /** 예열 후 REQUESTS건을 THREADS개 스레드에서 실행하고 요청당 평균 CPU 시간/할당 바이트 계산 */
+    private Cost measure(Request request) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Callable<long[]> task = () -> {
+            long cpu = threads.getCurrentThreadCpuTime();
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            request.run();
+            return new long[]{threads.getCurrentThreadCpuTime() - cpu, threads.getCurrentThreadAllocatedBytes() - allocated};
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            run(pool, task, REQUESTS / 4);
+            long started = System.nanoTime();
+            long[] total = run(pool, task, REQUESTS);
+            long elapsed = System.nanoTime() - started;
+            return new Cost(total[0] / REQUESTS, total[1] / REQUESTS, REQUESTS * 1_000_000_000L / elapsed);
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private long[] run(ExecutorService pool, Callable<long[]> task, int count) throws Exception {
+        List<Future<long[]>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(pool.submit(task));
+        }
+        long[] total = new long[2];
+        for (Future<long[]> future : futures) {
+            long[] cost = future.get(60, TimeUnit.SECONDS);
+            total[0] += cost[0];
+            total[1] += cost[1];
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void run() throws Exception;
+    }
+
+    private record Cost(long cpuNanos, long allocatedBytes, long requestsPerSecond) {
+
+        @Override
+        public String toString() {
+            return "CPU %dµs, 할당 %.1fKB, %d건/초".formatted(cpuNanos / 1_000, allocatedBytes / 1024.0, requestsPerSecond);
+        }
+    }
+}
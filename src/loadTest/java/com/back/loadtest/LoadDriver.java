@@ -0,0 +1,146 @@
+package com.back.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 기반 부하 발생기
+ *
+ * 동시 사용자마다 가상 스레드 하나가 시나리오를 쉬지 않고 반복한다. (closed model)
+ * 시나리오 안의 HTTP 요청 하나하나가 지연 측정 단위이며, 워밍업 구간의 요청은 결과에서 제외한다.
+ */
+public class LoadDriver {
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+
+    public LoadDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /** 시나리오 한 번 반복 (내부에서 여러 요청 가능) */
+    @FunctionalInterface
+    public interface Scenario {
+        void iterate(VirtualUser user) throws Exception;
+    }
+
+    public LoadResult run(String name, int concurrency, int warmupSeconds, int durationSeconds, Scenario scenario)
+            throws Exception {
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<VirtualUser> users = new ArrayList<>(concurrency);
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                VirtualUser user = new VirtualUser(i, measureFrom);
+                users.add(user);
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            scenario.iterate(user);
+                        } catch (Exception e) {
+                            user.recordError();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(durationSeconds + warmupSeconds + 60L, TimeUnit.SECONDS);
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(deadline - measureFrom);
+        long[] latencies = users.stream().flatMapToLong(user -> Arrays.stream(user.latencies())).toArray();
+        long errors = users.stream().mapToLong(user -> user.errors).sum();
+        return LoadResult.of(name, concurrency, latencies, errors, elapsedMillis);
+    }
+
+    /**
+     * 가상 사용자 1명 (전용 난수/측정 버퍼를 가지므로 사용자 간 공유 상태 없음)
+     */
+    public class VirtualUser {
+
+        private final int index;
+        private final long measureFrom;
+        private final SplittableRandom random;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        /** 시나리오별 사용자 상태 (예: 무한 스크롤 커서) */
+        public Object state;
+
+        private VirtualUser(int index, long measureFrom) {
+            this.index = index;
+            this.measureFrom = measureFrom;
+            this.random = new SplittableRandom(index * 31L + 7);
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public SplittableRandom random() {
+            return random;
+        }
+
+        public HttpResponse<String> get(String path) throws Exception {
+            return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build());
+        }
+
+        public HttpResponse<String> postJson(String path, String body) throws Exception {
+            return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+        }
+
+        /** 요청 1건 전송 + 지연 기록 (2xx가 아니면 오류로 집계) */
+        private HttpResponse<String> send(HttpRequest request) throws Exception {
+            long startedAt = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (startedAt >= measureFrom) {
+                record(System.nanoTime() - startedAt);
+                if (response.statusCode() / 100 != 2) {
+                    errors++;
+                }
+            }
+            return response;
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        private void recordError() {
+            if (System.nanoTime() >= measureFrom) {
+                errors++;
+            }
+        }
+
+        private long[] latencies() {
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+}
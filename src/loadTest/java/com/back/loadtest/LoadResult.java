@@ -0,0 +1,61 @@
+package com.back.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시나리오 1회 실행 결과 (요청 단위 지연 분포 + 처리량)
+ */
+public record LoadResult(
+        String scenario,
+        int concurrency,
+        long requests,
+        long errors,
+        long elapsedMillis,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+) {
+
+    static LoadResult of(String scenario, int concurrency, long[] latencyNanos, long errors, long elapsedMillis) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        return new LoadResult(scenario, concurrency, sorted.length, errors, elapsedMillis,
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                millis(percentile(sorted, 99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    /** 초당 처리 요청 수 */
+    public double throughput() {
+        return elapsedMillis == 0 ? 0 : requests * 1000.0 / elapsedMillis;
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    /** 보고서 표의 한 행 (Markdown) */
+    public String toMarkdownRow() {
+        return "| %s | %d | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f |".formatted(
+                scenario, concurrency, requests, errors, throughput(), p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+
+    static String markdownHeader() {
+        return """
+                | 시나리오 | 동시 사용자 | 요청 수 | 오류 | 처리량(req/s) | p50(ms) | p95(ms) | p99(ms) | max(ms) |
+                |---|---|---|---|---|---|---|---|---|""";
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.back.loadtest;
+
+/**
+ * 부하 테스트 설정 (Gradle -Ploadtest.xxx=값 → 시스템 프로퍼티)
+ *
+ * loadtest.concurrency       동시 가상 사용자 수 (기본 32)
+ * loadtest.duration-seconds  시나리오별 실행 시간 (기본 10)
+ * loadtest.warmup-seconds    시나리오별 워밍업 시간, 결과에서 제외 (기본 2)
+ * loadtest.toss-latency-ms   토스 승인 스텁 지연 (기본 200)
+ * loadtest.members / loadtest.feeds  시드 데이터 규모 (기본 2000 / 10000)
+ * loadtest.jdbc-url / loadtest.jdbc-username / loadtest.jdbc-password
+ *                            외부 DB(PostgreSQL 등) 사용 시 지정, 없으면 인메모리 H2
+ */
+public record LoadTestConfig(
+        int concurrency,
+        int durationSeconds,
+        int warmupSeconds,
+        long tossLatencyMillis,
+        int members,
+        int feeds,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        String reportDir
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.concurrency", 32),
+                Integer.getInteger("loadtest.duration-seconds", 10),
+                Integer.getInteger("loadtest.warmup-seconds", 2),
+                Long.getLong("loadtest.toss-latency-ms", 200L),
+                Integer.getInteger("loadtest.members", 2_000),
+                Integer.getInteger("loadtest.feeds", 10_000),
+                System.getProperty("loadtest.jdbc-url"),
+                System.getProperty("loadtest.jdbc-username", "sa"),
+                System.getProperty("loadtest.jdbc-password", ""),
+                System.getProperty("loadtest.report-dir", "build/reports/loadtest")
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.back.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:load-platform;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+class PlatformThreadWebTierLoadTest extends WebTierLoadComparisonSupport {
+
+    @Test
+    @DisplayName("플랫폼 스레드 모드 - 피드 조회/후원 결제 동시 부하")
+    void mixedLoad() throws Exception {
+        runMixedLoad("platform");
+    }
+}
@@ -0,0 +1,168 @@
+package com.back.loadtest;
+
+import com.back.domain.donation.client.TossConfirmStubServer;
+import com.back.domain.donation.entity.Donations;
+import com.back.domain.donation.repository.DonationRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.MemberRole;
+import com.back.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 웹 계층 부하 비교 (플랫폼 스레드 vs 가상 스레드)
+ *
+ * Tomcat 스레드를 적게 두고 피드 조회와 후원 결제(느린 토스 스텁)를 동시에 요청해 지연 분포를 기록한다.
+ * 두 모드는 각각 별도 컨텍스트와 별도 인메모리 DB에서 실행된다.
+ * 가상 스레드 모드의 실행기 종류 확인은 단위 테스트(VirtualThreadWebTierTest)에서 한다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=" + WebTierLoadComparisonSupport.TOMCAT_THREADS,
+                "payment.toss.max-concurrent-calls=200",
+                "payment.toss.confirm-executor.pool-size=200"
+        }
+)
+@ActiveProfiles("test")
+abstract class WebTierLoadComparisonSupport {
+
+    static final int TOMCAT_THREADS = 8;
+
+    private static final int CONCURRENT_REQUESTS = 200;
+    private static final long TOSS_LATENCY_MILLIS = 300;
+
+    private static final TossConfirmStubServer TOSS_STUB = new TossConfirmStubServer().start();
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void tossProperties(DynamicPropertyRegistry registry) {
+        registry.add("payment.toss.base-url", TOSS_STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        TOSS_STUB.stop();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    protected Donations donation;
+    protected Member member;
+
+    @BeforeEach
+    void setUpData() {
+        TOSS_STUB.setLatencyMillis(TOSS_LATENCY_MILLIS);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 6);
+        member = memberRepository.save(Member.builder()
+                .name("부하")
+                .nickname("load" + suffix)
+                .memberCode("LOAD" + suffix)
+                .role(MemberRole.USER)
+                .build());
+        donation = donationRepository.save(Donations.builder()
+                .title("부하 테스트 후원")
+                .goalAmount(100_000_000L)
+                .startDate(LocalDateTime.now())
+                .endDate(LocalDateTime.now().plusDays(30))
+                .status("ACTIVE")
+                .build());
+    }
+
+    /** 피드 조회 + 후원 결제를 동시에 요청하고 모두 200인지 확인 */
+    protected void runMixedLoad(String mode) throws Exception {
+        long[] feedLatencies = run(i -> HttpRequest.newBuilder(uri("/api/feeds/scroll?size=20")).GET().build());
+        long[] payLatencies = run(i -> HttpRequest.newBuilder(uri("/api/v1/donation/toss/" + donation.getId() + "/pay"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"paymentKey":"pk-%s","orderId":"order-%s","amount":1000,"memberId":%d}
+                        """.formatted(UUID.randomUUID(), UUID.randomUUID(), member.getId())))
+                .build());
+
+        log.info("[{}] Tomcat 스레드 {}개, 동시 요청 {}건 - 피드 조회 {}", mode, TOMCAT_THREADS, CONCURRENT_REQUESTS, summary(feedLatencies));
+        log.info("[{}] Tomcat 스레드 {}개, 동시 요청 {}건 - 후원 결제(토스 {}ms) {}",
+                mode, TOMCAT_THREADS, CONCURRENT_REQUESTS, TOSS_LATENCY_MILLIS, summary(payLatencies));
+    }
+
+    private long[] run(IntFunction<HttpRequest> requestFactory) throws Exception {
+        List<Future<Long>> results = new ArrayList<>(CONCURRENT_REQUESTS);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                HttpRequest request = requestFactory.apply(i);
+                results.add(clients.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+                    return System.nanoTime() - startedAt;
+                }));
+            }
+            long[] latencies = new long[CONCURRENT_REQUESTS];
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                latencies[i] = results.get(i).get(60, TimeUnit.SECONDS);
+            }
+            return latencies;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + port + path);
+    }
+
+    private static String summary(long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return "p50 %dms, p95 %dms, p99 %dms, max %dms".formatted(
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                millis(percentile(sorted, 99)), millis(sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -4,6 +4,8 @@ import com.back.domain.comment.dto.request.CommentCreateRequest;
 import com.back.domain.comment.dto.request.CommentUpdateRequest;
 import com.back.domain.comment.dto.response.CommentResponse;
 import com.back.domain.comment.service.CommentService;
+import com.back.global.web.ConditionalGet;
+import com.back.global.web.SparseFields;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,9 +17,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ETag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -88,20 +92,30 @@ public class CommentController {
                     responseCode = "200",
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = Page.class))
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 ETag와 일치)")
     })
     @GetMapping("/feeds/{feedId}")
-    public ResponseEntity<Page<CommentResponse>> getFeedComments(
+    public ResponseEntity<? extends Page<?>> getFeedComments(
             @Parameter(description = "피드 ID", required = true, example = "1")
             @PathVariable Long feedId,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "응답 필드 (쉼표 구분, 생략 시 전체 필드)", example = "id,content,authorNickname,replyCount")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "내용 미리보기 길이 (생략 시 전체 내용, 최대 2000)", example = "100")
+            @RequestParam(required = false) Integer previewLength,
+            WebRequest webRequest
     ) {
-        Page<CommentResponse> response = commentService.getFeedComments(feedId, page, size);
-
-        return ResponseEntity.ok(response);
+        SparseFields sparseFields = SparseFields.of(fields, previewLength);
+        ETag eTag = commentService.getFeedCommentsETag(feedId, page, size, sparseFields);
+        if (sparseFields.isRequested()) {
+            return ConditionalGet.respond(webRequest, eTag,
+                    () -> commentService.getFeedCommentFields(feedId, page, size, sparseFields));
+        }
+        return ConditionalGet.respond(webRequest, eTag, () -> commentService.getFeedComments(feedId, page, size));
     }
 
     @Operation(
@@ -113,16 +127,17 @@ public class CommentController {
                     responseCode = "200",
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = List.class))
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 ETag와 일치)")
     })
     @GetMapping("/feeds/{feedId}/all")
     public ResponseEntity<List<CommentResponse>> getFeedCommentsAll(
             @Parameter(description = "피드 ID", required = true, example = "1")
-            @PathVariable Long feedId
+            @PathVariable Long feedId,
+            WebRequest webRequest
     ) {
-        List<CommentResponse> response = commentService.getFeedCommentsAll(feedId);
-
-        return ResponseEntity.ok(response);
+        return ConditionalGet.respond(webRequest, commentService.getFeedCommentsAllETag(feedId),
+                () -> commentService.getFeedCommentsAll(feedId));
     }
 
     @Operation(
@@ -137,14 +152,23 @@ public class CommentController {
             )
     })
     @GetMapping("/together/{togetherId}")
-    public ResponseEntity<Page<CommentResponse>> getTogetherComments(
+    public ResponseEntity<Page<?>> getTogetherComments(
             @Parameter(description = "함께하기 ID", required = true, example = "1")
             @PathVariable Long togetherId,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "응답 필드 (쉼표 구분, 생략 시 전체 필드)", example = "id,content,authorNickname,replyCount")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "내용 미리보기 길이 (생략 시 전체 내용, 최대 2000)", example = "100")
+            @RequestParam(required = false) Integer previewLength
     ) {
+        SparseFields sparseFields = SparseFields.of(fields, previewLength);
+        if (sparseFields.isRequested()) {
+            return ResponseEntity.ok(commentService.getTogetherCommentFields(togetherId, page, size, sparseFields));
+        }
+
         Page<CommentResponse> response = commentService.getTogetherComments(togetherId, page, size);
 
         return ResponseEntity.ok(response);
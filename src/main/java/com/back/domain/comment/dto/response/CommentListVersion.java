@@ -0,0 +1,17 @@
+package com.back.domain.comment.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 댓글 목록의 버전 (ETag 계산용, 대댓글/삭제된 댓글 포함 집계)
+ * 작성/삭제는 개수에, 수정과 리액션 토글은 최근 수정 시각에, 작성자 프로필 변경은 작성자 최근 수정 시각에 반영된다.
+ * 일괄 UPDATE(탈퇴 회원 리액션 정리 등)는 수정 시각을 바꾸지 않으므로 리액션 수 합계도 함께 본다.
+ */
+public record CommentListVersion(
+        Long count,
+        Long deletedCount,
+        LocalDateTime lastUpdatedAt,
+        Long reactionSum,
+        LocalDateTime lastAuthorUpdatedAt
+) {
+}
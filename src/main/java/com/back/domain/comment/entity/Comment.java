@@ -7,6 +7,7 @@ import com.back.domain.together.entity.Together;
 import com.back.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -20,6 +21,19 @@ import java.util.List;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(
+    name = "comment",
+    indexes = {
+        // 대상별 최상위 댓글 (WHERE feed_id = ? AND parent_id IS NULL AND deleted_at IS NULL ORDER BY created_at)
+        @Index(name = "idx_comment_feed_parent", columnList = "feed_id, parent_id, deleted_at, created_at"),
+        @Index(name = "idx_comment_together_parent", columnList = "together_id, parent_id, deleted_at, created_at"),
+        // 대댓글, 회원별 댓글
+        @Index(name = "idx_comment_parent", columnList = "parent_id, deleted_at, created_at"),
+        @Index(name = "idx_comment_member", columnList = "member_id, deleted_at, created_at"),
+        // 피드 삭제 시 댓글 트리 연쇄 삭제 (WHERE feed_id = ? AND id > ? ORDER BY id, keyset)
+        @Index(name = "idx_comment_feed_id", columnList = "feed_id, id")
+    }
+)
 public class Comment extends BaseEntity {
 
 
@@ -56,10 +70,12 @@ public class Comment extends BaseEntity {
     private Comment parent;                // 부모 댓글 (null이면 최상위 댓글)
 
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
     private List<Comment> replies = new ArrayList<>();  // 대댓글 목록
 
     // ========== 카운트 필드 ==========
     @Column(nullable = false)
+    @Builder.Default
     private Integer reactionCount = 0;     // 댓글 좋아요 수
 
     // ========== Soft Delete ==========
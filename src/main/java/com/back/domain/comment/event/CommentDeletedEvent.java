@@ -0,0 +1,15 @@
+package com.back.domain.comment.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 삭제 이벤트
+ * 요청 트랜잭션에서는 댓글 하나만 삭제 표시하고, 하위 대댓글은 커밋 이후 CascadeDeleteService가 청크 단위로 정리한다.
+ * feedId는 피드 댓글일 때만 있다. (대댓글 수만큼 피드 댓글 수 감소)
+ */
+public record CommentDeletedEvent(
+        Long commentId,
+        Long feedId,
+        LocalDateTime deletedAt
+) {
+}
@@ -0,0 +1,43 @@
+package com.back.domain.comment.repository;
+
+import com.back.domain.comment.entity.QComment;
+import com.back.domain.member.entity.QMember;
+import com.back.global.jpa.FieldProjection;
+import com.querydsl.jpa.JPAExpressions;
+
+/**
+ * 댓글 목록 응답 필드 (CommentResponse 필드 순서)
+ * CommentService는 요청 필드를 검증하고, CommentRepositoryImpl은 요청 필드의 조회 식을 구성한다.
+ */
+public final class CommentFields {
+
+    private static final QComment REPLY = new QComment("reply");
+
+    /** 작성자 조인 별칭 (작성자 필드를 요청한 경우에만 조인) */
+    static final QMember AUTHOR = new QMember("author");
+
+    public static final FieldProjection PROJECTION = FieldProjection.builder()
+            .column("id", QComment.comment.id)
+            .column("commentType", QComment.comment.commentType)
+            .preview("content", QComment.comment.content)
+            .column("authorId", QComment.comment.member.id)
+            .column("authorName", AUTHOR.name)
+            .column("authorNickname", AUTHOR.nickname)
+            .column("authorProfileImage", AUTHOR.profileImageUrl)
+            .computed("targetId")
+            .column("parentId", QComment.comment.parent.id)
+            .computed("reply")
+            .computed("replies")
+            .column("replyCount", JPAExpressions
+                    .select(REPLY.count())
+                    .from(REPLY)
+                    .where(REPLY.parent.id.eq(QComment.comment.id), REPLY.deletedAt.isNull()))
+            .column("reactionCount", QComment.comment.reactionCount)
+            .computed("isReacted")
+            .column("createdAt", QComment.comment.createdAt)
+            .column("updatedAt", QComment.comment.updatedAt)
+            .build();
+
+    private CommentFields() {
+    }
+}
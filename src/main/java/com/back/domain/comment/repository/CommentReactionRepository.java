@@ -3,6 +3,7 @@ package com.back.domain.comment.repository;
 import com.back.domain.comment.entity.CommentReaction;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -44,6 +45,12 @@ public interface CommentReactionRepository extends JpaRepository<CommentReaction
     @Query("SELECT cr.comment.id FROM CommentReaction cr WHERE cr.member.id = :memberId")
     List<Long> findCommentIdsByMemberId(@Param("memberId") Long memberId);
 
+    /**
+     * 특정 회원이 리액션한 댓글 ID (탈퇴 청크, uk_comment_reaction_member_comment 범위)
+     */
+    @Query("SELECT cr.comment.id FROM CommentReaction cr WHERE cr.member.id = :memberId ORDER BY cr.comment.id")
+    List<Long> findCommentIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
     /**
      * 특정 댓글의 모든 리액션 삭제
      */
@@ -56,8 +63,16 @@ public interface CommentReactionRepository extends JpaRepository<CommentReaction
     void deleteByMemberId(Long memberId);
 
     /**
-     * 특정 피드의 모든 댓글 리액션 삭제
+     * 여러 댓글의 리액션 일괄 삭제 (연쇄 삭제 청크)
+     */
+    @Modifying
+    @Query("DELETE FROM CommentReaction cr WHERE cr.comment.id IN :commentIds")
+    int deleteByCommentIdIn(@Param("commentIds") List<Long> commentIds);
+
+    /**
+     * 특정 회원의 여러 댓글 리액션 일괄 삭제 (탈퇴 청크)
      */
-    @Query("DELETE FROM CommentReaction cr WHERE cr.comment.feed.id = :feedId")
-    void deleteByFeedId(@Param("feedId") Long feedId);
+    @Modifying
+    @Query("DELETE FROM CommentReaction cr WHERE cr.member.id = :memberId AND cr.comment.id IN :commentIds")
+    int deleteByMemberIdAndCommentIdIn(@Param("memberId") Long memberId, @Param("commentIds") List<Long> commentIds);
 }
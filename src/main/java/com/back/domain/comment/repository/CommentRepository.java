@@ -1,23 +1,33 @@
 package com.back.domain.comment.repository;
 
+import com.back.domain.comment.dto.response.CommentListVersion;
 import com.back.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+/**
+ * 댓글 조회는 응답 DTO에서 작성자를 항상 사용하므로 작성자를 함께 가져온다. (@EntityGraph)
+ * 대댓글/연관 컬렉션은 hibernate.default_batch_fetch_size 로 한 번에 로딩된다.
+ * 목록 조회는 파생 쿼리 대신 @Query 로 작성해 조인한 연관 테이블의 id 가 아닌 comment 의 FK 컬럼으로 필터링한다.
+ * (파생 쿼리는 c.feed.id 를 left join 후 f.id = ? 로 풀어 comment 인덱스를 타지 못함)
+ */
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
     // ========== 기본 조회 ==========
 
     /**
      * ID로 삭제되지 않은 댓글 조회
      */
+    @EntityGraph(attributePaths = "member")
     Optional<Comment> findByIdAndDeletedAtIsNull(Long id);
 
     // ========== 피드의 댓글 조회 ==========
@@ -25,14 +35,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 특정 피드의 최상위 댓글만 조회 (삭제된 것 제외, 최신순)
      */
-    List<Comment> findByFeedIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtAsc(Long feedId);
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT c FROM Comment c WHERE c.feed.id = :feedId AND c.parent IS NULL " +
+            "AND c.deletedAt IS NULL ORDER BY c.createdAt ASC")
+    List<Comment> findByFeedIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtAsc(@Param("feedId") Long feedId);
 
     /**
      * 특정 피드의 최상위 댓글 조회 (페이징)
-     * @EntityGraph로 replies fetch join하여 N+1 방지
+     * 작성자는 fetch join, 대댓글은 배치 로딩 (컬렉션 fetch join + 페이징은 메모리 페이징이 되므로 사용하지 않음)
      */
-    @EntityGraph(attributePaths = {"replies", "member"})
-    Page<Comment> findByFeedIdAndParentIsNullAndDeletedAtIsNull(Long feedId, Pageable pageable);
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT c FROM Comment c WHERE c.feed.id = :feedId AND c.parent IS NULL AND c.deletedAt IS NULL")
+    Page<Comment> findByFeedIdAndParentIsNullAndDeletedAtIsNull(@Param("feedId") Long feedId, Pageable pageable);
 
     /**
      * 특정 피드의 전체 댓글 개수 (대댓글 포함, 삭제된 것 제외)
@@ -45,12 +59,23 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Long countByFeedIdAndParentIsNullAndDeletedAtIsNull(Long feedId);
 
+    /**
+     * 특정 피드의 댓글 목록 버전 (조건부 GET, 대댓글/삭제된 댓글 포함 집계)
+     * deleted_at 조건을 두지 않아 IDX_COMMENT_FEED_ID 범위만 읽는다.
+     */
+    @Query("SELECT new com.back.domain.comment.dto.response.CommentListVersion(COUNT(c), COUNT(c.deletedAt), " +
+            "MAX(c.updatedAt), SUM(c.reactionCount), MAX(m.updatedAt)) " +
+            "FROM Comment c LEFT JOIN c.member m WHERE c.feed.id = :feedId")
+    CommentListVersion findListVersionByFeedId(@Param("feedId") Long feedId);
+
     // ========== 대댓글 조회 ==========
 
     /**
      * 특정 댓글의 대댓글 조회 (최신순)
      */
-    List<Comment> findByParentIdAndDeletedAtIsNullOrderByCreatedAtAsc(Long parentId);
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId AND c.deletedAt IS NULL ORDER BY c.createdAt ASC")
+    List<Comment> findByParentIdAndDeletedAtIsNullOrderByCreatedAtAsc(@Param("parentId") Long parentId);
 
     /**
      * 특정 댓글의 대댓글 개수
@@ -62,7 +87,9 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 특정 회원이 작성한 댓글 조회 (페이징)
      */
-    Page<Comment> findByMemberIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long memberId, Pageable pageable);
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT c FROM Comment c WHERE c.member.id = :memberId AND c.deletedAt IS NULL ORDER BY c.createdAt DESC")
+    Page<Comment> findByMemberIdAndDeletedAtIsNullOrderByCreatedAtDesc(@Param("memberId") Long memberId, Pageable pageable);
 
     /**
      * 특정 회원의 댓글 개수
@@ -79,6 +106,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 특정 피드의 인기 댓글 (리액션 많은 순)
      */
+    @EntityGraph(attributePaths = "member")
     @Query("SELECT c FROM Comment c WHERE c.feed.id = :feedId AND c.parent IS NULL " +
             "AND c.deletedAt IS NULL ORDER BY c.reactionCount DESC, c.createdAt ASC")
     List<Comment> findPopularCommentsByFeedId(@Param("feedId") Long feedId, Pageable pageable);
@@ -86,6 +114,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 특정 피드의 최신 댓글 N개
      */
+    @EntityGraph(attributePaths = "member")
     List<Comment> findTop10ByFeedIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtDesc(Long feedId);
 
     // ========== Together의 댓글 조회 ==========
@@ -93,14 +122,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 특정 Together의 최상위 댓글만 조회 (삭제된 것 제외, 최신순)
      */
-    List<Comment> findByTogetherIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtAsc(Long togetherId);
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT c FROM Comment c WHERE c.together.id = :togetherId AND c.parent IS NULL " +
+            "AND c.deletedAt IS NULL ORDER BY c.createdAt ASC")
+    List<Comment> findByTogetherIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtAsc(@Param("togetherId") Long togetherId);
 
     /**
      * 특정 Together의 최상위 댓글 조회 (페이징)
-     * @EntityGraph로 replies fetch join하여 N+1 방지
+     * 작성자는 fetch join, 대댓글은 배치 로딩 (컬렉션 fetch join + 페이징은 메모리 페이징이 되므로 사용하지 않음)
      */
-    @EntityGraph(attributePaths = {"replies", "member"})
-    Page<Comment> findByTogetherIdAndParentIsNullAndDeletedAtIsNull(Long togetherId, Pageable pageable);
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT c FROM Comment c WHERE c.together.id = :togetherId AND c.parent IS NULL AND c.deletedAt IS NULL")
+    Page<Comment> findByTogetherIdAndParentIsNullAndDeletedAtIsNull(@Param("togetherId") Long togetherId, Pageable pageable);
 
     /**
      * 특정 Together의 전체 댓글 개수 (대댓글 포함)
@@ -115,6 +148,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 특정 Together의 인기 댓글 (리액션 많은 순)
      */
+    @EntityGraph(attributePaths = "member")
     @Query("SELECT c FROM Comment c WHERE c.together.id = :togetherId AND c.parent IS NULL " +
             "AND c.deletedAt IS NULL ORDER BY c.reactionCount DESC, c.createdAt ASC")
     List<Comment> findPopularCommentsByTogetherId(@Param("togetherId") Long togetherId, Pageable pageable);
@@ -122,6 +156,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 특정 Together의 최신 댓글 N개
      */
+    @EntityGraph(attributePaths = "member")
     List<Comment> findTop10ByTogetherIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtDesc(Long togetherId);
 
     /**
@@ -130,20 +165,63 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("UPDATE Comment c SET c.deletedAt = CURRENT_TIMESTAMP WHERE c.together.id = :togetherId")
     void softDeleteByTogetherId(@Param("togetherId") Long togetherId);
 
-    // ========== 삭제 관련 ==========
+    // ========== 연쇄 삭제 (CascadeDeleteService, 청크 단위) ==========
+
+    /**
+     * 특정 피드의 댓글 ID (대댓글, 삭제된 댓글 포함, id 순 keyset)
+     * idx_comment_feed_id (feed_id, id) 범위만 읽는다. (삭제 여부는 softDeleteByIdIn 조건에서 거름)
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.feed.id = :feedId AND c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsByFeedId(@Param("feedId") Long feedId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 부모 댓글들의 삭제되지 않은 대댓글 ID
+     * 삭제한 행은 조건에서 빠지므로 호출 측은 항상 첫 청크를 조회한다. (idx_comment_parent)
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.parent.id IN :parentIds AND c.deletedAt IS NULL")
+    List<Long> findLiveReplyIds(@Param("parentIds") List<Long> parentIds, Pageable pageable);
+
+    /**
+     * 댓글 일괄 Soft Delete (이미 삭제된 댓글은 제외)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    int softDeleteByIdIn(@Param("ids") List<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 삭제되지 않은 대댓글이 있는 부모 댓글 ID (idx_comment_parent)
+     */
+    @Query("SELECT DISTINCT c.parent.id FROM Comment c WHERE c.parent.id IN :parentIds AND c.deletedAt IS NULL")
+    List<Long> findParentIdsWithLiveReplies(@Param("parentIds") List<Long> parentIds);
+
+    /**
+     * 삭제되지 않은 대댓글이나 리액션이 남아 있는 삭제 댓글 ID (연쇄 삭제 복구, id 순 keyset)
+     * 하위 데이터 확인은 idx_comment_parent / idx_comment_reaction_comment_id
+     */
+    @Query("SELECT c.id FROM Comment c " +
+            "WHERE c.deletedAt >= :from AND c.deletedAt < :to AND c.id > :afterId " +
+            "AND (EXISTS (SELECT 1 FROM Comment r WHERE r.parent.id = c.id AND r.deletedAt IS NULL) " +
+            "OR EXISTS (SELECT 1 FROM CommentReaction cr WHERE cr.comment.id = c.id)) " +
+            "ORDER BY c.id")
+    List<Long> findDeletedIdsWithChildren(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                          @Param("afterId") Long afterId, Pageable pageable);
+
+    // ========== 탈퇴 회원 정리 (MemberWithdrawalService, 청크 단위) ==========
 
     /**
-     * 특정 피드의 모든 댓글 삭제 (Soft Delete)
+     * 특정 회원의 삭제되지 않은 댓글 (idx_comment_member)
+     * 삭제 표시한 행은 조건에서 빠지므로 호출 측은 항상 첫 청크를 조회한다.
      */
-    @Query("UPDATE Comment c SET c.deletedAt = CURRENT_TIMESTAMP WHERE c.feed.id = :feedId")
-    void softDeleteByFeedId(@Param("feedId") Long feedId);
+    @Query("SELECT c FROM Comment c WHERE c.member.id = :memberId AND c.deletedAt IS NULL")
+    List<Comment> findLiveByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
     /**
-     * 특정 댓글과 그 대댓글 모두 삭제 (Soft Delete)
+     * 여러 댓글의 리액션 수 1씩 감소 (회원당 댓글별 리액션은 최대 1개)
      */
-    @Query("UPDATE Comment c SET c.deletedAt = CURRENT_TIMESTAMP " +
-            "WHERE c.id = :commentId OR c.parent.id = :commentId")
-    void softDeleteCommentAndReplies(@Param("commentId") Long commentId);
+    @Modifying
+    @Query("UPDATE Comment c SET c.reactionCount = CASE WHEN c.reactionCount > 0 THEN c.reactionCount - 1 ELSE 0 END " +
+            "WHERE c.id IN :ids")
+    int decreaseReactionCount(@Param("ids") List<Long> ids);
 
     // ========== 검색 ==========
 
@@ -0,0 +1,33 @@
+package com.back.domain.comment.repository;
+
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.SparseFields;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Comment QueryDSL Custom Repository 인터페이스
+ * 요청한 필드만 조회하는 댓글 목록 (fields / previewLength)
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * 특정 피드의 최상위 댓글 조회 (페이징) - 요청한 필드만
+     *
+     * @param feedId 피드 ID
+     * @param pageable 페이징 정보
+     * @param fields 요청 필드 / 미리보기 길이
+     * @return 응답 행 페이지 (대댓글 포함, 작성순)
+     */
+    Page<ProjectedRow> findFeedCommentFields(Long feedId, Pageable pageable, SparseFields fields);
+
+    /**
+     * 특정 Together의 최상위 댓글 조회 (페이징) - 요청한 필드만
+     *
+     * @param togetherId Together ID
+     * @param pageable 페이징 정보
+     * @param fields 요청 필드 / 미리보기 길이
+     * @return 응답 행 페이지 (대댓글 포함, 작성순)
+     */
+    Page<ProjectedRow> findTogetherCommentFields(Long togetherId, Pageable pageable, SparseFields fields);
+}
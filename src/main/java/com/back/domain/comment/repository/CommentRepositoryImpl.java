@@ -0,0 +1,111 @@
+package com.back.domain.comment.repository;
+
+import com.back.domain.comment.entity.QComment;
+import com.back.global.jpa.FieldProjection;
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.SparseFields;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Comment QueryDSL Custom Repository 구현체
+ * 요청한 컬럼만 스칼라로 조회한다. (엔티티/대댓글 컬렉션 로딩 없음)
+ * - 작성자 테이블은 작성자 이름/닉네임/프로필을 요청한 경우에만 조인
+ * - 대댓글은 요청한 경우에만 페이지의 부모 ID로 한 번에 조회 (idx_comment_parent)
+ * - 대댓글 수는 상관 서브쿼리, 리액션 여부는 기존 목록 응답과 같이 false
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<ProjectedRow> findFeedCommentFields(Long feedId, Pageable pageable, SparseFields fields) {
+        // comment의 FK 컬럼으로 필터링 (idx_comment_feed_parent)
+        return findTopLevelFields(QComment.comment.feed.id.eq(feedId), feedId, pageable, fields);
+    }
+
+    @Override
+    public Page<ProjectedRow> findTogetherCommentFields(Long togetherId, Pageable pageable, SparseFields fields) {
+        // comment의 FK 컬럼으로 필터링 (idx_comment_together_parent)
+        return findTopLevelFields(QComment.comment.together.id.eq(togetherId), togetherId, pageable, fields);
+    }
+
+    private Page<ProjectedRow> findTopLevelFields(Predicate target, Long targetId, Pageable pageable, SparseFields fields) {
+        QComment comment = QComment.comment;
+        FieldProjection.Selection selection = CommentFields.PROJECTION.select(fields, "id");
+
+        List<ProjectedRow> rows = fetchRows(selection, pageable.getOffset(), pageable.getPageSize(),
+                target, comment.parent.isNull(), comment.deletedAt.isNull());
+        for (ProjectedRow row : rows) {
+            fillCommon(row, targetId, false);
+        }
+        if (!rows.isEmpty() && selection.includes("replies")) {
+            fillReplies(rows, targetId, fields);
+        }
+
+        Long total = queryFactory
+                .select(comment.count())
+                .from(comment)
+                .where(target, comment.parent.isNull(), comment.deletedAt.isNull())
+                .fetchOne();
+
+        return new PageImpl<>(rows, pageable, total != null ? total : 0L);
+    }
+
+    /**
+     * 대댓글 - 페이지의 부모 댓글 ID로 한 번에 조회해 부모별로 나눈다. (대댓글의 replies/replyCount는 null)
+     */
+    private void fillReplies(List<ProjectedRow> rows, Long targetId, SparseFields fields) {
+        QComment comment = QComment.comment;
+        FieldProjection.Selection selection = CommentFields.PROJECTION.select(fields, "id", "parentId");
+        List<Long> parentIds = rows.stream().map(row -> row.<Long>key("id")).toList();
+
+        Map<Long, List<Map<String, Object>>> replies = new HashMap<>();
+        for (ProjectedRow reply : fetchRows(selection, 0, null, comment.parent.id.in(parentIds), comment.deletedAt.isNull())) {
+            fillCommon(reply, targetId, true);
+            reply.fill("replies", null);
+            reply.fill("replyCount", null);
+            replies.computeIfAbsent(reply.key("parentId"), id -> new ArrayList<>()).add(reply.values());
+        }
+
+        for (ProjectedRow row : rows) {
+            row.fill("replies", replies.getOrDefault(row.<Long>key("id"), List.of()));
+        }
+    }
+
+    private List<ProjectedRow> fetchRows(FieldProjection.Selection selection, long offset, Integer limit,
+                                         Predicate... where) {
+        QComment comment = QComment.comment;
+
+        JPAQuery<Tuple> query = queryFactory.select(selection.expressions()).from(comment);
+        if (selection.includesAny("authorName", "authorNickname", "authorProfileImage")) {
+            query.leftJoin(comment.member, CommentFields.AUTHOR);
+        }
+        query.where(where)
+                .orderBy(comment.createdAt.asc(), comment.id.asc());
+        if (limit != null) {
+            query.offset(offset).limit(limit);
+        }
+        return selection.toRows(query.fetch());
+    }
+
+    private static void fillCommon(ProjectedRow row, Long targetId, boolean reply) {
+        row.fill("targetId", targetId);
+        row.fill("reply", reply);
+        row.fill("isReacted", false);
+    }
+}
@@ -0,0 +1,70 @@
+package com.back.domain.comment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연쇄 삭제 전용 실행기
+ *
+ * 피드/댓글 삭제 요청은 본문만 삭제 표시하고 바로 응답하며, 하위 데이터 정리는 여기서 순서대로 처리한다.
+ * 스레드 수를 적게 두어 대량 삭제가 몰려도 DB 커넥션을 일반 요청보다 많이 잡지 않게 한다.
+ * 대기열이 가득 차면 작업을 요청 스레드에서 실행하지 않고 버린다. (경고 로그 + app.cascade.delete.rejected)
+ * 버려진 작업과 서버 종료 시 유실된 작업은 복구 스케줄러가 다시 실행한다.
+ * (CascadeDeleteRecoveryScheduler / MemberWithdrawalRecoveryScheduler, 이미 처리한 청크는 그대로 유지)
+ */
+@Slf4j
+@Component
+public class CascadeDeleteExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public CascadeDeleteExecutor(
+            @Value("${app.cascade-delete.pool-size:2}") int poolSize,
+            @Value("${app.cascade-delete.queue-capacity:10000}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        Counter rejected = Counter.builder("app.cascade.delete.rejected")
+                .description("대기열이 가득 차 버린 연쇄 삭제 작업 수 (복구 스케줄러가 다시 실행)")
+                .register(meterRegistry);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cascade-delete-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> {
+                    rejected.increment();
+                    log.warn("연쇄 삭제 대기열 초과로 작업을 버림 - 복구 스케줄러에서 다시 실행 (대기: {}건)", pool.getQueue().size());
+                }
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("app.cascade.delete.pending", executor, e -> e.getQueue().size() + e.getActiveCount())
+                .description("대기 중이거나 실행 중인 연쇄 삭제 작업 수")
+                .register(meterRegistry);
+    }
+
+    public void submit(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,315 @@
+package com.back.domain.comment.service;
+
+import com.back.domain.comment.entity.Comment;
+import com.back.domain.comment.event.CommentDeletedEvent;
+import com.back.domain.comment.repository.CommentReactionRepository;
+import com.back.domain.comment.repository.CommentRepository;
+import com.back.domain.feed.entity.Feed;
+import com.back.domain.feed.event.FeedDeletedEvent;
+import com.back.domain.feed.repository.FeedBookmarkRepository;
+import com.back.domain.feed.repository.FeedReactionRepository;
+import com.back.domain.feed.repository.FeedRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 피드/댓글 연쇄 삭제 서비스
+ *
+ * 삭제 요청 트랜잭션은 피드(또는 댓글) 한 건만 삭제 표시하고, 커밋 이후 이벤트를 받아 하위 데이터를 비동기로 정리한다.
+ * - 피드: 댓글 트리 Soft Delete + 댓글 리액션 삭제 (id keyset), 피드 리액션/북마크 삭제
+ * - 댓글: 하위 대댓글 트리 Soft Delete + 리액션 삭제, 피드 댓글 수 감소
+ * 청크마다 짧은 트랜잭션으로 처리해 댓글이 수만 건인 피드를 지워도 잠금을 오래 잡지 않는다.
+ * 각 청크는 다시 실행해도 결과가 같으므로 중간에 실패하면 남은 행만 다음 실행에서 처리된다.
+ * 실패하거나 서버 종료로 유실된 작업은 recoverPending()이 하위 데이터가 남은 삭제 피드/댓글을 찾아 다시 실행한다.
+ *
+ * 메트릭
+ * - app.cascade.delete.rows   : 처리한 행 수 (target, kind) - 진행 상황
+ * - app.cascade.delete.chunks : 처리한 청크 수 (target)
+ * - app.cascade.delete        : 작업 하나의 소요 시간 (target, outcome)
+ * - app.cascade.delete.recovered : 복구 실행으로 다시 처리한 대상 수 (target)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CascadeDeleteService {
+
+    private static final String TARGET_FEED = "feed";
+    private static final String TARGET_COMMENT = "comment";
+
+    private final CommentRepository commentRepository;
+    private final CommentReactionRepository commentReactionRepository;
+    private final FeedRepository feedRepository;
+    private final FeedReactionRepository feedReactionRepository;
+    private final FeedBookmarkRepository feedBookmarkRepository;
+    private final CascadeDeleteExecutor cascadeDeleteExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cascade-delete.chunk-size:500}")
+    private int chunkSize;
+
+    /** 피드 삭제 커밋 이후 하위 데이터 정리 예약 */
+    @TransactionalEventListener
+    public void onFeedDeleted(FeedDeletedEvent event) {
+        cascadeDeleteExecutor.submit(() -> runQuietly(() -> deleteFeedChildren(event.feedId(), event.deletedAt())));
+    }
+
+    /** 댓글 삭제 커밋 이후 대댓글 정리 예약 */
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        cascadeDeleteExecutor.submit(() -> runQuietly(
+                () -> deleteReplies(event.commentId(), event.feedId(), event.deletedAt())));
+    }
+
+    /**
+     * 피드의 댓글 트리, 댓글 리액션, 피드 리액션/북마크 정리
+     * 댓글은 feed_id 범위에서 id 순으로 청크를 넘기고(keyset), 리액션/북마크는 지운 행이 조건에서 빠지므로 항상 첫 청크를 지운다.
+     */
+    public Result deleteFeedChildren(Long feedId, LocalDateTime deletedAt) {
+        return run(TARGET_FEED, feedId, progress -> {
+            Pageable chunk = PageRequest.of(0, chunkSize);
+
+            long afterId = 0L;
+            while (true) {
+                long cursor = afterId;
+                List<Long> commentIds = transactionTemplate.execute(status -> {
+                    List<Long> ids = commentRepository.findIdsByFeedId(feedId, cursor, chunk);
+                    if (!ids.isEmpty()) {
+                        progress.add(Kind.COMMENT_REACTION, commentReactionRepository.deleteByCommentIdIn(ids));
+                        progress.add(Kind.COMMENT, commentRepository.softDeleteByIdIn(ids, deletedAt));
+                    }
+                    return ids;
+                });
+                if (commentIds == null || commentIds.isEmpty()) {
+                    break;
+                }
+                progress.chunkDone();
+                afterId = commentIds.getLast();
+            }
+
+            deleteAllInChunks(progress, Kind.FEED_REACTION,
+                    () -> feedReactionRepository.findIdsByFeedId(feedId, chunk),
+                    feedReactionRepository::deleteAllByIdInBatch);
+            deleteAllInChunks(progress, Kind.FEED_BOOKMARK,
+                    () -> feedBookmarkRepository.findIdsByFeedId(feedId, chunk),
+                    feedBookmarkRepository::deleteAllByIdInBatch);
+        });
+    }
+
+    /**
+     * 댓글의 하위 대댓글 트리 정리 (댓글 자신은 요청 트랜잭션에서 삭제됨)
+     * 부모 ID 묶음을 스택에 쌓아 깊이 우선으로 내려가므로 메모리는 (트리 깊이 x 청크 크기)를 넘지 않는다.
+     *
+     * @param feedId 피드 댓글이면 피드 ID (삭제한 대댓글 수만큼 댓글 수 감소), 아니면 null
+     */
+    public Result deleteReplies(Long commentId, Long feedId, LocalDateTime deletedAt) {
+        return run(TARGET_COMMENT, commentId, progress -> {
+            Pageable chunk = PageRequest.of(0, chunkSize);
+
+            transactionTemplate.executeWithoutResult(status ->
+                    progress.add(Kind.COMMENT_REACTION, commentReactionRepository.deleteByCommentIdIn(List.of(commentId))));
+
+            Deque<List<Long>> parents = new ArrayDeque<>();
+            parents.push(List.of(commentId));
+            while (!parents.isEmpty()) {
+                List<Long> parentIds = parents.peek();
+                List<Long> replyIds = transactionTemplate.execute(status -> {
+                    List<Long> ids = commentRepository.findLiveReplyIds(parentIds, chunk);
+                    if (!ids.isEmpty()) {
+                        progress.add(Kind.COMMENT_REACTION, commentReactionRepository.deleteByCommentIdIn(ids));
+                        int deleted = commentRepository.softDeleteByIdIn(ids, deletedAt);
+                        progress.add(Kind.COMMENT, deleted);
+                        if (feedId != null && deleted > 0) {
+                            feedRepository.decreaseCommentCount(feedId, deleted);
+                        }
+                    }
+                    return ids;
+                });
+
+                if (replyIds == null || replyIds.isEmpty()) {
+                    // 이 부모들의 대댓글을 모두 처리함 → 위 단계의 남은 대댓글로 돌아감
+                    parents.pop();
+                } else {
+                    progress.chunkDone();
+                    parents.push(replyIds);
+                }
+            }
+        });
+    }
+
+    /**
+     * 하위 데이터가 남아 있는 삭제 피드/댓글의 연쇄 삭제 재실행 (CascadeDeleteRecoveryScheduler)
+     * 삭제 시각이 [from, to) 인 대상만 보며, to는 진행 중인 비동기 작업과 겹치지 않도록 충분히 이전 시각으로 둔다.
+     * 피드를 먼저 정리하므로 피드와 함께 삭제된 댓글은 댓글 단계에서 다시 조회되지 않는다.
+     * 대상 하나가 실패해도 나머지는 계속 처리하고, 실패한 대상은 다음 실행에서 다시 조회된다.
+     *
+     * @return 다시 실행한 대상 수 (피드 + 댓글)
+     */
+    public int recoverPending(LocalDateTime from, LocalDateTime to) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        int recovered = 0;
+
+        long afterId = 0L;
+        List<Long> feedIds;
+        while (!(feedIds = feedRepository.findDeletedIdsWithChildren(from, to, afterId, chunk)).isEmpty()) {
+            for (Long feedId : feedIds) {
+                Feed feed = feedRepository.findById(feedId).orElse(null);
+                if (feed != null && feed.getDeletedAt() != null) {
+                    runQuietly(() -> deleteFeedChildren(feedId, feed.getDeletedAt()));
+                    recovered(TARGET_FEED);
+                    recovered++;
+                }
+            }
+            afterId = feedIds.getLast();
+        }
+
+        afterId = 0L;
+        List<Long> commentIds;
+        while (!(commentIds = commentRepository.findDeletedIdsWithChildren(from, to, afterId, chunk)).isEmpty()) {
+            for (Long commentId : commentIds) {
+                Comment comment = commentRepository.findById(commentId).orElse(null);
+                if (comment != null && comment.getDeletedAt() != null) {
+                    Long feedId = comment.isFeedComment() && comment.getFeed() != null ? comment.getFeed().getId() : null;
+                    runQuietly(() -> deleteReplies(commentId, feedId, comment.getDeletedAt()));
+                    recovered(TARGET_COMMENT);
+                    recovered++;
+                }
+            }
+            afterId = commentIds.getLast();
+        }
+
+        if (recovered > 0) {
+            log.warn("연쇄 삭제 복구 - 하위 데이터가 남은 대상 {}건 재실행 (삭제 시각 {} ~ {})", recovered, from, to);
+        }
+        return recovered;
+    }
+
+    private void recovered(String target) {
+        meterRegistry.counter("app.cascade.delete.recovered", "target", target).increment();
+    }
+
+    /** 대상이 없을 때까지 첫 청크를 조회해 삭제 */
+    private void deleteAllInChunks(Progress progress, Kind kind,
+                                   Supplier<List<Long>> firstChunk, Consumer<List<Long>> deleter) {
+        while (true) {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> found = firstChunk.get();
+                if (!found.isEmpty()) {
+                    deleter.accept(found);
+                    progress.add(kind, found.size());
+                }
+                return found;
+            });
+            if (ids == null || ids.isEmpty()) {
+                return;
+            }
+            progress.chunkDone();
+        }
+    }
+
+    private Result run(String target, Long id, Consumer<Progress> cascade) {
+        Progress progress = new Progress(target);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            cascade.accept(progress);
+            Result result = progress.toResult();
+            log.info("연쇄 삭제 완료 - {} ID: {}, {}", target, id, result);
+            return result;
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.error("연쇄 삭제 실패 - {} ID: {}, 진행: {}", target, id, progress.toResult(), e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("app.cascade.delete")
+                    .tag("target", target)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /** 비동기 실행 시 예외는 run()에서 기록했으므로 실행기로 전파하지 않음 */
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ignored) {
+            // 실패한 청크 이후의 행은 남아 있으며 recoverPending()이 같은 대상으로 다시 실행해 이어서 처리한다.
+        }
+    }
+
+    /** 정리한 행 종류 (메트릭 kind 태그) */
+    private enum Kind {
+        COMMENT("comment"),
+        COMMENT_REACTION("comment_reaction"),
+        FEED_REACTION("feed_reaction"),
+        FEED_BOOKMARK("feed_bookmark");
+
+        private final String tag;
+
+        Kind(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /** 작업 하나의 진행 상황 (청크를 처리할 때마다 메트릭에 바로 반영) */
+    private class Progress {
+
+        private final String target;
+        private final Map<Kind, Long> rows = new EnumMap<>(Kind.class);
+        private int chunks;
+
+        Progress(String target) {
+            this.target = target;
+        }
+
+        void add(Kind kind, int count) {
+            if (count <= 0) {
+                return;
+            }
+            rows.merge(kind, (long) count, Long::sum);
+            meterRegistry.counter("app.cascade.delete.rows", "target", target, "kind", kind.tag).increment(count);
+        }
+
+        void chunkDone() {
+            chunks++;
+            meterRegistry.counter("app.cascade.delete.chunks", "target", target).increment();
+        }
+
+        Result toResult() {
+            return new Result(
+                    rows.getOrDefault(Kind.COMMENT, 0L),
+                    rows.getOrDefault(Kind.COMMENT_REACTION, 0L),
+                    rows.getOrDefault(Kind.FEED_REACTION, 0L),
+                    rows.getOrDefault(Kind.FEED_BOOKMARK, 0L),
+                    chunks
+            );
+        }
+    }
+
+    /** 연쇄 삭제 결과 (행 수) */
+    public record Result(
+            long comments,
+            long commentReactions,
+            long feedReactions,
+            long feedBookmarks,
+            int chunks
+    ) {
+    }
+}
@@ -6,6 +6,8 @@ import com.back.domain.comment.dto.response.CommentResponse;
 import com.back.domain.comment.entity.Comment;
 import com.back.domain.comment.entity.CommentReaction;
 import com.back.domain.comment.entity.CommentType;
+import com.back.domain.comment.event.CommentDeletedEvent;
+import com.back.domain.comment.repository.CommentFields;
 import com.back.domain.comment.repository.CommentReactionRepository;
 import com.back.domain.comment.repository.CommentRepository;
 import com.back.domain.feed.entity.Feed;
@@ -15,15 +17,21 @@ import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.together.entity.Together;
 import com.back.domain.together.repository.TogetherRepository;
 import com.back.global.exception.ErrorCode;
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.ConditionalGet;
+import com.back.global.web.SparseFields;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ETag;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,6 +45,7 @@ public class CommentService {
     private final FeedRepository feedRepository;
     private final TogetherRepository togetherRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 생성
@@ -119,6 +128,15 @@ public class CommentService {
         return comments.map(CommentResponse::from);
     }
 
+    /**
+     * Feed의 댓글 목록 조회 (페이징) - 요청한 필드만 (fields / previewLength)
+     */
+    public Page<Map<String, Object>> getFeedCommentFields(Long feedId, int page, int size, SparseFields fields) {
+        CommentFields.PROJECTION.validate(fields);
+        return commentRepository.findFeedCommentFields(feedId, PageRequest.of(page, size), fields)
+                .map(ProjectedRow::values);
+    }
+
     /**
      * Feed의 댓글 목록 조회 (전체 - 대댓글 포함)
      */
@@ -131,6 +149,21 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Feed의 댓글 목록 ETag (페이징, 목록 조회 전에 집계 버전만 조회, 요청 필드별로 다른 ETag)
+     */
+    public ETag getFeedCommentsETag(Long feedId, int page, int size, SparseFields fields) {
+        return ConditionalGet.weak("feed-comments", feedId, page, size, fields,
+                commentRepository.findListVersionByFeedId(feedId));
+    }
+
+    /**
+     * Feed의 댓글 목록 ETag (전체)
+     */
+    public ETag getFeedCommentsAllETag(Long feedId) {
+        return ConditionalGet.weak("feed-comments-all", feedId, commentRepository.findListVersionByFeedId(feedId));
+    }
+
     /**
      * Together의 댓글 목록 조회 (페이징)
      */
@@ -141,6 +174,15 @@ public class CommentService {
         return comments.map(CommentResponse::from);
     }
 
+    /**
+     * Together의 댓글 목록 조회 (페이징) - 요청한 필드만 (fields / previewLength)
+     */
+    public Page<Map<String, Object>> getTogetherCommentFields(Long togetherId, int page, int size, SparseFields fields) {
+        CommentFields.PROJECTION.validate(fields);
+        return commentRepository.findTogetherCommentFields(togetherId, PageRequest.of(page, size), fields)
+                .map(ProjectedRow::values);
+    }
+
     /**
      * 대댓글 목록 조회
      */
@@ -224,6 +266,10 @@ public class CommentService {
             comment.notifyFeedCommentDeleted();
         }
 
+        // 대댓글 트리와 리액션은 커밋 이후 청크 단위로 정리 (CascadeDeleteService)
+        Long feedId = comment.isFeedComment() ? comment.getFeed().getId() : null;
+        eventPublisher.publishEvent(new CommentDeletedEvent(commentId, feedId, comment.getDeletedAt()));
+
         log.info("댓글 삭제 완료 - ID: {}", commentId);
     }
 
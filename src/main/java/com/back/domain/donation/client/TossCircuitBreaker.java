@@ -0,0 +1,107 @@
+package com.back.domain.donation.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 토스 API 서킷 브레이커
+ *
+ * 연속 실패가 임계치에 도달하면 OPEN 상태가 되어 일정 시간 호출을 즉시 거절한다.
+ * OPEN 시간이 지나면 HALF_OPEN 상태에서 한 건만 시험 호출을 허용하고,
+ * 성공하면 CLOSED로, 실패하면 다시 OPEN으로 돌아간다.
+ *
+ * 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock을 사용한다. (캐리어 스레드 고정 방지)
+ */
+public class TossCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private final AtomicBoolean trialInProgress = new AtomicBoolean(false);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TossCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    public TossCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /** 호출 허용 여부 (HALF_OPEN에서는 시험 호출 한 건만 허용) */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (clock.millis() - openedAt < openDuration.toMillis()) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+            }
+            if (state == State.HALF_OPEN) {
+                return trialInProgress.compareAndSet(false, true);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 호출 성공 기록 */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            state = State.CLOSED;
+            trialInProgress.set(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 호출 실패 기록 (타임아웃, 5xx 등 토스 장애로 볼 수 있는 실패만) */
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = clock.millis();
+            }
+            trialInProgress.set(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 토스 장애와 무관한 실패 (4xx 등) - 토스까지 정상 도달했으므로 성공과 같이 처리 */
+    public void onIgnored() {
+        onSuccess();
+    }
+
+    /** 허용받았지만 호출하지 않은 경우 (동시 호출 한도 초과 등) - 시험 호출 자리만 반환 */
+    public void release() {
+        trialInProgress.set(false);
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
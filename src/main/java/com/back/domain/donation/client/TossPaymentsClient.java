@@ -1,40 +1,162 @@
 package com.back.domain.donation.client;
 
 import com.back.domain.donation.dto.request.DonationTossRequest;
-import com.back.domain.donation.dto.response.DonationPaymentResponse;
 import com.back.domain.donation.dto.response.DonationTossResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토스 결제 API 클라이언트
+ *
+ * - JDK HttpClient (커넥션 재사용) + 연결/응답 타임아웃
+ * - 동시 호출 수 제한 (bulkhead) : 토스가 느려져도 호출 스레드가 무한히 묶이지 않음
+ * - 서킷 브레이커 : 연속 장애 시 일정 시간 호출하지 않고 즉시 거절
+ * - 호출별 지연 시간 메트릭 (toss.payments.confirm, outcome 태그)
+ */
+@Slf4j
 @Component
 public class TossPaymentsClient {
 
-    @Value("${TOSS_SECRET_KEY}")
-    private String secretKey;
+    private static final String CONFIRM_METRIC = "toss.payments.confirm";
+
+    private final String secretKey;
+    private final RestClient restClient;
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMillis;
+    private final TossCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public TossPaymentsClient(
+            @Value("${payment.secret-key}") String secretKey,
+            @Value("${payment.toss.base-url:https://api.tosspayments.com}") String baseUrl,
+            @Value("${payment.toss.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${payment.toss.read-timeout:30s}") Duration readTimeout,
+            @Value("${payment.toss.max-concurrent-calls:32}") int maxConcurrentCalls,
+            @Value("${payment.toss.bulkhead-wait:100ms}") Duration bulkheadWait,
+            @Value("${payment.toss.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${payment.toss.circuit-breaker.open-duration:30s}") Duration openDuration,
+            MeterRegistry meterRegistry
+    ) {
+        this.secretKey = secretKey;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWaitMillis = bulkheadWait.toMillis();
+        this.circuitBreaker = new TossCircuitBreaker(failureThreshold, openDuration);
+        this.meterRegistry = meterRegistry;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+        Gauge.builder("toss.payments.circuit.open", circuitBreaker,
+                        breaker -> breaker.getState() == TossCircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("토스 API 서킷 브레이커 OPEN 여부 (1이면 호출 차단)")
+                .register(meterRegistry);
+        Gauge.builder("toss.payments.inflight", bulkhead,
+                        semaphore -> maxConcurrentCalls - semaphore.availablePermits())
+                .description("진행 중인 토스 API 호출 수")
+                .register(meterRegistry);
+    }
 
     public DonationTossResponse confirm(DonationTossRequest request) {
+        if (!circuitBreaker.tryAcquire()) {
+            record(0L, "circuit_open");
+            throw new TossPaymentsUnavailableException("토스 API 서킷 OPEN - 호출 차단");
+        }
+
+        if (!acquireBulkhead()) {
+            circuitBreaker.release();
+            record(0L, "bulkhead_full");
+            throw new TossPaymentsUnavailableException("토스 API 동시 호출 한도 초과");
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            DonationTossResponse response = restClient.post()
+                    .uri("/v1/payments/confirm")
+                    .headers(headers -> {
+                        headers.setBasicAuth(secretKey, "");
+                        // 같은 주문의 재요청은 토스에서도 한 번만 승인되도록 주문번호를 멱등키로 사용
+                        headers.set("Idempotency-Key", request.getOrderId());
+                    })
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of(
+                            "paymentKey", request.getPaymentKey(),
+                            "orderId", request.getOrderId(),
+                            "amount", request.getAmount()
+                    ))
+                    .retrieve()
+                    .body(DonationTossResponse.class);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBasicAuth(secretKey, "");
-        headers.setContentType(MediaType.APPLICATION_JSON);
+            circuitBreaker.onSuccess();
+            record(System.nanoTime() - startedAt, "success");
+            return response;
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                // 요청 자체의 문제 (카드 거절 등) → 토스 장애 아님
+                circuitBreaker.onIgnored();
+                record(System.nanoTime() - startedAt, "rejected");
+            } else {
+                circuitBreaker.onFailure();
+                record(System.nanoTime() - startedAt, "error");
+            }
+            throw e;
+        } catch (RestClientException e) {
+            // 타임아웃, 연결 실패
+            circuitBreaker.onFailure();
+            record(System.nanoTime() - startedAt, "error");
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
 
-        HttpEntity<DonationTossRequest> entity =
-                new HttpEntity<>(request, headers);
+    /** 서킷 브레이커 상태 (모니터링용) */
+    public TossCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
 
-        ResponseEntity<DonationTossResponse> response =
-                restTemplate.postForEntity(
-                        "https://api.tosspayments.com/v1/payments/confirm",
-                        entity,
-                        DonationTossResponse.class
-                );
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 
-        return response.getBody();
+    private void record(long elapsedNanos, String outcome) {
+        Timer.builder(CONFIRM_METRIC)
+                .description("토스 결제 승인 API 호출 지연 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (!"success".equals(outcome)) {
+            log.debug("토스 결제 승인 호출 결과 - {}", outcome);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.back.domain.donation.client;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 토스 API를 호출하지 않고 거절한 경우 (서킷 OPEN, 동시 호출 한도 초과)
+ * 승인 요청이 토스에 전달되지 않았으므로 같은 주문으로 다시 시도할 수 있다.
+ */
+public class TossPaymentsUnavailableException extends RestClientException {
+
+    public TossPaymentsUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -2,38 +2,71 @@ package com.back.domain.donation.controller;
 
 import com.back.domain.donation.dto.request.DonationTossRequest;
 import com.back.domain.donation.dto.response.DonationPaymentResponse;
+import com.back.domain.donation.dto.response.DonationProgressResponse;
 import com.back.domain.donation.dto.response.DonationResponse;
-import com.back.domain.donation.dto.response.DonorListResponse;
+import com.back.domain.donation.dto.response.DonationScrollResponse;
+import com.back.domain.donation.dto.response.DonorScrollResponse;
+import com.back.domain.donation.dto.response.TopDonorResponse;
+import com.back.domain.donation.service.DonationPaymentService;
 import com.back.domain.donation.service.DonationService;
 import com.back.global.rsData.RsData;
+import com.back.global.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/donation")
 @RequiredArgsConstructor
 public class DonationController {
     private final DonationService donationService;
+    private final DonationPaymentService donationPaymentService;
 
-    @Operation(summary = "전체 후원 조회")
+    @Operation(summary = "전체 후원 조회", description = "최신 등록순 키셋 페이징. 다음 페이지는 응답의 nextCursor를 lastId로 전달")
     @ApiResponse(
             responseCode = "200",
             description = "전체 후원 조회 성공",
-            content = @Content(schema = @Schema(implementation = DonationResponse.class))
+            content = @Content(schema = @Schema(implementation = DonationScrollResponse.class))
     )
     @GetMapping("/list")
-    public ResponseEntity<RsData<List<DonationResponse>>> getAllDonations() {
-        List<DonationResponse> donationList = donationService.getAllDonations();
+    public ResponseEntity<RsData<DonationScrollResponse>> getAllDonations(
+            @Parameter(description = "이전 페이지 마지막 항목의 ID")
+            @RequestParam(required = false) Long lastId,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)")
+            @RequestParam(required = false) Integer size
+    ) {
+        DonationScrollResponse donationList = donationService.getDonations(lastId, size);
         return ResponseEntity.ok().body(RsData.success("전체 후원 조회 성공", donationList));
     }
 
+    @Operation(summary = "모금액 상위 후원 조회",
+            description = "진행 현황 스냅샷 기준 (최대 수십 초 지연될 수 있음). If-None-Match가 스냅샷 버전과 같으면 304")
+    @ApiResponse(
+            responseCode = "200",
+            description = "모금액 상위 후원 조회 성공",
+            content = @Content(schema = @Schema(implementation = DonationProgressResponse.class))
+    )
+    @ApiResponse(responseCode = "304", description = "변경 없음 (ETag 일치)")
+    @GetMapping("/leaderboard")
+    public ResponseEntity<RsData<List<DonationProgressResponse>>> getLeaderboard(
+            @Parameter(description = "조회 개수 (기본 10, 최대 100)")
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest
+    ) {
+        return ConditionalGet.respond(webRequest, donationService.getLeaderboardETag(size),
+                () -> RsData.success("모금액 상위 후원 조회 성공", donationService.getLeaderboard(size)));
+    }
 
     @Operation(summary = "후원 상세 조회")
     @ApiResponse(
@@ -50,25 +83,70 @@ public class DonationController {
     }
 
 
-    @Operation(summary = "상세보기별 후원 현황 조회")
+    @Operation(summary = "후원 진행 현황 조회", description = "모금률, 후원자 수, 마지막 후원 일시 (스냅샷 기준)")
+    @ApiResponse(
+            responseCode = "200",
+            description = "후원 진행 현황 조회 성공",
+            content = @Content(schema = @Schema(implementation = DonationProgressResponse.class))
+    )
+    @GetMapping("/list/{id}/progress")
+    public ResponseEntity<RsData<DonationProgressResponse>> getProgress(
+            @PathVariable Long id
+    ) {
+        DonationProgressResponse progress = donationService.getProgress(id);
+        return ResponseEntity.ok(RsData.success("후원 진행 현황 조회 성공", progress));
+    }
+
+    @Operation(summary = "상세보기별 후원 현황 조회", description = "후원일시 최신순 키셋 페이징. 다음 페이지는 응답의 nextCreatedAt, nextCursor를 lastCreatedAt, lastId로 전달")
     @ApiResponse(
             responseCode = "200",
             description = "상세보기별 후원 현황 조회 성공",
-            content = @Content(schema = @Schema(implementation = DonationResponse.class))
+            content = @Content(schema = @Schema(implementation = DonorScrollResponse.class))
     )
     @GetMapping("/list/{id}/donorList")
-    public ResponseEntity<RsData<List<DonorListResponse>>> getDonationStatusById(
-            @PathVariable Long id
+    public ResponseEntity<RsData<DonorScrollResponse>> getDonationStatusById(
+            @PathVariable Long id,
+            @Parameter(description = "이전 페이지 마지막 항목의 후원일시")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @Parameter(description = "이전 페이지 마지막 항목의 ID")
+            @RequestParam(required = false) Long lastId,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)")
+            @RequestParam(required = false) Integer size
     ) {
-        List<DonorListResponse> donorList = donationService.getAllDonorList(id);
+        DonorScrollResponse donorList = donationService.getDonorList(id, lastCreatedAt, lastId, size);
         return ResponseEntity.ok(RsData.success("상세보기별 후원 현황 조회 성공", donorList));
     }
 
-    @Operation(summary = "TOSS 결제 ")
+    @Operation(summary = "상위 후원자 조회", description = "후원자별 누적 후원 금액 내림차순")
+    @ApiResponse(
+            responseCode = "200",
+            description = "상위 후원자 조회 성공",
+            content = @Content(schema = @Schema(implementation = TopDonorResponse.class))
+    )
+    @GetMapping("/list/{id}/topDonors")
+    public ResponseEntity<RsData<List<TopDonorResponse>>> getTopDonors(
+            @PathVariable Long id,
+            @Parameter(description = "조회 인원 (기본 10, 최대 100)")
+            @RequestParam(required = false) Integer size
+    ) {
+        List<TopDonorResponse> topDonors = donationService.getTopDonors(id, size);
+        return ResponseEntity.ok(RsData.success("상위 후원자 조회 성공", topDonors));
+    }
+
+    @Operation(summary = "TOSS 결제 ", description = "같은 orderId로 다시 요청해도 한 번만 승인/반영됩니다. status가 PENDING이면 주문 조회로 결과를 확인합니다.")
     @PostMapping("/toss/{donationId}/pay")
-    public DonationPaymentResponse tossPayment(
+    public CompletableFuture<DonationPaymentResponse> tossPayment(
             @PathVariable Long donationId, @RequestBody DonationTossRequest request
             ) {
-        return donationService.donationTossPayment(donationId, request.getMemberId(), request);
+        // 승인 API 대기 중에는 요청 스레드를 반환 (비동기 응답)
+        return donationPaymentService.pay(donationId, request.getMemberId(), request);
+    }
+
+    @Operation(summary = "TOSS 결제 상태 조회")
+    @GetMapping("/toss/orders/{orderId}")
+    public DonationPaymentResponse getTossPayment(
+            @PathVariable String orderId
+    ) {
+        return donationPaymentService.getPayment(orderId);
     }
 }
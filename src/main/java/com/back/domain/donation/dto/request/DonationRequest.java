@@ -21,10 +21,10 @@ public class DonationRequest {
     private String description;
 
     @NotBlank
-    private int goalAmount;
+    private long goalAmount;
 
     @NotBlank
-    private int currentAmount;
+    private long currentAmount;
 
     @NotBlank
     private LocalDate startDate;
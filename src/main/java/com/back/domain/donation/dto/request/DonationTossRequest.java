@@ -1,10 +1,14 @@
 package com.back.domain.donation.dto.request;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
+@Builder
 @NoArgsConstructor
+@AllArgsConstructor
 public class DonationTossRequest {
 
     private String paymentKey;
@@ -1,6 +1,7 @@
 package com.back.domain.donation.dto.response;
 
 import com.back.domain.donation.entity.DonationPayments;
+import com.back.domain.donation.entity.TossPayments;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +16,8 @@ import java.time.LocalDateTime;
 public class DonationPaymentResponse {
 
     private Long donationId;
+    private String orderId;
+    private String paymentKey;
     private Long amount;
     private String paymentMethod;
     private String status;
@@ -29,4 +32,16 @@ public class DonationPaymentResponse {
 //                .approvedAt(payment.getApprovedAt())
                 .build();
     }
+
+    public static DonationPaymentResponse from(TossPayments tossPayments) {
+        return DonationPaymentResponse.builder()
+                .donationId(tossPayments.getDonations().getId())
+                .orderId(tossPayments.getOrderId())
+                .paymentKey(tossPayments.getPaymentKey())
+                .amount(tossPayments.getAmount())
+                .paymentMethod("TOSS")
+                .status(tossPayments.getStatus().name())
+                .approvedAt(tossPayments.getApprovedAt())
+                .build();
+    }
 }
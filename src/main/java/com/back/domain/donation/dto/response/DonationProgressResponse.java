@@ -0,0 +1,59 @@
+package com.back.domain.donation.dto.response;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 후원 진행 현황 (스냅샷 단위, 불변)
+ * 값 비교는 리더보드 버전(조건부 GET ETag) 계산에 쓰인다.
+ */
+@Getter
+@EqualsAndHashCode
+public class DonationProgressResponse {
+
+    private final Long donationId;
+    private final String title;
+    private final String status;
+    private final long goalAmount;
+    private final long currentAmount;
+
+    /** 목표 대비 모금률 (%, 소수점 첫째 자리까지) */
+    private final double progressRate;
+
+    /** 후원자 수 (회원 기준) */
+    private final long donorCount;
+
+    /** 마지막 후원 일시 */
+    private final LocalDateTime lastDonatedAt;
+
+    // JPQL용 생성자
+    public DonationProgressResponse(
+            Long donationId,
+            String title,
+            String status,
+            long goalAmount,
+            long currentAmount,
+            long donorCount,
+            LocalDateTime lastDonatedAt
+    ) {
+        this.donationId = donationId;
+        this.title = title;
+        this.status = status;
+        this.goalAmount = goalAmount;
+        this.currentAmount = currentAmount;
+        this.progressRate = goalAmount > 0 ? Math.round(currentAmount * 1000.0 / goalAmount) / 10.0 : 0.0;
+        this.donorCount = donorCount;
+        this.lastDonatedAt = lastDonatedAt;
+    }
+
+    /** 확정된 결제 1건을 반영한 새 현황 */
+    public DonationProgressResponse withPayment(long amount, boolean newDonor, LocalDateTime donatedAt) {
+        LocalDateTime last = (lastDonatedAt == null || (donatedAt != null && donatedAt.isAfter(lastDonatedAt)))
+                ? donatedAt
+                : lastDonatedAt;
+        return new DonationProgressResponse(donationId, title, status, goalAmount,
+                currentAmount + amount, newDonor ? donorCount + 1 : donorCount, last);
+    }
+}
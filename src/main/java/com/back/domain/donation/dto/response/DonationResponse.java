@@ -12,16 +12,18 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class DonationResponse {
 
+    private Long id;
     private String title;
     private String description;
-    private int goalAmount;
-    private int currentAmount;
+    private long goalAmount;
+    private long currentAmount;
     private String startDate;
     private String endDate;
     private String status;
 
     public static DonationResponse from(Donations donations) {
         return DonationResponse.builder()
+                .id(donations.getId())
                 .title(donations.getTitle())
                 .description(donations.getDescription())
                 .goalAmount(donations.getGoalAmount())
@@ -0,0 +1,34 @@
+package com.back.domain.donation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 후원 목록 무한 스크롤 응답
+ * ID 내림차순(최신 등록순) 키셋 페이징
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonationScrollResponse {
+
+    /** 후원 목록 */
+    private List<DonationResponse> content;
+
+    /** 다음 페이지 요청 시 사용할 커서 - 마지막 항목의 ID (null이면 마지막 페이지) */
+    private Long nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+
+    /** 현재 페이지의 실제 데이터 개수 */
+    private int size;
+
+    /** 요청한 페이지 크기 */
+    private int requestedSize;
+}
@@ -0,0 +1,38 @@
+package com.back.domain.donation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 후원자 목록 무한 스크롤 응답
+ * 후원일시 내림차순 + ID 내림차순 키셋 페이징이므로 커서는 (후원일시, ID) 두 값으로 구성
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonorScrollResponse {
+
+    /** 후원자 목록 */
+    private List<DonorListResponse> content;
+
+    /** 다음 페이지 요청 시 사용할 커서 - 마지막 항목의 후원일시 (null이면 마지막 페이지) */
+    private LocalDateTime nextCreatedAt;
+
+    /** 다음 페이지 요청 시 사용할 커서 - 마지막 항목의 ID (null이면 마지막 페이지) */
+    private Long nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+
+    /** 현재 페이지의 실제 데이터 개수 */
+    private int size;
+
+    /** 요청한 페이지 크기 */
+    private int requestedSize;
+}
@@ -0,0 +1,33 @@
+package com.back.domain.donation.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상위 후원자 응답 (후원자별 누적 집계)
+ */
+@Getter
+public class TopDonorResponse {
+
+    private Long memberId;
+    private String memberName;
+    private long totalAmount;
+    private long donationCount;
+    private LocalDateTime lastDonatedAt;
+
+    // JPQL용 생성자
+    public TopDonorResponse(
+            Long memberId,
+            String memberName,
+            long totalAmount,
+            long donationCount,
+            LocalDateTime lastDonatedAt
+    ) {
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.totalAmount = totalAmount;
+        this.donationCount = donationCount;
+        this.lastDonatedAt = lastDonatedAt;
+    }
+}
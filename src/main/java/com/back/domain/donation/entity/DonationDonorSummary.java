@@ -0,0 +1,54 @@
+package com.back.domain.donation.entity;
+
+import com.back.domain.member.entity.Member;
+import com.back.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 후원별 후원자 집계 (후원자 1명당 1행)
+ * 결제 확정 시 원자적 UPDATE로 누적하므로 상위 후원자 조회가 결제 건수와 무관하게 인덱스 범위 조회로 끝난다.
+ */
+@Entity
+@Table(
+        name = "donation_donor_summaries",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_donor_summary_donation_member",
+                columnNames = {"donation_id", "user_id"}
+        ),
+        indexes = {
+                @Index(name = "idx_donor_summary_donation_total", columnList = "donation_id, total_amount"),
+                @Index(name = "idx_donor_summary_user_id", columnList = "user_id")  // 회원 참조 확인 (탈퇴 회원 정리)
+        }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class DonationDonorSummary extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "donation_id", nullable = false, updatable = false)
+    private Donations donations;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    private Member member;
+
+    /** 누적 후원 금액 */
+    @Column(name = "total_amount", nullable = false)
+    @Builder.Default
+    private long totalAmount = 0L;
+
+    /** 후원 횟수 */
+    @Column(name = "donation_count", nullable = false)
+    @Builder.Default
+    private long donationCount = 0L;
+
+    /** 마지막 후원 일시 */
+    @Column(name = "last_donated_at")
+    private LocalDateTime lastDonatedAt;
+}
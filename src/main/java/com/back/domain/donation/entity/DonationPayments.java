@@ -6,26 +6,40 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+/**
+ * 후원 결제 원장 (append-only)
+ * 결제 1건당 한 행을 추가만 하고 수정하지 않는다. 모금액(Donations.currentAmount)은 이 원장의 합계와 같다.
+ */
 @Entity
-@Table(name = "donation_payments")
+@Table(
+        name = "donation_payments",
+        indexes = {
+                @Index(name = "idx_donation_payments_donation_created", columnList = "donation_id, created_at, id"),
+                @Index(name = "idx_donation_payments_user_id", columnList = "user_id")  // 회원 참조 확인 (탈퇴 회원 정리)
+        }
+)
 @Getter
-@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
 public class DonationPayments extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "donation_id")
+    @JoinColumn(name = "donation_id", updatable = false)
     private Donations donations;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", updatable = false)
     private Member member;
 
-    @Column(name = "amount")
+    @Column(name = "amount", nullable = false, updatable = false)
     private Long amount;
 
-    @Column(name = "payment_method")
+    @Column(name = "payment_method", updatable = false)
     private String paymentMethod;
+
+    /** 승인된 토스 결제 (결제 1건당 후원 내역 1건) */
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "toss_payment_id", unique = true, updatable = false)
+    private TossPayments tossPayments;
 }
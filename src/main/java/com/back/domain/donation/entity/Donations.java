@@ -7,6 +7,7 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDateTime;
 
+// 2차 캐시에 두지 않음: 모금액 JPQL 일괄 UPDATE(결제 승인마다)가 엔티티 영역 전체를 비운다.
 @Entity
 @Table(name = "donations")
 @Getter
@@ -23,10 +24,16 @@ public class Donations extends BaseEntity {
     private String description;
 
     @Column(name = "goal_amount")
-    private int goalAmount;
+    private long goalAmount;
 
-    @Column(name = "current_amount")
-    private int currentAmount = 0;
+    /**
+     * 현재 모금액 (BIGINT)
+     * 엔티티로 증감하지 않고 DonationRepository.increaseCurrentAmount의 원자적 UPDATE로만 반영
+     * (결제 원장은 donation_payments, 필요 시 rebuildCurrentAmount로 재계산)
+     */
+    @Column(name = "current_amount", nullable = false)
+    @Builder.Default
+    private long currentAmount = 0L;
 
     @Column(name = "start_date")
     private LocalDateTime startDate;
@@ -40,8 +47,4 @@ public class Donations extends BaseEntity {
 //    @ManyToOne(fetch = FetchType.LAZY)
 //    @JoinColumn(name = "organizer_id")
 //    private Member member;
-
-    public void increaseAmount(int amount) {
-        this.currentAmount += amount;
-    }
 }
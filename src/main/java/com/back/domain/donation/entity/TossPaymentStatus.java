@@ -1,5 +1,6 @@
 package com.back.domain.donation.entity;
 
 public enum TossPaymentStatus {
+    PENDING,   // 승인 요청 접수 (토스 승인 API 호출 전/중)
     READY, DONE, FAILED, CANCELED
 }
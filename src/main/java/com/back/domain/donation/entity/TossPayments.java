@@ -12,6 +12,18 @@ import lombok.experimental.SuperBuilder;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(
+        name = "toss_payments",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_toss_payments_order_id", columnNames = "order_id"),
+                @UniqueConstraint(name = "uk_toss_payments_payment_key", columnNames = "payment_key")
+        },
+        indexes = {
+                @Index(name = "idx_toss_payments_member_id", columnList = "member_id"),  // 회원 참조 확인 (탈퇴 회원 정리)
+                // PENDING 결제 재확인 (PostgreSQL에서는 PENDING 결제만 담는 부분 인덱스)
+                @Index(name = "idx_toss_payments_pending", columnList = "created_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,6 +45,14 @@ public class TossPayments extends BaseEntity {
 
     private LocalDateTime approvedAt;
 
+    /** 승인 실패 사유 */
+    @Column(name = "fail_reason")
+    private String failReason;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "donation_id")
+    private Donations donations;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
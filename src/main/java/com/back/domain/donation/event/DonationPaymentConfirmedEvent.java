@@ -0,0 +1,19 @@
+package com.back.domain.donation.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 후원 결제 확정 이벤트
+ * PENDING → DONE 전환에 성공해 모금액이 반영된 결제 1건마다 발행한다.
+ * 커밋 이후에 처리하려면 @TransactionalEventListener(phase = AFTER_COMMIT)로 구독한다.
+ *
+ * @param newDonor 이 결제가 해당 후원에 대한 회원의 첫 후원인지 여부
+ */
+public record DonationPaymentConfirmedEvent(
+        Long donationId,
+        Long memberId,
+        long amount,
+        boolean newDonor,
+        LocalDateTime approvedAt
+) {
+}
@@ -0,0 +1,50 @@
+package com.back.domain.donation.repository;
+
+import com.back.domain.donation.dto.response.TopDonorResponse;
+import com.back.domain.donation.entity.DonationDonorSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DonationDonorSummaryRepository extends JpaRepository<DonationDonorSummary, Long> {
+
+    boolean existsByDonationsIdAndMemberId(Long donationId, Long memberId);
+
+    /** 후원자 누적 금액 증가 (원자적 UPDATE) */
+    @Modifying
+    @Query("""
+    UPDATE DonationDonorSummary s
+    SET s.totalAmount = s.totalAmount + :amount,
+        s.donationCount = s.donationCount + 1,
+        s.lastDonatedAt = :donatedAt
+    WHERE s.donations.id = :donationId AND s.member.id = :memberId
+""")
+    int increaseTotal(
+            @Param("donationId") Long donationId,
+            @Param("memberId") Long memberId,
+            @Param("amount") long amount,
+            @Param("donatedAt") LocalDateTime donatedAt
+    );
+
+    /** 후원자의 후원 횟수 조회 (첫 후원 여부 판단용) */
+    @Query("SELECT s.donationCount FROM DonationDonorSummary s WHERE s.donations.id = :donationId AND s.member.id = :memberId")
+    Optional<Long> findDonationCount(@Param("donationId") Long donationId, @Param("memberId") Long memberId);
+
+    /** 상위 후원자 조회 (누적 금액 내림차순, idx_donor_summary_donation_total 사용) */
+    @Query("""
+    select new com.back.domain.donation.dto.response.TopDonorResponse(
+        m.id, m.name, s.totalAmount, s.donationCount, s.lastDonatedAt
+    )
+    from DonationDonorSummary s
+    join s.member m
+    where s.donations.id = :donationId and s.totalAmount > 0
+    order by s.totalAmount desc, s.id asc
+""")
+    List<TopDonorResponse> findTopDonors(@Param("donationId") Long donationId, Pageable pageable);
+}
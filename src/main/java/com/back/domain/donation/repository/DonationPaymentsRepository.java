@@ -1,8 +1,45 @@
 package com.back.domain.donation.repository;
 
+import com.back.domain.donation.dto.response.DonorListResponse;
 import com.back.domain.donation.entity.DonationPayments;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface DonationPaymentsRepository
         extends JpaRepository<DonationPayments, Long> {
-}
\ No newline at end of file
+
+    /** 후원자 목록 첫 페이지 (최신순) */
+    @Query("""
+    select new com.back.domain.donation.dto.response.DonorListResponse(
+        dp.id, m.id, m.name, dp.amount, dp.paymentMethod, dp.createdAt
+    )
+    from DonationPayments dp
+    join dp.member m
+    where dp.donations.id = :donationId
+    order by dp.createdAt desc, dp.id desc
+""")
+    List<DonorListResponse> findDonorFirstPage(@Param("donationId") Long donationId, Pageable pageable);
+
+    /** 후원자 목록 다음 페이지 - 키셋 조건: (생성일, ID) < (마지막 생성일, 마지막 ID) */
+    @Query("""
+    select new com.back.domain.donation.dto.response.DonorListResponse(
+        dp.id, m.id, m.name, dp.amount, dp.paymentMethod, dp.createdAt
+    )
+    from DonationPayments dp
+    join dp.member m
+    where dp.donations.id = :donationId
+      and (dp.createdAt < :lastCreatedAt or (dp.createdAt = :lastCreatedAt and dp.id < :lastId))
+    order by dp.createdAt desc, dp.id desc
+""")
+    List<DonorListResponse> findDonorNextPage(
+            @Param("donationId") Long donationId,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+}
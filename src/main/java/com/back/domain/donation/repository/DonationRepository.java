@@ -1,24 +1,59 @@
 package com.back.domain.donation.repository;
 
-import com.back.domain.donation.dto.response.DonorListResponse;
+import com.back.domain.donation.dto.response.DonationProgressResponse;
 import com.back.domain.donation.entity.Donations;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface DonationRepository extends JpaRepository<Donations,Long> {
 
+    /** 후원 목록 첫 페이지 (ID 내림차순) */
+    List<Donations> findAllByOrderByIdDesc(Pageable pageable);
+
+    /** 후원 목록 다음 페이지 - 키셋 조건: ID < 마지막 ID */
+    List<Donations> findByIdLessThanOrderByIdDesc(Long lastId, Pageable pageable);
+
+    /** 전체 후원 진행 현황 (후원자 수/마지막 후원 일시는 후원자 집계 테이블 기준) */
+    @Query("""
+    select new com.back.domain.donation.dto.response.DonationProgressResponse(
+        d.id, d.title, d.status, d.goalAmount, d.currentAmount, count(s.id), max(s.lastDonatedAt)
+    )
+    from Donations d
+    left join DonationDonorSummary s on s.donations = d and s.totalAmount > 0
+    group by d.id, d.title, d.status, d.goalAmount, d.currentAmount
+""")
+    List<DonationProgressResponse> findAllProgress();
+
+    /** 후원 1건의 진행 현황 */
     @Query("""
-    select new com.back.domain.donation.dto.response.DonorListResponse(
-        dp.id, m.id, m.name, dp.amount, dp.paymentMethod, dp.createdAt
+    select new com.back.domain.donation.dto.response.DonationProgressResponse(
+        d.id, d.title, d.status, d.goalAmount, d.currentAmount, count(s.id), max(s.lastDonatedAt)
     )
-    from DonationPayments dp
-    join dp.member m
-    where dp.donations.id = :donationId
-    order by dp.createdAt desc
+    from Donations d
+    left join DonationDonorSummary s on s.donations = d and s.totalAmount > 0
+    where d.id = :id
+    group by d.id, d.title, d.status, d.goalAmount, d.currentAmount
 """)
-    List<DonorListResponse> findAllDonorList(@Param("donationId") Long donationId);
+    Optional<DonationProgressResponse> findProgress(@Param("id") Long id);
+
+    /** 모금액 증가 (원자적 UPDATE, 엔티티를 읽지 않음) */
+    @Modifying
+    @Query("UPDATE Donations d SET d.currentAmount = d.currentAmount + :amount WHERE d.id = :id")
+    int increaseCurrentAmount(@Param("id") Long id, @Param("amount") long amount);
 
+    /** 결제 원장(donation_payments) 합계로 모금액 재계산 (정합성 복구용) */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    UPDATE Donations d SET d.currentAmount = (
+        SELECT COALESCE(SUM(dp.amount), 0) FROM DonationPayments dp WHERE dp.donations.id = :id
+    )
+    WHERE d.id = :id
+""")
+    int rebuildCurrentAmount(@Param("id") Long id);
 }
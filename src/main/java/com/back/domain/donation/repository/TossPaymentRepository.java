@@ -1,11 +1,46 @@
 package com.back.domain.donation.repository;
 
 import com.back.domain.donation.entity.TossPayments;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TossPaymentRepository extends JpaRepository<TossPayments, Long> {
 
     Optional<TossPayments> findByPaymentKey(String paymentKey);
+
+    Optional<TossPayments> findByOrderId(String orderId);
+
+    /**
+     * 승인 완료 처리 (PENDING 상태일 때만)
+     * @return 변경된 행 수 (0이면 이미 처리된 결제)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TossPayments t SET t.status = com.back.domain.donation.entity.TossPaymentStatus.DONE, " +
+           "t.approvedAt = :approvedAt " +
+           "WHERE t.id = :id AND t.status = com.back.domain.donation.entity.TossPaymentStatus.PENDING")
+    int markDone(@Param("id") Long id, @Param("approvedAt") LocalDateTime approvedAt);
+
+    /** 승인 실패 처리 (PENDING 상태일 때만) */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TossPayments t SET t.status = com.back.domain.donation.entity.TossPaymentStatus.FAILED, " +
+           "t.failReason = :reason " +
+           "WHERE t.id = :id AND t.status = com.back.domain.donation.entity.TossPaymentStatus.PENDING")
+    int markFailed(@Param("id") Long id, @Param("reason") String reason);
+
+    // ========== PENDING 결제 재확인 (DonationPaymentService.reconcilePending) ==========
+
+    /** 승인 결과가 확정되지 않은 결제 ID (id 순 keyset) */
+    @Query("SELECT t.id FROM TossPayments t " +
+           "WHERE t.status = com.back.domain.donation.entity.TossPaymentStatus.PENDING " +
+           "AND t.createdAt >= :from AND t.createdAt < :to AND t.id > :afterId " +
+           "ORDER BY t.id")
+    List<Long> findPendingIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                              @Param("afterId") Long afterId, Pageable pageable);
 }
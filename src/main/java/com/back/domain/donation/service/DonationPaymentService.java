@@ -0,0 +1,362 @@
+package com.back.domain.donation.service;
+
+import com.back.domain.donation.client.TossPaymentsClient;
+import com.back.domain.donation.client.TossPaymentsUnavailableException;
+import com.back.domain.donation.dto.request.DonationTossRequest;
+import com.back.domain.donation.dto.response.DonationPaymentResponse;
+import com.back.domain.donation.dto.response.DonationTossResponse;
+import com.back.domain.donation.entity.DonationDonorSummary;
+import com.back.domain.donation.entity.DonationPayments;
+import com.back.domain.donation.entity.Donations;
+import com.back.domain.donation.entity.TossPaymentStatus;
+import com.back.domain.donation.entity.TossPayments;
+import com.back.domain.donation.event.DonationPaymentConfirmedEvent;
+import com.back.domain.donation.repository.DonationDonorSummaryRepository;
+import com.back.domain.donation.repository.DonationPaymentsRepository;
+import com.back.domain.donation.repository.DonationRepository;
+import com.back.domain.donation.repository.TossPaymentRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토스 결제 승인 파이프라인
+ *
+ * 1. 접수 (짧은 트랜잭션): orderId로 PENDING 결제를 기록. 같은 주문의 재요청은 기존 결제를 그대로 사용
+ * 2. 승인 (트랜잭션 밖): TossConfirmExecutor에서 토스 승인 API 호출 → DB 커넥션을 잡지 않음
+ * 3. 확정 (짧은 트랜잭션): PENDING → DONE 조건부 UPDATE가 성공한 경우에만 후원 내역 저장 + 모금액/후원자 집계 증가
+ *
+ * orderId/paymentKey 유니크 제약과 조건부 UPDATE로 같은 결제가 두 번 반영되지 않는다.
+ * 승인 결과를 받지 못해 PENDING에 남은 결제는 reconcilePending()이 같은 주문번호(멱등키)로 다시 승인 요청해 확정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonationPaymentService {
+
+    private static final String PAYMENT_METHOD_TOSS = "TOSS";
+    private static final int RECONCILE_CHUNK_SIZE = 100;
+
+    private final DonationRepository donationRepository;
+    private final DonationPaymentsRepository donationPaymentsRepository;
+    private final DonationDonorSummaryRepository donationDonorSummaryRepository;
+    private final TossPaymentRepository tossPaymentRepository;
+    private final MemberRepository memberRepository;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final TossConfirmExecutor tossConfirmExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    /** 이 서버에서 승인 API 호출 중인 주문번호 (같은 주문의 중복 호출 방지) */
+    private final Set<String> inFlightOrders = ConcurrentHashMap.newKeySet();
+
+    /** 승인 응답 대기 최대 시간 (넘으면 PENDING으로 먼저 응답, 승인/확정은 계속 진행) */
+    @Value("${payment.toss.response-timeout:35s}")
+    private Duration responseTimeout;
+
+    /**
+     * 토스 결제 승인 요청
+     * 승인 결과가 확정되면 완료되는 future를 반환한다. (이미 처리된 주문이면 즉시 완료)
+     * 대기열 대기와 승인이 response-timeout 안에 끝나지 않으면 PENDING으로 완료되며, 결과는 주문 조회로 확인한다.
+     */
+    public CompletableFuture<DonationPaymentResponse> pay(
+            Long donationId, Long memberId, DonationTossRequest request
+    ) {
+        validate(request);
+
+        // 1. 접수
+        TossPayments payment = register(donationId, memberId, request);
+        if (payment.getStatus() != TossPaymentStatus.PENDING) {
+            return CompletableFuture.completedFuture(DonationPaymentResponse.from(payment));
+        }
+
+        // 확정 트랜잭션에서 UPDATE만 하도록 후원자 집계 행을 미리 준비
+        ensureDonorSummary(payment.getDonations().getId(), payment.getMember().getId());
+
+        String orderId = payment.getOrderId();
+        if (!inFlightOrders.add(orderId)) {
+            // 같은 주문이 이미 승인 중 → 현재 상태(PENDING) 응답, 결과는 주문 조회로 확인
+            return CompletableFuture.completedFuture(DonationPaymentResponse.from(payment));
+        }
+
+        // 2~3. 승인 + 확정 (별도 스레드)
+        Long paymentId = payment.getId();
+        DonationPaymentResponse pending = DonationPaymentResponse.from(payment);
+        try {
+            CompletableFuture<DonationPaymentResponse> confirm = tossConfirmExecutor
+                    .submit(() -> confirmAndFinalize(paymentId, request))
+                    .whenComplete((response, throwable) -> inFlightOrders.remove(orderId));
+            // 응답만 PENDING으로 먼저 완료 (원래 작업은 취소하지 않고 끝까지 확정)
+            return confirm.copy().completeOnTimeout(pending, responseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            inFlightOrders.remove(orderId);
+            log.warn("토스 결제 승인 대기열 초과 - OrderId: {}", orderId);
+            throw new IllegalArgumentException(ErrorCode.PAYMENT_BUSY.getMessage());
+        }
+    }
+
+    /**
+     * 승인 결과가 확정되지 않은 결제 재처리 (TossPaymentReconcileScheduler)
+     * 접수 시각이 [from, to) 인 PENDING 결제를 같은 주문번호(멱등키)로 다시 승인 요청하고 기존 확정 경로(markDone/markFailed)로 처리한다.
+     * 토스가 이미 승인한 결제는 같은 멱등키 재요청에 처음 결과를 돌려주므로 두 번 승인되지 않는다.
+     * 이 서버에서 승인 중인 주문은 건너뛰고, 이번에도 결과를 받지 못한 결제는 PENDING으로 남아 다음 실행에서 다시 조회된다.
+     *
+     * @return DONE/FAILED로 확정된 결제 수
+     */
+    public int reconcilePending(LocalDateTime from, LocalDateTime to) {
+        Pageable chunk = PageRequest.of(0, RECONCILE_CHUNK_SIZE);
+        int reconciled = 0;
+
+        long afterId = 0L;
+        List<Long> paymentIds;
+        while (!(paymentIds = tossPaymentRepository.findPendingIds(from, to, afterId, chunk)).isEmpty()) {
+            for (Long paymentId : paymentIds) {
+                DonationTossRequest request = transactionTemplate.execute(status -> tossPaymentRepository.findById(paymentId)
+                        .filter(payment -> payment.getStatus() == TossPaymentStatus.PENDING)
+                        .map(payment -> DonationTossRequest.builder()
+                                .paymentKey(payment.getPaymentKey())
+                                .orderId(payment.getOrderId())
+                                .amount(payment.getAmount())
+                                .memberId(payment.getMember().getId())
+                                .build())
+                        .orElse(null));
+                if (request == null || !inFlightOrders.add(request.getOrderId())) {
+                    continue;
+                }
+
+                String status;
+                try {
+                    status = confirmAndFinalize(paymentId, request).getStatus();
+                } catch (RuntimeException e) {
+                    log.error("토스 결제 재확인 실패 - OrderId: {}", request.getOrderId(), e);
+                    status = "ERROR";
+                } finally {
+                    inFlightOrders.remove(request.getOrderId());
+                }
+
+                meterRegistry.counter("app.payment.reconciled", "status", status).increment();
+                if (!TossPaymentStatus.PENDING.name().equals(status) && !"ERROR".equals(status)) {
+                    reconciled++;
+                }
+            }
+            afterId = paymentIds.getLast();
+        }
+
+        if (reconciled > 0) {
+            log.warn("토스 결제 재확인 - PENDING 결제 {}건 확정 (접수 시각 {} ~ {})", reconciled, from, to);
+        }
+        return reconciled;
+    }
+
+    /**
+     * 주문번호로 결제 상태 조회
+     */
+    public DonationPaymentResponse getPayment(String orderId) {
+        return transactionTemplate.execute(status -> tossPaymentRepository.findByOrderId(orderId)
+                .map(DonationPaymentResponse::from)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.PAYMENT_NOT_FOUND.getMessage())));
+    }
+
+    // ========== 1. 접수 ==========
+
+    private TossPayments register(Long donationId, Long memberId, DonationTossRequest request) {
+        try {
+            return transactionTemplate.execute(status -> registerInTransaction(donationId, memberId, request));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문이 동시에 접수됨 → 먼저 접수된 결제 사용
+            return transactionTemplate.execute(status -> findSameOrder(donationId, request)
+                    .orElseThrow(() -> new IllegalArgumentException(ErrorCode.PAYMENT_ORDER_CONFLICT.getMessage())));
+        }
+    }
+
+    private TossPayments registerInTransaction(Long donationId, Long memberId, DonationTossRequest request) {
+        TossPayments existing = findSameOrder(donationId, request).orElse(null);
+        if (existing != null) {
+            return existing;
+        }
+
+        Donations donation = donationRepository.findById(donationId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.DONATION_NOT_FOUND.getMessage()));
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.MEMBER_NOT_FOUND.getMessage()));
+
+        TossPayments payment = TossPayments.builder()
+                .paymentKey(request.getPaymentKey())
+                .orderId(request.getOrderId())
+                .amount(request.getAmount())
+                .status(TossPaymentStatus.PENDING)
+                .donations(donation)
+                .member(member)
+                .createdAt(LocalDateTime.now())  // 접수 시각 (PENDING 재확인 범위 기준, 감사 기능에 의존하지 않음)
+                .build();
+
+        tossPaymentRepository.saveAndFlush(payment);
+        return payment;
+    }
+
+    /**
+     * 후원자 집계 행 생성 (없을 때만, 별도 트랜잭션)
+     * 같은 후원자의 동시 결제로 생성이 겹치면 유니크 제약 위반 → 이미 생성된 행 사용
+     */
+    private void ensureDonorSummary(Long donationId, Long memberId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!donationDonorSummaryRepository.existsByDonationsIdAndMemberId(donationId, memberId)) {
+                    donationDonorSummaryRepository.saveAndFlush(DonationDonorSummary.builder()
+                            .donations(donationRepository.getReferenceById(donationId))
+                            .member(memberRepository.getReferenceById(memberId))
+                            .build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("후원자 집계 행 동시 생성 - DonationId: {}, MemberId: {}", donationId, memberId);
+        }
+    }
+
+    /** 같은 주문 조회 (주문번호는 같은데 결제 정보가 다르면 예외) */
+    private Optional<TossPayments> findSameOrder(Long donationId, DonationTossRequest request) {
+        return tossPaymentRepository.findByOrderId(request.getOrderId())
+                .map(existing -> {
+                    boolean same = existing.getPaymentKey().equals(request.getPaymentKey())
+                            && existing.getAmount().equals(request.getAmount())
+                            && Objects.equals(existing.getDonations().getId(), donationId);
+                    if (!same) {
+                        throw new IllegalArgumentException(ErrorCode.PAYMENT_ORDER_CONFLICT.getMessage());
+                    }
+                    return existing;
+                });
+    }
+
+    // ========== 2. 승인 + 3. 확정 ==========
+
+    private DonationPaymentResponse confirmAndFinalize(Long paymentId, DonationTossRequest request) {
+        DonationTossResponse tossResponse;
+        try {
+            tossResponse = tossPaymentsClient.confirm(request);
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                // 토스가 승인을 거절 → 실패 확정
+                log.warn("토스 결제 승인 거절 - OrderId: {}, 응답: {}", request.getOrderId(), e.getResponseBodyAsString());
+                return fail(paymentId, "승인 거절: " + e.getStatusCode().value());
+            }
+            // 5xx → 결과 미확정, PENDING 유지 (같은 주문으로 재요청 시 다시 승인 요청)
+            log.warn("토스 결제 승인 오류 - OrderId: {}, Status: {}", request.getOrderId(), e.getStatusCode());
+            return getPayment(request.getOrderId());
+        } catch (TossPaymentsUnavailableException e) {
+            // 토스를 호출하지 않음 (서킷 OPEN / 동시 호출 한도) → PENDING 유지, 같은 주문으로 재요청 가능
+            log.warn("토스 결제 승인 보류 - OrderId: {}, 사유: {}", request.getOrderId(), e.getMessage());
+            return getPayment(request.getOrderId());
+        } catch (RestClientException e) {
+            // 타임아웃 등 → 결과 미확정, PENDING 유지
+            log.warn("토스 결제 승인 응답 없음 - OrderId: {}", request.getOrderId(), e);
+            return getPayment(request.getOrderId());
+        }
+
+        return transactionTemplate.execute(status -> finalizeInTransaction(paymentId, tossResponse));
+    }
+
+    private DonationPaymentResponse finalizeInTransaction(Long paymentId, DonationTossResponse tossResponse) {
+        TossPayments payment = tossPaymentRepository.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.PAYMENT_NOT_FOUND.getMessage()));
+
+        boolean approved = tossResponse != null
+                && TossPaymentStatus.DONE.name().equals(tossResponse.getStatus())
+                && payment.getAmount().equals(tossResponse.getTotalAmount());
+
+        if (!approved) {
+            tossPaymentRepository.markFailed(paymentId, "승인 응답 불일치");
+            return DonationPaymentResponse.from(reload(paymentId));
+        }
+
+        LocalDateTime approvedAt = tossResponse.getApprovedAt() != null
+                ? tossResponse.getApprovedAt()
+                : LocalDateTime.now();
+
+        Long donationId = payment.getDonations().getId();
+        Long memberId = payment.getMember().getId();
+        Long amount = payment.getAmount();
+
+        // PENDING → DONE 전환에 성공한 요청만 후원 내역 저장 및 모금액 반영
+        if (tossPaymentRepository.markDone(paymentId, approvedAt) == 1) {
+            DonationPayments donationPayment = DonationPayments.builder()
+                    .donations(donationRepository.getReferenceById(donationId))
+                    .member(memberRepository.getReferenceById(memberId))
+                    .amount(amount)
+                    .paymentMethod(PAYMENT_METHOD_TOSS)
+                    .tossPayments(tossPaymentRepository.getReferenceById(paymentId))
+                    .build();
+            donationPaymentsRepository.save(donationPayment);
+
+            donationRepository.increaseCurrentAmount(donationId, amount);
+
+            boolean newDonor;
+            if (donationDonorSummaryRepository.increaseTotal(donationId, memberId, amount, approvedAt) == 0) {
+                // 접수 단계에서 집계 행을 만들지 못한 경우 (예: 집계 행 삭제 후 재처리)
+                donationDonorSummaryRepository.save(DonationDonorSummary.builder()
+                        .donations(donationRepository.getReferenceById(donationId))
+                        .member(memberRepository.getReferenceById(memberId))
+                        .totalAmount(amount)
+                        .donationCount(1L)
+                        .lastDonatedAt(approvedAt)
+                        .build());
+                newDonor = true;
+            } else {
+                newDonor = donationDonorSummaryRepository.findDonationCount(donationId, memberId).orElse(0L) == 1L;
+            }
+
+            // 커밋 이후 진행 현황 스냅샷 갱신
+            eventPublisher.publishEvent(new DonationPaymentConfirmedEvent(donationId, memberId, amount, newDonor, approvedAt));
+
+            log.info("후원 결제 완료 - DonationId: {}, OrderId: {}, Amount: {}",
+                    donationId, payment.getOrderId(), amount);
+        }
+
+        return DonationPaymentResponse.from(reload(paymentId));
+    }
+
+    private DonationPaymentResponse fail(Long paymentId, String reason) {
+        return transactionTemplate.execute(status -> {
+            tossPaymentRepository.markFailed(paymentId, reason);
+            return DonationPaymentResponse.from(reload(paymentId));
+        });
+    }
+
+    /** 벌크 UPDATE 이후 최신 상태 조회 (벌크 UPDATE가 영속성 컨텍스트를 비우므로 DB에서 다시 읽음) */
+    private TossPayments reload(Long paymentId) {
+        return tossPaymentRepository.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.PAYMENT_NOT_FOUND.getMessage()));
+    }
+
+    private void validate(DonationTossRequest request) {
+        if (request.getPaymentKey() == null || request.getPaymentKey().isBlank()
+                || request.getOrderId() == null || request.getOrderId().isBlank()
+                || request.getAmount() == null || request.getAmount() <= 0) {
+            throw new IllegalArgumentException(ErrorCode.PAYMENT_INVALID_REQUEST.getMessage());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.back.domain.donation.service;
+
+import com.back.domain.donation.dto.response.DonationProgressResponse;
+import com.back.domain.donation.event.DonationPaymentConfirmedEvent;
+import com.back.domain.donation.repository.DonationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 후원 진행 현황 스냅샷 (메모리)
+ *
+ * - 이 서버에서 확정된 결제는 커밋 직후 이벤트로 바로 반영 (증분 갱신)
+ * - 다른 서버에서 확정된 결제, 후원 등록/수정은 주기적인 전체 재조회로 반영
+ *   → 조회 결과는 최대 refresh-interval 만큼 늦을 수 있다.
+ * - 리더보드(모금액 상위 후원)는 leaderboard-interval 동안 정렬 결과를 재사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DonationProgressSnapshot {
+
+    /** 리더보드 최대 크기 */
+    public static final int MAX_LEADERBOARD_SIZE = 100;
+
+    private static final Comparator<DonationProgressResponse> LEADERBOARD_ORDER =
+            Comparator.comparingLong(DonationProgressResponse::getCurrentAmount).reversed()
+                    .thenComparing(DonationProgressResponse::getDonationId);
+
+    private final DonationRepository donationRepository;
+
+    @Value("${app.donation.snapshot.leaderboard-interval:1000}")
+    private long leaderboardIntervalMillis;
+
+    private final Map<Long, DonationProgressResponse> progressById = new ConcurrentHashMap<>();
+
+    private volatile List<DonationProgressResponse> leaderboard = List.of();
+    private volatile long leaderboardBuiltAt;
+    private volatile int leaderboardVersion = List.of().hashCode();
+
+    /** 후원 1건의 진행 현황 (스냅샷에 없으면 DB에서 조회 후 저장) */
+    public Optional<DonationProgressResponse> getProgress(Long donationId) {
+        DonationProgressResponse progress = progressById.get(donationId);
+        if (progress != null) {
+            return Optional.of(progress);
+        }
+        return donationRepository.findProgress(donationId)
+                .map(loaded -> {
+                    DonationProgressResponse existing = progressById.putIfAbsent(donationId, loaded);
+                    return existing != null ? existing : loaded;
+                });
+    }
+
+    /** 모금액 상위 후원 */
+    public List<DonationProgressResponse> getLeaderboard(int size) {
+        List<DonationProgressResponse> current = currentLeaderboard();
+        return current.subList(0, Math.min(size, current.size()));
+    }
+
+    /**
+     * 리더보드 버전 (정렬 결과의 해시, 조건부 GET ETag용)
+     * 내용으로 계산하므로 서버를 재시작하거나 다른 서버로 요청이 가도 같은 리더보드면 같은 값이다.
+     */
+    public int getLeaderboardVersion() {
+        currentLeaderboard();
+        return leaderboardVersion;
+    }
+
+    /** 확정된 결제 반영 (커밋 이후) */
+    @TransactionalEventListener
+    public void onPaymentConfirmed(DonationPaymentConfirmedEvent event) {
+        // 스냅샷에 없는 후원은 다음 조회 시 DB에서 읽으므로 여기서는 갱신하지 않음
+        progressById.computeIfPresent(event.donationId(),
+                (id, progress) -> progress.withPayment(event.amount(), event.newDonor(), event.approvedAt()));
+    }
+
+    /** 서버 시작 시 전체 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /** 전체 재조회 (다른 서버의 결제, 후원 등록/수정 반영) */
+    @Scheduled(
+            fixedDelayString = "${app.donation.snapshot.refresh-interval:30000}",
+            initialDelayString = "${app.donation.snapshot.refresh-interval:30000}"
+    )
+    public void refresh() {
+        try {
+            List<DonationProgressResponse> all = donationRepository.findAllProgress();
+            Map<Long, DonationProgressResponse> loaded = new ConcurrentHashMap<>(all.size());
+            all.forEach(progress -> loaded.put(progress.getDonationId(), progress));
+
+            progressById.putAll(loaded);
+            progressById.keySet().retainAll(loaded.keySet());
+            rebuildLeaderboard();
+
+            log.debug("후원 진행 현황 스냅샷 갱신 - {}건", loaded.size());
+        } catch (RuntimeException e) {
+            // 갱신 실패 시 기존 스냅샷 유지
+            log.error("후원 진행 현황 스냅샷 갱신 실패", e);
+        }
+    }
+
+    private List<DonationProgressResponse> currentLeaderboard() {
+        if (System.currentTimeMillis() - leaderboardBuiltAt > leaderboardIntervalMillis) {
+            return rebuildLeaderboard();
+        }
+        return leaderboard;
+    }
+
+    private List<DonationProgressResponse> rebuildLeaderboard() {
+        List<DonationProgressResponse> sorted = progressById.values().stream()
+                .sorted(LEADERBOARD_ORDER)
+                .limit(MAX_LEADERBOARD_SIZE)
+                .toList();
+        // 목록을 먼저 바꾸고 버전을 나중에 바꿔, 새 버전을 읽은 뒤에는 항상 새 목록을 읽게 한다.
+        leaderboard = sorted;
+        leaderboardVersion = sorted.hashCode();
+        leaderboardBuiltAt = System.currentTimeMillis();
+        return sorted;
+    }
+}
@@ -1,40 +1,94 @@
 package com.back.domain.donation.service;
 
-import com.back.domain.donation.client.TossPaymentsClient;
-import com.back.domain.donation.dto.request.DonationTossRequest;
-import com.back.domain.donation.dto.response.DonationPaymentResponse;
+import com.back.domain.donation.dto.response.DonationProgressResponse;
 import com.back.domain.donation.dto.response.DonationResponse;
-import com.back.domain.donation.dto.response.DonationTossResponse;
+import com.back.domain.donation.dto.response.DonationScrollResponse;
 import com.back.domain.donation.dto.response.DonorListResponse;
-import com.back.domain.donation.entity.DonationPayments;
+import com.back.domain.donation.dto.response.DonorScrollResponse;
+import com.back.domain.donation.dto.response.TopDonorResponse;
 import com.back.domain.donation.entity.Donations;
-import com.back.domain.donation.entity.TossPaymentStatus;
-import com.back.domain.donation.entity.TossPayments;
+import com.back.domain.donation.repository.DonationDonorSummaryRepository;
 import com.back.domain.donation.repository.DonationPaymentsRepository;
 import com.back.domain.donation.repository.DonationRepository;
-import com.back.domain.donation.repository.TossPaymentRepository;
-import com.back.domain.member.entity.Member;
-import com.back.domain.member.repository.MemberRepository;
+import com.back.global.web.ConditionalGet;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ETag;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DonationService {
+
+    private static final int DEFAULT_DONATION_PAGE_SIZE = 20;
+    private static final int MAX_DONATION_PAGE_SIZE = 50;
+    private static final int DEFAULT_LEADERBOARD_SIZE = 10;
+    private static final int DEFAULT_DONOR_PAGE_SIZE = 20;
+    private static final int MAX_DONOR_PAGE_SIZE = 50;
+    private static final int DEFAULT_TOP_DONOR_SIZE = 10;
+    private static final int MAX_TOP_DONOR_SIZE = 100;
+
     private final DonationRepository donationRepository;
     private final DonationPaymentsRepository donationPaymentsRepository;
-    private final TossPaymentRepository tossPaymentRepository;
-    private final TossPaymentsClient tossPaymentsClient;
-    private final MemberRepository memberRepository;
-
-    public List<DonationResponse> getAllDonations() {
-        return donationRepository.findAll().stream()
+    private final DonationDonorSummaryRepository donationDonorSummaryRepository;
+    private final DonationProgressSnapshot donationProgressSnapshot;
+
+    /**
+     * 후원 목록 무한 스크롤 (ID 키셋 페이징)
+     */
+    public DonationScrollResponse getDonations(Long lastId, Integer size) {
+        int requestedSize = (size != null && size > 0 && size <= MAX_DONATION_PAGE_SIZE) ? size : DEFAULT_DONATION_PAGE_SIZE;
+        PageRequest limit = PageRequest.of(0, requestedSize + 1);
+
+        List<Donations> donations = lastId != null
+                ? donationRepository.findByIdLessThanOrderByIdDesc(lastId, limit)
+                : donationRepository.findAllByOrderByIdDesc(limit);
+
+        boolean hasNext = donations.size() > requestedSize;
+        List<DonationResponse> content = (hasNext ? donations.subList(0, requestedSize) : donations).stream()
                 .map(DonationResponse::from)
                 .toList();
+
+        return DonationScrollResponse.builder()
+                .content(content)
+                .nextCursor(content.isEmpty() ? null : content.get(content.size() - 1).getId())
+                .hasNext(hasNext)
+                .size(content.size())
+                .requestedSize(requestedSize)
+                .build();
+    }
+
+    /**
+     * 후원 진행 현황 (스냅샷)
+     */
+    public DonationProgressResponse getProgress(Long id) {
+        return donationProgressSnapshot.getProgress(id)
+                .orElseThrow(() -> new IllegalArgumentException(id + "번 후원 없음"));
+    }
+
+    /**
+     * 모금액 상위 후원 (스냅샷)
+     */
+    public List<DonationProgressResponse> getLeaderboard(Integer size) {
+        return donationProgressSnapshot.getLeaderboard(leaderboardSize(size));
+    }
+
+    /**
+     * 모금액 상위 후원 ETag (스냅샷 버전, DB 조회 없음)
+     */
+    public ETag getLeaderboardETag(Integer size) {
+        return ConditionalGet.weak("donation-leaderboard", leaderboardSize(size),
+                donationProgressSnapshot.getLeaderboardVersion());
+    }
+
+    private int leaderboardSize(Integer size) {
+        return (size != null && size > 0 && size <= DonationProgressSnapshot.MAX_LEADERBOARD_SIZE)
+                ? size : DEFAULT_LEADERBOARD_SIZE;
     }
 
     public DonationResponse getDonation(Long id) {
@@ -43,58 +97,53 @@ public class DonationService {
         return DonationResponse.from(donation);
     }
 
-    public List<DonorListResponse> getAllDonorList(Long id){
+    /**
+     * 후원자 목록 무한 스크롤 (후원일시 + ID 키셋 페이징)
+     */
+    public DonorScrollResponse getDonorList(Long id, LocalDateTime lastCreatedAt, Long lastId, Integer size) {
+        int requestedSize = (size != null && size > 0 && size <= MAX_DONOR_PAGE_SIZE) ? size : DEFAULT_DONOR_PAGE_SIZE;
+        PageRequest limit = PageRequest.of(0, requestedSize + 1);
 
-        donationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException(id + "번 후원 없음"));
-        // 후원에 대한 기부자 리스트 조회
-        return donationRepository.findAllDonorList(id);
-    }
+        List<DonorListResponse> donors = (lastCreatedAt != null && lastId != null)
+                ? donationPaymentsRepository.findDonorNextPage(id, lastCreatedAt, lastId, limit)
+                : donationPaymentsRepository.findDonorFirstPage(id, limit);
 
-    //Toss 결제 승인 및 후원 결제 내역 저장
-    @Transactional
-    public DonationPaymentResponse donationTossPayment(
-            Long donationId, Long memberId, DonationTossRequest request
-    ) {
-        // 후원 대상 조회
-        Donations donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new IllegalArgumentException("후원 대상 없음"));
-
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("회원 없음"));
-
-        // 토스 결제 승인
-        DonationTossResponse tossResponse =
-                tossPaymentsClient.confirm(request);
-
-        TossPayments tossPayments = TossPayments.builder()
-                .paymentKey(tossResponse.getPaymentKey())
-                .orderId(tossResponse.getOrderId())
-                .amount(tossResponse.getTotalAmount())
-                .status(TossPaymentStatus.DONE)
-                .approvedAt(tossResponse.getApprovedAt())
-                .member(member)
-                .build();
+        // 결과가 없을 때만 후원 존재 여부 확인 (정상 조회 시 추가 쿼리 없음)
+        if (donors.isEmpty()) {
+            validateExists(id);
+        }
+
+        boolean hasNext = donors.size() > requestedSize;
+        List<DonorListResponse> content = hasNext ? donors.subList(0, requestedSize) : donors;
 
-        tossPaymentRepository.save(tossPayments);
+        DonorListResponse last = content.isEmpty() ? null : content.get(content.size() - 1);
 
-        // 결제 내역 저장
-        DonationPayments payment = DonationPayments.builder()
-                .donations(donation)
-                .member(member)
-                .amount(tossResponse.getTotalAmount())
-                .paymentMethod("TOSS")
-//                .approvedAt(tossResponse.getApprovedAt())
-//                .tossPayments(tossPayments)
+        return DonorScrollResponse.builder()
+                .content(content)
+                .nextCreatedAt(last != null ? last.getCreatedAt() : null)
+                .nextCursor(last != null ? last.getDonationPaymentId() : null)
+                .hasNext(hasNext)
+                .size(content.size())
+                .requestedSize(requestedSize)
                 .build();
+    }
 
-        donationPaymentsRepository.save(payment);
+    /**
+     * 상위 후원자 조회 (후원자별 누적 금액 기준)
+     */
+    public List<TopDonorResponse> getTopDonors(Long id, Integer size) {
+        int requestedSize = (size != null && size > 0 && size <= MAX_TOP_DONOR_SIZE) ? size : DEFAULT_TOP_DONOR_SIZE;
 
-        if (TossPaymentStatus.DONE.name().equals(tossResponse.getStatus())) {
-            donation.increaseAmount(tossResponse.getTotalAmount().intValue());
+        List<TopDonorResponse> topDonors = donationDonorSummaryRepository.findTopDonors(id, PageRequest.of(0, requestedSize));
+        if (topDonors.isEmpty()) {
+            validateExists(id);
         }
+        return topDonors;
+    }
 
-        // 프론트로 응답
-        return DonationPaymentResponse.from(payment);
+    private void validateExists(Long id) {
+        if (!donationRepository.existsById(id)) {
+            throw new IllegalArgumentException(id + "번 후원 없음");
+        }
     }
 }
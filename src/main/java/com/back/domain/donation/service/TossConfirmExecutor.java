@@ -0,0 +1,62 @@
+package com.back.domain.donation.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 토스 결제 승인 전용 실행기
+ *
+ * 외부 API 대기 시간 동안 요청 스레드와 DB 커넥션을 잡지 않도록 승인 호출을 별도 스레드에서 수행한다.
+ * 스레드 수와 대기열 크기를 제한해 토스 응답이 느려져도 서버 자원이 무한히 쌓이지 않게 하고,
+ * 대기열이 가득 차면 RejectedExecutionException으로 즉시 거절한다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 작업 스레드를 가상 스레드로 만들되 동시 실행 수 제한은 그대로 둔다.
+ */
+@Component
+public class TossConfirmExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public TossConfirmExecutor(
+            @Value("${payment.toss.confirm-executor.pool-size:32}") int poolSize,
+            @Value("${payment.toss.confirm-executor.queue-capacity:1000}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                virtualThreads ? Thread.ofVirtual().name("toss-confirm-", 1).factory() : platformThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        // 가상 스레드는 유휴 상태로 유지할 이유가 없으므로 유휴 시간이 지나면 정리
+        this.executor.allowCoreThreadTimeOut(virtualThreads);
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "toss-confirm-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.domain.donation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * PENDING 결제 재확인 스케줄러 (payment.toss.reconcile.enabled=true 일 때만)
+ * 5xx/타임아웃/서버 종료로 승인 결과를 받지 못한 결제를 찾아 같은 주문번호로 다시 승인 요청한다.
+ * 접수 후 min-age가 지나지 않은 결제는 승인 요청이 아직 진행 중일 수 있으므로 다음 실행으로 미룬다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.toss.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class TossPaymentReconcileScheduler {
+
+    private final DonationPaymentService donationPaymentService;
+
+    /** 실행 중복 방지 (이전 실행이 길어져 다음 실행과 겹치는 경우) */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${payment.toss.reconcile.min-age:5m}")
+    private Duration minAge;
+
+    @Value("${payment.toss.reconcile.lookback:7d}")
+    private Duration lookback;
+
+    @Scheduled(fixedDelayString = "${payment.toss.reconcile.interval:5m}",
+            initialDelayString = "${payment.toss.reconcile.interval:5m}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime to = LocalDateTime.now().minus(minAge);
+            donationPaymentService.reconcilePending(to.minus(lookback), to);
+        } catch (RuntimeException e) {
+            log.error("토스 결제 재확인 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
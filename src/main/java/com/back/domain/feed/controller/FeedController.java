@@ -5,8 +5,14 @@ import com.back.domain.feed.dto.feed.request.FeedSearchRequest;
 import com.back.domain.feed.dto.feed.request.FeedUpdateRequest;
 import com.back.domain.feed.dto.feed.response.FeedResponse;
 import com.back.domain.feed.dto.feed.response.FeedSummaryResponse;
+import com.back.domain.feed.dto.feed.response.FeedSummaryVersion;
+import com.back.domain.feed.dto.feed.response.FeedVersion;
 import com.back.domain.feed.dto.feed.response.InfiniteScrollResponse;
+import com.back.domain.feed.service.FeedJsonCache;
 import com.back.domain.feed.service.FeedService;
+import com.back.global.web.ConditionalGet;
+import com.back.global.web.SerializedJson;
+import com.back.global.web.SparseFields;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,6 +27,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,6 +39,7 @@ import java.util.List;
 public class FeedController {
 
     private final FeedService feedService;
+    private final FeedJsonCache feedJsonCache;
 
     @Operation(
             summary = "피드 생성",
@@ -68,20 +76,23 @@ public class FeedController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = FeedResponse.class))
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 ETag와 일치)"),
             @ApiResponse(responseCode = "404", description = "피드를 찾을 수 없음")
     })
     @GetMapping("/{feedId}")
-    public ResponseEntity<FeedResponse> getFeed(
+    public ResponseEntity<SerializedJson> getFeed(
             @Parameter(description = "피드 ID", required = true, example = "1")
-            @PathVariable Long feedId
+            @PathVariable Long feedId,
             // @AuthenticationPrincipal CustomUserDetails userDetails  // 선택적 인증
+            WebRequest webRequest
     ) {
         // Long currentMemberId = userDetails != null ? userDetails.getMemberId() : null;
         Long currentMemberId = 1L;  // 임시
 
-        FeedResponse response = feedService.getFeed(feedId, currentMemberId);
-
-        return ResponseEntity.ok(response);
+        // 버전 한 번 조회로 ETag 비교 + 미리 직렬화한 응답에 카운트/리액션 여부만 채움
+        FeedVersion version = feedService.getFeedVersion(feedId, currentMemberId);
+        return ConditionalGet.respond(webRequest, ConditionalGet.strong("feed", version),
+                () -> feedJsonCache.detail(version));
     }
 
     @Operation(
@@ -117,12 +128,21 @@ public class FeedController {
             )
     })
     @GetMapping("/scroll")
-    public ResponseEntity<InfiniteScrollResponse<FeedSummaryResponse>> getFeedListInfiniteScroll(
+    public ResponseEntity<InfiniteScrollResponse<?>> getFeedListInfiniteScroll(
             @Parameter(description = "마지막으로 조회한 피드 ID (첫 조회 시에는 생략)", required = false, example = "100")
             @RequestParam(required = false) Long lastFeedId,
             @Parameter(description = "조회할 개수 (기본 20, 최대 50)", required = false, example = "20")
-            @RequestParam(required = false) Integer size
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "응답 필드 (쉼표 구분, 생략 시 전체 필드)", required = false, example = "id,content,thumbnailUrl,authorNickname")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "내용 미리보기 길이 (생략 시 전체 내용, 최대 2000)", required = false, example = "100")
+            @RequestParam(required = false) Integer previewLength
     ) {
+        SparseFields sparseFields = SparseFields.of(fields, previewLength);
+        if (sparseFields.isRequested()) {
+            return ResponseEntity.ok(feedService.getFeedFieldsInfiniteScroll(null, null, lastFeedId, size, sparseFields));
+        }
+
         InfiniteScrollResponse<FeedSummaryResponse> response =
                 feedService.getFeedListInfiniteScroll(lastFeedId, size);
 
@@ -141,14 +161,23 @@ public class FeedController {
             )
     })
     @GetMapping("/members/{memberId}/scroll")
-    public ResponseEntity<InfiniteScrollResponse<FeedSummaryResponse>> getMemberFeedsInfiniteScroll(
+    public ResponseEntity<InfiniteScrollResponse<?>> getMemberFeedsInfiniteScroll(
             @Parameter(description = "회원 ID", required = true, example = "1")
             @PathVariable Long memberId,
             @Parameter(description = "마지막으로 조회한 피드 ID", required = false, example = "100")
             @RequestParam(required = false) Long lastFeedId,
             @Parameter(description = "조회할 개수 (기본 20, 최대 50)", required = false, example = "20")
-            @RequestParam(required = false) Integer size
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "응답 필드 (쉼표 구분, 생략 시 전체 필드)", required = false, example = "id,content,thumbnailUrl,authorNickname")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "내용 미리보기 길이 (생략 시 전체 내용, 최대 2000)", required = false, example = "100")
+            @RequestParam(required = false) Integer previewLength
     ) {
+        SparseFields sparseFields = SparseFields.of(fields, previewLength);
+        if (sparseFields.isRequested()) {
+            return ResponseEntity.ok(feedService.getFeedFieldsInfiniteScroll(memberId, null, lastFeedId, size, sparseFields));
+        }
+
         InfiniteScrollResponse<FeedSummaryResponse> response =
                 feedService.getMemberFeedsInfiniteScroll(memberId, lastFeedId, size);
 
@@ -167,14 +196,23 @@ public class FeedController {
             )
     })
     @GetMapping("/together/{togetherId}/scroll")
-    public ResponseEntity<InfiniteScrollResponse<FeedSummaryResponse>> getTogetherFeedsInfiniteScroll(
+    public ResponseEntity<InfiniteScrollResponse<?>> getTogetherFeedsInfiniteScroll(
             @Parameter(description = "함께하기 ID", required = true, example = "1")
             @PathVariable Long togetherId,
             @Parameter(description = "마지막으로 조회한 피드 ID", required = false, example = "100")
             @RequestParam(required = false) Long lastFeedId,
             @Parameter(description = "조회할 개수 (기본 20, 최대 50)", required = false, example = "20")
-            @RequestParam(required = false) Integer size
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "응답 필드 (쉼표 구분, 생략 시 전체 필드)", required = false, example = "id,content,thumbnailUrl,authorNickname")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "내용 미리보기 길이 (생략 시 전체 내용, 최대 2000)", required = false, example = "100")
+            @RequestParam(required = false) Integer previewLength
     ) {
+        SparseFields sparseFields = SparseFields.of(fields, previewLength);
+        if (sparseFields.isRequested()) {
+            return ResponseEntity.ok(feedService.getFeedFieldsInfiniteScroll(null, togetherId, lastFeedId, size, sparseFields));
+        }
+
         InfiniteScrollResponse<FeedSummaryResponse> response =
                 feedService.getTogetherFeedsInfiniteScroll(togetherId, lastFeedId, size);
 
@@ -310,16 +348,18 @@ public class FeedController {
                     responseCode = "200",
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = List.class))
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 ETag와 일치)")
     })
     @GetMapping("/popular")
-    public ResponseEntity<List<FeedSummaryResponse>> getPopularFeeds(
+    public ResponseEntity<SerializedJson> getPopularFeeds(
             @Parameter(description = "조회할 개수", example = "10")
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
     ) {
-        List<FeedSummaryResponse> response = feedService.getPopularFeeds(size);
-
-        return ResponseEntity.ok(response);
+        List<FeedSummaryVersion> versions = feedService.getPopularFeedVersions(size);
+        return ConditionalGet.respond(webRequest, ConditionalGet.weak("popular-feeds", versions),
+                () -> feedJsonCache.summaries(versions));
     }
 
     @Operation(
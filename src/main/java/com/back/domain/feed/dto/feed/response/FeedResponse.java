@@ -58,7 +58,7 @@ public class FeedResponse {
                 .images(feed.getImages().stream()
                         .map(FeedImageResponse::from)
                         .collect(Collectors.toList()))
-                .tags(feed.getTags())
+                .tags(List.copyOf(feed.getTags()))  // 트랜잭션 안에서 복사 (직렬화 시점 지연 로딩 방지)
                 .visibility(feed.getVisibility())
                 .reactionCount(feed.getReactionCount())
                 .commentCount(feed.getCommentCount())
@@ -54,7 +54,7 @@ public class FeedSummaryResponse {
                 .content(feed.getContent())
                 .thumbnailUrl(feed.getFirstImageUrl())
                 .imageCount(feed.getImageCount())
-                .tags(feed.getTags())
+                .tags(List.copyOf(feed.getTags()))  // 트랜잭션 안에서 복사 (직렬화 시점 지연 로딩 방지)
                 .reactionCount(feed.getReactionCount())
                 .commentCount(feed.getCommentCount())
                 .bookmarkCount(feed.getBookmarkCount())
@@ -0,0 +1,18 @@
+package com.back.domain.feed.dto.feed.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 목록 항목(FeedSummaryResponse)의 버전 (ETag 계산용, 이미지/태그 로딩 없이 조회)
+ * 작성자 프로필과 함께하기 제목은 각 행의 수정 시각으로 반영한다.
+ */
+public record FeedSummaryVersion(
+        Long id,
+        LocalDateTime updatedAt,
+        Integer reactionCount,
+        Integer commentCount,
+        Integer bookmarkCount,
+        LocalDateTime authorUpdatedAt,
+        LocalDateTime togetherUpdatedAt
+) {
+}
@@ -0,0 +1,21 @@
+package com.back.domain.feed.dto.feed.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 상세 응답의 버전 (ETag 계산용, 상세 조회 없이 한 번의 쿼리로 조회)
+ * 내용/이미지/태그/공개 범위 변경은 updatedAt에, 카운트와 현재 회원의 리액션/북마크 여부는 각 값에 반영된다.
+ *
+ * @param reacted    현재 회원의 리액션 수 (0 또는 1)
+ * @param bookmarked 현재 회원의 북마크 수 (0 또는 1)
+ */
+public record FeedVersion(
+        Long id,
+        LocalDateTime updatedAt,
+        Integer reactionCount,
+        Integer commentCount,
+        Integer bookmarkCount,
+        Long reacted,
+        Long bookmarked
+) {
+}
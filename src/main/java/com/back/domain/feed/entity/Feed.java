@@ -8,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,6 +20,19 @@ import java.util.List;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(
+    name = "feed",
+    indexes = {
+        // 작성자/함께하기별 커서 스크롤 (WHERE member_id = ? AND id < ? ORDER BY id DESC)
+        @Index(name = "idx_feed_member_id", columnList = "member_id, id"),
+        @Index(name = "idx_feed_together_id", columnList = "together_id, id"),
+        // 최신순/인기순 정렬 (PostgreSQL에서는 deleted_at IS NULL 부분 인덱스, db/migration 참고)
+        @Index(name = "idx_feed_created_at", columnList = "created_at"),
+        @Index(name = "idx_feed_reaction_count", columnList = "reaction_count, created_at"),
+        @Index(name = "idx_feed_comment_count", columnList = "comment_count, created_at"),
+        @Index(name = "idx_feed_bookmark_count", columnList = "bookmark_count, created_at")
+    }
+)
 public class Feed extends BaseEntity {
 
 
@@ -34,13 +49,24 @@ public class Feed extends BaseEntity {
     private String content;                // 피드 내용 (최대 2000자)
 
     // 이미지 목록 (최대 10개 제한 권장)
+    // 2차 캐시: 컬렉션 영역에는 이미지 ID만 저장되고 이미지 자체는 FeedImage 엔티티 영역에서 가져온다.
     @OneToMany(mappedBy = "feed", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "feed-images")
     @OrderBy("displayOrder ASC")
     private List<FeedImage> images = new ArrayList<>();
 
-    // 태그 목록 (태그 이름 최대 50자)
+    // 태그 목록 (태그 이름 최대 50자, 태그 이름순)
     @ElementCollection
-    @CollectionTable(name = "feed_tags", joinColumns = @JoinColumn(name = "feed_id"))
+    @OrderBy
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "feed-tags")
+    @CollectionTable(
+        name = "feed_tags",
+        joinColumns = @JoinColumn(name = "feed_id"),
+        indexes = {
+            @Index(name = "idx_feed_tags_feed_id", columnList = "feed_id"),
+            @Index(name = "idx_feed_tags_tag_name", columnList = "tag_name, feed_id")  // 태그 검색
+        }
+    )
     @Column(name = "tag_name", length = 50)
     private List<String> tags = new ArrayList<>();
 
@@ -136,6 +162,7 @@ public class Feed extends BaseEntity {
 
     public void clearImages() {
         this.images.clear();
+        touch();
     }
 
     /**
@@ -168,6 +195,7 @@ public class Feed extends BaseEntity {
 
     public void clearTags() {
         this.tags.clear();
+        touch();
     }
 
     // 피드 수정
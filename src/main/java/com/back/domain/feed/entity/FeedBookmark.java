@@ -27,7 +27,7 @@ import lombok.experimental.SuperBuilder;
     },
     indexes = {
         @Index(name = "idx_feed_bookmark_feed_id", columnList = "feed_id"),
-        @Index(name = "idx_feed_bookmark_member_id", columnList = "member_id")
+        @Index(name = "idx_feed_bookmark_member_id", columnList = "member_id, created_at")  // 회원별 북마크 목록 (최신순)
     }
 )
 public class FeedBookmark extends BaseEntity {
@@ -26,8 +26,8 @@ import lombok.experimental.SuperBuilder;
         )
     },
     indexes = {
-        @Index(name = "idx_feed_reaction_feed_id", columnList = "feed_id"),
-        @Index(name = "idx_feed_reaction_member_id", columnList = "member_id")
+        @Index(name = "idx_feed_reaction_feed_id", columnList = "feed_id, created_at"),   // 피드별 리액션 목록 (최신순)
+        @Index(name = "idx_feed_reaction_member_id", columnList = "member_id, created_at")
     }
 )
 public class FeedReaction extends BaseEntity {
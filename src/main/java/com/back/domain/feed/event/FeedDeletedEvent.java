@@ -0,0 +1,13 @@
+package com.back.domain.feed.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 삭제 이벤트
+ * 요청 트랜잭션에서는 피드만 삭제 표시하고, 댓글/리액션/북마크는 커밋 이후 CascadeDeleteService가 청크 단위로 정리한다.
+ */
+public record FeedDeletedEvent(
+        Long feedId,
+        LocalDateTime deletedAt
+) {
+}
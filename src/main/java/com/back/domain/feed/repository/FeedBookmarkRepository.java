@@ -5,9 +5,12 @@ import com.back.domain.feed.entity.FeedBookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 /**
  * FeedBookmark Repository ( Spring Data JPA 기반)
  */
@@ -24,13 +27,35 @@ public interface FeedBookmarkRepository extends JpaRepository<FeedBookmark, Long
     void deleteByFeedIdAndMemberId(Long feedId, Long memberId);
 
     /**
-     * 특정 회원이 북마크한 피드 목록 조회 (페이징)
+     * 특정 회원이 북마크한 피드 목록 조회 (페이징, 작성자/함께하기 fetch join)
      */
-    @Query("SELECT fb.feed FROM FeedBookmark fb " +
-           "WHERE fb.member.id = :memberId AND fb.feed.deletedAt IS NULL " +
-           "ORDER BY fb.createdAt DESC")
+    @Query(value = "SELECT f FROM FeedBookmark fb JOIN fb.feed f " +
+                   "JOIN FETCH f.member LEFT JOIN FETCH f.together " +
+                   "WHERE fb.member.id = :memberId AND f.deletedAt IS NULL " +
+                   "ORDER BY fb.createdAt DESC",
+           countQuery = "SELECT COUNT(fb) FROM FeedBookmark fb " +
+                        "WHERE fb.member.id = :memberId AND fb.feed.deletedAt IS NULL")
     Page<Feed> findBookmarkedFeedsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
+    /**
+     * 특정 피드의 북마크 ID (연쇄 삭제 청크, 삭제한 행은 조건에서 빠지므로 항상 첫 청크 조회)
+     */
+    @Query("SELECT fb.id FROM FeedBookmark fb WHERE fb.feed.id = :feedId")
+    List<Long> findIdsByFeedId(@Param("feedId") Long feedId, Pageable pageable);
+
+    /**
+     * 특정 회원이 북마크한 피드 ID (탈퇴 청크, uk_feed_bookmark_member_feed 범위)
+     */
+    @Query("SELECT fb.feed.id FROM FeedBookmark fb WHERE fb.member.id = :memberId ORDER BY fb.feed.id")
+    List<Long> findFeedIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 특정 회원의 여러 피드 북마크 일괄 삭제 (탈퇴 청크)
+     */
+    @Modifying
+    @Query("DELETE FROM FeedBookmark fb WHERE fb.member.id = :memberId AND fb.feed.id IN :feedIds")
+    int deleteByMemberIdAndFeedIdIn(@Param("memberId") Long memberId, @Param("feedIds") List<Long> feedIds);
+
     /**
      * 특정 회원이 북마크한 피드 개수 조회
      */
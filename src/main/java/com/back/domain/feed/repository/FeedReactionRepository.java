@@ -4,6 +4,7 @@ import com.back.domain.feed.entity.FeedReaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,8 +29,29 @@ public interface FeedReactionRepository extends JpaRepository<FeedReaction, Long
 
     /**
      * 특정 피드에 좋아요를 누른 회원 목록 조회 (페이징)
+     * - feed 조인 없이 FK 컬럼으로 조회 (idx_feed_reaction_feed_id)
      */
-    Page<FeedReaction> findByFeedIdOrderByCreatedAtDesc(Long feedId, Pageable pageable);
+    @Query("SELECT fr FROM FeedReaction fr WHERE fr.feed.id = :feedId ORDER BY fr.createdAt DESC")
+    Page<FeedReaction> findByFeedIdOrderByCreatedAtDesc(@Param("feedId") Long feedId, Pageable pageable);
+
+    /**
+     * 특정 피드의 리액션 ID (연쇄 삭제 청크, 삭제한 행은 조건에서 빠지므로 항상 첫 청크 조회)
+     */
+    @Query("SELECT fr.id FROM FeedReaction fr WHERE fr.feed.id = :feedId")
+    List<Long> findIdsByFeedId(@Param("feedId") Long feedId, Pageable pageable);
+
+    /**
+     * 특정 회원이 리액션한 피드 ID (탈퇴 청크, uk_feed_reaction_member_feed 범위)
+     */
+    @Query("SELECT fr.feed.id FROM FeedReaction fr WHERE fr.member.id = :memberId ORDER BY fr.feed.id")
+    List<Long> findFeedIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 특정 회원의 여러 피드 리액션 일괄 삭제 (탈퇴 청크)
+     */
+    @Modifying
+    @Query("DELETE FROM FeedReaction fr WHERE fr.member.id = :memberId AND fr.feed.id IN :feedIds")
+    int deleteByMemberIdAndFeedIdIn(@Param("memberId") Long memberId, @Param("feedIds") List<Long> feedIds);
 
     /**
      * 특정 피드의 리액션 개수
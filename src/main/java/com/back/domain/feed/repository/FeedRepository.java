@@ -1,8 +1,16 @@
 package com.back.domain.feed.repository;
 
+import com.back.domain.feed.dto.feed.response.FeedVersion;
 import com.back.domain.feed.entity.Feed;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +25,23 @@ public interface FeedRepository extends JpaRepository<Feed, Long>, FeedRepositor
      * ID로 삭제되지 않은 피드 단건 조회
      */
     Optional<Feed> findByIdAndDeletedAtIsNull(Long id);
+
+    /**
+     * 피드 상세 조회용 단건 조회
+     * 이미지/태그는 fetch join 하지 않고 2차 캐시 컬렉션 영역에서 가져온다. (캐시 미스 시 각각 1회 쿼리)
+     */
+    Optional<Feed> findDetailByIdAndDeletedAtIsNull(Long id);
+
+    /**
+     * 피드 상세 버전 (조건부 GET, 이미지/태그 로딩 없이 PK 조회 한 번)
+     * memberId가 null이면 리액션/북마크 여부는 0
+     */
+    @Query("SELECT new com.back.domain.feed.dto.feed.response.FeedVersion(f.id, f.updatedAt, " +
+            "f.reactionCount, f.commentCount, f.bookmarkCount, " +
+            "(SELECT COUNT(fr) FROM FeedReaction fr WHERE fr.feed.id = f.id AND fr.member.id = :memberId), " +
+            "(SELECT COUNT(fb) FROM FeedBookmark fb WHERE fb.feed.id = f.id AND fb.member.id = :memberId)) " +
+            "FROM Feed f WHERE f.id = :feedId AND f.deletedAt IS NULL")
+    Optional<FeedVersion> findVersionById(@Param("feedId") Long feedId, @Param("memberId") Long memberId);
     
     // ========== Top N 조회 (인기 피드) ==========
     
@@ -26,6 +51,7 @@ public interface FeedRepository extends JpaRepository<Feed, Long>, FeedRepositor
      * 사용 예:
      * - 홈 화면: "토론 많은 게시물"
      */
+    @EntityGraph(attributePaths = {"member", "together"})
     List<Feed> findTop20ByDeletedAtIsNullOrderByCommentCountDescCreatedAtDesc();
     
     /**
@@ -34,7 +60,15 @@ public interface FeedRepository extends JpaRepository<Feed, Long>, FeedRepositor
      * 사용 예:
      * - 홈 화면: "가장 많이 저장된 게시물"
      */
+    @EntityGraph(attributePaths = {"member", "together"})
     List<Feed> findTop20ByDeletedAtIsNullOrderByBookmarkCountDescCreatedAtDesc();
+
+    /**
+     * ID 목록으로 삭제되지 않은 피드 조회 (작성자/함께하기 함께 로딩, 순서 보장 없음)
+     * 목록 응답 캐시(FeedJsonCache)에서 캐시에 없는 항목만 채울 때 사용
+     */
+    @EntityGraph(attributePaths = {"member", "together"})
+    List<Feed> findWithMemberAndTogetherByIdInAndDeletedAtIsNull(Collection<Long> ids);
     
     // ========== 통계 ==========
     
@@ -42,4 +76,67 @@ public interface FeedRepository extends JpaRepository<Feed, Long>, FeedRepositor
      * 전체 피드 개수 (삭제된 것 제외)
      */
     Long countByDeletedAtIsNull();
+
+    /**
+     * 댓글 수 일괄 감소 (대댓글 연쇄 삭제, 0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Feed f SET f.commentCount = CASE WHEN f.commentCount > :count THEN f.commentCount - :count ELSE 0 END " +
+           "WHERE f.id = :id")
+    int decreaseCommentCount(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * 여러 피드의 댓글 수를 같은 값만큼 감소 (탈퇴 회원 댓글 정리, 감소량별로 묶어서 호출)
+     */
+    @Modifying
+    @Query("UPDATE Feed f SET f.commentCount = CASE WHEN f.commentCount > :count THEN f.commentCount - :count ELSE 0 END " +
+           "WHERE f.id IN :ids")
+    int decreaseCommentCount(@Param("ids") List<Long> ids, @Param("count") int count);
+
+    /**
+     * 여러 피드의 리액션 수 1씩 감소 (탈퇴 회원 리액션 정리, 회원당 피드별 리액션은 최대 1개)
+     */
+    @Modifying
+    @Query("UPDATE Feed f SET f.reactionCount = CASE WHEN f.reactionCount > 0 THEN f.reactionCount - 1 ELSE 0 END " +
+           "WHERE f.id IN :ids")
+    int decreaseReactionCount(@Param("ids") List<Long> ids);
+
+    /**
+     * 여러 피드의 북마크 수 1씩 감소 (탈퇴 회원 북마크 정리, 회원당 피드별 북마크는 최대 1개)
+     */
+    @Modifying
+    @Query("UPDATE Feed f SET f.bookmarkCount = CASE WHEN f.bookmarkCount > 0 THEN f.bookmarkCount - 1 ELSE 0 END " +
+           "WHERE f.id IN :ids")
+    int decreaseBookmarkCount(@Param("ids") List<Long> ids);
+
+    // ========== 탈퇴 회원 정리 (MemberWithdrawalService, 청크 단위) ==========
+
+    /**
+     * 특정 회원의 삭제되지 않은 피드 ID (idx_feed_member_id, 삭제 표시한 행은 조건에서 빠지므로 항상 첫 청크 조회)
+     */
+    @Query("SELECT f.id FROM Feed f WHERE f.member.id = :memberId AND f.deletedAt IS NULL ORDER BY f.id")
+    List<Long> findLiveIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 여러 피드 Soft Delete (이미 삭제된 피드는 건너뜀)
+     */
+    @Modifying
+    @Query("UPDATE Feed f SET f.deletedAt = :deletedAt WHERE f.id IN :ids AND f.deletedAt IS NULL")
+    int softDeleteByIdIn(@Param("ids") List<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // ========== 연쇄 삭제 복구 (CascadeDeleteService.recoverPending) ==========
+
+    /**
+     * 하위 데이터(댓글, 리액션, 북마크)가 남아 있는 삭제 피드 ID (id 순 keyset)
+     * 하위 데이터 확인은 idx_comment_feed_id / 피드별 리액션/북마크 인덱스
+     * deleted_at 인덱스는 두지 않음 (목록 조회의 deleted_at IS NULL 조건이 정렬 인덱스 대신 이 인덱스를 타게 되므로)
+     */
+    @Query("SELECT f.id FROM Feed f " +
+           "WHERE f.deletedAt >= :from AND f.deletedAt < :to AND f.id > :afterId " +
+           "AND (EXISTS (SELECT 1 FROM Comment c WHERE c.feed.id = f.id AND c.deletedAt IS NULL) " +
+           "OR EXISTS (SELECT 1 FROM FeedReaction fr WHERE fr.feed.id = f.id) " +
+           "OR EXISTS (SELECT 1 FROM FeedBookmark fb WHERE fb.feed.id = f.id)) " +
+           "ORDER BY f.id")
+    List<Long> findDeletedIdsWithChildren(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                          @Param("afterId") Long afterId, Pageable pageable);
 }
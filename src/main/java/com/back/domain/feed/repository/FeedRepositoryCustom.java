@@ -1,7 +1,10 @@
 package com.back.domain.feed.repository;
 
 import com.back.domain.feed.dto.feed.request.FeedSearchCondition;
+import com.back.domain.feed.dto.feed.response.FeedSummaryVersion;
 import com.back.domain.feed.entity.Feed;
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.SparseFields;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -52,6 +55,17 @@ public interface FeedRepositoryCustom {
      * - condition.feedType: GENERAL → 일반 피드 중 인기 피드
      */
     List<Feed> findPopularFeedsWithCondition(FeedSearchCondition condition, int limit);
+
+    /**
+     * 인기 피드 목록의 버전 (조건부 GET)
+     * 
+     * findPopularFeedsWithCondition과 같은 조건/정렬로 스칼라 값만 조회한다. (fetch join, 이미지/태그 로딩 없음)
+     * 
+     * @param condition 검색 조건
+     * @param limit 최대 개수
+     * @return 항목별 버전 (인기 피드 순서)
+     */
+    List<FeedSummaryVersion> findPopularFeedVersions(FeedSearchCondition condition, int limit);
     
     /**
      * 조건별 피드 개수
@@ -92,4 +106,20 @@ public interface FeedRepositoryCustom {
      * @return 피드 리스트
      */
     List<Feed> findTogetherFeedsForInfiniteScroll(Long togetherId, Long cursorId, int limit);
+
+    /**
+     * 무한 스크롤용 피드 조회 - 요청한 필드만 (fields / previewLength)
+     * 
+     * 위의 세 무한 스크롤과 같은 조건/정렬로 요청한 컬럼만 조회한다. (엔티티 로딩 없음)
+     * 작성자/함께하기는 해당 필드를 요청한 경우에만 조인하고, 태그/썸네일/이미지 수는 요청한 경우에만 페이지 단위로 한 번씩 조회한다.
+     * 
+     * @param memberId 회원 ID (null이면 전체)
+     * @param togetherId Together ID (null이면 전체)
+     * @param cursorId 마지막 피드 ID
+     * @param limit 조회할 개수
+     * @param fields 요청 필드 / 미리보기 길이
+     * @return 응답 행 (키: id)
+     */
+    List<ProjectedRow> findFeedFieldsForInfiniteScroll(Long memberId, Long togetherId, Long cursorId, int limit,
+                                                       SparseFields fields);
 }
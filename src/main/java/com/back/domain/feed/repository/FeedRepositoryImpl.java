@@ -1,10 +1,22 @@
 package com.back.domain.feed.repository;
 
 import com.back.domain.feed.dto.feed.request.FeedSearchCondition;
+import com.back.domain.feed.dto.feed.response.FeedSummaryVersion;
 import com.back.domain.feed.entity.Feed;
 import com.back.domain.feed.entity.QFeed;
+import com.back.domain.feed.entity.QFeedImage;
+import com.back.domain.member.entity.QMember;
+import com.back.domain.together.entity.QTogether;
+import com.back.global.jpa.FieldProjection;
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.SparseFields;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,11 +24,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Feed QueryDSL Custom Repository 구현체
  * 복잡한 동적 쿼리를 QueryDSL로 구현
+ * 목록 조회는 작성자/함께하기를 fetch join하고, 이미지/태그 컬렉션은 배치 로딩한다. (hibernate.default_batch_fetch_size)
  */
 @Repository
 @RequiredArgsConstructor
@@ -83,6 +99,8 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
 
         return queryFactory
                 .selectFrom(feed)
+                .leftJoin(feed.member).fetchJoin()
+                .leftJoin(feed.together).fetchJoin()
                 .where(builder)
                 .orderBy(feed.createdAt.desc())
                 .offset(pageable.getOffset())
@@ -98,6 +116,29 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
         
         return queryFactory
                 .selectFrom(feed)
+                .leftJoin(feed.member).fetchJoin()
+                .leftJoin(feed.together).fetchJoin()
+                .where(builder)
+                .orderBy(feed.reactionCount.desc(), feed.createdAt.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<FeedSummaryVersion> findPopularFeedVersions(FeedSearchCondition condition, int limit) {
+        QFeed feed = QFeed.feed;
+        QMember member = QMember.member;
+        QTogether together = QTogether.together;
+
+        BooleanBuilder builder = createBaseCondition(condition);
+
+        return queryFactory
+                .select(Projections.constructor(FeedSummaryVersion.class,
+                        feed.id, feed.updatedAt, feed.reactionCount, feed.commentCount, feed.bookmarkCount,
+                        member.updatedAt, together.updatedAt))
+                .from(feed)
+                .leftJoin(feed.member, member)
+                .leftJoin(feed.together, together)
                 .where(builder)
                 .orderBy(feed.reactionCount.desc(), feed.createdAt.desc())
                 .limit(limit)
@@ -123,6 +164,8 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
         
         return queryFactory
                 .selectFrom(feed)
+                .leftJoin(feed.member).fetchJoin()
+                .leftJoin(feed.together).fetchJoin()
                 .where(
                     feed.id.lt(cursorId)
                     .and(feed.deletedAt.isNull())
@@ -136,8 +179,11 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
     public List<Feed> findMemberFeedsForInfiniteScroll(Long memberId, Long cursorId, int limit) {
         QFeed feed = QFeed.feed;
         
+        // 작성자는 모두 같으므로 fetch join 하지 않는다. (한 번만 로딩)
+        // 조인한 작성자로 조건을 걸면 members.id = ? 로 풀려 feed.member_id 인덱스(idx_feed_member_id)를 타지 못함
         return queryFactory
                 .selectFrom(feed)
+                .leftJoin(feed.together).fetchJoin()
                 .where(
                     feed.member.id.eq(memberId)
                     .and(feed.id.lt(cursorId))
@@ -152,8 +198,10 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
     public List<Feed> findTogetherFeedsForInfiniteScroll(Long togetherId, Long cursorId, int limit) {
         QFeed feed = QFeed.feed;
         
+        // 함께하기는 모두 같으므로 fetch join 하지 않는다. (idx_feed_together_id, 위와 같은 이유)
         return queryFactory
                 .selectFrom(feed)
+                .leftJoin(feed.member).fetchJoin()
                 .where(
                     feed.together.id.eq(togetherId)
                     .and(feed.id.lt(cursorId))
@@ -164,8 +212,94 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<ProjectedRow> findFeedFieldsForInfiniteScroll(Long memberId, Long togetherId, Long cursorId, int limit,
+                                                              SparseFields fields) {
+        QFeed feed = QFeed.feed;
+        FieldProjection.Selection selection = FeedSummaryFields.PROJECTION.select(fields, "id");
+
+        // 작성자/함께하기 조건은 FK 컬럼으로 건다. (idx_feed_member_id, idx_feed_together_id)
+        BooleanBuilder builder = new BooleanBuilder(feed.id.lt(cursorId)).and(feed.deletedAt.isNull());
+        if (memberId != null) {
+            builder.and(feed.member.id.eq(memberId));
+        }
+        if (togetherId != null) {
+            builder.and(feed.together.id.eq(togetherId));
+        }
+
+        JPAQuery<Tuple> query = queryFactory.select(selection.expressions()).from(feed);
+        if (selection.includesAny("authorName", "authorNickname", "authorProfileImage")) {
+            query.leftJoin(feed.member, FeedSummaryFields.AUTHOR);
+        }
+        if (selection.includes("togetherTitle")) {
+            query.leftJoin(feed.together, FeedSummaryFields.TOGETHER);
+        }
+        List<ProjectedRow> rows = selection.toRows(query
+                .where(builder)
+                .orderBy(feed.id.desc())
+                .limit(limit)
+                .fetch());
+
+        if (!rows.isEmpty()) {
+            List<Long> feedIds = rows.stream().map(row -> row.<Long>key("id")).toList();
+            if (selection.includesAny("thumbnailUrl", "imageCount")) {
+                fillImages(rows, feedIds);
+            }
+            if (selection.includes("tags")) {
+                fillTags(rows, feedIds);
+            }
+        }
+        return rows;
+    }
+
     // ========== Private 헬퍼 메서드 ==========
 
+    /**
+     * 썸네일(표시 순서 첫 이미지) / 이미지 수 - 페이지의 이미지 URL을 한 번에 조회
+     */
+    private void fillImages(List<ProjectedRow> rows, List<Long> feedIds) {
+        QFeedImage image = QFeedImage.feedImage;
+
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        queryFactory
+                .select(image.feed.id, image.imageUrl)
+                .from(image)
+                .where(image.feed.id.in(feedIds))
+                .orderBy(image.displayOrder.asc(), image.id.asc())
+                .fetch()
+                .forEach(tuple -> imageUrls.computeIfAbsent(tuple.get(image.feed.id), id -> new ArrayList<>())
+                        .add(tuple.get(image.imageUrl)));
+
+        for (ProjectedRow row : rows) {
+            List<String> urls = imageUrls.getOrDefault(row.<Long>key("id"), List.of());
+            row.fill("thumbnailUrl", urls.isEmpty() ? null : urls.getFirst());
+            row.fill("imageCount", urls.size());
+        }
+    }
+
+    /**
+     * 태그 - 페이지의 태그를 한 번에 조회 (Feed.tags 컬렉션과 같은 태그 이름순)
+     */
+    private void fillTags(List<ProjectedRow> rows, List<Long> feedIds) {
+        QFeed feed = QFeed.feed;
+        StringPath tag = Expressions.stringPath("tag");
+
+        Map<Long, List<String>> tags = new HashMap<>();
+        queryFactory
+                .select(feed.id, tag)
+                .from(feed)
+                .join(feed.tags, tag)
+                .where(feed.id.in(feedIds))
+                .orderBy(tag.asc())
+                .fetch()
+                .forEach(tuple -> tags.computeIfAbsent(tuple.get(feed.id), id -> new ArrayList<>())
+                        .add(tuple.get(tag)));
+
+        for (ProjectedRow row : rows) {
+            row.fill("tags", tags.getOrDefault(row.<Long>key("id"), List.of()));
+        }
+    }
+
     /**
      * 기본 조건 생성 (공통 로직)
      * 모든 검색 메서드에서 사용하는 공통 조건을 생성
@@ -0,0 +1,39 @@
+package com.back.domain.feed.repository;
+
+import com.back.domain.feed.entity.QFeed;
+import com.back.domain.member.entity.QMember;
+import com.back.domain.together.entity.QTogether;
+import com.back.global.jpa.FieldProjection;
+
+/**
+ * 피드 목록 응답 필드 (FeedSummaryResponse 필드 순서)
+ * FeedService는 요청 필드를 검증하고, FeedRepositoryImpl은 요청 필드의 조회 식을 구성한다.
+ */
+public final class FeedSummaryFields {
+
+    /** 작성자 / 함께하기 조인 별칭 (해당 필드를 요청한 경우에만 조인) */
+    static final QMember AUTHOR = new QMember("author");
+    static final QTogether TOGETHER = new QTogether("feedTogether");
+
+    public static final FieldProjection PROJECTION = FieldProjection.builder()
+            .column("id", QFeed.feed.id)
+            .column("feedType", QFeed.feed.feedType)
+            .preview("content", QFeed.feed.content)
+            .computed("thumbnailUrl")
+            .computed("imageCount")
+            .computed("tags")
+            .column("reactionCount", QFeed.feed.reactionCount)
+            .column("commentCount", QFeed.feed.commentCount)
+            .column("bookmarkCount", QFeed.feed.bookmarkCount)
+            .column("authorId", QFeed.feed.member.id)
+            .column("authorName", AUTHOR.name)
+            .column("authorNickname", AUTHOR.nickname)
+            .column("authorProfileImage", AUTHOR.profileImageUrl)
+            .column("togetherId", QFeed.feed.together.id)
+            .column("togetherTitle", TOGETHER.title)
+            .column("createdAt", QFeed.feed.createdAt)
+            .build();
+
+    private FeedSummaryFields() {
+    }
+}
@@ -0,0 +1,172 @@
+package com.back.domain.feed.service;
+
+import com.back.domain.feed.dto.feed.response.FeedResponse;
+import com.back.domain.feed.dto.feed.response.FeedSummaryResponse;
+import com.back.domain.feed.dto.feed.response.FeedSummaryVersion;
+import com.back.domain.feed.dto.feed.response.FeedVersion;
+import com.back.global.cache.BoundedConcurrentMap;
+import com.back.global.web.JsonTemplate;
+import com.back.global.web.SerializedJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 피드 응답 JSON 캐시 (피드 상세, 인기 피드)
+ *
+ * 조회가 몰리는 피드는 같은 응답을 계속 Jackson으로 직렬화하므로, 응답에서 잘 바뀌지 않는 부분을
+ * 미리 직렬화한 템플릿(JsonTemplate)으로 보관하고 카운트와 현재 회원의 리액션/북마크 여부만 응답마다 끼워 넣는다.
+ * - 키: 조건부 GET에서 이미 조회한 버전(FeedVersion, FeedSummaryVersion)의 수정 시각
+ *   내용/이미지/태그/작성자 프로필/함께하기 제목이 바뀌면 키가 바뀌어 새로 만들고, 이전 템플릿은 근사 LRU로 밀려난다.
+ * - 값: 버전 조회 이후에 로딩한 응답으로 만든 템플릿 (키보다 오래된 내용이 저장되지 않음)
+ * 캐시가 맞으면 상세/인기 피드 응답은 버전 쿼리 한 번으로 끝나고 엔티티 로딩과 Jackson 직렬화가 없다.
+ * 두 조회 API가 모두 거치므로 잠금 없는 BoundedConcurrentMap에 보관한다.
+ *
+ * 메트릭
+ * - app.feed.json-cache.gets : 조회 수 (kind=detail|summary, result=hit|miss)
+ * - app.feed.json-cache.size : 보관 중인 템플릿 수
+ */
+@Component
+public class FeedJsonCache {
+
+    private static final String[] DETAIL_SLOTS = {"reactionCount", "commentCount", "bookmarkCount", "isReacted", "isBookmarked"};
+    private static final String[] SUMMARY_SLOTS = {"reactionCount", "commentCount", "bookmarkCount"};
+
+    private final FeedService feedService;
+    private final ObjectMapper objectMapper;
+    private final BoundedConcurrentMap<Object, JsonTemplate> templates;
+
+    private final Counter detailHits;
+    private final Counter detailMisses;
+    private final Counter summaryHits;
+    private final Counter summaryMisses;
+
+    public FeedJsonCache(
+            FeedService feedService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.feed.json-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.feedService = feedService;
+        this.objectMapper = objectMapper;
+        this.templates = new BoundedConcurrentMap<>(maxEntries);
+
+        this.detailHits = gets(meterRegistry, "detail", "hit");
+        this.detailMisses = gets(meterRegistry, "detail", "miss");
+        this.summaryHits = gets(meterRegistry, "summary", "hit");
+        this.summaryMisses = gets(meterRegistry, "summary", "miss");
+        Gauge.builder("app.feed.json-cache.size", this, FeedJsonCache::size)
+                .description("피드 응답 JSON 템플릿 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 피드 상세 응답 (카운트, 리액션/북마크 여부는 버전 값 사용)
+     */
+    public SerializedJson detail(FeedVersion version) {
+        DetailKey key = new DetailKey(version.id(), version.updatedAt());
+        JsonTemplate template = get(key);
+        if (template == null) {
+            detailMisses.increment();
+            // 회원별 값은 자리로 남기므로 회원 없이 조회
+            FeedResponse response = feedService.getFeed(version.id(), null);
+            template = put(key, JsonTemplate.of(objectMapper, response, DETAIL_SLOTS));
+        } else {
+            detailHits.increment();
+        }
+        return template.render(
+                version.reactionCount(),
+                version.commentCount(),
+                version.bookmarkCount(),
+                isPositive(version.reacted()),
+                isPositive(version.bookmarked())
+        );
+    }
+
+    /**
+     * 피드 목록 응답 (버전 순서대로, 캐시에 없는 항목만 한 번에 조회)
+     * 버전 조회 이후 삭제된 피드는 목록에서 빠진다.
+     */
+    public SerializedJson summaries(List<FeedSummaryVersion> versions) {
+        Map<Long, JsonTemplate> found = new HashMap<>();
+        Map<Long, SummaryKey> missing = new HashMap<>();
+        for (FeedSummaryVersion version : versions) {
+            SummaryKey key = SummaryKey.of(version);
+            JsonTemplate template = get(key);
+            if (template == null) {
+                missing.put(version.id(), key);
+            } else {
+                found.put(version.id(), template);
+            }
+        }
+        summaryHits.increment(found.size());
+        summaryMisses.increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            for (FeedSummaryResponse response : feedService.getFeedSummaries(missing.keySet())) {
+                found.put(response.getId(), put(missing.get(response.getId()),
+                        JsonTemplate.of(objectMapper, response, SUMMARY_SLOTS)));
+            }
+        }
+
+        List<SerializedJson> items = new ArrayList<>(versions.size());
+        for (FeedSummaryVersion version : versions) {
+            JsonTemplate template = found.get(version.id());
+            if (template != null) {
+                items.add(template.render(version.reactionCount(), version.commentCount(), version.bookmarkCount()));
+            }
+        }
+        return SerializedJson.array(items);
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+    private JsonTemplate get(Object key) {
+        return templates.get(key);
+    }
+
+    private JsonTemplate put(Object key, JsonTemplate template) {
+        templates.put(key, template);
+        return template;
+    }
+
+    private static boolean isPositive(Long count) {
+        return count != null && count > 0;
+    }
+
+    private static Counter gets(MeterRegistry meterRegistry, String kind, String result) {
+        return Counter.builder("app.feed.json-cache.gets")
+                .tag("kind", kind)
+                .tag("result", result)
+                .description("피드 응답 JSON 템플릿 조회 수")
+                .register(meterRegistry);
+    }
+
+    /** 피드 상세 템플릿 키 */
+    private record DetailKey(Long feedId, LocalDateTime updatedAt) {
+    }
+
+    /** 피드 목록 항목 템플릿 키 (작성자 프로필, 함께하기 제목 포함) */
+    private record SummaryKey(Long feedId, LocalDateTime updatedAt, LocalDateTime authorUpdatedAt,
+                              LocalDateTime togetherUpdatedAt) {
+
+        static SummaryKey of(FeedSummaryVersion version) {
+            return new SummaryKey(version.id(), version.updatedAt(), version.authorUpdatedAt(), version.togetherUpdatedAt());
+        }
+    }
+}
@@ -6,18 +6,25 @@ import com.back.domain.feed.dto.feed.request.FeedSearchRequest;
 import com.back.domain.feed.dto.feed.request.FeedUpdateRequest;
 import com.back.domain.feed.dto.feed.response.FeedResponse;
 import com.back.domain.feed.dto.feed.response.FeedSummaryResponse;
+import com.back.domain.feed.dto.feed.response.FeedSummaryVersion;
+import com.back.domain.feed.dto.feed.response.FeedVersion;
 import com.back.domain.feed.dto.feed.response.InfiniteScrollResponse;
 import com.back.domain.feed.entity.Feed;
 import com.back.domain.feed.entity.FeedBookmark;
 import com.back.domain.feed.entity.FeedImage;
 import com.back.domain.feed.entity.FeedReaction;
+import com.back.domain.feed.event.FeedDeletedEvent;
 import com.back.domain.feed.repository.FeedBookmarkRepository;
 import com.back.domain.feed.repository.FeedReactionRepository;
 import com.back.domain.feed.repository.FeedRepository;
+import com.back.domain.feed.repository.FeedSummaryFields;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.global.exception.ErrorCode;
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.SparseFields;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,7 +33,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,6 +49,7 @@ public class FeedService {
     private final FeedBookmarkRepository feedBookmarkRepository;
     private final MemberRepository memberRepository;
     private final TagService tagService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 피드 생성
@@ -88,7 +98,7 @@ public class FeedService {
      * 피드 상세 조회
      */
     public FeedResponse getFeed(Long feedId, Long currentMemberId) {
-        Feed feed = feedRepository.findByIdAndDeletedAtIsNull(feedId)
+        Feed feed = feedRepository.findDetailByIdAndDeletedAtIsNull(feedId)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorCode.FEED_NOT_FOUND.getMessage()));
 
         // 현재 사용자의 리액션/북마크 여부 확인
@@ -100,6 +110,14 @@ public class FeedService {
         return FeedResponse.from(feed, isReacted, isBookmarked);
     }
 
+    /**
+     * 피드 상세 버전 (ETag 계산 + 응답 캐시 키, 상세 조회 없이 쿼리 한 번)
+     */
+    public FeedVersion getFeedVersion(Long feedId, Long currentMemberId) {
+        return feedRepository.findVersionById(feedId, currentMemberId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.FEED_NOT_FOUND.getMessage()));
+    }
+
     /**
      * 피드 목록 조회 (QueryDSL 동적 검색 + 페이징)
      */
@@ -170,6 +188,41 @@ public class FeedService {
         return createInfiniteScrollResponse(feeds, requestedSize);
     }
 
+    /**
+     * 피드 무한 스크롤 - 요청한 필드만 (fields / previewLength)
+     * 전체 / 회원별(memberId) / Together별(togetherId) 스크롤 공통, 커서와 크기 보정은 위와 같다.
+     */
+    public InfiniteScrollResponse<Map<String, Object>> getFeedFieldsInfiniteScroll(
+            Long memberId,
+            Long togetherId,
+            Long lastFeedId,
+            Integer size,
+            SparseFields fields
+    ) {
+        FeedSummaryFields.PROJECTION.validate(fields);
+
+        int requestedSize = (size != null && size > 0 && size <= 50) ? size : 20;
+        Long cursorId = lastFeedId != null ? lastFeedId : Long.MAX_VALUE;
+
+        List<ProjectedRow> rows = feedRepository.findFeedFieldsForInfiniteScroll(
+                memberId, togetherId, cursorId, requestedSize + 1, fields);
+
+        boolean hasNext = rows.size() > requestedSize;
+        List<ProjectedRow> actualRows = hasNext ? rows.subList(0, requestedSize) : rows;
+
+        List<Map<String, Object>> responses = actualRows.stream()
+                .map(ProjectedRow::values)
+                .toList();
+
+        return InfiniteScrollResponse.<Map<String, Object>>builder()
+                .content(responses)
+                .nextCursor(actualRows.isEmpty() ? null : actualRows.getLast().key("id"))
+                .hasNext(hasNext)
+                .size(responses.size())
+                .requestedSize(requestedSize)
+                .build();
+    }
+
     /**
      * 피드 수정
      */
@@ -234,6 +287,8 @@ public class FeedService {
         }
 
         feed.delete();
+        // 댓글/리액션/북마크는 커밋 이후 청크 단위로 정리 (CascadeDeleteService)
+        eventPublisher.publishEvent(new FeedDeletedEvent(feedId, feed.getDeletedAt()));
         log.info("피드 삭제 완료 - ID: {}", feedId);
     }
 
@@ -306,21 +361,28 @@ public class FeedService {
     }
 
     /**
-     * 인기 피드 조회 (최근 7일 기준, QueryDSL)
+     * 인기 피드 항목별 버전 (최근 7일, 리액션 수 순, ETag 계산 + 응답 캐시 키)
+     * 응답 본문은 FeedJsonCache가 항목별 템플릿으로 만든다.
      */
-    public List<FeedSummaryResponse> getPopularFeeds(int size) {
-        // size 검증 추가 (최대 50개)
+    public List<FeedSummaryVersion> getPopularFeedVersions(int size) {
         int validatedSize = Math.min(Math.max(size, 1), 50);
-        
-        FeedSearchCondition condition = FeedSearchCondition.builder()
-                .startDate(LocalDateTime.now().minusDays(7))  // 최근 7일
-                .build();
 
-        List<Feed> feeds = feedRepository.findPopularFeedsWithCondition(condition, validatedSize);
+        return feedRepository.findPopularFeedVersions(popularFeedCondition(), validatedSize);
+    }
 
-        return feeds.stream()
+    /**
+     * ID 목록으로 피드 목록 항목 조회 (순서 보장 없음, 삭제된 피드는 제외)
+     */
+    public List<FeedSummaryResponse> getFeedSummaries(Collection<Long> feedIds) {
+        return feedRepository.findWithMemberAndTogetherByIdInAndDeletedAtIsNull(feedIds).stream()
                 .map(FeedSummaryResponse::from)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    private FeedSearchCondition popularFeedCondition() {
+        return FeedSearchCondition.builder()
+                .startDate(LocalDateTime.now().minusDays(7))  // 최근 7일
+                .build();
     }
 
     /**
@@ -9,13 +9,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@Table(
+    name = "members",
+    indexes = {
+        // 탈퇴 후처리 복구 (PostgreSQL에서는 처리 전 탈퇴 회원만 담는 부분 인덱스)
+        @Index(name = "idx_members_withdrawal_pending", columnList = "deleted_at")
+    }
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -66,6 +76,10 @@ public class Member extends BaseEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /** 탈퇴 후처리(MemberWithdrawalService) 완료 시점 (탈퇴했는데 null이면 복구 실행 대상) */
+    @Column(name = "withdrawal_processed_at")
+    private LocalDateTime withdrawalProcessedAt;
+
     public void updateProfileImage(String profileImageUrl) {
         this.profileImageUrl = profileImageUrl;
     }
@@ -91,8 +105,21 @@ public class Member extends BaseEntity {
         this.deletedAt = LocalDateTime.now();
     }
 
+    /** 탈퇴 후 개인정보 익명화 (닉네임/이메일은 다른 회원이 다시 쓸 수 있도록 비움) */
+    public void anonymize() {
+        this.name = null;
+        this.nickname = null;
+        this.email = null;
+        this.profileImageUrl = null;
+    }
+
+    public void completeWithdrawal() {
+        this.withdrawalProcessedAt = LocalDateTime.now();
+    }
+
     public void restore() {
         this.deletedAt = null;
+        this.withdrawalProcessedAt = null;
     }
 
     public boolean isDeleted() {
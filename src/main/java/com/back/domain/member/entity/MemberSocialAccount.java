@@ -18,6 +18,9 @@ import java.time.LocalDateTime;
             name = "uk_provider_provider_id",
             columnNames = {"provider", "provider_id"}
         )
+    },
+    indexes = {
+        @Index(name = "idx_member_social_accounts_member_id", columnList = "member_id, provider")
     }
 )
 @Getter
@@ -16,7 +16,11 @@ import java.time.LocalDateTime;
  * 실제 토큰은 DB에 저장하지 않고 해시값만 저장하여 보안을 강화합니다.
  */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+        indexes = @Index(name = "idx_refresh_tokens_member_id", columnList = "member_id")
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,13 @@
+package com.back.domain.member.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 이벤트
+ * 요청 트랜잭션에서는 회원만 삭제 표시하고, 작성한 글/댓글/리액션/북마크는 커밋 이후 MemberWithdrawalService가 청크 단위로 정리한다.
+ */
+public record MemberWithdrawnEvent(
+        Long memberId,
+        LocalDateTime withdrawnAt
+) {
+}
@@ -1,8 +1,13 @@
 package com.back.domain.member.repository;
 
 import com.back.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /** Member 엔티티를 위한 Repository 인터페이스 */
@@ -33,6 +38,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     /** 고유번호 중복 체크 (활성 회원만) */
     boolean existsByMemberCodeAndDeletedAtIsNull(String memberCode);
 
+    // ========== 닉네임 할당 ==========
+
+    /**
+     * LIKE 패턴에 맞는 닉네임 목록 조회 (탈퇴한 회원 포함)
+     * 닉네임 유니크 제약은 탈퇴 회원까지 포함하므로 deletedAt 조건을 두지 않음
+     * 패턴의 특수문자는 '!'로 이스케이프해서 전달
+     */
+    @Query("SELECT m.nickname FROM Member m WHERE m.nickname LIKE :pattern ESCAPE '!'")
+    List<String> findNicknamesLike(@Param("pattern") String pattern);
+
     // ========== 관리자용 메서드 (탈퇴 여부 무관) ==========
 
     /** 이메일로 회원 조회 (탈퇴한 회원도 포함) - 관리자용 */
@@ -40,5 +55,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     /** 활성 회원 수 조회 */
     long countByDeletedAtIsNull();
+
+    // ========== 탈퇴 후처리 복구 (MemberWithdrawalService.recoverPending) ==========
+
+    /** 후처리가 끝나지 않은 탈퇴 회원 ID (id 순 keyset) */
+    @Query("SELECT m.id FROM Member m " +
+           "WHERE m.deletedAt >= :from AND m.deletedAt < :to AND m.withdrawalProcessedAt IS NULL AND m.id > :afterId " +
+           "ORDER BY m.id")
+    List<Long> findUnprocessedWithdrawalIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                            @Param("afterId") Long afterId, Pageable pageable);
 }
 
@@ -3,6 +3,8 @@ package com.back.domain.member.repository;
 import com.back.domain.member.entity.MemberSocialAccount;
 import com.back.domain.member.entity.SocialProvider;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -15,10 +17,19 @@ public interface MemberSocialAccountRepository extends JpaRepository<MemberSocia
         String providerId
     );
 
-    /** 특정 회원의 소셜 계정 조회 */
+    /** 소셜 계정과 회원을 한 번에 조회 (로그인용) */
+    @Query("SELECT a FROM MemberSocialAccount a JOIN FETCH a.member " +
+           "WHERE a.provider = :provider AND a.providerId = :providerId")
+    Optional<MemberSocialAccount> findWithMemberByProviderAndProviderId(
+        @Param("provider") SocialProvider provider,
+        @Param("providerId") String providerId
+    );
+
+    /** 특정 회원의 소셜 계정 조회 (members 조인 없이 FK 컬럼으로 조회) */
+    @Query("SELECT a FROM MemberSocialAccount a WHERE a.member.id = :memberId AND a.provider = :provider")
     Optional<MemberSocialAccount> findByMemberIdAndProvider(
-        Long memberId,
-        SocialProvider provider
+        @Param("memberId") Long memberId,
+        @Param("provider") SocialProvider provider
     );
 
     /** 특정 소셜 계정 존재 여부 확인 */
@@ -2,6 +2,8 @@ package com.back.domain.member.repository;
 
 import com.back.domain.member.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -13,8 +15,9 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     /** 토큰 해시값으로 Refresh Token 조회 */
     Optional<RefreshToken> findByTokenHash(String tokenHash);
 
-    /** 회원 ID로 Refresh Token 조회 */
-    Optional<RefreshToken> findByMemberId(Long memberId);
+    /** 회원 ID로 Refresh Token 조회 (members 조인 없이 FK 컬럼으로 조회) */
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.member.id = :memberId")
+    Optional<RefreshToken> findByMemberId(@Param("memberId") Long memberId);
 
     // ========== 삭제 ==========
 
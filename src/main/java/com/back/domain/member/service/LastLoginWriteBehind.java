@@ -0,0 +1,85 @@
+package com.back.domain.member.service;
+
+import com.back.domain.member.entity.SocialProvider;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 소셜 계정 마지막 로그인 시각 지연 반영
+ *
+ * 로그인마다 UPDATE를 보내지 않고 메모리에 모아 두었다가 주기적으로 JDBC 배치로 반영한다.
+ * 같은 계정의 로그인이 여러 번 쌓이면 가장 최근 시각 하나만 반영된다.
+ * 배치 반영에 실패하면 꺼낸 항목을 다시 모아 두고 다음 flush에서 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginWriteBehind {
+
+    private static final String UPDATE_SQL = """
+            UPDATE member_social_accounts
+               SET last_login_at = ?
+             WHERE provider = ?
+               AND provider_id = ?
+               AND (last_login_at IS NULL OR last_login_at < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Key, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /** 로그인 시각 기록 (DB 반영은 flush 시점) */
+    public void record(SocialProvider provider, String providerId, LocalDateTime loginAt) {
+        pending.merge(new Key(provider, providerId), loginAt,
+                (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    /** 모아 둔 로그인 시각을 배치 UPDATE로 반영 (실패하면 다시 모아 둠) */
+    @Scheduled(fixedDelayString = "${app.social-login.last-login-flush-interval:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Key, LocalDateTime> batch = new HashMap<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Key key : List.copyOf(pending.keySet())) {
+            LocalDateTime loginAt = pending.remove(key);
+            if (loginAt != null) {
+                batch.put(key, loginAt);
+                Timestamp timestamp = Timestamp.valueOf(loginAt);
+                batchArgs.add(new Object[]{timestamp, key.provider().name(), key.providerId(), timestamp});
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+            log.debug("마지막 로그인 시각 일괄 반영 - {}건", batchArgs.size());
+        } catch (RuntimeException e) {
+            // 그 사이 다시 로그인한 계정은 더 최근 시각이 남는다.
+            batch.forEach((key, loginAt) -> record(key.provider(), key.providerId(), loginAt));
+            log.warn("마지막 로그인 시각 일괄 반영 실패, 다음 반영에서 재시도 - {}건", batchArgs.size(), e);
+        }
+    }
+
+    /** 종료 시 남은 로그인 시각 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record Key(SocialProvider provider, String providerId) {
+    }
+}
@@ -3,10 +3,12 @@ package com.back.domain.member.service;
 import com.back.domain.member.dto.request.MemberUpdateRequest;
 import com.back.domain.member.dto.response.MemberInfoResponse;
 import com.back.domain.member.entity.Member;
+import com.back.domain.member.event.MemberWithdrawnEvent;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ import java.util.Random;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final int MEMBER_CODE_LENGTH = 8;
 
@@ -119,6 +122,8 @@ public class MemberService {
 
         member.delete();
         memberRepository.save(member);
+        // 작성한 글/리액션 정리와 개인정보 익명화는 커밋 이후 MemberWithdrawalService에서 청크 단위로 처리
+        eventPublisher.publishEvent(new MemberWithdrawnEvent(memberId, member.getDeletedAt()));
         log.info("회원 탈퇴 완료 - ID: {}, 사유: {}", memberId, reason);
     }
 }
@@ -0,0 +1,50 @@
+package com.back.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 탈퇴 후처리 복구 스케줄러 (연쇄 삭제 복구와 같은 설정 app.cascade-delete.recovery.* 사용)
+ * 후처리가 실패했거나 서버 종료로 유실된 탈퇴를 찾아 다시 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cascade-delete.recovery.enabled", havingValue = "true", matchIfMissing = true)
+public class MemberWithdrawalRecoveryScheduler {
+
+    private final MemberWithdrawalService memberWithdrawalService;
+
+    /** 실행 중복 방지 (이전 실행이 길어져 다음 실행과 겹치는 경우) */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${app.cascade-delete.recovery.min-age:10m}")
+    private Duration minAge;
+
+    @Value("${app.cascade-delete.recovery.lookback:7d}")
+    private Duration lookback;
+
+    @Scheduled(fixedDelayString = "${app.cascade-delete.recovery.interval:10m}",
+            initialDelayString = "${app.cascade-delete.recovery.interval:10m}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime to = LocalDateTime.now().minus(minAge);
+            memberWithdrawalService.recoverPending(to.minus(lookback), to);
+        } catch (RuntimeException e) {
+            log.error("탈퇴 후처리 복구 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
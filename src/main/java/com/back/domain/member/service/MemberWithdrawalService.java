@@ -0,0 +1,307 @@
+package com.back.domain.member.service;
+
+import com.back.domain.comment.entity.Comment;
+import com.back.domain.comment.repository.CommentReactionRepository;
+import com.back.domain.comment.repository.CommentRepository;
+import com.back.domain.comment.service.CascadeDeleteExecutor;
+import com.back.domain.comment.service.CascadeDeleteService;
+import com.back.domain.feed.repository.FeedBookmarkRepository;
+import com.back.domain.feed.repository.FeedReactionRepository;
+import com.back.domain.feed.repository.FeedRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.event.MemberWithdrawnEvent;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.member.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 회원 탈퇴 후처리 서비스
+ *
+ * 탈퇴 요청 트랜잭션은 회원만 삭제 표시하고, 커밋 이후 이벤트를 받아 회원이 남긴 데이터를 비동기로 정리한다.
+ * 1. Refresh Token 삭제 + 개인정보 익명화
+ * 2. 피드 리액션/북마크, 댓글 리액션 삭제 + 대상 피드/댓글의 카운트를 청크마다 묶어서 감소
+ * 3. 댓글 Soft Delete (피드 댓글 수 감소, 대댓글은 CascadeDeleteService로 정리)
+ * 4. 피드 Soft Delete (댓글/리액션/북마크는 CascadeDeleteService로 정리)
+ * 청크마다 짧은 트랜잭션으로 처리해 리액션이 수만 건인 회원이 탈퇴해도 인기 피드 행을 오래 잠그지 않는다.
+ * 각 단계는 다시 실행해도 결과가 같으므로 중간에 실패하면 같은 회원으로 다시 실행해 이어서 처리한다.
+ * 끝까지 처리하면 회원에 완료 시점을 남기고, 실패하거나 서버 종료로 유실된 탈퇴는 recoverPending()이 다시 실행한다.
+ * 소셜 계정은 탈퇴 회원의 재로그인을 막는 데 쓰이므로 남겨 두고, 보관 기간 정리(RetentionService)에서 회원과 함께 삭제한다.
+ *
+ * 메트릭
+ * - app.member.withdrawal.rows : 처리한 행 수 (kind) - 진행 상황
+ * - app.member.withdrawal      : 탈퇴 한 건의 후처리 시간 (outcome)
+ * - app.member.withdrawal.recovered : 복구 실행으로 다시 처리한 탈퇴 수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberWithdrawalService {
+
+    private final MemberRepository memberRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final FeedRepository feedRepository;
+    private final FeedReactionRepository feedReactionRepository;
+    private final FeedBookmarkRepository feedBookmarkRepository;
+    private final CommentRepository commentRepository;
+    private final CommentReactionRepository commentReactionRepository;
+    private final CascadeDeleteService cascadeDeleteService;
+    private final CascadeDeleteExecutor cascadeDeleteExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cascade-delete.chunk-size:500}")
+    private int chunkSize;
+
+    /** 탈퇴 커밋 이후 후처리 예약 */
+    @TransactionalEventListener
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        cascadeDeleteExecutor.submit(() -> runQuietly(() -> process(event.memberId(), event.withdrawnAt())));
+    }
+
+    /** 탈퇴 회원 데이터 정리 */
+    public Result process(Long memberId, LocalDateTime withdrawnAt) {
+        Progress progress = new Progress();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                refreshTokenRepository.deleteByMemberId(memberId);
+                memberRepository.findById(memberId).ifPresent(Member::anonymize);
+            });
+
+            // 탈퇴 회원은 더 이상 리액션/북마크를 토글할 수 없으므로 조회한 대상 수만큼 정확히 감소한다.
+            deleteAllInChunks(progress, Kind.FEED_REACTION, chunk -> {
+                List<Long> feedIds = feedReactionRepository.findFeedIdsByMemberId(memberId, chunk);
+                if (!feedIds.isEmpty()) {
+                    feedReactionRepository.deleteByMemberIdAndFeedIdIn(memberId, feedIds);
+                    feedRepository.decreaseReactionCount(feedIds);
+                }
+                return feedIds.size();
+            });
+            deleteAllInChunks(progress, Kind.FEED_BOOKMARK, chunk -> {
+                List<Long> feedIds = feedBookmarkRepository.findFeedIdsByMemberId(memberId, chunk);
+                if (!feedIds.isEmpty()) {
+                    feedBookmarkRepository.deleteByMemberIdAndFeedIdIn(memberId, feedIds);
+                    feedRepository.decreaseBookmarkCount(feedIds);
+                }
+                return feedIds.size();
+            });
+            deleteAllInChunks(progress, Kind.COMMENT_REACTION, chunk -> {
+                List<Long> commentIds = commentReactionRepository.findCommentIdsByMemberId(memberId, chunk);
+                if (!commentIds.isEmpty()) {
+                    commentReactionRepository.deleteByMemberIdAndCommentIdIn(memberId, commentIds);
+                    commentRepository.decreaseReactionCount(commentIds);
+                }
+                return commentIds.size();
+            });
+
+            deleteComments(memberId, withdrawnAt, progress);
+            deleteFeeds(memberId, withdrawnAt, progress);
+
+            transactionTemplate.executeWithoutResult(status ->
+                    memberRepository.findById(memberId).ifPresent(Member::completeWithdrawal));
+
+            Result result = progress.toResult();
+            log.info("탈퇴 회원 정리 완료 - ID: {}, {}", memberId, result);
+            return result;
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.error("탈퇴 회원 정리 실패 - ID: {}, 진행: {}", memberId, progress.toResult(), e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("app.member.withdrawal")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 후처리가 끝나지 않은 탈퇴의 재실행 (MemberWithdrawalRecoveryScheduler)
+     * 탈퇴 시각이 [from, to) 인 회원만 보며, to는 진행 중인 비동기 작업과 겹치지 않도록 충분히 이전 시각으로 둔다.
+     * 한 회원이 실패해도 나머지는 계속 처리하고, 실패한 회원은 다음 실행에서 다시 조회된다.
+     *
+     * @return 다시 실행한 탈퇴 수
+     */
+    public int recoverPending(LocalDateTime from, LocalDateTime to) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        int recovered = 0;
+
+        long afterId = 0L;
+        List<Long> memberIds;
+        while (!(memberIds = memberRepository.findUnprocessedWithdrawalIds(from, to, afterId, chunk)).isEmpty()) {
+            for (Long memberId : memberIds) {
+                Member member = memberRepository.findById(memberId).orElse(null);
+                if (member != null && member.getDeletedAt() != null) {
+                    runQuietly(() -> process(memberId, member.getDeletedAt()));
+                    meterRegistry.counter("app.member.withdrawal.recovered").increment();
+                    recovered++;
+                }
+            }
+            afterId = memberIds.getLast();
+        }
+
+        if (recovered > 0) {
+            log.warn("탈퇴 후처리 복구 - 처리되지 않은 탈퇴 {}건 재실행 (탈퇴 시각 {} ~ {})", recovered, from, to);
+        }
+        return recovered;
+    }
+
+    /** 댓글 삭제 표시 + 피드 댓글 수 감소 (감소량이 같은 피드끼리 한 번에), 대댓글이 있으면 트리 정리 */
+    private void deleteComments(Long memberId, LocalDateTime withdrawnAt, Progress progress) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        while (true) {
+            Map<Long, Long> parents = new HashMap<>();
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Comment> comments = commentRepository.findLiveByMemberId(memberId, chunk);
+                if (comments.isEmpty()) {
+                    return 0;
+                }
+
+                List<Long> ids = new ArrayList<>(comments.size());
+                Map<Long, Integer> countsByFeed = new TreeMap<>();
+                for (Comment comment : comments) {
+                    ids.add(comment.getId());
+                    if (comment.isFeedComment() && comment.getFeed() != null) {
+                        countsByFeed.merge(comment.getFeed().getId(), 1, Integer::sum);
+                    }
+                }
+                commentReactionRepository.deleteByCommentIdIn(ids);
+                int count = commentRepository.softDeleteByIdIn(ids, withdrawnAt);
+
+                Map<Integer, List<Long>> feedsByCount = new TreeMap<>();
+                countsByFeed.forEach((feedId, feedCount) ->
+                        feedsByCount.computeIfAbsent(feedCount, key -> new ArrayList<>()).add(feedId));
+                feedsByCount.forEach((feedCount, feedIds) -> feedRepository.decreaseCommentCount(feedIds, feedCount));
+
+                for (Long parentId : commentRepository.findParentIdsWithLiveReplies(ids)) {
+                    Comment parent = comments.stream().filter(comment -> comment.getId().equals(parentId)).findFirst().orElseThrow();
+                    parents.put(parentId, parent.isFeedComment() && parent.getFeed() != null ? parent.getFeed().getId() : null);
+                }
+                return count;
+            });
+            if (deleted == null || deleted == 0) {
+                return;
+            }
+            progress.add(Kind.COMMENT, deleted);
+            progress.chunkDone();
+
+            // 다른 회원이 단 대댓글은 일반 댓글 삭제와 같은 방식으로 정리
+            parents.forEach((parentId, feedId) -> cascadeDeleteService.deleteReplies(parentId, feedId, withdrawnAt));
+        }
+    }
+
+    /** 피드 삭제 표시, 하위 데이터는 피드 삭제와 같은 방식으로 정리 */
+    private void deleteFeeds(Long memberId, LocalDateTime withdrawnAt, Progress progress) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        while (true) {
+            List<Long> feedIds = transactionTemplate.execute(status -> {
+                List<Long> ids = feedRepository.findLiveIdsByMemberId(memberId, chunk);
+                if (!ids.isEmpty()) {
+                    progress.add(Kind.FEED, feedRepository.softDeleteByIdIn(ids, withdrawnAt));
+                }
+                return ids;
+            });
+            if (feedIds == null || feedIds.isEmpty()) {
+                return;
+            }
+            progress.chunkDone();
+            feedIds.forEach(feedId -> cascadeDeleteService.deleteFeedChildren(feedId, withdrawnAt));
+        }
+    }
+
+    /** 대상이 없을 때까지 첫 청크를 처리 (처리한 행은 조건에서 빠짐) */
+    private void deleteAllInChunks(Progress progress, Kind kind, Function<Pageable, Integer> chunkDeleter) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> chunkDeleter.apply(chunk));
+            if (deleted == null || deleted == 0) {
+                return;
+            }
+            progress.add(kind, deleted);
+            progress.chunkDone();
+        }
+    }
+
+    /** 비동기 실행 시 예외는 process()에서 기록했으므로 실행기로 전파하지 않음 */
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ignored) {
+            // 처리하지 못한 행은 남아 있으며 recoverPending()이 같은 회원으로 다시 실행해 이어서 처리한다.
+        }
+    }
+
+    /** 정리한 행 종류 (메트릭 kind 태그) */
+    private enum Kind {
+        FEED_REACTION("feed_reaction"),
+        FEED_BOOKMARK("feed_bookmark"),
+        COMMENT_REACTION("comment_reaction"),
+        COMMENT("comment"),
+        FEED("feed");
+
+        private final String tag;
+
+        Kind(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /** 탈퇴 한 건의 진행 상황 (청크를 처리할 때마다 메트릭에 바로 반영) */
+    private class Progress {
+
+        private final Map<Kind, Long> rows = new EnumMap<>(Kind.class);
+        private int chunks;
+
+        void add(Kind kind, int count) {
+            if (count <= 0) {
+                return;
+            }
+            rows.merge(kind, (long) count, Long::sum);
+            meterRegistry.counter("app.member.withdrawal.rows", "kind", kind.tag).increment(count);
+        }
+
+        void chunkDone() {
+            chunks++;
+        }
+
+        Result toResult() {
+            return new Result(
+                    rows.getOrDefault(Kind.FEED_REACTION, 0L),
+                    rows.getOrDefault(Kind.FEED_BOOKMARK, 0L),
+                    rows.getOrDefault(Kind.COMMENT_REACTION, 0L),
+                    rows.getOrDefault(Kind.COMMENT, 0L),
+                    rows.getOrDefault(Kind.FEED, 0L),
+                    chunks
+            );
+        }
+    }
+
+    /** 탈퇴 후처리 결과 (행 수) */
+    public record Result(
+            long feedReactions,
+            long feedBookmarks,
+            long commentReactions,
+            long comments,
+            long feeds,
+            int chunks
+    ) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.back.domain.member.service;
+
+import com.back.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 고유 닉네임 할당기
+ *
+ * 기본 닉네임과 같은 접두사를 가진 닉네임을 한 번의 쿼리로 모두 가져와
+ * 메모리에서 비어 있는 숫자 접미사를 찾는다. (접미사마다 중복 체크 쿼리를 보내지 않음)
+ * 동시 가입으로 같은 닉네임이 선택되는 경우는 DB 유니크 제약 + 호출 측 재시도로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameAllocator {
+
+    private static final int MAX_NICKNAME_LENGTH = 12;
+    private static final int MAX_SUFFIX = 9999;
+    private static final int MAX_SUFFIX_LENGTH = String.valueOf(MAX_SUFFIX).length();
+    private static final String DEFAULT_NICKNAME = "사용자";
+
+    /** 재시도 1회당 후보 범위 증가폭 (경쟁하는 가입 요청이 같은 후보에 몰리지 않도록 분산) */
+    private static final int RETRY_CANDIDATE_WINDOW = 16;
+
+    private final MemberRepository memberRepository;
+
+    /** 첫 번째로 비어 있는 닉네임 할당 */
+    public String allocate(String baseNickname) {
+        return allocate(baseNickname, 0);
+    }
+
+    /**
+     * 비어 있는 닉네임 할당
+     * attempt가 0이면 가장 앞의 빈 자리를, 재시도 시에는 앞쪽 빈 자리들 중 하나를 무작위로 고른다.
+     */
+    public String allocate(String baseNickname, int attempt) {
+        String nickname = normalize(baseNickname);
+
+        // 접미사가 최대 길이일 때 남는 접두사 기준으로 한 번에 조회
+        String commonPrefix = nickname.substring(0,
+                Math.min(nickname.length(), MAX_NICKNAME_LENGTH - MAX_SUFFIX_LENGTH));
+        Set<String> taken = new HashSet<>(memberRepository.findNicknamesLike(toLikePrefix(commonPrefix)));
+
+        int window = attempt == 0 ? 1 : attempt * RETRY_CANDIDATE_WINDOW;
+        List<String> candidates = new ArrayList<>(window);
+
+        if (!taken.contains(nickname)) {
+            candidates.add(nickname);
+        }
+        for (int i = 1; i <= MAX_SUFFIX && candidates.size() < window; i++) {
+            String candidate = withSuffix(nickname, i);
+            if (!taken.contains(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            // 모든 접미사가 사용 중이면 시간 기반 랜덤 문자열 추가
+            String randomSuffix = String.valueOf(System.currentTimeMillis()).substring(7);
+            return nickname.substring(0, Math.min(nickname.length(), MAX_NICKNAME_LENGTH - randomSuffix.length()))
+                    + randomSuffix;
+        }
+
+        String allocated = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        log.debug("닉네임 할당 - 기본: {}, 할당: {}, 시도: {}, 사용 중: {}", nickname, allocated, attempt, taken.size());
+        return allocated;
+    }
+
+    /** 기본 닉네임 정규화 (빈 값이면 기본값, 최대 12자) */
+    private String normalize(String baseNickname) {
+        if (baseNickname == null || baseNickname.isBlank()) {
+            return DEFAULT_NICKNAME;
+        }
+        return baseNickname.length() > MAX_NICKNAME_LENGTH
+                ? baseNickname.substring(0, MAX_NICKNAME_LENGTH)
+                : baseNickname;
+    }
+
+    /** 숫자 접미사 추가 (12자 초과 시 앞부분을 잘라 길이 유지) */
+    private String withSuffix(String nickname, int suffix) {
+        String suffixText = String.valueOf(suffix);
+        if (nickname.length() + suffixText.length() > MAX_NICKNAME_LENGTH) {
+            return nickname.substring(0, MAX_NICKNAME_LENGTH - suffixText.length()) + suffixText;
+        }
+        return nickname + suffixText;
+    }
+
+    /** LIKE 접두사 패턴 생성 (%, _, ! 이스케이프) */
+    private String toLikePrefix(String prefix) {
+        return prefix.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_")
+                + "%";
+    }
+}
@@ -0,0 +1,52 @@
+package com.back.domain.member.service;
+
+import com.back.domain.member.entity.SocialProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 소셜 계정 → 회원 ID 캐시
+ *
+ * (provider, providerId)와 회원 ID의 연결은 한 번 만들어지면 바뀌지 않으므로
+ * 재로그인 시 소셜 계정 조회 없이 회원 PK로 바로 조회할 수 있다.
+ * 탈퇴 여부는 캐시하지 않고 매번 조회한 회원으로 확인한다.
+ */
+@Component
+public class SocialAccountCache {
+
+    private final Map<Key, Long> memberIds = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public SocialAccountCache(@Value("${app.social-login.account-cache-size:100000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /** 캐시된 회원 ID 조회 (없으면 null) */
+    public Long getMemberId(SocialProvider provider, String providerId) {
+        return memberIds.get(new Key(provider, providerId));
+    }
+
+    /** 회원 ID 저장 (최대 크기 초과 시 임의의 항목 제거) */
+    public void put(SocialProvider provider, String providerId, Long memberId) {
+        if (memberIds.size() >= maxSize) {
+            Iterator<Key> iterator = memberIds.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        memberIds.put(new Key(provider, providerId), memberId);
+    }
+
+    /** 캐시 항목 제거 */
+    public void evict(SocialProvider provider, String providerId) {
+        memberIds.remove(new Key(provider, providerId));
+    }
+
+    private record Key(SocialProvider provider, String providerId) {
+    }
+}
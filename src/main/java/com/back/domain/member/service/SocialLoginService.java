@@ -10,8 +10,13 @@ import com.back.domain.member.repository.MemberSocialAccountRepository;
 import com.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
 
 /**
  * 소셜 로그인 처리 서비스
@@ -23,52 +28,114 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class SocialLoginService {
 
+    /** 신규 가입 시 유니크 제약(닉네임, 소셜 계정) 충돌에 대한 최대 시도 횟수 */
+    private static final int MAX_SIGNUP_ATTEMPTS = 10;
+
     private final MemberRepository memberRepository;
     private final MemberSocialAccountRepository memberSocialAccountRepository;
     private final MemberService memberService;
-
-    /** 소셜 로그인 정보로 회원 조회 또는 생성 (null 값 허용) */
-    @Transactional
+    private final NicknameAllocator nicknameAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final SocialAccountCache socialAccountCache;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
+
+    /**
+     * 소셜 로그인 정보로 회원 조회 또는 생성 (null 값 허용)
+     * 유니크 제약 충돌 시 새 트랜잭션으로 재시도해야 하므로 시도마다 개별 트랜잭션을 사용
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Member findOrCreateMember(OAuth2UserInfo userInfo) {
-        // 1. 기존 소셜 계정 조회
-        MemberSocialAccount existingAccount = memberSocialAccountRepository
-                .findByProviderAndProviderId(userInfo.getProvider(), userInfo.getProviderId())
-                .orElse(null);
+        // 1. 기존 소셜 계정이 있으면 해당 회원으로 로그인
+        Member existingMember = transactionTemplate.execute(status -> loginWithExistingAccount(userInfo));
+        if (existingMember != null) {
+            return existingMember;
+        }
 
-        if (existingAccount != null) {
-            // 기존 소셜 계정이 있으면 해당 회원 반환 및 정보 업데이트
-            Member member = existingAccount.getMember();
-            
-            // 탈퇴한 회원인지 확인
-            if (member.isDeleted()) {
-                throw new IllegalArgumentException(
-                        ErrorCode.MEMBER_ALREADY_DELETED.getMessage()
-                );
+        // 2. 소셜 계정이 없으면 새 회원 생성 (소셜 로그인으로만 가입 가능)
+        for (int attempt = 0; attempt < MAX_SIGNUP_ATTEMPTS; attempt++) {
+            int currentAttempt = attempt;
+            try {
+                Member newMember = transactionTemplate.execute(status -> createNewMember(userInfo, currentAttempt));
+                socialAccountCache.put(userInfo.getProvider(), userInfo.getProviderId(), newMember.getId());
+                return newMember;
+            } catch (DataIntegrityViolationException e) {
+                // 같은 소셜 계정으로 동시에 가입한 경우 먼저 생성된 회원으로 로그인
+                Member concurrentMember = transactionTemplate.execute(status -> loginWithExistingAccount(userInfo));
+                if (concurrentMember != null) {
+                    return concurrentMember;
+                }
+                log.debug("신규 회원 생성 충돌, 재시도 - Provider: {}, ProviderId: {}, 시도: {}",
+                        userInfo.getProvider(), userInfo.getProviderId(), currentAttempt + 1);
             }
+        }
+
+        throw new IllegalStateException("신규 회원 생성 재시도 횟수를 초과했습니다. - ProviderId: "
+                + userInfo.getProviderId());
+    }
 
-            // 소셜 로그인에서 받은 최신 정보로 업데이트 (프로필 이미지, 이름 등이 변경되었을 수 있음)
-            updateMemberInfoFromSocialLogin(member, userInfo);
+    /**
+     * 기존 소셜 계정으로 로그인 (계정이 없으면 null)
+     * 캐시된 회원 ID가 있으면 회원 PK 조회 한 번으로 끝나고, 없으면 소셜 계정과 회원을 함께 조회한다.
+     * 회원 정보는 실제로 바뀐 경우에만 변경 감지로 UPDATE 되며, 로그인 시각은 지연 반영한다.
+     */
+    private Member loginWithExistingAccount(OAuth2UserInfo userInfo) {
+        Member member = findMemberBySocialAccount(userInfo.getProvider(), userInfo.getProviderId());
 
-            // 최근 로그인 정보 업데이트
-            existingAccount.updateLastLogin();
+        if (member == null) {
+            return null;
+        }
+
+        // 탈퇴한 회원인지 확인
+        if (member.isDeleted()) {
+            throw new IllegalArgumentException(
+                    ErrorCode.MEMBER_ALREADY_DELETED.getMessage()
+            );
+        }
+
+        // 소셜 로그인에서 받은 최신 정보로 업데이트 (프로필 이미지, 이름 등이 변경되었을 수 있음)
+        updateMemberInfoFromSocialLogin(member, userInfo);
+
+        // 최근 로그인 정보 업데이트 (로그인 방식이 바뀐 경우에만 변경)
+        if (member.getLastLoginProvider() != userInfo.getProvider()) {
             member.updateLastLoginProvider(userInfo.getProvider());
-            memberSocialAccountRepository.save(existingAccount);
-            memberRepository.save(member);
+        }
+        lastLoginWriteBehind.record(userInfo.getProvider(), userInfo.getProviderId(), LocalDateTime.now());
+
+        log.info("기존 소셜 계정으로 로그인 - Provider: {}, ProviderId: {}, MemberId: {}",
+                userInfo.getProvider(), userInfo.getProviderId(), member.getId());
+
+        return member;
+    }
 
-            log.info("기존 소셜 계정으로 로그인 - Provider: {}, ProviderId: {}, MemberId: {}",
-                    userInfo.getProvider(), userInfo.getProviderId(), member.getId());
+    /** 소셜 계정에 연결된 회원 조회 (캐시 우선, 계정이 없으면 null) */
+    private Member findMemberBySocialAccount(SocialProvider provider, String providerId) {
+        Long cachedMemberId = socialAccountCache.getMemberId(provider, providerId);
+        if (cachedMemberId != null) {
+            Member member = memberRepository.findById(cachedMemberId).orElse(null);
+            if (member != null) {
+                return member;
+            }
+            socialAccountCache.evict(provider, providerId);
+        }
+
+        MemberSocialAccount account = memberSocialAccountRepository
+                .findWithMemberByProviderAndProviderId(provider, providerId)
+                .orElse(null);
 
-            return member;
+        if (account == null) {
+            return null;
         }
 
-        // 2. 소셜 계정이 없으면 새 회원 생성 (소셜 로그인으로만 가입 가능)
-        return createNewMember(userInfo);
+        Member member = account.getMember();
+        socialAccountCache.put(provider, providerId, member.getId());
+        return member;
     }
 
-    /** 소셜 로그인 최신 정보로 회원 정보 업데이트 */
+    /** 소셜 로그인 최신 정보로 회원 정보 업데이트 (변경된 값만 반영) */
     private void updateMemberInfoFromSocialLogin(Member member, OAuth2UserInfo userInfo) {
         // 프로필 이미지 업데이트 (소셜 로그인에서 받은 최신 이미지)
-        if (userInfo.getProfileImageUrl() != null) {
+        if (userInfo.getProfileImageUrl() != null
+                && !userInfo.getProfileImageUrl().equals(member.getProfileImageUrl())) {
             member.updateProfileImage(userInfo.getProfileImageUrl());
         }
 
@@ -81,8 +148,7 @@ public class SocialLoginService {
     }
 
     /** 새 회원 생성 (소셜 로그인 정보 저장, null 값 허용) */
-    @Transactional
-    private Member createNewMember(OAuth2UserInfo userInfo) {
+    private Member createNewMember(OAuth2UserInfo userInfo, int attempt) {
         // 회원 코드 생성
         String memberCode = memberService.generateMemberCode();
 
@@ -93,10 +159,11 @@ public class SocialLoginService {
         }
 
         // 닉네임 생성 (소셜 로그인에서 받은 닉네임 사용, 없으면 이름 기반으로 생성, 중복 체크 포함)
-        String nickname = generateUniqueNickname(
+        String nickname = nicknameAllocator.allocate(
                 userInfo.getNickname() != null && !userInfo.getNickname().isBlank()
                         ? userInfo.getNickname()
-                        : name
+                        : name,
+                attempt
         );
 
         // 새 회원 생성 (null 값 허용, 나중에 추가 수집 가능)
@@ -140,42 +207,4 @@ public class SocialLoginService {
             case NAVER -> "네이버 사용자";
         };
     }
-
-    /** 고유한 닉네임 생성 (중복 시 숫자 추가) */
-    private String generateUniqueNickname(String baseNickname) {
-        // baseNickname이 null이거나 빈 문자열인 경우 기본값 사용
-        if (baseNickname == null || baseNickname.isBlank()) {
-            baseNickname = "사용자";
-        }
-        
-        // 닉네임 길이 제한 (최대 12자)
-        String nickname = baseNickname.length() > 12 
-                ? baseNickname.substring(0, 12) 
-                : baseNickname;
-
-        // 중복되지 않으면 그대로 사용
-        if (!memberService.checkNickname(nickname)) {
-            return nickname;
-        }
-
-        // 중복되면 숫자 붙이기 (최대 9999까지 시도)
-        for (int i = 1; i <= 9999; i++) {
-            String candidate = nickname + i;
-            // 길이 제한 확인 (12자 초과 시 앞부분 자르기)
-            if (candidate.length() > 12) {
-                int cutLength = 12 - String.valueOf(i).length();
-                candidate = nickname.substring(0, cutLength) + i;
-            }
-
-            if (!memberService.checkNickname(candidate)) {
-                return candidate;
-            }
-        }
-
-        // 모든 시도 실패 시 랜덤 문자열 추가
-        String randomSuffix = String.valueOf(System.currentTimeMillis()).substring(7);
-        String finalNickname = nickname.substring(0, Math.min(nickname.length(), 12 - randomSuffix.length())) + randomSuffix;
-        return finalNickname;
-    }
 }
-
@@ -1,10 +1,19 @@
 package com.back.domain.together.controller;
 
 import com.back.domain.together.dto.request.TogetherRequest;
+import com.back.domain.together.dto.request.TogetherSearchCondition;
+import com.back.domain.together.dto.response.ParticipationResponse;
 import com.back.domain.together.dto.response.TogetherResponse;
+import com.back.domain.together.dto.response.TogetherScrollResponse;
+import com.back.domain.together.entity.TogetherCategory;
+import com.back.domain.together.entity.TogetherMode;
+import com.back.domain.together.entity.TogetherStatus;
+import com.back.domain.together.service.ParticipationService;
 import com.back.domain.together.service.TogetherService;
 import com.back.global.rsData.RsData;
+import com.back.global.web.SparseFields;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,10 +21,11 @@ import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Description;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/v1/together")
@@ -23,18 +33,50 @@ import java.util.List;
 public class TogetherController {
 
     private final TogetherService togetherService;
+    private final ParticipationService participationService;
 
     @Operation(summary = "전체 함께하기 조회")
-    @Description("전체 리스트 조회, 날짜,제목,카테고리, 온/오프, 모집중")
+    @Description("전체 리스트 무한 스크롤 조회 (시작일 최신순), 날짜,카테고리, 온/오프, 모집중 필터")
     @ApiResponse(
             responseCode = "200",
             description = "전체 함께하기 조회 성공",
-            content = @Content(schema = @Schema(implementation = TogetherResponse.class))
+            content = @Content(schema = @Schema(implementation = TogetherScrollResponse.class))
     )
     @GetMapping("/list")
-    @Transactional
-    public ResponseEntity<RsData<List<TogetherResponse>>> getAllTogether() {
-        List<TogetherResponse> togetherList = togetherService.getAllTogether();
+    public ResponseEntity<RsData<TogetherScrollResponse<?>>> getAllTogether(
+            @Parameter(description = "카테고리", example = "PLOGGING")
+            @RequestParam(required = false) TogetherCategory category,
+            @Parameter(description = "온라인/오프라인", example = "OFFLINE")
+            @RequestParam(required = false) TogetherMode mode,
+            @Parameter(description = "모집 상태", example = "RECRUITING")
+            @RequestParam(required = false) TogetherStatus status,
+            @Parameter(description = "시작일 범위 - 시작 (yyyy-MM-dd)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "시작일 범위 - 끝 (yyyy-MM-dd)", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "마지막으로 조회한 함께하기의 시작일 (첫 조회 시에는 생략)", example = "2025-01-20")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lastStartDate,
+            @Parameter(description = "마지막으로 조회한 함께하기 ID (첫 조회 시에는 생략)", example = "100")
+            @RequestParam(required = false) Long lastId,
+            @Parameter(description = "조회할 개수 (기본 20, 최대 50)", example = "20")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "응답 필드 (쉼표 구분, 생략 시 전체 필드)", example = "id,title,description,startDate,status")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "설명 미리보기 길이 (생략 시 전체 설명, 최대 2000)", example = "100")
+            @RequestParam(required = false) Integer previewLength
+    ) {
+        TogetherSearchCondition condition = TogetherSearchCondition.builder()
+                .category(category)
+                .mode(mode)
+                .status(status)
+                .startDateFrom(from)
+                .startDateTo(to)
+                .build();
+
+        SparseFields sparseFields = SparseFields.of(fields, previewLength);
+        TogetherScrollResponse<?> togetherList = sparseFields.isRequested()
+                ? togetherService.getTogetherFieldList(condition, lastStartDate, lastId, size, sparseFields)
+                : togetherService.getTogetherList(condition, lastStartDate, lastId, size);
         return ResponseEntity.ok().body(RsData.success("전체 함께하기 조회 성공", togetherList));
     }
 
@@ -82,4 +124,34 @@ public class TogetherController {
         return ResponseEntity.status(201).body(RsData.success("함께하기 게시글이 등록되었습니다.", response));
     }
 
+    @Operation(summary = "함께하기 참여")
+    @ApiResponse(
+            responseCode = "200",
+            description = "함께하기 참여 성공",
+            content = @Content(schema = @Schema(implementation = ParticipationResponse.class))
+    )
+    @PostMapping("/{id}/participants")
+    public ResponseEntity<RsData<ParticipationResponse>> join(
+            @PathVariable Long id
+    ) {
+        Long memberId = 1L; // TODO: 인증 로직이 추가되면 수정 필요
+        ParticipationResponse response = participationService.join(id, memberId);
+        return ResponseEntity.ok().body(RsData.success("함께하기에 참여했습니다.", response));
+    }
+
+    @Operation(summary = "함께하기 참여 취소")
+    @ApiResponse(
+            responseCode = "200",
+            description = "함께하기 참여 취소 성공",
+            content = @Content(schema = @Schema(implementation = ParticipationResponse.class))
+    )
+    @DeleteMapping("/{id}/participants")
+    public ResponseEntity<RsData<ParticipationResponse>> leave(
+            @PathVariable Long id
+    ) {
+        Long memberId = 1L; // TODO: 인증 로직이 추가되면 수정 필요
+        ParticipationResponse response = participationService.leave(id, memberId);
+        return ResponseEntity.ok().body(RsData.success("함께하기 참여를 취소했습니다.", response));
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.back.domain.together.dto.request;
+
+import com.back.domain.together.entity.TogetherCategory;
+import com.back.domain.together.entity.TogetherMode;
+import com.back.domain.together.entity.TogetherStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 함께하기 목록 검색 조건 (QueryDSL 동적 쿼리용)
+ * 값이 null인 조건은 적용하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TogetherSearchCondition {
+
+    /** 카테고리 (플로깅, 줍깅, 분리수거) */
+    private TogetherCategory category;
+
+    /** 온라인/오프라인 */
+    private TogetherMode mode;
+
+    /** 모집 상태 */
+    private TogetherStatus status;
+
+    /** 시작일 범위 - 이 날짜 이후에 시작하는 함께하기 */
+    private LocalDate startDateFrom;
+
+    /** 시작일 범위 - 이 날짜 이전에 시작하는 함께하기 */
+    private LocalDate startDateTo;
+}
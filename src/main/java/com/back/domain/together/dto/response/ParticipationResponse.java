@@ -0,0 +1,23 @@
+package com.back.domain.together.dto.response;
+
+import com.back.domain.together.entity.ParticipantStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipationResponse {
+    private Long togetherId;
+    private Long memberId;
+    private ParticipantStatus status;
+    private Integer participantCount;
+    private Integer capacity;
+    private LocalDateTime joinAt;
+    private LocalDateTime leftAt;
+}
@@ -9,6 +9,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -20,6 +22,9 @@ public class TogetherResponse {
     private TogetherCategory category;
     private TogetherMode mode;
     private Integer capacity;
+    private Integer participantCount;
+    private LocalDate startDate;
+    private LocalDate endDate;
     private TogetherStatus status;
     private Long organizerId;
 
@@ -31,6 +36,9 @@ public class TogetherResponse {
                 .category(together.getCategory())
                 .mode(together.getMode())
                 .capacity(together.getCapacity())
+                .participantCount(together.getParticipantCount())
+                .startDate(together.getStartDate())
+                .endDate(together.getEndDate())
                 .status(together.getStatus())
                 .organizerId(together.getMember().getId())
                 .build();
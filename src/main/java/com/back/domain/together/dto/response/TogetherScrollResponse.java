@@ -0,0 +1,40 @@
+package com.back.domain.together.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 함께하기 목록 무한 스크롤 응답
+ * 시작일 내림차순 + ID 내림차순 키셋 페이징이므로 커서는 (시작일, ID) 두 값으로 구성
+ *
+ * @param <T> 항목 타입 (TogetherResponse, 필드 선택 시 필드 맵)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TogetherScrollResponse<T> {
+
+    /** 함께하기 목록 */
+    private List<T> content;
+
+    /** 다음 페이지 요청 시 사용할 커서 - 마지막 항목의 시작일 (null이면 마지막 페이지) */
+    private LocalDate nextStartDate;
+
+    /** 다음 페이지 요청 시 사용할 커서 - 마지막 항목의 ID (null이면 마지막 페이지) */
+    private Long nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+
+    /** 현재 페이지의 실제 데이터 개수 */
+    private int size;
+
+    /** 요청한 페이지 크기 */
+    private int requestedSize;
+}
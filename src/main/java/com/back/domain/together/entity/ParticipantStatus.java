@@ -0,0 +1,5 @@
+package com.back.domain.together.entity;
+
+public enum ParticipantStatus {
+    JOINED, LEFT
+}
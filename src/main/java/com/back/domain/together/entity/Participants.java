@@ -9,27 +9,42 @@ import lombok.experimental.SuperBuilder;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "participants")
+@Table(
+        name = "participants",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_participants_together_member",
+                        columnNames = {"together_id", "member_id"}
+                )
+        },
+        indexes = @Index(name = "idx_participants_member_id", columnList = "member_id")
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
 public class Participants extends BaseEntity {
-//    @ManyToOne(fetch = FetchType.LAZY)
-//    @JoinColumn(name = "user_id")
-//    private Member member;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "together_id")
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "together_id", nullable = false)
     private Together together;
 
     @Column(name = "status")
-    private String status;
+    @Enumerated(EnumType.STRING)
+    private ParticipantStatus status;
 
     @Column(name = "join_at")
     private LocalDateTime joinAt;
 
     @Column(name = "left_at")
     private LocalDateTime leftAt;
+
+    public boolean isJoined() {
+        return this.status == ParticipantStatus.JOINED;
+    }
 }
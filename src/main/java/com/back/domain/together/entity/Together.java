@@ -8,8 +8,17 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDate;
 
+// 2차 캐시에 두지 않음: 참여 인원 JPQL 일괄 UPDATE(참여/탈퇴마다)가 엔티티 영역 전체를 비운다.
 @Entity
-@Table(name = "challenges")
+@Table(
+        name = "challenges",
+        indexes = {
+                @Index(name = "idx_challenges_status_start_date", columnList = "status, start_date"),
+                @Index(name = "idx_challenges_status_end_date", columnList = "status, end_date"),
+                @Index(name = "idx_challenges_start_date", columnList = "start_date, id"),  // 상태 조건 없는 목록 (키셋 정렬)
+                @Index(name = "idx_challenges_organizer_id", columnList = "organizer_id")  // 회원 참조 확인 (탈퇴 회원 정리)
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +43,11 @@ public class Together extends BaseEntity {
     @Column(name = "capacity")
     private int capacity;
 
+    /** 현재 참여 인원 (조건부 UPDATE로만 증감) */
+    @Column(name = "participant_count", nullable = false)
+    @Builder.Default
+    private int participantCount = 0;
+
     @Column(name = "start_date")
     private LocalDate startDate;
 
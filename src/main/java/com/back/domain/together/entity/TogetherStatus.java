@@ -1,5 +1,12 @@
 package com.back.domain.together.entity;
 
+/**
+ * 함께하기 상태
+ * RECRUITING/CLOSED → (시작일) IN_PROGRESS → (종료일 다음 날) COMPLETED 순으로 스케줄러가 전환
+ */
 public enum TogetherStatus {
-    RECRUITING, CLOSED
+    RECRUITING,   // 모집 중
+    CLOSED,       // 모집 마감 (시작 전)
+    IN_PROGRESS,  // 진행 중
+    COMPLETED     // 종료
 }
@@ -0,0 +1,19 @@
+package com.back.domain.together.event;
+
+import com.back.domain.together.entity.TogetherStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 함께하기 상태 전환 이벤트
+ * 스케줄러가 한 번의 UPDATE로 전환한 함께하기들을 묶어서 발행한다. (togetherIds 각각이 하나의 전환)
+ * 커밋 이후에 처리하려면 @TransactionalEventListener(phase = AFTER_COMMIT)로 구독한다.
+ */
+public record TogetherStatusChangedEvent(
+        List<Long> togetherIds,
+        TogetherStatus from,
+        TogetherStatus to,
+        LocalDateTime changedAt
+) {
+}
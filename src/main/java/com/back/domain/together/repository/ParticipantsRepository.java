@@ -0,0 +1,42 @@
+package com.back.domain.together.repository;
+
+import com.back.domain.together.entity.ParticipantStatus;
+import com.back.domain.together.entity.Participants;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ParticipantsRepository extends JpaRepository<Participants, Long> {
+
+    /** 함께하기 + 회원으로 참여 정보 조회 (참여 취소 이력 포함) */
+    Optional<Participants> findByTogetherIdAndMemberId(Long togetherId, Long memberId);
+
+    /** 상태별 참여자 수 */
+    long countByTogetherIdAndStatus(Long togetherId, ParticipantStatus status);
+
+    /**
+     * 참여 취소 (참여 중인 경우에만)
+     * 같은 회원의 동시 취소는 한 요청만 1건을 변경하므로, 1건일 때만 참여 인원을 줄인다.
+     * @return 변경된 행 수 (0이면 이미 취소됨)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Participants p SET p.status = com.back.domain.together.entity.ParticipantStatus.LEFT, " +
+           "p.leftAt = :now, p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.status = com.back.domain.together.entity.ParticipantStatus.JOINED")
+    int leave(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 재참여 (참여 취소한 경우에만)
+     * 같은 회원의 동시 재참여는 한 요청만 1건을 변경하므로, 1건일 때만 참여 인원을 늘린다.
+     * @return 변경된 행 수 (0이면 이미 참여 중)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Participants p SET p.status = com.back.domain.together.entity.ParticipantStatus.JOINED, " +
+           "p.joinAt = :now, p.leftAt = NULL, p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.status = com.back.domain.together.entity.ParticipantStatus.LEFT")
+    int rejoin(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,28 @@
+package com.back.domain.together.repository;
+
+import com.back.domain.together.entity.QTogether;
+import com.back.global.jpa.FieldProjection;
+
+/**
+ * 함께하기 목록 응답 필드 (TogetherResponse 필드 순서)
+ * TogetherService는 요청 필드를 검증하고, TogetherRepositoryImpl은 요청 필드의 조회 식을 구성한다.
+ */
+public final class TogetherFields {
+
+    public static final FieldProjection PROJECTION = FieldProjection.builder()
+            .column("id", QTogether.together.id)
+            .column("title", QTogether.together.title)
+            .preview("description", QTogether.together.description)
+            .column("category", QTogether.together.category)
+            .column("mode", QTogether.together.mode)
+            .column("capacity", QTogether.together.capacity)
+            .column("participantCount", QTogether.together.participantCount)
+            .column("startDate", QTogether.together.startDate)
+            .column("endDate", QTogether.together.endDate)
+            .column("status", QTogether.together.status)
+            .column("organizerId", QTogether.together.member.id)
+            .build();
+
+    private TogetherFields() {
+    }
+}
@@ -1,7 +1,61 @@
 package com.back.domain.together.repository;
 
 import com.back.domain.together.entity.Together;
+import com.back.domain.together.entity.TogetherStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TogetherRepository extends JpaRepository<Together,Long> {
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TogetherRepository extends JpaRepository<Together,Long>, TogetherRepositoryCustom {
+
+    /**
+     * 참여 인원 증가 (모집 중이고 정원이 남아 있을 때만)
+     * @return 변경된 행 수 (0이면 정원 초과 또는 모집 중이 아님)
+     */
+    @Modifying
+    @Query("UPDATE Together t SET t.participantCount = t.participantCount + 1 " +
+           "WHERE t.id = :id " +
+           "AND t.status = com.back.domain.together.entity.TogetherStatus.RECRUITING " +
+           "AND t.participantCount < t.capacity")
+    int increaseParticipantCount(@Param("id") Long id);
+
+    /** 참여 인원 감소 (0 미만으로 내려가지 않음) */
+    @Modifying
+    @Query("UPDATE Together t SET t.participantCount = t.participantCount - 1 " +
+           "WHERE t.id = :id AND t.participantCount > 0")
+    int decreaseParticipantCount(@Param("id") Long id);
+
+    // ========== 상태 전환 (스케줄러) ==========
+
+    /** 시작일이 된 함께하기 ID 조회 (status + start_date 인덱스) */
+    @Query("SELECT t.id FROM Together t WHERE t.status = :status AND t.startDate <= :date ORDER BY t.id")
+    List<Long> findIdsToStart(@Param("status") TogetherStatus status,
+                              @Param("date") LocalDate date,
+                              Pageable pageable);
+
+    /** 종료일이 지난 함께하기 ID 조회 (status + end_date 인덱스) */
+    @Query("SELECT t.id FROM Together t WHERE t.status = :status AND t.endDate < :date ORDER BY t.id")
+    List<Long> findIdsToComplete(@Param("status") TogetherStatus status,
+                                 @Param("date") LocalDate date,
+                                 Pageable pageable);
+
+    /** 상태 일괄 변경 (현재 상태가 from인 행만) */
+    @Modifying
+    @Query("UPDATE Together t SET t.status = :to, t.updatedAt = :now WHERE t.id IN :ids AND t.status = :from")
+    int updateStatus(@Param("ids") List<Long> ids,
+                     @Param("from") TogetherStatus from,
+                     @Param("to") TogetherStatus to,
+                     @Param("now") LocalDateTime now);
+
+    /** updateStatus로 실제 전환된 행 ID (같은 트랜잭션에서 조회, 전환한 행은 커밋 전까지 잠겨 있음) */
+    @Query("SELECT t.id FROM Together t WHERE t.id IN :ids AND t.status = :to AND t.updatedAt = :now ORDER BY t.id")
+    List<Long> findTransitionedIds(@Param("ids") List<Long> ids,
+                                   @Param("to") TogetherStatus to,
+                                   @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,46 @@
+package com.back.domain.together.repository;
+
+import com.back.domain.together.dto.request.TogetherSearchCondition;
+import com.back.domain.together.entity.Together;
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.SparseFields;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Together QueryDSL Custom Repository 인터페이스
+ */
+public interface TogetherRepositoryCustom {
+
+    /**
+     * 함께하기 목록 키셋 페이징 검색 (시작일 내림차순, ID 내림차순)
+     *
+     * @param condition     검색 조건 (카테고리, 모드, 상태, 시작일 범위)
+     * @param lastStartDate 마지막으로 조회한 함께하기의 시작일 (첫 조회 시 null)
+     * @param lastId        마지막으로 조회한 함께하기 ID (첫 조회 시 null)
+     * @param limit         조회할 개수 (requestedSize + 1)
+     * @return 주최자(Member)를 fetch join한 함께하기 목록
+     */
+    List<Together> searchForInfiniteScroll(
+            TogetherSearchCondition condition,
+            LocalDate lastStartDate,
+            Long lastId,
+            int limit
+    );
+
+    /**
+     * 함께하기 목록 키셋 페이징 검색 - 요청한 필드만 (fields / previewLength)
+     * searchForInfiniteScroll과 같은 조건/정렬로 요청한 컬럼만 조회한다. (주최자는 FK 컬럼만 사용, 조인 없음)
+     *
+     * @param fields 요청 필드 / 미리보기 길이
+     * @return 응답 행 (키: startDate, id)
+     */
+    List<ProjectedRow> searchFieldsForInfiniteScroll(
+            TogetherSearchCondition condition,
+            LocalDate lastStartDate,
+            Long lastId,
+            int limit,
+            SparseFields fields
+    );
+}
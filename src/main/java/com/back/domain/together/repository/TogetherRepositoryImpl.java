@@ -0,0 +1,118 @@
+package com.back.domain.together.repository;
+
+import com.back.domain.together.dto.request.TogetherSearchCondition;
+import com.back.domain.together.entity.QTogether;
+import com.back.domain.together.entity.Together;
+import com.back.global.jpa.FieldProjection;
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.SparseFields;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Together QueryDSL Custom Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class TogetherRepositoryImpl implements TogetherRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Together> searchForInfiniteScroll(
+            TogetherSearchCondition condition,
+            LocalDate lastStartDate,
+            Long lastId,
+            int limit
+    ) {
+        QTogether together = QTogether.together;
+
+        BooleanBuilder builder = createCondition(condition, lastStartDate, lastId);
+
+        return queryFactory
+                .selectFrom(together)
+                .leftJoin(together.member).fetchJoin()  // 주최자 Fetch Join (N+1 방지)
+                .where(builder)
+                .orderBy(together.startDate.desc(), together.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ProjectedRow> searchFieldsForInfiniteScroll(
+            TogetherSearchCondition condition,
+            LocalDate lastStartDate,
+            Long lastId,
+            int limit,
+            SparseFields fields
+    ) {
+        QTogether together = QTogether.together;
+        FieldProjection.Selection selection = TogetherFields.PROJECTION.select(fields, "startDate", "id");
+
+        return selection.toRows(queryFactory
+                .select(selection.expressions())
+                .from(together)
+                .where(createCondition(condition, lastStartDate, lastId))
+                .orderBy(together.startDate.desc(), together.id.desc())
+                .limit(limit)
+                .fetch());
+    }
+
+    // ========== Private 헬퍼 메서드 ==========
+
+    /**
+     * 검색 조건 + 키셋 조건: (시작일, ID) < (마지막 시작일, 마지막 ID)
+     */
+    private BooleanBuilder createCondition(TogetherSearchCondition condition, LocalDate lastStartDate, Long lastId) {
+        QTogether together = QTogether.together;
+        BooleanBuilder builder = createCondition(condition);
+
+        if (lastStartDate != null && lastId != null) {
+            builder.and(together.startDate.lt(lastStartDate)
+                    .or(together.startDate.eq(lastStartDate).and(together.id.lt(lastId))));
+        }
+        return builder;
+    }
+
+    /**
+     * 검색 조건 생성 (null인 조건은 무시)
+     */
+    private BooleanBuilder createCondition(TogetherSearchCondition condition) {
+        QTogether together = QTogether.together;
+        BooleanBuilder builder = new BooleanBuilder();
+
+        // 키셋 정렬 기준이므로 시작일이 없는 데이터는 제외
+        builder.and(together.startDate.isNotNull());
+
+        if (condition == null) {
+            return builder;
+        }
+
+        if (condition.getStatus() != null) {
+            builder.and(together.status.eq(condition.getStatus()));
+        }
+
+        if (condition.getCategory() != null) {
+            builder.and(together.category.eq(condition.getCategory()));
+        }
+
+        if (condition.getMode() != null) {
+            builder.and(together.mode.eq(condition.getMode()));
+        }
+
+        if (condition.getStartDateFrom() != null) {
+            builder.and(together.startDate.goe(condition.getStartDateFrom()));
+        }
+
+        if (condition.getStartDateTo() != null) {
+            builder.and(together.startDate.loe(condition.getStartDateTo()));
+        }
+
+        return builder;
+    }
+}
@@ -0,0 +1,88 @@
+package com.back.domain.together.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 함께하기 참여 입장 제어 (스트라이프 세마포어)
+ *
+ * 인기 함께하기에 참여 요청이 몰리면 같은 행의 조건부 UPDATE가 행 잠금을 두고 경쟁하며
+ * 커넥션 풀을 점유한다. 함께하기 ID로 스트라이프를 나눠 동시에 DB에 들어가는 요청 수를 제한하고,
+ * 정원이 찬 것으로 확인된 함께하기는 잠시 동안 DB 조회 없이 바로 거절한다.
+ * (다른 서버에서 참여 취소가 일어날 수 있으므로 마감 기록은 짧게 유지)
+ * 정원 보장은 DB 조건부 UPDATE가 담당하며, 이 클래스는 부하 완화용이다. (서버 인스턴스별)
+ */
+@Component
+public class ParticipationGate {
+
+    private final Semaphore[] stripes;
+    private final long waitMillis;
+    private final long fullTtlMillis;
+
+    /** 정원이 찬 함께하기 ID → 마감 기록 만료 시각 (참여 취소 시 해제) */
+    private final Map<Long, Long> fullTogethers = new ConcurrentHashMap<>();
+
+    public ParticipationGate(
+            @Value("${app.together.join-gate.stripes:64}") int stripeCount,
+            @Value("${app.together.join-gate.permits-per-stripe:8}") int permitsPerStripe,
+            @Value("${app.together.join-gate.wait-millis:3000}") long waitMillis,
+            @Value("${app.together.join-gate.full-ttl-millis:3000}") long fullTtlMillis
+    ) {
+        this.stripes = new Semaphore[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Semaphore(permitsPerStripe, true);
+        }
+        this.waitMillis = waitMillis;
+        this.fullTtlMillis = fullTtlMillis;
+    }
+
+    /**
+     * 입장 시도 (대기 시간 내에 자리가 나지 않으면 false)
+     * true를 받은 경우 반드시 release를 호출해야 한다.
+     */
+    public boolean tryEnter(Long togetherId) {
+        try {
+            return stripe(togetherId).tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** 퇴장 */
+    public void release(Long togetherId) {
+        stripe(togetherId).release();
+    }
+
+    /** 정원이 찬 것으로 확인된 함께하기인지 */
+    public boolean isFull(Long togetherId) {
+        Long expiresAt = fullTogethers.get(togetherId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt < System.currentTimeMillis()) {
+            fullTogethers.remove(togetherId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /** 정원 마감 기록 */
+    public void markFull(Long togetherId) {
+        fullTogethers.put(togetherId, System.currentTimeMillis() + fullTtlMillis);
+    }
+
+    /** 정원 마감 해제 (참여 취소, 정원 변경 시) */
+    public void clearFull(Long togetherId) {
+        fullTogethers.remove(togetherId);
+    }
+
+    private Semaphore stripe(Long togetherId) {
+        return stripes[Math.floorMod(togetherId.hashCode(), stripes.length)];
+    }
+}
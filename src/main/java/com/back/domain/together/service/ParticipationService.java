@@ -0,0 +1,165 @@
+package com.back.domain.together.service;
+
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.together.dto.response.ParticipationResponse;
+import com.back.domain.together.entity.ParticipantStatus;
+import com.back.domain.together.entity.Participants;
+import com.back.domain.together.entity.Together;
+import com.back.domain.together.entity.TogetherStatus;
+import com.back.domain.together.repository.ParticipantsRepository;
+import com.back.domain.together.repository.TogetherRepository;
+import com.back.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 함께하기 참여 서비스
+ *
+ * 정원은 participant_count 조건부 UPDATE(participant_count < capacity)로 보장하고,
+ * 중복 참여는 (together_id, member_id) 유니크 제약으로 막는다.
+ * 참여 취소/재참여는 상태 조건부 UPDATE로 바꾸고, 1건이 바뀐 요청만 참여 인원을 조정한다. (동시 요청 중복 집계 방지)
+ * 입장 제어(ParticipationGate)를 통과한 요청만 트랜잭션을 시작하므로
+ * 게이트 대기 중에는 커넥션을 점유하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParticipationService {
+
+    private final TogetherRepository togetherRepository;
+    private final ParticipantsRepository participantsRepository;
+    private final MemberRepository memberRepository;
+    private final ParticipationGate participationGate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 함께하기 참여
+     */
+    public ParticipationResponse join(Long togetherId, Long memberId) {
+        // 정원이 찬 것으로 확인된 함께하기는 DB에 가지 않고 거절
+        if (participationGate.isFull(togetherId)) {
+            throw new IllegalArgumentException(ErrorCode.TOGETHER_CAPACITY_EXCEEDED.getMessage());
+        }
+
+        if (!participationGate.tryEnter(togetherId)) {
+            throw new IllegalArgumentException(ErrorCode.TOGETHER_JOIN_BUSY.getMessage());
+        }
+
+        try {
+            return transactionTemplate.execute(status -> joinInTransaction(togetherId, memberId));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 회원의 동시 참여 요청 → 유니크 제약 위반 (인원 증가도 함께 롤백됨)
+            throw new IllegalArgumentException(ErrorCode.TOGETHER_ALREADY_JOINED.getMessage());
+        } finally {
+            participationGate.release(togetherId);
+        }
+    }
+
+    /**
+     * 함께하기 참여 취소
+     */
+    public ParticipationResponse leave(Long togetherId, Long memberId) {
+        ParticipationResponse response = transactionTemplate.execute(status -> {
+            Long participantId = participantsRepository.findByTogetherIdAndMemberId(togetherId, memberId)
+                    .filter(Participants::isJoined)
+                    .map(Participants::getId)
+                    .orElseThrow(() -> new IllegalArgumentException(ErrorCode.TOGETHER_NOT_JOINED.getMessage()));
+
+            // 동시에 취소한 다른 요청이 먼저 바꿨으면 0건
+            if (participantsRepository.leave(participantId, LocalDateTime.now()) != 1) {
+                throw new IllegalArgumentException(ErrorCode.TOGETHER_NOT_JOINED.getMessage());
+            }
+            togetherRepository.decreaseParticipantCount(togetherId);
+
+            return toResponse(findParticipant(participantId), findTogether(togetherId));
+        });
+
+        // 자리가 생겼으므로 마감 기록 해제
+        participationGate.clearFull(togetherId);
+
+        log.info("함께하기 참여 취소 - TogetherId: {}, MemberId: {}", togetherId, memberId);
+        return response;
+    }
+
+    // ========== Private 헬퍼 메서드 ==========
+
+    private ParticipationResponse joinInTransaction(Long togetherId, Long memberId) {
+        Member member = memberRepository.findByIdAndDeletedAtIsNull(memberId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.MEMBER_NOT_FOUND.getMessage()));
+
+        Participants participant = participantsRepository.findByTogetherIdAndMemberId(togetherId, memberId)
+                .orElse(null);
+
+        if (participant != null && participant.isJoined()) {
+            throw new IllegalArgumentException(ErrorCode.TOGETHER_ALREADY_JOINED.getMessage());
+        }
+
+        // 참여 취소했던 회원의 재참여 - 동시에 재참여한 다른 요청이 먼저 바꿨으면 0건
+        if (participant != null && participantsRepository.rejoin(participant.getId(), LocalDateTime.now()) != 1) {
+            throw new IllegalArgumentException(ErrorCode.TOGETHER_ALREADY_JOINED.getMessage());
+        }
+
+        // 조건부 UPDATE로 자리 확보 (정원 초과 / 모집 마감이면 0건, 예외로 재참여 변경도 롤백)
+        if (togetherRepository.increaseParticipantCount(togetherId) == 0) {
+            throw rejectJoin(togetherId);
+        }
+
+        Together together = findTogether(togetherId);
+
+        if (participant != null) {
+            participant = findParticipant(participant.getId());
+        } else {
+            participant = participantsRepository.saveAndFlush(Participants.builder()
+                    .member(member)
+                    .together(together)
+                    .status(ParticipantStatus.JOINED)
+                    .joinAt(LocalDateTime.now())
+                    .build());
+        }
+
+        log.info("함께하기 참여 - TogetherId: {}, MemberId: {}, 참여 인원: {}/{}",
+                togetherId, memberId, together.getParticipantCount(), together.getCapacity());
+
+        return toResponse(participant, together);
+    }
+
+    /** 자리 확보 실패 사유 판단 */
+    private IllegalArgumentException rejectJoin(Long togetherId) {
+        Together together = findTogether(togetherId);
+
+        if (together.getStatus() != TogetherStatus.RECRUITING) {
+            return new IllegalArgumentException(ErrorCode.TOGETHER_NOT_RECRUITING.getMessage());
+        }
+
+        participationGate.markFull(togetherId);
+        return new IllegalArgumentException(ErrorCode.TOGETHER_CAPACITY_EXCEEDED.getMessage());
+    }
+
+    private Together findTogether(Long togetherId) {
+        return togetherRepository.findById(togetherId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.TOGETHER_NOT_FOUND.getMessage()));
+    }
+
+    private Participants findParticipant(Long participantId) {
+        return participantsRepository.findById(participantId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.TOGETHER_NOT_JOINED.getMessage()));
+    }
+
+    private ParticipationResponse toResponse(Participants participant, Together together) {
+        return ParticipationResponse.builder()
+                .togetherId(together.getId())
+                .memberId(participant.getMember().getId())
+                .status(participant.getStatus())
+                .participantCount(together.getParticipantCount())
+                .capacity(together.getCapacity())
+                .joinAt(participant.getJoinAt())
+                .leftAt(participant.getLeftAt())
+                .build();
+    }
+}
@@ -3,14 +3,22 @@ package com.back.domain.together.service;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.together.dto.request.TogetherRequest;
+import com.back.domain.together.dto.request.TogetherSearchCondition;
 import com.back.domain.together.dto.response.TogetherResponse;
+import com.back.domain.together.dto.response.TogetherScrollResponse;
 import com.back.domain.together.entity.Together;
 import com.back.domain.together.entity.TogetherStatus;
+import com.back.domain.together.repository.TogetherFields;
 import com.back.domain.together.repository.TogetherRepository;
+import com.back.global.jpa.ProjectedRow;
+import com.back.global.web.SparseFields;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -18,18 +26,88 @@ public class TogetherService {
     private final TogetherRepository togetherRepository;
     private final MemberRepository memberRepository;
 
-    public List<TogetherResponse> getAllTogether() {
-        return togetherRepository.findAll().stream()
+    /**
+     * 함께하기 목록 무한 스크롤 (시작일 + ID 키셋 페이징)
+     */
+    @Transactional(readOnly = true)
+    public TogetherScrollResponse<TogetherResponse> getTogetherList(
+            TogetherSearchCondition condition,
+            LocalDate lastStartDate,
+            Long lastId,
+            Integer size
+    ) {
+        int requestedSize = (size != null && size > 0 && size <= 50) ? size : 20;
+
+        // 동적 limit 지원 (requestedSize + 1)
+        List<Together> togethers = togetherRepository.searchForInfiniteScroll(
+                condition, lastStartDate, lastId, requestedSize + 1);
+
+        // hasNext 계산: 요청한 개수보다 많이 조회되면 다음 페이지 존재
+        boolean hasNext = togethers.size() > requestedSize;
+        List<Together> actualTogethers = hasNext ? togethers.subList(0, requestedSize) : togethers;
+
+        List<TogetherResponse> responses = actualTogethers.stream()
                 .map(TogetherResponse::from)
                 .toList();
+
+        // 다음 커서: 마지막 아이템의 (시작일, ID)
+        Together last = actualTogethers.isEmpty() ? null : actualTogethers.get(actualTogethers.size() - 1);
+
+        return TogetherScrollResponse.<TogetherResponse>builder()
+                .content(responses)
+                .nextStartDate(last != null ? last.getStartDate() : null)
+                .nextCursor(last != null ? last.getId() : null)
+                .hasNext(hasNext)
+                .size(responses.size())
+                .requestedSize(requestedSize)
+                .build();
+    }
+
+    /**
+     * 함께하기 목록 - 요청한 필드만 (fields / previewLength, 커서와 크기 보정은 getTogetherList와 같음)
+     */
+    @Transactional(readOnly = true)
+    public TogetherScrollResponse<Map<String, Object>> getTogetherFieldList(
+            TogetherSearchCondition condition,
+            LocalDate lastStartDate,
+            Long lastId,
+            Integer size,
+            SparseFields fields
+    ) {
+        TogetherFields.PROJECTION.validate(fields);
+
+        int requestedSize = (size != null && size > 0 && size <= 50) ? size : 20;
+
+        List<ProjectedRow> rows = togetherRepository.searchFieldsForInfiniteScroll(
+                condition, lastStartDate, lastId, requestedSize + 1, fields);
+
+        boolean hasNext = rows.size() > requestedSize;
+        List<ProjectedRow> actualRows = hasNext ? rows.subList(0, requestedSize) : rows;
+
+        List<Map<String, Object>> responses = actualRows.stream()
+                .map(ProjectedRow::values)
+                .toList();
+
+        ProjectedRow last = actualRows.isEmpty() ? null : actualRows.getLast();
+
+        return TogetherScrollResponse.<Map<String, Object>>builder()
+                .content(responses)
+                .nextStartDate(last != null ? last.key("startDate") : null)
+                .nextCursor(last != null ? last.key("id") : null)
+                .hasNext(hasNext)
+                .size(responses.size())
+                .requestedSize(requestedSize)
+                .build();
     }
 
+    @Transactional(readOnly = true)
     public TogetherResponse getTogether(Long id) {
         Together together = togetherRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(id+"번 함께하기 없음"));
         return TogetherResponse.from(together);
     }
 
+    @Transactional
     public TogetherResponse create(TogetherRequest request, Long organizerId) {
 
         Member organizer = memberRepository.findById(organizerId)
@@ -0,0 +1,52 @@
+package com.back.domain.together.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 함께하기 상태 전환 스케줄러
+ * 매일 자정에 실행하고, 서버 시작 시에도 한 번 실행해 중단 기간의 전환을 따라잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TogetherStatusScheduler {
+
+    private final TogetherStatusTransitionService transitionService;
+
+    @Value("${app.together.status.zone:Asia/Seoul}")
+    private String zone;
+
+    /** 실행 중복 방지 (자정 실행과 시작 시 실행이 겹치는 경우) */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /** 서버 시작 시 밀린 전환 처리 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        run();
+    }
+
+    /** 매일 자정 실행 */
+    @Scheduled(cron = "${app.together.status.cron:0 0 0 * * *}", zone = "${app.together.status.zone:Asia/Seoul}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            transitionService.transition(LocalDate.now(ZoneId.of(zone)));
+        } catch (RuntimeException e) {
+            log.error("함께하기 상태 전환 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
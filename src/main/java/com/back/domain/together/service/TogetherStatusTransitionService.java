@@ -0,0 +1,106 @@
+package com.back.domain.together.service;
+
+import com.back.domain.together.entity.TogetherStatus;
+import com.back.domain.together.event.TogetherStatusChangedEvent;
+import com.back.domain.together.repository.TogetherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 함께하기 상태 전환 서비스
+ *
+ * 전체 행을 훑지 않고 (status, start_date) / (status, end_date) 인덱스로 전환 대상 ID만 청크 단위로 조회한 뒤
+ * 청크마다 짧은 트랜잭션에서 일괄 UPDATE 한다.
+ * 기준 날짜 이하/미만의 모든 대상을 처리하므로 서버가 멈춰 있던 기간의 전환도 다음 실행에서 따라잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TogetherStatusTransitionService {
+
+    private final TogetherRepository togetherRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.together.status.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 기준 날짜로 상태 전환 실행
+     * 1. RECRUITING/CLOSED 중 시작일이 된 함께하기 → IN_PROGRESS
+     * 2. IN_PROGRESS 중 종료일이 지난 함께하기 → COMPLETED
+     *
+     * @return 전환된 함께하기 수
+     */
+    public int transition(LocalDate today) {
+        int started = 0;
+        started += transitionAll(TogetherStatus.RECRUITING, TogetherStatus.IN_PROGRESS,
+                pageable -> togetherRepository.findIdsToStart(TogetherStatus.RECRUITING, today, pageable));
+        started += transitionAll(TogetherStatus.CLOSED, TogetherStatus.IN_PROGRESS,
+                pageable -> togetherRepository.findIdsToStart(TogetherStatus.CLOSED, today, pageable));
+
+        int completed = transitionAll(TogetherStatus.IN_PROGRESS, TogetherStatus.COMPLETED,
+                pageable -> togetherRepository.findIdsToComplete(TogetherStatus.IN_PROGRESS, today, pageable));
+
+        if (started + completed > 0) {
+            log.info("함께하기 상태 전환 완료 - 기준일: {}, 진행 시작: {}건, 종료: {}건", today, started, completed);
+        }
+        return started + completed;
+    }
+
+    /** 대상이 없을 때까지 청크 단위로 전환 */
+    private int transitionAll(TogetherStatus from, TogetherStatus to, IdChunkFinder finder) {
+        Pageable firstChunk = PageRequest.of(0, chunkSize);
+        int total = 0;
+
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                // 전환된 행은 조건에서 빠지므로 항상 첫 청크를 조회
+                List<Long> ids = finder.find(firstChunk);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                // DB 시각 정밀도(마이크로초)에 맞춰 두어야 전환된 행을 수정 시각으로 다시 찾을 수 있다.
+                LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                int count = togetherRepository.updateStatus(ids, from, to, now);
+                if (count == 0) {
+                    return -1;
+                }
+
+                // 일부가 다른 곳에서 먼저 전환됐으면 이번 UPDATE로 바뀐 행만 이벤트에 담는다.
+                List<Long> changedIds = count == ids.size()
+                        ? ids
+                        : togetherRepository.findTransitionedIds(ids, to, now);
+                eventPublisher.publishEvent(new TogetherStatusChangedEvent(changedIds, from, to, now));
+                return count;
+            });
+
+            if (updated == null || updated == 0) {
+                return total;
+            }
+            if (updated < 0) {
+                // 조회한 행이 모두 다른 곳에서 먼저 전환됨 → 다음 실행에 맡김
+                log.warn("함께하기 상태 전환 경합 - {} → {}", from, to);
+                return total;
+            }
+            total += updated;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IdChunkFinder {
+        List<Long> find(Pageable pageable);
+    }
+}
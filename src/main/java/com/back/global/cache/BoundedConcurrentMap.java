@@ -0,0 +1,125 @@
+package com.back.global.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최대 항목 수가 있는 동시성 맵 (근사 LRU)
+ *
+ * 조회/저장은 ConcurrentHashMap에서 잠금 없이 처리하고, 항목마다 마지막 사용 시각만 기록한다.
+ * 최대 항목 수를 넘기면 넘긴 스레드 하나가 마지막 사용 시각이 오래된 항목부터 여유분(최대의 10%)까지 한 번에 제거한다.
+ * 제거 중에 다른 스레드는 기다리지 않으므로 잠시 최대 항목 수를 넘을 수 있다.
+ * 전역 모니터(synchronized)를 쓰지 않아 인기 항목 조회가 한 줄로 서지 않고 가상 스레드도 고정(pinning)되지 않는다.
+ */
+public class BoundedConcurrentMap<K, V> {
+
+    /** 같은 항목의 사용 시각은 이 간격보다 자주 갱신하지 않음 (인기 항목에 쓰기가 몰리지 않게) */
+    private static final long TOUCH_INTERVAL_NANOS = 1_000_000L;
+
+    private final int maxEntries;
+    private final int trimTo;
+    private final Map<K, Node<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock trimLock = new ReentrantLock();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedConcurrentMap(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.trimTo = maxEntries - maxEntries / 10;
+    }
+
+    public V get(K key) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.touch();
+        return node.value;
+    }
+
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Node<>(value));
+        if (entries.size() > maxEntries) {
+            trim();
+        }
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /** 최대 항목 수 초과로 제거된 수 (remove/clear는 포함하지 않음) */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /** 오래 사용하지 않은 항목부터 trimTo개가 남을 때까지 제거 (이미 다른 스레드가 제거 중이면 넘어감) */
+    private void trim() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = entries.size() - trimTo;
+            if (excess <= 0) {
+                return;
+            }
+            // 정렬 중에 사용 시각이 바뀌지 않도록 시각을 복사해 둔다.
+            List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+            entries.forEach((key, node) -> candidates.add(new Candidate<>(key, node, node.lastAccess)));
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (int i = 0; i < candidates.size() && excess > 0; i++) {
+                Candidate<K, V> eldest = candidates.get(i);
+                // 그 사이 새 값으로 바뀐 항목은 남긴다.
+                if (entries.remove(eldest.key(), eldest.node())) {
+                    evictions.increment();
+                    excess--;
+                }
+            }
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private record Candidate<K, V>(K key, Node<V> node, long lastAccess) {
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Node(V value) {
+            this.value = value;
+        }
+
+        private void touch() {
+            long now = System.nanoTime();
+            if (now - lastAccess > TOUCH_INTERVAL_NANOS) {
+                lastAccess = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.back.global.config;
+
+import com.back.global.metrics.QueryCountInspector;
+import com.back.global.metrics.QueryCountInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 메트릭 설정
+ * Hibernate SQL 집계기 등록 + 요청 단위 SQL 수 기록 인터셉터 등록
+ * 엔드포인트 지연 히스토그램(SLO 버킷), Hikari 대기 시간은 application.yml의 management 설정 참고
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernateCustomizer(QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+
+    @Bean
+    public WebMvcConfigurer queryCountWebMvcConfigurer(MeterRegistry meterRegistry) {
+        QueryCountInterceptor interceptor = new QueryCountInterceptor(meterRegistry);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
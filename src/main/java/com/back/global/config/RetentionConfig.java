@@ -0,0 +1,93 @@
+package com.back.global.config;
+
+import com.back.domain.feed.entity.Feed;
+import com.back.domain.member.entity.Member;
+import com.back.global.retention.RetentionPolicy;
+import com.back.global.retention.RetentionPolicy.Child;
+import com.back.global.retention.RetentionPolicy.Reference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+
+/**
+ * 보관 기간 정책 (RetentionService가 @Order 순서대로 실행)
+ *
+ * 참조하는 쪽(댓글 → 피드 → 회원)을 먼저 정리해야 같은 실행 안에서 부모 행의 참조 확인을 통과한다.
+ * 결제/후원 내역처럼 남겨야 하는 행이 참조하는 회원은 지우지 않는다.
+ */
+@Configuration
+public class RetentionConfig {
+
+    @Bean
+    @Order(1)
+    public RetentionPolicy commentRetentionPolicy(@Value("${app.retention.grace.comment:30d}") Duration grace) {
+        return RetentionPolicy.builder()
+                .table("comment")
+                .condition(RetentionPolicy.SOFT_DELETED)
+                .grace(grace)
+                .archive(true)
+                // 대댓글이 남아 있는 부모 댓글은 건너뛰고 대댓글을 지운 뒤에 정리 (id 내림차순이라 대부분 대댓글이 먼저 처리됨)
+                .reference(new Reference("comment", "parent_id"))
+                .child(Child.deleted("comment_reaction", "comment_id"))
+                .build();
+    }
+
+    @Bean
+    @Order(2)
+    public RetentionPolicy feedRetentionPolicy(@Value("${app.retention.grace.feed:30d}") Duration grace) {
+        return RetentionPolicy.builder()
+                .table("feed")
+                .condition(RetentionPolicy.SOFT_DELETED)
+                .grace(grace)
+                .archive(true)
+                .reference(new Reference("comment", "feed_id"))
+                .child(Child.archived("feed_image", "feed_id"))
+                .child(Child.archived("feed_tags", "feed_id"))
+                .child(Child.deleted("feed_reaction", "feed_id"))
+                .child(Child.deleted("feed_bookmark", "feed_id"))
+                .cachedCollection(Feed.class.getName() + ".images")
+                .cachedCollection(Feed.class.getName() + ".tags")
+                .build();
+    }
+
+    /** 무효화(로그아웃/재발급)되었거나 만료된 Refresh Token (보관하지 않음) */
+    @Bean
+    @Order(3)
+    public RetentionPolicy refreshTokenRetentionPolicy(
+            @Value("${app.retention.grace.refresh-token:7d}") Duration grace) {
+        return RetentionPolicy.builder()
+                .table("refresh_tokens")
+                .condition("(t.expires_at < :cutoff OR (t.revoked = TRUE AND COALESCE(t.updated_at, t.created_at) < :cutoff))")
+                .grace(grace)
+                .archive(false)
+                .build();
+    }
+
+    /** 탈퇴 회원 (작성한 글, 참여/결제 내역 등 참조가 모두 사라진 경우에만) */
+    @Bean
+    @Order(4)
+    public RetentionPolicy memberRetentionPolicy(@Value("${app.retention.grace.member:90d}") Duration grace) {
+        return RetentionPolicy.builder()
+                .table("members")
+                .condition(RetentionPolicy.SOFT_DELETED)
+                .grace(grace)
+                .archive(true)
+                .reference(new Reference("feed", "member_id"))
+                .reference(new Reference("comment", "member_id"))
+                .reference(new Reference("comment_reaction", "member_id"))
+                .reference(new Reference("feed_reaction", "member_id"))
+                .reference(new Reference("feed_bookmark", "member_id"))
+                .reference(new Reference("participants", "member_id"))
+                .reference(new Reference("challenges", "organizer_id"))
+                .reference(new Reference("donation_payments", "user_id"))
+                .reference(new Reference("donation_donor_summaries", "user_id"))
+                .reference(new Reference("toss_payments", "member_id"))
+                .child(Child.archived("member_social_accounts", "member_id"))
+                .child(Child.deleted("refresh_tokens", "member_id"))
+                .cachedEntity(Member.class)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.back.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * @Scheduled 작업(로그인 시각 일괄 반영 등) 활성화
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 Spring Boot가 작업마다 가상 스레드를 쓰는 스케줄러를 구성하므로
+ * 같은 작업이 겹쳐 실행될 수 있는 cron 작업은 자체적으로 중복 실행을 막아야 한다. (TogetherStatusScheduler 참고)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,35 @@
+package com.back.global.config;
+
+import com.back.global.datasource.SchemaMigrator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 스키마 마이그레이션 설정 (app.schema.migration.enabled=true 일 때만, 운영 프로필)
+ *
+ * JPA(EntityManagerFactory)보다 먼저 마이그레이션을 적용하고, Hibernate는 ddl-auto: validate 로 결과만 검증한다.
+ * 개발/테스트(H2)는 ddl-auto: create 로 엔티티에서 스키마를 만든다. (인덱스는 엔티티 @Index와 같은 이름)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.schema.migration.enabled", havingValue = "true")
+public class SchemaMigrationConfig {
+
+    @Bean(initMethod = "migrate")
+    public SchemaMigrator schemaMigrator(
+            DataSource dataSource,
+            @Value("${app.schema.migration.location:classpath:db/migration/{vendor}}") String location,
+            @Value("${app.schema.migration.baseline-on-migrate:true}") boolean baselineOnMigrate
+    ) {
+        return new SchemaMigrator(dataSource, location, baselineOnMigrate);
+    }
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigratorDependsOn() {
+        return new EntityManagerFactoryDependsOnPostProcessor("schemaMigrator");
+    }
+}
@@ -0,0 +1,21 @@
+package com.back.global.config;
+
+import com.back.global.web.SerializedJsonHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 웹 MVC 설정
+ * 미리 직렬화한 응답(SerializedJson) 컨버터를 기본 컨버터보다 앞에 등록
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.addFirst(new SerializedJsonHttpMessageConverter());
+    }
+}
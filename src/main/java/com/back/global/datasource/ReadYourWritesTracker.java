@@ -0,0 +1,80 @@
+package com.back.global.datasource;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자기 쓰기 읽기(read-your-writes) 보장용 최근 쓰기 기록
+ *
+ * 쓰기 트랜잭션이 커밋되면 현재 회원(인증 principal)과 현재 요청에 쓰기 시각을 남기고,
+ * 이후 window 동안 그 회원/요청의 읽기 전용 트랜잭션은 레플리카 대신 primary로 보낸다. (복제 지연 동안 자기 글이 안 보이는 문제 방지)
+ * 비로그인 요청은 같은 요청 안에서만 보장된다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".wrote";
+
+    /** 기록 수가 이 값을 넘으면 만료된 기록 정리 */
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<Long, Long> lastWriteByMember = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /** 쓰기 커밋 기록 */
+    public void recordWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        Long memberId = currentMemberId();
+        if (memberId != null) {
+            lastWriteByMember.put(memberId, System.nanoTime());
+            if (lastWriteByMember.size() > CLEANUP_THRESHOLD) {
+                removeExpired();
+            }
+        }
+    }
+
+    /** 현재 회원/요청이 window 안에 쓰기를 했으면 true (primary에서 읽어야 함) */
+    public boolean mustReadPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+
+        Long memberId = currentMemberId();
+        if (memberId == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteByMember.get(memberId);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < windowNanos) {
+            return true;
+        }
+        lastWriteByMember.remove(memberId, lastWrite);
+        return false;
+    }
+
+    private void removeExpired() {
+        long now = System.nanoTime();
+        lastWriteByMember.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+    }
+
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof Long memberId ? memberId : null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.back.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * primary / 레플리카 라우팅 DataSource
+ *
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true)) → 레플리카
+ *   (단, 최근에 쓰기를 한 회원/요청이면 primary, ReadYourWritesTracker 참고)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 없는 접근) → primary, 커밋 후 쓰기 기록을 남김
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 고르도록 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+    private final Counter writes;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.primaryReads = counter(meterRegistry, "primary", "read");
+        this.replicaReads = counter(meterRegistry, "replica", "read");
+        this.writes = counter(meterRegistry, "primary", "write");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            registerWriteRecord();
+            return Target.PRIMARY;
+        }
+        if (readYourWritesTracker.mustReadPrimary()) {
+            primaryReads.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+
+    /** 쓰기 트랜잭션이 커밋되면 자기 쓰기 읽기 보장 기록 */
+    private void registerWriteRecord() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+        });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target, String type) {
+        return Counter.builder("app.datasource.routing")
+                .description("트랜잭션 커넥션 라우팅 결과")
+                .tag("target", target)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,214 @@
+package com.back.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 버전별 스키마 마이그레이션 실행기
+ *
+ * {location}/V{버전}__{설명}.sql 파일을 버전 순서대로 한 번씩 실행하고 schema_history 테이블에 기록한다.
+ * 위치의 {vendor}는 접속한 DB 종류(postgresql, h2 ...)로 치환된다. (Flyway 파일 규칙과 동일)
+ * - 이미 실행된 스크립트의 내용이 바뀌면(checksum 불일치) 기동을 중단한다.
+ * - 스크립트 하나는 하나의 트랜잭션으로 실행된다.
+ * - baselineOnMigrate: 이력 테이블 없이 이미 테이블이 있는 DB(ddl-auto로 만든 DB)는 V1을 실행하지 않고 기록만 남긴다.
+ */
+@Slf4j
+public class SchemaMigrator {
+
+    static final String HISTORY_TABLE = "schema_history";
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+    private static final int BASELINE_VERSION = 1;
+
+    private final DataSource dataSource;
+    private final String location;
+    private final boolean baselineOnMigrate;
+
+    public SchemaMigrator(DataSource dataSource, String location, boolean baselineOnMigrate) {
+        this.dataSource = dataSource;
+        this.location = location;
+        this.baselineOnMigrate = baselineOnMigrate;
+    }
+
+    /** 실행되지 않은 마이그레이션 적용 (적용된 개수 반환) */
+    public int migrate() {
+        try (Connection connection = dataSource.getConnection()) {
+            String vendor = DatabaseDriver.fromJdbcUrl(connection.getMetaData().getURL()).getId();
+            List<Migration> migrations = load(location.replace("{vendor}", vendor));
+
+            boolean freshHistory = !tableExists(connection, HISTORY_TABLE);
+            if (freshHistory) {
+                createHistoryTable(connection);
+            }
+            Map<Integer, Long> applied = appliedChecksums(connection);
+            if (freshHistory && baselineOnMigrate && hasOtherTables(connection)) {
+                baseline(connection, migrations);
+                applied = appliedChecksums(connection);
+            }
+
+            int count = 0;
+            for (Migration migration : migrations) {
+                Long checksum = applied.get(migration.version());
+                if (checksum == null) {
+                    apply(connection, migration);
+                    count++;
+                } else if (checksum != migration.checksum()) {
+                    throw new IllegalStateException("이미 적용된 마이그레이션이 변경되었습니다: " + migration.fileName());
+                }
+            }
+            log.info("스키마 마이그레이션 완료 - {} ({}), 적용 {}건, 전체 {}건", location, vendor, count, migrations.size());
+            return count;
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("스키마 마이그레이션 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private List<Migration> load(String resolvedLocation) throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources(resolvedLocation + "/V*__*.sql");
+        List<Migration> migrations = new ArrayList<>();
+        for (Resource resource : resources) {
+            Matcher matcher = FILE_NAME.matcher(resource.getFilename());
+            if (!matcher.matches()) {
+                continue;
+            }
+            migrations.add(new Migration(
+                    Integer.parseInt(matcher.group(1)),
+                    matcher.group(2).replace('_', ' '),
+                    resource.getFilename(),
+                    resource,
+                    checksum(resource)
+            ));
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                throw new IllegalStateException("같은 버전의 마이그레이션이 두 개 있습니다: V" + migrations.get(i).version());
+            }
+        }
+        return migrations;
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.resource(), StandardCharsets.UTF_8));
+            record(connection, migration.version(), migration.description(), migration.checksum());
+            connection.commit();
+            log.info("마이그레이션 적용 - {}", migration.fileName());
+        } catch (RuntimeException | SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void baseline(Connection connection, List<Migration> migrations) throws SQLException {
+        for (Migration migration : migrations) {
+            if (migration.version() <= BASELINE_VERSION) {
+                record(connection, migration.version(), "<< baseline >> " + migration.description(), migration.checksum());
+                log.info("기존 스키마 기준선 기록 - {} (실행하지 않음)", migration.fileName());
+            }
+        }
+    }
+
+    private void createHistoryTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE %s (
+                        version INTEGER PRIMARY KEY,
+                        description VARCHAR(200) NOT NULL,
+                        checksum BIGINT NOT NULL,
+                        installed_at TIMESTAMP NOT NULL
+                    )
+                    """.formatted(HISTORY_TABLE));
+        }
+    }
+
+    private void record(Connection connection, int version, String description, long checksum) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + HISTORY_TABLE + " (version, description, checksum, installed_at) VALUES (?, ?, ?, ?)")) {
+            statement.setInt(1, version);
+            statement.setString(2, description);
+            statement.setLong(3, checksum);
+            statement.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+            statement.executeUpdate();
+        }
+    }
+
+    private Map<Integer, Long> appliedChecksums(Connection connection) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT version, checksum FROM " + HISTORY_TABLE)) {
+            while (resultSet.next()) {
+                applied.put(resultSet.getInt(1), resultSet.getLong(2));
+            }
+        }
+        return applied;
+    }
+
+    private boolean tableExists(Connection connection, String tableName) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String candidate : List.of(tableName, tableName.toUpperCase())) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), candidate, new String[]{"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasOtherTables(Connection connection) throws SQLException {
+        try (ResultSet tables = connection.getMetaData()
+                .getTables(connection.getCatalog(), connection.getSchema(), "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                if (!HISTORY_TABLE.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long checksum(Resource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            // 줄바꿈 문자 차이(CRLF/LF)로 checksum이 달라지지 않도록 정규화
+            String content = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8).replace("\r\n", "\n");
+            CRC32 crc32 = new CRC32();
+            crc32.update(content.getBytes(StandardCharsets.UTF_8));
+            return crc32.getValue();
+        }
+    }
+
+    private record Migration(int version, String description, String fileName, Resource resource, long checksum) {
+    }
+}
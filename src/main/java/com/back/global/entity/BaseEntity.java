@@ -16,7 +16,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * 엔티티별 시퀀스(테이블명_seq)에서 50개 단위로 미리 할당 (pooled 옵티마이저)
+     * IDENTITY와 달리 insert 전에 ID를 알 수 있어 JDBC 배치 insert가 가능하다.
+     * JDBC로 직접 insert할 때도 같은 시퀀스의 다음 값을 ID로 사용하면 Hibernate 할당 범위와 겹치지 않는다.
+     */
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreatedDate
@@ -24,4 +29,13 @@ public abstract class BaseEntity {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    /**
+     * 컬렉션만 바뀐 경우에도 수정 시각 갱신 (ETag 등 수정 시각 기반 버전용)
+     * 소유한 컬렉션 변경만으로는 행이 update되지 않아 @LastModifiedDate가 그대로 남는다.
+     * 값을 바꿔 엔티티를 dirty로 만들면 flush 시 auditing이 다시 채운다.
+     */
+    protected void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
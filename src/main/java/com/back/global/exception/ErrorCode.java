@@ -16,6 +16,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR("COMMON005", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     UNAUTHORIZED("COMMON006", "인증이 필요합니다.", HttpStatus.UNAUTHORIZED),
     ACCESS_DENIED("COMMON007", "접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    INVALID_FIELDS("COMMON008", "지원하지 않는 응답 필드입니다.", HttpStatus.BAD_REQUEST),
 
     // ========== 피드 (FEED) ==========
     FEED_NOT_FOUND("FEED001", "피드를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -49,6 +50,21 @@ public enum ErrorCode {
     FILE_INVALID_EXTENSION("FILE003", "지원하지 않는 파일 형식입니다.", HttpStatus.BAD_REQUEST),
     FILE_NOT_FOUND("FILE004", "파일을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
+    // ========== 함께하기 (TOGETHER) ==========
+    TOGETHER_NOT_FOUND("TOGETHER001", "함께하기를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    TOGETHER_NOT_RECRUITING("TOGETHER002", "모집 중인 함께하기가 아닙니다.", HttpStatus.BAD_REQUEST),
+    TOGETHER_CAPACITY_EXCEEDED("TOGETHER003", "모집 인원이 가득 찼습니다.", HttpStatus.CONFLICT),
+    TOGETHER_ALREADY_JOINED("TOGETHER004", "이미 참여 중인 함께하기입니다.", HttpStatus.CONFLICT),
+    TOGETHER_NOT_JOINED("TOGETHER005", "참여 중인 함께하기가 아닙니다.", HttpStatus.BAD_REQUEST),
+    TOGETHER_JOIN_BUSY("TOGETHER006", "참여 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+
+    // ========== 후원 (DONATION) ==========
+    DONATION_NOT_FOUND("DONATION001", "후원을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    PAYMENT_NOT_FOUND("DONATION002", "결제 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    PAYMENT_ORDER_CONFLICT("DONATION003", "이미 다른 결제 정보로 요청된 주문입니다.", HttpStatus.CONFLICT),
+    PAYMENT_INVALID_REQUEST("DONATION004", "결제 요청 정보가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    PAYMENT_BUSY("DONATION005", "결제 요청이 많습니다. 잠시 후 같은 주문으로 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
     // ========== 회원 (MEMBER) ==========
     MEMBER_NOT_FOUND("MEMBER001", "회원을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     MEMBER_ALREADY_DELETED("MEMBER002", "이미 탈퇴한 회원입니다.", HttpStatus.BAD_REQUEST),
@@ -0,0 +1,548 @@
+package com.back.global.initData;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 대량 시드 데이터 생성기 (로컬 성능 테스트/벤치마크용)
+ *
+ * JPA를 거치지 않고 JDBC 배치 insert로 회원, 피드(이미지/태그/리액션/북마크/댓글 트리), 함께하기(참여자), 후원(결제/후원자 집계)을 생성한다.
+ * - ID는 1부터 직접 지정하고, 끝나면 엔티티 시퀀스를 생성한 ID 뒤로 옮긴다. → 빈 DB에서만 실행
+ * - 작성자/리액션 회원, 인기 피드, 태그, 후원 대상은 Zipf 분포를 따른다. (소수의 헤비 유저와 인기 글에 집중)
+ * - 피드의 리액션/북마크/댓글 수, 후원 모금액은 실제 생성된 행과 일치한다.
+ * - PostgreSQL에서는 JDBC URL에 reWriteBatchedInserts=true를 주면 배치가 multi-row insert로 전송된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkDataSeeder {
+
+    /** 엔티티 시퀀스 할당 단위 (BaseEntity의 기본 allocationSize) */
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private static final String[] TAGS = {
+            "플로깅", "줍깅", "분리수거", "제로웨이스트", "텀블러", "에코백", "업사이클링", "비건", "산책", "러닝",
+            "등산", "바다정화", "환경", "지구", "챌린지", "일상", "기부", "봉사", "자전거", "대중교통",
+            "재활용", "리필스테이션", "다회용기", "친환경", "탄소중립", "숲", "나무심기", "캠페인", "인증", "함께해요"
+    };
+
+    private static final String[] FEED_SENTENCES = {
+            "오늘도 플로깅 완료했어요!", "쓰레기를 생각보다 많이 주웠어요.", "다들 한번 시도해보세요!",
+            "텀블러 들고 다니기 30일째입니다.", "함께해서 더 즐거웠어요.", "다음 주에도 같이 해요!",
+            "작은 실천이 모이면 큰 변화가 됩니다.", "분리수거 꿀팁 공유합니다."
+    };
+
+    private static final String[] COMMENTS = {
+            "정말 멋지네요! 👍", "저도 해보고 싶어요!", "공감합니다 ㅎㅎ", "좋은 정보 감사합니다!",
+            "대단하세요! 응원합니다 💪", "다음에 같이 가요!", "사진이 정말 예쁘네요 📷"
+    };
+
+    private static final String[] TOGETHER_CATEGORIES = {"PLOGGING", "CLEANUP", "RECYCLING"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.seed.members:10000}")
+    private int members;
+
+    @Value("${app.seed.feeds:50000}")
+    private int feeds;
+
+    @Value("${app.seed.togethers:1000}")
+    private int togethers;
+
+    @Value("${app.seed.donations:200}")
+    private int donations;
+
+    @Value("${app.seed.donation-payments:50000}")
+    private int donationPayments;
+
+    @Value("${app.seed.avg-reactions-per-feed:8}")
+    private double avgReactionsPerFeed;
+
+    @Value("${app.seed.avg-bookmarks-per-feed:2}")
+    private double avgBookmarksPerFeed;
+
+    @Value("${app.seed.avg-comments-per-feed:3}")
+    private double avgCommentsPerFeed;
+
+    @Value("${app.seed.zipf-exponent:1.07}")
+    private double zipfExponent;
+
+    @Value("${app.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    /** 설정값(app.seed.*)으로 만든 생성 계획 */
+    public SeedPlan configuredPlan() {
+        return SeedPlan.builder()
+                .members(members)
+                .feeds(feeds)
+                .togethers(togethers)
+                .donations(donations)
+                .donationPayments(donationPayments)
+                .avgReactionsPerFeed(avgReactionsPerFeed)
+                .avgBookmarksPerFeed(avgBookmarksPerFeed)
+                .avgCommentsPerFeed(avgCommentsPerFeed)
+                .zipfExponent(zipfExponent)
+                .batchSize(batchSize)
+                .randomSeed(randomSeed)
+                .build();
+    }
+
+    /**
+     * 시드 데이터 생성
+     * @return 생성 여부 (이미 회원/피드가 있으면 생성하지 않음)
+     */
+    public boolean seed(SeedPlan plan) {
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM members) + (SELECT COUNT(*) FROM feed)", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("데이터가 이미 존재합니다. 대량 시드 데이터 생성을 건너뜁니다.");
+            return false;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        log.info("========== 대량 시드 데이터 생성 시작 (회원 {}, 피드 {}, 함께하기 {}, 후원 {}) ==========",
+                plan.getMembers(), plan.getFeeds(), plan.getTogethers(), plan.getDonations());
+
+        Context context = new Context(plan);
+        seedMembers(context);
+        seedTogethers(context);
+        seedFeeds(context);
+        seedFeedChildren(context);
+        seedDonations(context);
+        context.ids.forEach(this::moveSequencePast);
+
+        log.info("========== 대량 시드 데이터 생성 완료 - 총 {}행, {}ms ==========",
+                context.totalRows, System.currentTimeMillis() - startedAt);
+        return true;
+    }
+
+    // ========== 회원 ==========
+
+    private void seedMembers(Context context) {
+        SeedPlan plan = context.plan;
+        String[] providers = {"GOOGLE", "KAKAO", "NAVER"};
+
+        try (BatchInserter inserter = context.inserter("members", """
+                INSERT INTO members (id, member_code, nickname, name, email, profile_image_url, role, last_login_provider,
+                                     created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (long id = 1; id <= plan.getMembers(); id++) {
+                Timestamp createdAt = context.timestampAt(id, plan.getMembers());
+                inserter.add(id,
+                        "S%09d".formatted(id),
+                        "seed" + id,
+                        "회원" + id,
+                        "seed" + id + "@example.com",
+                        "https://picsum.photos/seed/m" + id + "/200/200",
+                        "USER",
+                        providers[(int) (id % providers.length)],
+                        createdAt, createdAt);
+            }
+        }
+    }
+
+    // ========== 함께하기 + 참여자 ==========
+
+    private void seedTogethers(Context context) {
+        SeedPlan plan = context.plan;
+        SplittableRandom random = context.random;
+        LocalDate today = LocalDate.now();
+        long participantId = 0;
+
+        try (BatchInserter togetherInserter = context.inserter("challenges", """
+                INSERT INTO challenges (id, title, description, category, mode, capacity, participant_count,
+                                        start_date, end_date, organizer_id, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """);
+             BatchInserter participantInserter = context.inserter("participants", """
+                INSERT INTO participants (id, together_id, member_id, status, join_at, created_at, updated_at)
+                VALUES (?, ?, ?, 'JOINED', ?, ?, ?)
+                """).dependsOn(togetherInserter)) {
+            for (long id = 1; id <= plan.getTogethers(); id++) {
+                LocalDate startDate = today.minusDays(plan.getDays()).plusDays(random.nextInt(plan.getDays() + 30));
+                LocalDate endDate = startDate.plusDays(7 + random.nextInt(60));
+                String status = startDate.isAfter(today) ? "RECRUITING"
+                        : endDate.isBefore(today) ? "COMPLETED" : "IN_PROGRESS";
+
+                int capacity = 5 + random.nextInt(46);
+                // 인기 있는 함께하기일수록 정원이 많이 참
+                int participantCount = Math.min(Math.min(capacity, plan.getMembers()),
+                        (int) Math.round(capacity / Math.pow(context.togetherPopularity.sample(random) + 1, 0.3)));
+                Set<Long> participantIds = context.distinctMembers(participantCount);
+
+                Timestamp createdAt = Timestamp.valueOf(startDate.minusDays(14).atTime(9, 0));
+                togetherInserter.add(id, "함께하기 " + id, "함께하기 설명 " + id,
+                        TOGETHER_CATEGORIES[(int) (id % TOGETHER_CATEGORIES.length)],
+                        random.nextInt(10) < 7 ? "OFFLINE" : "ONLINE",
+                        capacity, participantIds.size(),
+                        Date.valueOf(startDate), Date.valueOf(endDate),
+                        context.sampleMember(), status, createdAt, createdAt);
+
+                for (Long memberId : participantIds) {
+                    participantInserter.add(++participantId, id, memberId, createdAt, createdAt, createdAt);
+                }
+            }
+        }
+    }
+
+    // ========== 피드 + 이미지 + 태그 ==========
+
+    private void seedFeeds(Context context) {
+        SeedPlan plan = context.plan;
+        SplittableRandom random = context.random;
+        long imageId = 0;
+
+        try (BatchInserter feedInserter = context.inserter("feed", """
+                INSERT INTO feed (id, member_id, feed_type, content, visibility, together_id,
+                                  reaction_count, comment_count, bookmark_count, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """);
+             BatchInserter imageInserter = context.inserter("feed_image", """
+                INSERT INTO feed_image (id, feed_id, image_url, width, height, display_order, file_size,
+                                        original_file_name, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """).dependsOn(feedInserter);
+             BatchInserter tagInserter = context.inserter(null, "INSERT INTO feed_tags (feed_id, tag_name) VALUES (?, ?)")
+                     .dependsOn(feedInserter)) {
+            for (int index = 0; index < plan.getFeeds(); index++) {
+                long id = index + 1L;
+                Timestamp createdAt = context.timestampAt(id, plan.getFeeds());
+
+                boolean verification = plan.getTogethers() > 0 && random.nextInt(10) < 2;
+                String visibility = random.nextInt(10) < 8 ? "PUBLIC" : random.nextBoolean() ? "FOLLOWERS" : "PRIVATE";
+
+                feedInserter.add(id, context.sampleMember(),
+                        verification ? "TOGETHER_VERIFICATION" : "GENERAL",
+                        FEED_SENTENCES[random.nextInt(FEED_SENTENCES.length)] + " "
+                                + FEED_SENTENCES[random.nextInt(FEED_SENTENCES.length)],
+                        visibility,
+                        verification ? (long) random.nextInt(plan.getTogethers()) + 1 : null,
+                        context.reactionCounts[index], context.commentCounts[index], context.bookmarkCounts[index],
+                        createdAt, createdAt);
+
+                // 이미지: 절반은 없음, 나머지는 1 ~ 최대 개수
+                int imageCount = random.nextBoolean() ? 0 : 1 + random.nextInt(Math.max(1, plan.getMaxImagesPerFeed()));
+                for (int order = 0; order < imageCount; order++) {
+                    imageInserter.add(++imageId, id,
+                            "https://picsum.photos/seed/f%d-%d/800/600".formatted(id, order),
+                            800, 600, order, (long) (100 + random.nextInt(500)) * 1024,
+                            "image_%d_%d.jpg".formatted(id, order), createdAt, createdAt);
+                }
+
+                // 태그: 0 ~ 5개, 인기 태그에 집중
+                int tagCount = random.nextInt(6);
+                Set<Integer> tagIndexes = new HashSet<>();
+                for (int t = 0; t < tagCount; t++) {
+                    tagIndexes.add(context.tagPopularity.sample(random));
+                }
+                for (Integer tagIndex : tagIndexes) {
+                    tagInserter.add(id, TAGS[tagIndex]);
+                }
+            }
+        }
+    }
+
+    // ========== 리액션 + 북마크 + 댓글 트리 ==========
+
+    private void seedFeedChildren(Context context) {
+        SeedPlan plan = context.plan;
+        SplittableRandom random = context.random;
+        long reactionId = 0;
+        long bookmarkId = 0;
+        long commentId = 0;
+
+        try (BatchInserter reactionInserter = context.inserter("feed_reaction", """
+                INSERT INTO feed_reaction (id, member_id, feed_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)
+                """);
+             BatchInserter bookmarkInserter = context.inserter("feed_bookmark", """
+                INSERT INTO feed_bookmark (id, member_id, feed_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)
+                """);
+             BatchInserter commentInserter = context.inserter("comment", """
+                INSERT INTO comment (id, member_id, comment_type, feed_id, content, parent_id, reaction_count,
+                                     created_at, updated_at)
+                VALUES (?, ?, 'FEED', ?, ?, ?, 0, ?, ?)
+                """)) {
+            List<Long> topLevelIds = new ArrayList<>();
+            for (int index = 0; index < plan.getFeeds(); index++) {
+                long feedId = index + 1L;
+                LocalDateTime feedCreatedAt = context.timestampAt(feedId, plan.getFeeds()).toLocalDateTime();
+
+                for (Long memberId : context.distinctMembers(context.reactionCounts[index])) {
+                    Timestamp at = Timestamp.valueOf(feedCreatedAt.plusMinutes(random.nextInt(60 * 24 * 3)));
+                    reactionInserter.add(++reactionId, memberId, feedId, at, at);
+                }
+                for (Long memberId : context.distinctMembers(context.bookmarkCounts[index])) {
+                    Timestamp at = Timestamp.valueOf(feedCreatedAt.plusMinutes(random.nextInt(60 * 24 * 7)));
+                    bookmarkInserter.add(++bookmarkId, memberId, feedId, at, at);
+                }
+
+                // 댓글 트리: 첫 댓글은 최상위, 이후 30%는 앞선 최상위 댓글의 대댓글
+                topLevelIds.clear();
+                for (int c = 0; c < context.commentCounts[index]; c++) {
+                    long id = ++commentId;
+                    Long parentId = null;
+                    if (!topLevelIds.isEmpty() && random.nextInt(10) < 3) {
+                        parentId = topLevelIds.get(random.nextInt(topLevelIds.size()));
+                    } else {
+                        topLevelIds.add(id);
+                    }
+                    Timestamp at = Timestamp.valueOf(feedCreatedAt.plusMinutes(10L * (c + 1)));
+                    commentInserter.add(id, context.sampleMember(), feedId,
+                            COMMENTS[random.nextInt(COMMENTS.length)], parentId, at, at);
+                }
+            }
+        }
+    }
+
+    // ========== 후원 + 결제 원장 + 후원자 집계 ==========
+
+    private void seedDonations(Context context) {
+        SeedPlan plan = context.plan;
+        if (plan.getDonations() <= 0) {
+            return;
+        }
+        SplittableRandom random = context.random;
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        try (BatchInserter donationInserter = context.inserter("donations", """
+                INSERT INTO donations (id, title, description, goal_amount, current_amount, start_date, end_date, status,
+                                       created_at, updated_at)
+                VALUES (?, ?, ?, ?, 0, ?, ?, 'ACTIVE', ?, ?)
+                """)) {
+            for (long id = 1; id <= plan.getDonations(); id++) {
+                Timestamp startDate = context.timestampAt(id, plan.getDonations());
+                Timestamp endDate = Timestamp.valueOf(startDate.toLocalDateTime().plusDays(60 + random.nextInt(300)));
+                donationInserter.add(id, "후원 캠페인 " + id, "후원 설명 " + id,
+                        (long) (1 + random.nextInt(100)) * 1_000_000L, startDate, endDate, startDate, startDate);
+            }
+        }
+
+        ZipfSampler donationPopularity = new ZipfSampler(plan.getDonations(), plan.getZipfExponent());
+        long[] currentAmounts = new long[plan.getDonations()];
+        Map<Long, long[]> summaries = new HashMap<>();   // (후원, 회원) → [합계, 횟수, 마지막 후원 epoch초]
+
+        try (BatchInserter paymentInserter = context.inserter("donation_payments", """
+                INSERT INTO donation_payments (id, donation_id, user_id, amount, payment_method, created_at, updated_at)
+                VALUES (?, ?, ?, ?, 'TOSS', ?, ?)
+                """)) {
+            for (long id = 1; id <= plan.getDonationPayments(); id++) {
+                int donationIndex = donationPopularity.sample(random);
+                long memberId = context.sampleMember();
+                long amount = (long) (1 + random.nextInt(100)) * 1_000L;
+                LocalDateTime at = now.minusMinutes(random.nextInt(60 * 24 * Math.max(1, plan.getDays())));
+
+                paymentInserter.add(id, donationIndex + 1L, memberId, amount, Timestamp.valueOf(at), Timestamp.valueOf(at));
+
+                currentAmounts[donationIndex] += amount;
+                long[] summary = summaries.computeIfAbsent(
+                        (donationIndex + 1L) * (plan.getMembers() + 1L) + memberId, key -> new long[3]);
+                summary[0] += amount;
+                summary[1]++;
+                summary[2] = Math.max(summary[2], at.toEpochSecond(ZoneOffset.UTC));
+            }
+        }
+
+        List<Object[]> amountUpdates = new ArrayList<>(currentAmounts.length);
+        for (int i = 0; i < currentAmounts.length; i++) {
+            amountUpdates.add(new Object[]{currentAmounts[i], i + 1L});
+        }
+        jdbcTemplate.batchUpdate("UPDATE donations SET current_amount = ? WHERE id = ?", amountUpdates);
+
+        long summaryId = 0;
+        try (BatchInserter summaryInserter = context.inserter("donation_donor_summaries", """
+                INSERT INTO donation_donor_summaries (id, donation_id, user_id, total_amount, donation_count, last_donated_at,
+                                                      created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (Map.Entry<Long, long[]> entry : summaries.entrySet()) {
+                long donationId = entry.getKey() / (plan.getMembers() + 1L);
+                long memberId = entry.getKey() % (plan.getMembers() + 1L);
+                long[] summary = entry.getValue();
+                Timestamp last = Timestamp.valueOf(LocalDateTime.ofEpochSecond(summary[2], 0, ZoneOffset.UTC));
+                summaryInserter.add(++summaryId, donationId, memberId, summary[0], summary[1], last, last, last);
+            }
+        }
+    }
+
+    // ========== 시퀀스 ==========
+
+    /**
+     * 엔티티 시퀀스를 직접 지정한 마지막 ID 뒤로 이동
+     * pooled 옵티마이저는 시퀀스 값 V를 받으면 (V - 할당단위, V] 범위를 쓰므로 할당 단위만큼 더 띄운다.
+     */
+    private void moveSequencePast(String table, long lastId) {
+        if (lastId == 0) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE %s_seq RESTART WITH %d".formatted(table, lastId + SEQUENCE_ALLOCATION_SIZE + 1));
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    /** 생성 1회 동안 공유하는 상태 (난수, 분포, 피드별 개수, 테이블별 마지막 ID) */
+    private class Context {
+
+        private final SeedPlan plan;
+        private final SplittableRandom random;
+        private final ZipfSampler memberActivity;
+        private final ZipfSampler tagPopularity;
+        private final ZipfSampler togetherPopularity;
+        private final int[] reactionCounts;
+        private final int[] bookmarkCounts;
+        private final int[] commentCounts;
+        private final LocalDateTime startAt;
+        private final Map<String, Long> ids = new HashMap<>();
+        private long totalRows;
+
+        private Context(SeedPlan plan) {
+            this.plan = plan;
+            this.random = new SplittableRandom(plan.getRandomSeed());
+            this.memberActivity = new ZipfSampler(Math.max(1, plan.getMembers()), plan.getZipfExponent());
+            this.tagPopularity = new ZipfSampler(TAGS.length, plan.getZipfExponent());
+            this.togetherPopularity = new ZipfSampler(Math.max(1, plan.getTogethers()), plan.getZipfExponent());
+            this.startAt = LocalDateTime.now().withNano(0).minusDays(plan.getDays());
+
+            // 피드별 리액션/북마크/댓글 수를 먼저 정해 두고 피드 행과 자식 행을 같은 값으로 생성
+            int maxPerFeed = Math.max(0, plan.getMembers() - 1);
+            int[] popularityRank = shuffledRanks(plan.getFeeds());
+            ZipfSampler feedPopularity = new ZipfSampler(Math.max(1, plan.getFeeds()), plan.getZipfExponent());
+            this.reactionCounts = distribute(feedPopularity, popularityRank, plan.getAvgReactionsPerFeed(), maxPerFeed);
+            this.bookmarkCounts = distribute(feedPopularity, popularityRank, plan.getAvgBookmarksPerFeed(), maxPerFeed);
+            this.commentCounts = distribute(feedPopularity, popularityRank, plan.getAvgCommentsPerFeed(), Integer.MAX_VALUE);
+        }
+
+        /** 인기 순위 → 피드 인덱스 (인기 피드가 특정 기간에 몰리지 않도록 섞음) */
+        private int[] shuffledRanks(int n) {
+            int[] ranks = new int[n];
+            for (int i = 0; i < n; i++) {
+                ranks[i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = ranks[i];
+                ranks[i] = ranks[j];
+                ranks[j] = tmp;
+            }
+            return ranks;
+        }
+
+        private int[] distribute(ZipfSampler popularity, int[] popularityRank, double average, int maxPerFeed) {
+            int[] counts = new int[popularityRank.length];
+            long total = Math.round(average * popularityRank.length);
+            for (long i = 0; i < total; i++) {
+                int feedIndex = popularityRank[popularity.sample(random)];
+                if (counts[feedIndex] < maxPerFeed) {
+                    counts[feedIndex]++;
+                }
+            }
+            return counts;
+        }
+
+        private long sampleMember() {
+            return memberActivity.sample(random) + 1L;
+        }
+
+        /** 서로 다른 회원 count명 (활동량 분포를 따르되 중복이 계속되면 순차로 채움) */
+        private Set<Long> distinctMembers(int count) {
+            Set<Long> result = new HashSet<>(Math.max(16, count * 2));
+            int attempts = 0;
+            while (result.size() < count && attempts++ < count * 4) {
+                result.add(sampleMember());
+            }
+            long next = 1 + random.nextInt(Math.max(1, plan.getMembers()));
+            while (result.size() < count) {
+                result.add(next);
+                next = next % plan.getMembers() + 1;
+            }
+            return result;
+        }
+
+        /** 순번에 비례해 생성 기간에 고르게 퍼진 시각 */
+        private Timestamp timestampAt(long sequence, long total) {
+            long minutes = (long) plan.getDays() * 24 * 60 * sequence / Math.max(1, total);
+            return Timestamp.valueOf(startAt.plusMinutes(minutes));
+        }
+
+        /** @param table 시퀀스를 옮길 테이블 (null이면 ID 없는 테이블) */
+        private BatchInserter inserter(String table, String sql) {
+            return new BatchInserter(this, table, sql);
+        }
+    }
+
+    /**
+     * JDBC 배치 insert 버퍼 (batchSize마다 전송, close 시 나머지 전송)
+     * 부모 테이블 버퍼가 있으면 먼저 전송해 외래 키가 항상 존재하도록 한다.
+     */
+    private class BatchInserter implements AutoCloseable {
+
+        private final Context context;
+        private final String table;
+        private final String sql;
+        private final List<Object[]> buffer;
+        private BatchInserter parent;
+        private final long startedAt = System.currentTimeMillis();
+        private long rows;
+
+        private BatchInserter(Context context, String table, String sql) {
+            this.context = context;
+            this.table = table;
+            this.sql = sql;
+            this.buffer = new ArrayList<>(context.plan.getBatchSize());
+        }
+
+        private BatchInserter dependsOn(BatchInserter parent) {
+            this.parent = parent;
+            return this;
+        }
+
+        private void add(Object... row) {
+            buffer.add(row);
+            rows++;
+            if (table != null) {
+                context.ids.merge(table, (Long) row[0], Math::max);
+            }
+            if (buffer.size() >= context.plan.getBatchSize()) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!buffer.isEmpty()) {
+                if (parent != null) {
+                    parent.flush();
+                }
+                jdbcTemplate.batchUpdate(sql, buffer);
+                buffer.clear();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+            context.totalRows += rows;
+            long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+            log.info(" {} {}행 생성 ({}ms, {}행/초)", table != null ? table : "feed_tags", rows, elapsed, rows * 1000 / elapsed);
+        }
+    }
+}
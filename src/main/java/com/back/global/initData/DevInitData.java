@@ -16,17 +16,21 @@ import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
-/** 개발 환경 초기 데이터 설정 (JPA 테이블 생성 후 실행) */
+/**
+ * 개발 환경 초기 데이터 설정 (JPA 테이블 생성 후 실행)
+ * app.seed.enabled=true이면 소량 샘플 대신 BulkDataSeeder로 대량 데이터를 생성 (규모는 app.seed.*)
+ */
 @Slf4j
 @Configuration
 @Profile("default")
@@ -40,13 +44,27 @@ public class DevInitData {
     private final FeedBookmarkRepository feedBookmarkRepository;
     private final CommentRepository commentRepository;
     private final CommentReactionRepository commentReactionRepository;
+    private final BulkDataSeeder bulkDataSeeder;
+    private final TransactionTemplate transactionTemplate;
 
     private final Random random = new Random();
 
+    @Value("${app.seed.enabled:false}")
+    private boolean bulkSeedEnabled;
+
     /** 애플리케이션 준비 완료 후 샘플 데이터 생성 */
     @EventListener(ApplicationReadyEvent.class)
-    @Transactional
     public void initDataOnApplicationReady() {
+        if (bulkSeedEnabled) {
+            // 대량 생성은 배치 단위로 커밋 (하나의 트랜잭션으로 묶지 않음)
+            bulkDataSeeder.seed(bulkDataSeeder.configuredPlan());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> initSampleData());
+    }
+
+    /** 소량 샘플 데이터 생성 */
+    private void initSampleData() {
         // Member가 이미 존재하면 전체 초기화 스킵
         if (memberRepository.count() > 0) {
             log.info("데이터가 이미 존재합니다. 초기 데이터 생성을 건너뜁니다.");
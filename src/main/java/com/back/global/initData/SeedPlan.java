@@ -0,0 +1,63 @@
+package com.back.global.initData;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 시드 데이터 생성 계획
+ * 개수는 모두 전체 행 수 기준이고, 평균값은 피드 1건당 기대 개수
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeedPlan {
+
+    @Builder.Default
+    private int members = 10_000;
+
+    @Builder.Default
+    private int feeds = 50_000;
+
+    @Builder.Default
+    private int togethers = 1_000;
+
+    @Builder.Default
+    private int donations = 200;
+
+    @Builder.Default
+    private int donationPayments = 50_000;
+
+    /** 피드당 평균 리액션 수 (Zipf 분포로 인기 피드에 몰림) */
+    @Builder.Default
+    private double avgReactionsPerFeed = 8;
+
+    /** 피드당 평균 북마크 수 */
+    @Builder.Default
+    private double avgBookmarksPerFeed = 2;
+
+    /** 피드당 평균 댓글 수 (대댓글 포함) */
+    @Builder.Default
+    private double avgCommentsPerFeed = 3;
+
+    /** 피드당 최대 이미지 수 */
+    @Builder.Default
+    private int maxImagesPerFeed = 4;
+
+    /** 인기도 분포 기울기 (클수록 상위 소수에 집중) */
+    @Builder.Default
+    private double zipfExponent = 1.07;
+
+    /** 데이터 생성 기간 (오늘 기준 과거 일수) */
+    @Builder.Default
+    private int days = 365;
+
+    @Builder.Default
+    private int batchSize = 1_000;
+
+    /** 난수 시드 (같은 값이면 같은 데이터) */
+    @Builder.Default
+    private long randomSeed = 42L;
+}
@@ -0,0 +1,166 @@
+package com.back.global.jpa;
+
+import com.back.global.exception.ErrorCode;
+import com.back.global.web.SparseFields;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록 응답 필드 → 조회 식 매핑 (fields / previewLength)
+ *
+ * 응답 필드마다 QueryDSL 식을 등록해 두고, 요청한 필드의 식만 SELECT 한다. (엔티티를 읽지 않고 스칼라 값만 조회)
+ * - column   : 컬럼, 연관 FK, 서브쿼리
+ * - preview  : 문자열 컬럼, previewLength가 있으면 SQL SUBSTRING으로 잘라서 조회
+ * - computed : 별도 쿼리로 채우는 필드 (태그, 썸네일, 대댓글 등), Repository가 행을 만든 뒤 값을 채운다.
+ * 응답 행의 필드 순서는 등록 순서(기존 응답 DTO의 필드 순서)를 따른다.
+ */
+public final class FieldProjection {
+
+    private final Map<String, Field> fields;
+
+    private FieldProjection(Map<String, Field> fields) {
+        this.fields = fields;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 요청한 필드 이름 검증 (서비스에서 Repository 호출 전에 검증)
+     *
+     * @throws IllegalArgumentException 등록되지 않은 필드를 요청한 경우 (INVALID_FIELDS)
+     */
+    public void validate(SparseFields sparseFields) {
+        if (sparseFields.fields() != null && !fields.keySet().containsAll(sparseFields.fields())) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_FIELDS.getMessage());
+        }
+    }
+
+    /**
+     * 요청한 필드의 조회 식 구성 (validate()로 검증한 요청만 받는다)
+     *
+     * @param keys 응답 필드와 관계없이 항상 조회할 컬럼 필드 (커서, 별도 쿼리 연결용 ID 등)
+     */
+    public Selection select(SparseFields sparseFields, String... keys) {
+
+        List<String> responseFields = new ArrayList<>();
+        List<Expression<?>> expressions = new ArrayList<>();
+        Map<String, Integer> positions = new HashMap<>();
+        fields.forEach((name, field) -> {
+            if (!sparseFields.includes(name)) {
+                return;
+            }
+            responseFields.add(name);
+            if (field.expression() != null) {
+                positions.put(name, expressions.size());
+                expressions.add(field.expressionFor(sparseFields.previewLength()));
+            }
+        });
+
+        Map<String, Integer> keyPositions = new LinkedHashMap<>();
+        for (String key : keys) {
+            Field field = fields.get(key);
+            if (field == null || field.expression() == null) {
+                throw new IllegalStateException("키로 사용할 수 없는 필드입니다: " + key);
+            }
+            Integer position = positions.get(key);
+            if (position == null || field.preview()) {
+                position = expressions.size();
+                expressions.add(field.expression());
+            }
+            keyPositions.put(key, position);
+        }
+
+        return new Selection(responseFields, expressions, positions, keyPositions);
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+
+        public Builder column(String name, Expression<?> expression) {
+            fields.put(name, new Field(expression, false));
+            return this;
+        }
+
+        public Builder preview(String name, StringExpression expression) {
+            fields.put(name, new Field(expression, true));
+            return this;
+        }
+
+        public Builder computed(String name) {
+            fields.put(name, new Field(null, false));
+            return this;
+        }
+
+        public FieldProjection build() {
+            return new FieldProjection(fields);
+        }
+    }
+
+    /** 요청별 조회 식 (SELECT 목록 + 응답 필드 위치) */
+    public static final class Selection {
+
+        private final List<String> responseFields;
+        private final Expression<?>[] expressions;
+        private final Map<String, Integer> positions;
+        private final Map<String, Integer> keyPositions;
+
+        private Selection(List<String> responseFields, List<Expression<?>> expressions,
+                          Map<String, Integer> positions, Map<String, Integer> keyPositions) {
+            this.responseFields = responseFields;
+            this.expressions = expressions.toArray(Expression<?>[]::new);
+            this.positions = positions;
+            this.keyPositions = keyPositions;
+        }
+
+        /** SELECT 목록 */
+        public Expression<?>[] expressions() {
+            return expressions;
+        }
+
+        public boolean includes(String field) {
+            return responseFields.contains(field);
+        }
+
+        public boolean includesAny(String... fields) {
+            return Arrays.stream(fields).anyMatch(responseFields::contains);
+        }
+
+        /** 조회 결과 → 응답 행 (별도 쿼리로 채우는 필드는 null로 자리만 잡아 둠) */
+        public ProjectedRow toRow(Tuple tuple) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String field : responseFields) {
+                Integer position = positions.get(field);
+                values.put(field, position != null ? tuple.get(position, Object.class) : null);
+            }
+            Map<String, Object> keys = new HashMap<>();
+            keyPositions.forEach((key, position) -> keys.put(key, tuple.get(position, Object.class)));
+            return new ProjectedRow(values, keys);
+        }
+
+        public List<ProjectedRow> toRows(List<Tuple> tuples) {
+            return tuples.stream().map(this::toRow).toList();
+        }
+    }
+
+    private record Field(Expression<?> expression, boolean preview) {
+
+        Expression<?> expressionFor(Integer previewLength) {
+            if (!preview || previewLength == null) {
+                return expression;
+            }
+            return Expressions.stringTemplate("substring({0}, 1, {1})", expression, previewLength);
+        }
+    }
+}
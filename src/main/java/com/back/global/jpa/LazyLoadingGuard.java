@@ -0,0 +1,67 @@
+package com.back.global.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 트랜잭션 밖 지연 로딩 감지 (테스트 프로필 전용, app.jpa.lazy-loading-guard=true)
+ *
+ * HTTP 요청 처리 중 서비스 트랜잭션 밖에서 프록시/컬렉션 초기화가 일어나면 예외를 던져 요청을 실패시킨다.
+ * OSIV를 끈 상태에서는 세션이 없어 Hibernate가 LazyInitializationException을 던지고,
+ * 누군가 OSIV를 다시 켜거나 트랜잭션 없이 세션을 열어 둔 경우에는 이 가드가 같은 실수를 잡는다.
+ * 스케줄러, 시드 데이터 등 요청 밖 작업은 검사하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jpa.lazy-loading-guard", havingValue = "true")
+@RequiredArgsConstructor
+public class LazyLoadingGuard implements LoadEventListener, InitializeCollectionEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.prependListeners(EventType.LOAD, this);
+        registry.prependListeners(EventType.INIT_COLLECTION, this);
+        log.info("트랜잭션 밖 지연 로딩 감지 활성화");
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        // 프록시 초기화는 IMMEDIATE_LOAD로 들어온다. (find, getReference 등 명시적 조회는 제외)
+        if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            check(event.getEntityClassName() + "#" + event.getEntityId());
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        check(event.getCollection().getRole());
+    }
+
+    private void check(String target) {
+        if (RequestContextHolder.getRequestAttributes() == null
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        log.error("트랜잭션 밖 지연 로딩 감지 - 대상: {}", target);
+        throw new IllegalStateException("트랜잭션 밖에서 지연 로딩이 발생했습니다: " + target
+                + " (서비스에서 fetch join/@EntityGraph로 미리 조회하세요)");
+    }
+}
@@ -0,0 +1,22 @@
+package com.back.global.jpa;
+
+import java.util.Map;
+
+/**
+ * 필드 선택 조회 결과 한 행
+ *
+ * @param values 응답 필드 (요청한 필드만, 응답 DTO 필드 순서) - 그대로 JSON 객체로 직렬화된다.
+ * @param keys   응답과 별개로 항상 조회한 값 (커서, 별도 쿼리 연결용 ID 등)
+ */
+public record ProjectedRow(Map<String, Object> values, Map<String, Object> keys) {
+
+    @SuppressWarnings("unchecked")
+    public <T> T key(String name) {
+        return (T) keys.get(name);
+    }
+
+    /** 별도 쿼리로 채우는 필드 값 설정 (요청하지 않은 필드면 무시) */
+    public void fill(String field, Object value) {
+        values.replace(field, value);
+    }
+}
@@ -0,0 +1,85 @@
+package com.back.global.jpa.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 애플리케이션 내부 메모리 2차 캐시 (hibernate.cache.region.factory_class)
+ *
+ * 영역(region)마다 최대 항목 수를 두는 LRU 저장소를 만든다. 단일 인스턴스 기준이며,
+ * 여러 인스턴스로 확장할 때는 분산 캐시 구현(JCache 등)으로 factory_class만 바꾸면 된다.
+ *
+ * 영역별 최대 항목 수: hibernate.cache.bounded.max_entries.{영역 이름}
+ * 지정하지 않은 영역: hibernate.cache.bounded.default_max_entries
+ */
+@Slf4j
+public class BoundedRegionFactory extends RegionFactoryTemplate {
+
+    public static final String DEFAULT_MAX_ENTRIES = "hibernate.cache.bounded.default_max_entries";
+    public static final String MAX_ENTRIES_PREFIX = "hibernate.cache.bounded.max_entries.";
+
+    private static final int FALLBACK_MAX_ENTRIES = 1_000;
+
+    private final Map<String, BoundedStorageAccess> storages = new ConcurrentHashMap<>();
+
+    private Map<String, Object> configValues = Map.of();
+    private int defaultMaxEntries = FALLBACK_MAX_ENTRIES;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        this.configValues = configValues;
+        this.defaultMaxEntries = ConfigurationHelper.getInt(DEFAULT_MAX_ENTRIES, configValues, FALLBACK_MAX_ENTRIES);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        storages.values().forEach(BoundedStorageAccess::release);
+        storages.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return register(regionConfig.getRegionName(), maxEntriesOf(regionConfig.getRegionName()));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return register(regionName, maxEntriesOf(regionName));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        // 테이블별 갱신 시각은 제거되면 쿼리 캐시 무효화가 누락되므로 개수 제한을 두지 않는다.
+        return register(regionName, Integer.MAX_VALUE);
+    }
+
+    /** 생성된 영역 저장소 목록 (메트릭 노출용) */
+    public Collection<BoundedStorageAccess> getStorages() {
+        return Collections.unmodifiableCollection(storages.values());
+    }
+
+    private int maxEntriesOf(String regionName) {
+        return ConfigurationHelper.getInt(MAX_ENTRIES_PREFIX + regionName, configValues, defaultMaxEntries);
+    }
+
+    private BoundedStorageAccess register(String regionName, int maxEntries) {
+        BoundedStorageAccess storage = new BoundedStorageAccess(regionName, maxEntries);
+        storages.put(regionName, storage);
+        log.info("2차 캐시 영역 생성 - {}, 최대 {}건", regionName, maxEntries);
+        return storage;
+    }
+}
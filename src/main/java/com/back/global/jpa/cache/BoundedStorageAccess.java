@@ -0,0 +1,106 @@
+package com.back.global.jpa.cache;
+
+import com.back.global.cache.BoundedConcurrentMap;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2차 캐시 영역 저장소 (영역별 최대 항목 수를 넘으면 오래 사용하지 않은 항목부터 제거)
+ *
+ * 인증된 요청마다 회원 영역을 읽으므로 영역 단위 잠금 없이 BoundedConcurrentMap(근사 LRU)에 보관한다.
+ * 캐시 항목은 Hibernate가 분해한 엔티티 상태(CacheEntry)와 read-write 잠금 항목이므로 그대로 보관한다.
+ */
+public class BoundedStorageAccess implements DomainDataStorageAccess {
+
+    private final String regionName;
+    private final int maxEntries;
+    private final BoundedConcurrentMap<Object, Object> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    public BoundedStorageAccess(String regionName, int maxEntries) {
+        this.regionName = regionName;
+        this.maxEntries = maxEntries;
+        this.entries = new BoundedConcurrentMap<>(maxEntries);
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Object value = entries.get(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        entries.put(key, value);
+        puts.increment();
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+        evictData(key);
+    }
+
+    @Override
+    public void clearCache(SharedSessionContractImplementor session) {
+        evictData();
+    }
+
+    @Override
+    public void evictData() {
+        entries.clear();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void release() {
+        evictData();
+    }
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    /** 최대 항목 수 초과로 제거된 수 (명시적 무효화는 포함하지 않음) */
+    public long evictionCount() {
+        return entries.evictionCount();
+    }
+}
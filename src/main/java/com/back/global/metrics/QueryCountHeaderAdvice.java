@@ -0,0 +1,39 @@
+package com.back.global.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 헤더에 요청에서 실행된 SQL 수 추가 (X-Query-Count, 운영 프로필 제외)
+ * 응답 본문을 쓰기 직전 값이므로 직렬화 중 지연 로딩 SQL은 포함되지 않는다. (전체 값은 app.http.jdbc.statements 메트릭 참고)
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "app.metrics.query-count-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            response.getHeaders().set(HEADER_NAME, String.valueOf(QueryCountInspector.currentRequestCount(attributes)));
+        }
+        return body;
+    }
+}
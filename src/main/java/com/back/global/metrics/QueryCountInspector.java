@@ -0,0 +1,83 @@
+package com.back.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate가 준비하는 SQL 문 수 집계
+ *
+ * - app.jdbc.statements (type=select/insert/update/delete/other) 누적 카운터
+ * - 요청 스레드에서 실행된 SQL 수는 요청 속성에 누적해 요청 단위 메트릭과 X-Query-Count 헤더에 사용
+ * JdbcTemplate 직접 호출과 요청 스레드 밖(비동기 결제 승인 등)에서 실행된 SQL은 요청 단위 집계에 포함되지 않는다.
+ */
+@Component
+public class QueryCountInspector implements StatementInspector {
+
+    private static final String REQUEST_ATTRIBUTE = QueryCountInspector.class.getName() + ".count";
+
+    private final Counter selectCounter;
+    private final Counter insertCounter;
+    private final Counter updateCounter;
+    private final Counter deleteCounter;
+    private final Counter otherCounter;
+
+    public QueryCountInspector(MeterRegistry meterRegistry) {
+        this.selectCounter = counter(meterRegistry, "select");
+        this.insertCounter = counter(meterRegistry, "insert");
+        this.updateCounter = counter(meterRegistry, "update");
+        this.deleteCounter = counter(meterRegistry, "delete");
+        this.otherCounter = counter(meterRegistry, "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counterFor(sql).increment();
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            AtomicInteger count = (AtomicInteger) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (count == null) {
+                count = new AtomicInteger();
+                attributes.setAttribute(REQUEST_ATTRIBUTE, count, RequestAttributes.SCOPE_REQUEST);
+            }
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    /** 현재 요청에서 지금까지 실행된 SQL 수 */
+    public static int currentRequestCount(RequestAttributes attributes) {
+        Object count = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return count == null ? 0 : ((AtomicInteger) count).get();
+    }
+
+    private Counter counterFor(String sql) {
+        String trimmed = sql.stripLeading();
+        if (trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4)) {
+            return selectCounter;
+        }
+        if (trimmed.regionMatches(true, 0, "insert", 0, 6)) {
+            return insertCounter;
+        }
+        if (trimmed.regionMatches(true, 0, "update", 0, 6)) {
+            return updateCounter;
+        }
+        if (trimmed.regionMatches(true, 0, "delete", 0, 6)) {
+            return deleteCounter;
+        }
+        return otherCounter;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("app.jdbc.statements")
+                .description("Hibernate가 실행한 SQL 문 수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 단위 SQL 수 기록 (app.http.jdbc.statements, 태그: method, uri)
+ * 응답이 끝난 뒤(afterCompletion) 기록하므로 응답 직렬화 중 지연 로딩으로 나간 SQL까지 포함된다.
+ * 등록은 MetricsConfig에서 한다.
+ */
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    /** 요청당 SQL 수 분포 버킷 (N+1 회귀 감지용) */
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+
+        DistributionSummary.builder("app.http.jdbc.statements")
+                .description("요청 하나에서 실행된 SQL 문 수")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern.toString())
+                .serviceLevelObjectives(STATEMENT_BUCKETS)
+                .register(meterRegistry)
+                .record(QueryCountInspector.currentRequestCount(new ServletRequestAttributes(request)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.back.global.metrics;
+
+import com.back.global.jpa.cache.BoundedRegionFactory;
+import com.back.global.jpa.cache.BoundedStorageAccess;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 영역별 메트릭
+ *
+ * Micrometer 캐시 메트릭 규칙(cache.gets, cache.puts, cache.evictions, cache.size)으로 영역마다 등록한다.
+ * 태그: cache(영역 이름), cacheManager=hibernate → /actuator/metrics/cache.gets?tag=cache:member
+ * 2차 캐시가 꺼져 있으면(hibernate.cache.use_second_level_cache=false) 아무것도 등록하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final Tags TAGS = Tags.of("cacheManager", "hibernate");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+        if (regionFactory instanceof BoundedRegionFactory boundedRegionFactory) {
+            boundedRegionFactory.getStorages()
+                    .forEach(storage -> new RegionMeterBinder(storage).bindTo(registry));
+        }
+    }
+
+    private static class RegionMeterBinder extends CacheMeterBinder<BoundedStorageAccess> {
+
+        RegionMeterBinder(BoundedStorageAccess storage) {
+            super(storage, storage.getRegionName(), TAGS);
+        }
+
+        @Override
+        protected Long size() {
+            return getCache() == null ? null : getCache().size();
+        }
+
+        @Override
+        protected long hitCount() {
+            return getCache() == null ? 0 : getCache().hitCount();
+        }
+
+        @Override
+        protected Long missCount() {
+            return getCache() == null ? null : getCache().missCount();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return getCache() == null ? null : getCache().evictionCount();
+        }
+
+        @Override
+        protected long putCount() {
+            return getCache() == null ? 0 : getCache().putCount();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+            Gauge.builder("app.cache.max.entries", getCache(), BoundedStorageAccess::getMaxEntries)
+                    .tags(getTagsWithCacheName())
+                    .description("2차 캐시 영역 최대 항목 수")
+                    .register(registry);
+        }
+    }
+}
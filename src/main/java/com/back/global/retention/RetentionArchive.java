@@ -0,0 +1,48 @@
+package com.back.global.retention;
+
+import com.back.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 보관 구간 (append-only)
+ *
+ * 물리 삭제한 행들을 배치 단위로 묶어 JSON 배열 → gzip 으로 저장한다. 행 하나하나를 보관하지 않으므로
+ * 원본 테이블 인덱스에 비해 공간이 작고, 복구가 필요하면 source_table + ID 범위로 구간을 찾아 풀어 본다.
+ */
+@Entity
+@Table(
+        name = "retention_archive",
+        indexes = @Index(name = "idx_retention_archive_source", columnList = "source_table, min_id")
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class RetentionArchive extends BaseEntity {
+
+    /** 원본 테이블 */
+    @Column(name = "source_table", nullable = false, length = 50, updatable = false)
+    private String sourceTable;
+
+    /** 정책 대상 행 ID 범위 (종속 테이블 구간이면 소유 행의 ID 범위) */
+    @Column(name = "min_id", nullable = false, updatable = false)
+    private Long minId;
+
+    @Column(name = "max_id", nullable = false, updatable = false)
+    private Long maxId;
+
+    @Column(name = "row_count", nullable = false, updatable = false)
+    private Integer rowCount;
+
+    /** 압축 전 JSON 크기 (바이트) */
+    @Column(name = "raw_bytes", nullable = false, updatable = false)
+    private Long rawBytes;
+
+    /** gzip 으로 압축한 JSON 배열 (컬럼 이름은 소문자) */
+    @Column(name = "payload", nullable = false, length = 16_777_216, updatable = false)
+    private byte[] payload;
+}
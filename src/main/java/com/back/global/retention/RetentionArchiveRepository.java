@@ -0,0 +1,11 @@
+package com.back.global.retention;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RetentionArchiveRepository extends JpaRepository<RetentionArchive, Long> {
+
+    /** 원본 테이블의 보관 구간 (복구/확인용) */
+    List<RetentionArchive> findBySourceTableOrderByMinIdDesc(String sourceTable);
+}
@@ -0,0 +1,51 @@
+package com.back.global.retention;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 정책 진행 위치
+ *
+ * 정책마다 id 내림차순으로 훑으면서 마지막으로 처리한 배치의 가장 작은 id를 배치와 같은 트랜잭션에 기록한다.
+ * 실행이 중간에 멈추면(배치 수 한도, 재시작) 다음 실행은 이 위치부터 이어서 훑고, 한 바퀴를 다 돌면 행을 지운다.
+ */
+@Entity
+@Table(name = "retention_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RetentionCheckpoint {
+
+    /** 정책 이름 (대상 테이블) */
+    @Id
+    @Column(name = "policy", length = 50)
+    private String policy;
+
+    /** 다음 배치는 이 id보다 작은 행부터 */
+    @Column(name = "cursor_id", nullable = false)
+    private Long cursorId;
+
+    /** 이번 회차를 시작한 시각 */
+    @Column(name = "pass_started_at", nullable = false)
+    private LocalDateTime passStartedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static RetentionCheckpoint start(String policy, LocalDateTime now) {
+        RetentionCheckpoint checkpoint = new RetentionCheckpoint();
+        checkpoint.policy = policy;
+        checkpoint.cursorId = Long.MAX_VALUE;
+        checkpoint.passStartedAt = now;
+        checkpoint.updatedAt = now;
+        return checkpoint;
+    }
+
+    public void advance(Long cursorId, LocalDateTime now) {
+        this.cursorId = cursorId;
+        this.updatedAt = now;
+    }
+}
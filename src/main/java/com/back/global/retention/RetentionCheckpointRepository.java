@@ -0,0 +1,6 @@
+package com.back.global.retention;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RetentionCheckpointRepository extends JpaRepository<RetentionCheckpoint, String> {
+}
@@ -0,0 +1,59 @@
+package com.back.global.retention;
+
+import lombok.Builder;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 보관 기간 정책 (테이블 하나)
+ *
+ * 보관 기간(grace)이 지난 행을 보관 테이블(retention_archive)로 옮기고 원본 테이블에서 물리 삭제한다.
+ * 정책은 RetentionConfig에 빈으로 등록하며 @Order 순서대로 실행된다. (자식 쪽 정책을 먼저 둔다)
+ *
+ * @param table            대상 테이블 (정책 이름, 체크포인트 키)
+ * @param condition        보관 기간이 지난 행 조건 (별칭 t, 기준 시각 :cutoff)
+ * @param grace            삭제 표시 후 보관 기간
+ * @param archive          삭제 전에 보관 테이블로 옮길지 여부
+ * @param references       아직 남아 있으면 지우지 않는 참조 (다음 실행에서 다시 확인)
+ * @param children         함께 지우는 종속 테이블 (원본보다 먼저 삭제)
+ * @param cachedEntity     2차 캐시에서 함께 제거할 엔티티 (없으면 null)
+ * @param cachedCollections 2차 캐시에서 함께 제거할 컬렉션 role (소유자 ID 기준)
+ */
+@Builder
+public record RetentionPolicy(
+        String table,
+        String condition,
+        Duration grace,
+        boolean archive,
+        @Singular List<Reference> references,
+        @Singular List<Child> children,
+        Class<?> cachedEntity,
+        @Singular List<String> cachedCollections
+) {
+
+    /** Soft Delete 시각이 보관 기간을 지난 행 */
+    public static final String SOFT_DELETED = "t.deleted_at < :cutoff";
+
+    /** 같은 테이블의 행이 참조하는 정책 (댓글 → 부모 댓글) */
+    public boolean selfReferencing() {
+        return references.stream().anyMatch(reference -> reference.table().equals(table));
+    }
+
+    /** 이 테이블의 id를 참조하는 컬럼 */
+    public record Reference(String table, String column) {
+    }
+
+    /** 종속 테이블 (foreignKey가 원본 id를 가리킴) */
+    public record Child(String table, String foreignKey, boolean archive) {
+
+        public static Child archived(String table, String foreignKey) {
+            return new Child(table, foreignKey, true);
+        }
+
+        public static Child deleted(String table, String foreignKey) {
+            return new Child(table, foreignKey, false);
+        }
+    }
+}
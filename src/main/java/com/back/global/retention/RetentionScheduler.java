@@ -0,0 +1,40 @@
+package com.back.global.retention;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보관 기간 정리 스케줄러 (app.retention.enabled=true 일 때만)
+ * 새벽 한가한 시간에 실행하고, 한 번에 끝내지 못한 정책은 체크포인트에서 다음 실행이 이어받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.retention.enabled", havingValue = "true")
+public class RetentionScheduler {
+
+    private final RetentionService retentionService;
+
+    /** 실행 중복 방지 (이전 실행이 길어져 다음 실행과 겹치는 경우) */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${app.retention.cron:0 30 4 * * *}", zone = "${app.retention.zone:Asia/Seoul}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            retentionService.purgeAll(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("보관 기간 정리 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.back.global.retention;
+
+import com.back.global.retention.RetentionPolicy.Child;
+import com.back.global.retention.RetentionPolicy.Reference;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 기간 정리 서비스 (Soft Delete 행 물리 삭제 + 보관)
+ *
+ * 정책마다 id 내림차순 keyset으로 보관 기간이 지난 행을 배치 단위로 가져와 한 트랜잭션에서
+ * 1. 종속 테이블 행 보관/삭제 → 2. 대상 행 보관 → 3. 대상 행 삭제 → 4. 체크포인트 갱신 을 처리한다.
+ * 배치 사이에는 batch-pause 만큼 쉬어 운영 트래픽과 DB 자원을 나눠 쓰고,
+ * 한 번의 실행은 max-batches-per-run 배치까지만 처리한 뒤 체크포인트에서 다음 실행으로 이어간다.
+ *
+ * 메트릭
+ * - app.retention.rows            : 물리 삭제/보관한 행 수 (table, action=deleted|archived)
+ * - app.retention.reclaimed.bytes : 삭제한 행 크기 추정치 (table, 읽어 온 행의 JSON 크기 기준)
+ * - app.retention.archive.bytes   : 보관 테이블에 쓴 압축 크기 (table)
+ * - app.retention.batches         : 처리한 배치 수 (policy)
+ * - app.retention.run             : 정책 하나의 실행 시간 (policy, outcome=completed|paused|interrupted|failure)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetentionService {
+
+    private final List<RetentionPolicy> policies;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionArchiveRepository archiveRepository;
+    private final RetentionCheckpointRepository checkpointRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.retention.batch-pause:200ms}")
+    private Duration batchPause;
+
+    @Value("${app.retention.max-batches-per-run:2000}")
+    private int maxBatchesPerRun;
+
+    /** 모든 정책을 순서대로 실행 (한 정책이 실패해도 다음 정책은 실행) */
+    public List<Result> purgeAll(LocalDateTime now) {
+        List<Result> results = new ArrayList<>();
+        for (RetentionPolicy policy : policies) {
+            try {
+                results.add(purge(policy, now));
+            } catch (RuntimeException e) {
+                log.error("보관 기간 정리 실패 - 정책: {}", policy.table(), e);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    /** 정책 하나 실행 (체크포인트가 있으면 그 위치부터 이어서) */
+    public Result purge(RetentionPolicy policy, LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(policy.grace());
+        Progress progress = new Progress(policy.table());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "completed";
+        try {
+            long cursor = checkpointRepository.findById(policy.table())
+                    .map(RetentionCheckpoint::getCursorId)
+                    .orElse(Long.MAX_VALUE);
+            long passDeleted = 0;
+
+            while (true) {
+                if (progress.batches >= maxBatchesPerRun) {
+                    outcome = "paused";
+                    break;
+                }
+
+                long before = cursor;
+                List<Long> ids = transactionTemplate.execute(status -> purgeBatch(policy, cutoff, before, now, progress));
+                if (ids == null || ids.isEmpty()) {
+                    // 한 바퀴 완료 → 다음 실행은 처음(가장 큰 id)부터
+                    transactionTemplate.executeWithoutResult(status -> checkpointRepository.deleteById(policy.table()));
+                    if (policy.selfReferencing() && passDeleted > 0) {
+                        // 같은 배치에 함께 있던 부모 행(대댓글이 남아 있어 건너뜀)은 한 바퀴 더 돌아 정리
+                        cursor = Long.MAX_VALUE;
+                        passDeleted = 0;
+                        continue;
+                    }
+                    break;
+                }
+
+                evictCaches(policy, ids);
+                cursor = ids.getLast();
+                passDeleted += ids.size();
+                progress.batchDone();
+
+                if (!pause()) {
+                    outcome = "interrupted";
+                    break;
+                }
+            }
+
+            Result result = progress.toResult(!outcome.equals("completed"));
+            if (result.deletedRows() > 0 || result.paused()) {
+                log.info("보관 기간 정리 - 정책: {}, 기준 시각: {}, 결과: {}, {}", policy.table(), cutoff, outcome, result);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.error("보관 기간 정리 중단 - 정책: {}, 진행: {}", policy.table(), progress.toResult(true), e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("app.retention.run")
+                    .tag("policy", policy.table())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /** 배치 하나 처리 (트랜잭션 안) - 처리한 대상 id (내림차순) */
+    private List<Long> purgeBatch(RetentionPolicy policy, LocalDateTime cutoff, long cursor,
+                                  LocalDateTime now, Progress progress) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cursor", cursor)
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", batchSize);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql(policy), params);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = rows.stream().map(row -> ((Number) row.get("id")).longValue()).toList();
+        long minId = ids.getLast();
+        long maxId = ids.getFirst();
+        MapSqlParameterSource idParams = new MapSqlParameterSource("ids", ids);
+
+        for (Child child : policy.children()) {
+            if (child.archive()) {
+                List<Map<String, Object>> childRows = jdbcTemplate.queryForList(
+                        "SELECT * FROM %s WHERE %s IN (:ids)".formatted(child.table(), child.foreignKey()), idParams);
+                progress.reclaimed(child.table(), archive(child.table(), minId, maxId, childRows, progress));
+            }
+            int deleted = jdbcTemplate.update(
+                    "DELETE FROM %s WHERE %s IN (:ids)".formatted(child.table(), child.foreignKey()), idParams);
+            progress.deleted(child.table(), deleted);
+        }
+
+        long rawBytes = policy.archive()
+                ? archive(policy.table(), minId, maxId, rows, progress)
+                : toJson(rows).length;
+        int deleted = jdbcTemplate.update("DELETE FROM %s WHERE id IN (:ids)".formatted(policy.table()), idParams);
+        progress.deleted(policy.table(), deleted);
+        progress.reclaimed(policy.table(), rawBytes);
+
+        RetentionCheckpoint checkpoint = checkpointRepository.findById(policy.table())
+                .orElseGet(() -> RetentionCheckpoint.start(policy.table(), now));
+        checkpoint.advance(minId, now);
+        checkpointRepository.save(checkpoint);
+        return ids;
+    }
+
+    /**
+     * 보관 기간이 지났고 참조가 남지 않은 행 (id 내림차순)
+     * FOR UPDATE: 조회 후 삭제 전까지 복구(restore) 등으로 바뀌지 않도록 배치 행을 잠근다.
+     */
+    private String selectSql(RetentionPolicy policy) {
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT t.* FROM ").append(policy.table()).append(" t")
+                .append(" WHERE t.id < :cursor AND ").append(policy.condition());
+        for (Reference reference : policy.references()) {
+            sql.append(" AND NOT EXISTS (SELECT 1 FROM ").append(reference.table())
+                    .append(" r WHERE r.").append(reference.column()).append(" = t.id)");
+        }
+        return sql.append(" ORDER BY t.id DESC LIMIT :limit FOR UPDATE").toString();
+    }
+
+    /** 행 묶음을 보관 구간 하나로 저장 - 압축 전 크기 반환 */
+    private long archive(String table, long minId, long maxId, List<Map<String, Object>> rows, Progress progress) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        byte[] json = toJson(rows);
+        byte[] payload = gzip(json);
+        archiveRepository.save(RetentionArchive.builder()
+                .sourceTable(table)
+                .minId(minId)
+                .maxId(maxId)
+                .rowCount(rows.size())
+                .rawBytes((long) json.length)
+                .payload(payload)
+                .build());
+        progress.archived(table, rows.size(), payload.length);
+        return json.length;
+    }
+
+    /** 컬럼 이름을 소문자로 맞춘 JSON 배열 (DB마다 대소문자가 다름) */
+    private byte[] toJson(List<Map<String, Object>> rows) {
+        List<Map<String, Object>> normalized = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> columns = new LinkedHashMap<>();
+            row.forEach((column, value) -> columns.put(column.toLowerCase(Locale.ROOT), value));
+            normalized.add(columns);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(normalized);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보관 행 직렬화 실패", e);
+        }
+    }
+
+    private byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /** 커밋 이후 삭제한 행을 2차 캐시에서 제거 */
+    private void evictCaches(RetentionPolicy policy, List<Long> ids) {
+        if (policy.cachedEntity() == null && policy.cachedCollections().isEmpty()) {
+            return;
+        }
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (Long id : ids) {
+            if (policy.cachedEntity() != null) {
+                cache.evictEntityData(policy.cachedEntity(), id);
+            }
+            for (String role : policy.cachedCollections()) {
+                cache.evictCollectionData(role, id);
+            }
+        }
+    }
+
+    /** 배치 사이 대기 (인터럽트되면 false) */
+    private boolean pause() {
+        if (batchPause.isZero() || batchPause.isNegative()) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** 정책 하나의 진행 상황 (배치마다 메트릭에 바로 반영) */
+    private class Progress {
+
+        private final String policy;
+        private final Map<String, Long> deletedRows = new TreeMap<>();
+        private long archivedRows;
+        private long reclaimedBytes;
+        private long archivedBytes;
+        private int batches;
+
+        Progress(String policy) {
+            this.policy = policy;
+        }
+
+        void deleted(String table, int count) {
+            if (count <= 0) {
+                return;
+            }
+            deletedRows.merge(table, (long) count, Long::sum);
+            meterRegistry.counter("app.retention.rows", "table", table, "action", "deleted").increment(count);
+        }
+
+        void archived(String table, int count, long bytes) {
+            archivedRows += count;
+            archivedBytes += bytes;
+            meterRegistry.counter("app.retention.rows", "table", table, "action", "archived").increment(count);
+            meterRegistry.counter("app.retention.archive.bytes", "table", table).increment(bytes);
+        }
+
+        void reclaimed(String table, long bytes) {
+            if (bytes <= 0) {
+                return;
+            }
+            reclaimedBytes += bytes;
+            meterRegistry.counter("app.retention.reclaimed.bytes", "table", table).increment(bytes);
+        }
+
+        void batchDone() {
+            batches++;
+            meterRegistry.counter("app.retention.batches", "policy", policy).increment();
+        }
+
+        Result toResult(boolean paused) {
+            return new Result(policy, Map.copyOf(deletedRows), archivedRows, reclaimedBytes, archivedBytes, batches, paused);
+        }
+    }
+
+    /**
+     * 정책 실행 결과
+     *
+     * @param rowsByTable 테이블별 물리 삭제 행 수 (종속 테이블 포함)
+     * @param paused      한 바퀴를 끝내지 못하고 체크포인트에서 멈춤
+     */
+    public record Result(
+            String policy,
+            Map<String, Long> rowsByTable,
+            long archivedRows,
+            long reclaimedBytes,
+            long archivedBytes,
+            int batches,
+            boolean paused
+    ) {
+
+        public long deletedRows(String table) {
+            return rowsByTable.getOrDefault(table, 0L);
+        }
+
+        public long deletedRows() {
+            return rowsByTable.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
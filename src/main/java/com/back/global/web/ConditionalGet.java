@@ -0,0 +1,90 @@
+package com.back.global.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET (ETag / If-None-Match)
+ *
+ * 응답 본문을 만들기 전에 가벼운 버전 조회(수정 시각, 카운트, 스냅샷 버전)로 ETag를 계산하고,
+ * 클라이언트가 보낸 If-None-Match와 같으면 본문 조회와 직렬화 없이 304를 반환한다.
+ * - 강한 ETag: 응답을 결정하는 값을 모두 버전에 넣은 경우 (피드 상세)
+ * - 약한 ETag: 목록처럼 요약 값(개수, 최근 수정 시각)이나 주기적으로 갱신되는 스냅샷으로 계산한 경우
+ * 버전은 본문보다 먼저 조회하므로 그 사이에 바뀌면 더 최신 본문에 이전 ETag가 붙을 뿐이고, 다음 요청에서 다시 200이 된다.
+ * ShallowEtagHeaderFilter는 본문을 다 만든 뒤 해시를 비교하므로 DB 조회와 직렬화 비용이 그대로 남아 사용하지 않는다.
+ */
+public final class ConditionalGet {
+
+    /** 회원별 값(리액션 여부 등)이 섞이므로 공유 캐시에는 저장하지 않고, 브라우저는 매번 재검증 */
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    /** 강한 ETag (버전 값 해시) */
+    public static ETag strong(Object... versionParts) {
+        return new ETag(digest(versionParts), false);
+    }
+
+    /** 약한 ETag (버전 값 해시) */
+    public static ETag weak(Object... versionParts) {
+        return new ETag(digest(versionParts), true);
+    }
+
+    /**
+     * If-None-Match가 ETag와 같으면 304, 아니면 본문을 만들어 ETag와 함께 200
+     * ETag가 null이면(대상 없음 등) 검사 없이 본문을 만든다. (본문 조회에서 기존 예외 처리)
+     */
+    public static <T> ResponseEntity<T> respond(WebRequest request, ETag eTag, Supplier<T> body) {
+        if (eTag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag.formattedTag())
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag.formattedTag())
+                .cacheControl(CACHE_CONTROL)
+                .body(body.get());
+    }
+
+    /** If-None-Match는 약한 비교 (RFC 9110 13.1.2) */
+    private static boolean matches(String ifNoneMatch, ETag eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.compare(eTag, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String digest(Object... versionParts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : versionParts) {
+            source.append(part).append('|');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            // 128비트면 충돌 가능성은 무시할 수 있고 헤더가 짧아진다.
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+}
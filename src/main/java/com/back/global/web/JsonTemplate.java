@@ -0,0 +1,121 @@
+package com.back.global.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 직렬화한 JSON 객체 템플릿
+ *
+ * 응답 객체를 애플리케이션 ObjectMapper로 한 번 직렬화해 바뀌지 않는 부분은 UTF-8 바이트 조각으로 보관하고,
+ * 자주 바뀌는 필드(카운트, 현재 회원의 리액션 여부 등)는 자리만 남겨 두었다가 응답할 때 값만 끼워 넣는다.
+ * 출력은 같은 객체를 ObjectMapper로 직렬화한 결과와 바이트 단위로 같다. (필드 순서, 이스케이프, 날짜 형식 유지)
+ * 끼워 넣는 값은 정수/불리언/null만 허용한다. (Jackson 출력이 toString()과 같은 타입)
+ */
+public final class JsonTemplate {
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[][] segments;
+    private final int[] slotOrder;
+    private final int slotCount;
+
+    private JsonTemplate(byte[][] segments, int[] slotOrder, int slotCount) {
+        this.segments = segments;
+        this.slotOrder = slotOrder;
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * 템플릿 생성
+     *
+     * @param value     JSON 객체로 직렬화되는 응답 객체
+     * @param slotNames 응답마다 값을 끼워 넣을 최상위 필드 이름 (render()에 넘기는 값 순서)
+     */
+    public static JsonTemplate of(ObjectMapper objectMapper, Object value, String... slotNames) {
+        JsonNode tree = objectMapper.valueToTree(value);
+        if (!tree.isObject()) {
+            throw new IllegalArgumentException("JSON 객체로 직렬화되는 값만 템플릿으로 만들 수 있습니다: " + value.getClass());
+        }
+
+        List<byte[]> segments = new ArrayList<>();
+        List<Integer> slotOrder = new ArrayList<>();
+        ByteArrayOutputStream current = new ByteArrayOutputStream();
+        current.write('{');
+        boolean first = true;
+        for (Map.Entry<String, JsonNode> field : tree.properties()) {
+            if (!first) {
+                current.write(',');
+            }
+            first = false;
+            current.writeBytes(writeValue(objectMapper, field.getKey()));
+            current.write(':');
+
+            int slot = Arrays.asList(slotNames).indexOf(field.getKey());
+            if (slot >= 0) {
+                segments.add(current.toByteArray());
+                current.reset();
+                slotOrder.add(slot);
+            } else {
+                current.writeBytes(writeValue(objectMapper, field.getValue()));
+            }
+        }
+        current.write('}');
+        segments.add(current.toByteArray());
+
+        return new JsonTemplate(
+                segments.toArray(byte[][]::new),
+                slotOrder.stream().mapToInt(Integer::intValue).toArray(),
+                slotNames.length
+        );
+    }
+
+    /**
+     * 자리에 값을 끼워 넣은 본문 (고정 조각은 복사하지 않고 참조)
+     *
+     * @param slotValues 템플릿 생성 시 slotNames 순서의 값
+     */
+    public SerializedJson render(Object... slotValues) {
+        if (slotValues.length != slotCount) {
+            throw new IllegalArgumentException("템플릿 값 개수가 다릅니다. (필요: " + slotCount + ", 입력: " + slotValues.length + ")");
+        }
+        List<byte[]> parts = new ArrayList<>(segments.length + slotOrder.length);
+        for (int i = 0; i < slotOrder.length; i++) {
+            parts.add(segments[i]);
+            parts.add(scalar(slotValues[slotOrder[i]]));
+        }
+        parts.add(segments[segments.length - 1]);
+        return new SerializedJson(parts);
+    }
+
+    private static byte[] scalar(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? TRUE : FALSE;
+        }
+        if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            return value.toString().getBytes(StandardCharsets.US_ASCII);
+        }
+        throw new IllegalArgumentException("템플릿 값은 정수/불리언/null만 허용합니다: " + value.getClass());
+    }
+
+    private static byte[] writeValue(ObjectMapper objectMapper, Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 템플릿 직렬화에 실패했습니다.", e);
+        }
+    }
+}
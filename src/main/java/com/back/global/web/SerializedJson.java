@@ -0,0 +1,76 @@
+package com.back.global.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 직렬화가 끝난 JSON 응답 본문 (UTF-8 바이트 조각 목록)
+ *
+ * 조각은 JsonTemplate이 캐시한 배열을 복사하지 않고 그대로 참조하며,
+ * SerializedJsonHttpMessageConverter가 조각을 순서대로 응답 스트림에 바로 쓴다. (중간 버퍼/문자열 없음)
+ */
+public final class SerializedJson {
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] COMMA = {','};
+
+    private final List<byte[]> parts;
+    private final int length;
+
+    SerializedJson(List<byte[]> parts) {
+        this.parts = parts;
+        int total = 0;
+        for (byte[] part : parts) {
+            total += part.length;
+        }
+        this.length = total;
+    }
+
+    /** JSON 배열로 연결 (항목 조각을 그대로 이어 붙임) */
+    public static SerializedJson array(List<SerializedJson> items) {
+        int partCount = 2;
+        for (SerializedJson item : items) {
+            partCount += item.parts.size() + 1;
+        }
+        List<byte[]> parts = new ArrayList<>(partCount);
+        parts.add(ARRAY_START);
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                parts.add(COMMA);
+            }
+            parts.addAll(items.get(i).parts);
+        }
+        parts.add(ARRAY_END);
+        return new SerializedJson(parts);
+    }
+
+    /** 본문 바이트 수 (Content-Length) */
+    public int length() {
+        return length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        for (byte[] part : parts) {
+            out.write(part);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    public byte[] toByteArray() {
+        byte[] joined = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, joined, offset, part.length);
+            offset += part.length;
+        }
+        return joined;
+    }
+}
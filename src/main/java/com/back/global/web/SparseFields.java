@@ -0,0 +1,57 @@
+package com.back.global.web;
+
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 목록 응답 필드 선택 (fields) + 본문 미리보기 길이 (previewLength)
+ *
+ * - fields=id,content,authorNickname : 요청한 필드만 조회하고 응답한다. (없으면 전체 필드)
+ * - previewLength=100 : 본문(피드/댓글 내용, 함께하기 설명)을 SQL에서 앞 100자만 잘라 조회한다.
+ * 둘 다 없으면 목록 API는 기존 응답 DTO를 그대로 반환한다.
+ * 필드 이름 검증(서비스)과 조회 컬럼 구성(Repository)은 FieldProjection에서 한다.
+ *
+ * @param fields        요청한 필드 이름 (정렬된 집합, null이면 전체)
+ * @param previewLength 본문 최대 글자 수 (null이면 자르지 않음)
+ */
+public record SparseFields(SortedSet<String> fields, Integer previewLength) {
+
+    /** 본문 최대 길이 (피드 내용 2000자) */
+    public static final int MAX_PREVIEW_LENGTH = 2000;
+
+    private static final SparseFields NONE = new SparseFields(null, null);
+
+    public static SparseFields none() {
+        return NONE;
+    }
+
+    /**
+     * 요청 파라미터 변환 (쉼표 구분, 공백 무시, 미리보기 길이는 1 ~ 2000으로 보정)
+     */
+    public static SparseFields of(String fields, Integer previewLength) {
+        SortedSet<String> names = null;
+        if (fields != null && !fields.isBlank()) {
+            names = new TreeSet<>();
+            for (String name : fields.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+            names = Collections.unmodifiableSortedSet(names);
+        }
+        Integer length = previewLength != null
+                ? Math.min(Math.max(previewLength, 1), MAX_PREVIEW_LENGTH)
+                : null;
+        return names == null && length == null ? NONE : new SparseFields(names, length);
+    }
+
+    /** 필드 선택이나 미리보기 중 하나라도 요청했는지 */
+    public boolean isRequested() {
+        return fields != null || previewLength != null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+}
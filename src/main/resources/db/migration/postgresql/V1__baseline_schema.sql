@@ -0,0 +1,405 @@
+-- 기준 스키마 (ddl-auto: create 로 만들던 스키마와 동일, PostgreSQL)
+-- 이후 변경은 새 버전 파일로 추가하고, 적용된 파일은 수정하지 않는다.
+
+create sequence challenges_seq start with 1 increment by 50;
+
+create sequence comment_reaction_seq start with 1 increment by 50;
+
+create sequence comment_seq start with 1 increment by 50;
+
+create sequence donation_donor_summaries_seq start with 1 increment by 50;
+
+create sequence donation_payments_seq start with 1 increment by 50;
+
+create sequence donations_seq start with 1 increment by 50;
+
+create sequence feed_bookmark_seq start with 1 increment by 50;
+
+create sequence feed_image_seq start with 1 increment by 50;
+
+create sequence feed_reaction_seq start with 1 increment by 50;
+
+create sequence feed_seq start with 1 increment by 50;
+
+create sequence member_social_accounts_seq start with 1 increment by 50;
+
+create sequence members_seq start with 1 increment by 50;
+
+create sequence participants_seq start with 1 increment by 50;
+
+create sequence refresh_tokens_seq start with 1 increment by 50;
+
+create sequence toss_payments_seq start with 1 increment by 50;
+
+create table challenges (
+    capacity integer,
+    end_date date,
+    participant_count integer not null,
+    start_date date,
+    created_at timestamp(6),
+    id bigint not null,
+    organizer_id bigint,
+    updated_at timestamp(6),
+    category varchar(255) check (category in ('PLOGGING','CLEANUP','RECYCLING')),
+    description varchar(255),
+    mode varchar(255) check (mode in ('ONLINE','OFFLINE')),
+    status varchar(255) check (status in ('RECRUITING','CLOSED','IN_PROGRESS','COMPLETED')),
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table comment (
+    reaction_count integer not null,
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    donation_id bigint,
+    feed_id bigint,
+    id bigint not null,
+    member_id bigint not null,
+    parent_id bigint,
+    together_id bigint,
+    updated_at timestamp(6),
+    comment_type varchar(20) not null check (comment_type in ('FEED','TOGETHER','DONATION')),
+    content varchar(1000) not null,
+    primary key (id)
+);
+
+create table comment_reaction (
+    comment_id bigint not null,
+    created_at timestamp(6),
+    id bigint not null,
+    member_id bigint not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_comment_reaction_member_comment unique (member_id, comment_id)
+);
+
+create table donation_donor_summaries (
+    created_at timestamp(6),
+    donation_count bigint not null,
+    donation_id bigint not null,
+    id bigint not null,
+    last_donated_at timestamp(6),
+    total_amount bigint not null,
+    updated_at timestamp(6),
+    user_id bigint not null,
+    primary key (id),
+    constraint uk_donor_summary_donation_member unique (donation_id, user_id)
+);
+
+create table donation_payments (
+    amount bigint not null,
+    created_at timestamp(6),
+    donation_id bigint,
+    id bigint not null,
+    toss_payment_id bigint unique,
+    updated_at timestamp(6),
+    user_id bigint,
+    payment_method varchar(255),
+    primary key (id)
+);
+
+create table donations (
+    created_at timestamp(6),
+    current_amount bigint not null,
+    end_date timestamp(6),
+    goal_amount bigint,
+    id bigint not null,
+    start_date timestamp(6),
+    updated_at timestamp(6),
+    description varchar(255),
+    status varchar(255),
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table feed (
+    bookmark_count integer not null,
+    comment_count integer not null,
+    reaction_count integer not null,
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    id bigint not null,
+    member_id bigint not null,
+    together_id bigint,
+    updated_at timestamp(6),
+    visibility varchar(20) not null check (visibility in ('PUBLIC','FOLLOWERS','PRIVATE')),
+    feed_type varchar(30) not null check (feed_type in ('GENERAL','TOGETHER_VERIFICATION')),
+    content varchar(2000),
+    primary key (id)
+);
+
+create table feed_bookmark (
+    created_at timestamp(6),
+    feed_id bigint not null,
+    id bigint not null,
+    member_id bigint not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_feed_bookmark_member_feed unique (member_id, feed_id)
+);
+
+create table feed_image (
+    display_order integer not null,
+    height integer not null,
+    width integer not null,
+    created_at timestamp(6),
+    feed_id bigint not null,
+    file_size bigint,
+    id bigint not null,
+    updated_at timestamp(6),
+    original_file_name varchar(100),
+    image_url varchar(500) not null,
+    primary key (id)
+);
+
+create table feed_reaction (
+    created_at timestamp(6),
+    feed_id bigint not null,
+    id bigint not null,
+    member_id bigint not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_feed_reaction_member_feed unique (member_id, feed_id)
+);
+
+create table feed_tags (
+    feed_id bigint not null,
+    tag_name varchar(50)
+);
+
+create table member_social_accounts (
+    created_at timestamp(6),
+    id bigint not null,
+    last_login_at timestamp(6),
+    member_id bigint not null,
+    updated_at timestamp(6),
+    provider varchar(20) not null check (provider in ('GOOGLE','KAKAO','NAVER')),
+    provider_id varchar(255) not null,
+    primary key (id),
+    constraint uk_provider_provider_id unique (provider, provider_id)
+);
+
+create table members (
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    id bigint not null,
+    updated_at timestamp(6),
+    member_code varchar(10) not null unique,
+    nickname varchar(12) unique,
+    last_login_provider varchar(20) check (last_login_provider in ('GOOGLE','KAKAO','NAVER')),
+    role varchar(20) not null check (role in ('USER','ADMIN')),
+    name varchar(50),
+    email varchar(100) unique,
+    profile_image_url varchar(500),
+    primary key (id)
+);
+
+create table participants (
+    created_at timestamp(6),
+    id bigint not null,
+    join_at timestamp(6),
+    left_at timestamp(6),
+    member_id bigint not null,
+    together_id bigint not null,
+    updated_at timestamp(6),
+    status varchar(255) check (status in ('JOINED','LEFT')),
+    primary key (id),
+    constraint uk_participants_together_member unique (together_id, member_id)
+);
+
+create table refresh_tokens (
+    revoked boolean not null,
+    created_at timestamp(6),
+    expires_at timestamp(6) not null,
+    id bigint not null,
+    member_id bigint not null,
+    updated_at timestamp(6),
+    token_hash varchar(255) not null,
+    primary key (id)
+);
+
+create table toss_payments (
+    amount bigint not null,
+    approved_at timestamp(6),
+    created_at timestamp(6),
+    donation_id bigint,
+    id bigint not null,
+    member_id bigint,
+    updated_at timestamp(6),
+    fail_reason varchar(255),
+    order_id varchar(255) not null,
+    payment_key varchar(255) not null,
+    status varchar(255) check (status in ('PENDING','READY','DONE','FAILED','CANCELED')),
+    primary key (id),
+    constraint uk_toss_payments_order_id unique (order_id),
+    constraint uk_toss_payments_payment_key unique (payment_key)
+);
+
+create index idx_challenges_status_start_date
+    on challenges (status, start_date);
+
+create index idx_challenges_status_end_date
+    on challenges (status, end_date);
+
+create index idx_comment_reaction_comment_id
+    on comment_reaction (comment_id);
+
+create index idx_comment_reaction_member_id
+    on comment_reaction (member_id);
+
+create index idx_donor_summary_donation_total
+    on donation_donor_summaries (donation_id, total_amount);
+
+create index idx_donation_payments_donation_created
+    on donation_payments (donation_id, created_at, id);
+
+create index idx_feed_bookmark_feed_id
+    on feed_bookmark (feed_id);
+
+create index idx_feed_bookmark_member_id
+    on feed_bookmark (member_id);
+
+create index idx_feed_image_feed_id
+    on feed_image (feed_id);
+
+create index idx_feed_reaction_feed_id
+    on feed_reaction (feed_id);
+
+create index idx_feed_reaction_member_id
+    on feed_reaction (member_id);
+
+alter table if exists challenges
+    add constraint FK4u9oavhd4pw580k1evquumfk4
+    foreign key (organizer_id)
+    references members;
+
+alter table if exists comment
+    add constraint FKpiwlkp7qow8kthsyi63afbs03
+    foreign key (donation_id)
+    references donations;
+
+alter table if exists comment
+    add constraint FKmq57ocw5jrw8rd2lot1g8t0v2
+    foreign key (feed_id)
+    references feed;
+
+alter table if exists comment
+    add constraint FKocwtsgphsvfiqmipwu0qqj84l
+    foreign key (member_id)
+    references members;
+
+alter table if exists comment
+    add constraint FKde3rfu96lep00br5ov0mdieyt
+    foreign key (parent_id)
+    references comment;
+
+alter table if exists comment
+    add constraint FKqmocamniybj80sm03yfkm7fbc
+    foreign key (together_id)
+    references challenges;
+
+alter table if exists comment_reaction
+    add constraint FKrkwlnq2025sav3ixnd4ue3nk0
+    foreign key (comment_id)
+    references comment;
+
+alter table if exists comment_reaction
+    add constraint FKoa8sbn49gjpmepgcvcyppb54n
+    foreign key (member_id)
+    references members;
+
+alter table if exists donation_donor_summaries
+    add constraint FK74degjsvoywgx65dny43xswmw
+    foreign key (donation_id)
+    references donations;
+
+alter table if exists donation_donor_summaries
+    add constraint FKscllxr9nx6ktrh8konp2iyu81
+    foreign key (user_id)
+    references members;
+
+alter table if exists donation_payments
+    add constraint FKe2l65u4q7hod7j4cfh4ya6qf0
+    foreign key (donation_id)
+    references donations;
+
+alter table if exists donation_payments
+    add constraint FK59rwh497xt15a6vjj7ku5c41i
+    foreign key (user_id)
+    references members;
+
+alter table if exists donation_payments
+    add constraint FK4mc3xtuvj3tcj1wf8f2gcev54
+    foreign key (toss_payment_id)
+    references toss_payments;
+
+alter table if exists feed
+    add constraint FKo6l4877s2wkl78l3jxe4h2e50
+    foreign key (member_id)
+    references members;
+
+alter table if exists feed
+    add constraint FK34r0agife6ml3g32tstm6xroi
+    foreign key (together_id)
+    references challenges;
+
+alter table if exists feed_bookmark
+    add constraint FKdmlh0c4gjeykcq91e3418dolt
+    foreign key (feed_id)
+    references feed;
+
+alter table if exists feed_bookmark
+    add constraint FKf7x9s72r4fnjgc3fc0au354rf
+    foreign key (member_id)
+    references members;
+
+alter table if exists feed_image
+    add constraint FK6ucsld0tx762qhq8sp5khgv3n
+    foreign key (feed_id)
+    references feed;
+
+alter table if exists feed_reaction
+    add constraint FKpnc07cgeg708kgpboqft1f8pp
+    foreign key (feed_id)
+    references feed;
+
+alter table if exists feed_reaction
+    add constraint FK2m5204tk96vck4dq4ksnw84l6
+    foreign key (member_id)
+    references members;
+
+alter table if exists feed_tags
+    add constraint FKhsaojqug0sahfk8mbafak3mwc
+    foreign key (feed_id)
+    references feed;
+
+alter table if exists member_social_accounts
+    add constraint FKcfxkceo9ietmr54cirov8i9np
+    foreign key (member_id)
+    references members;
+
+alter table if exists participants
+    add constraint FKpnd4mhdnqv8o2ewk21o59eam3
+    foreign key (member_id)
+    references members;
+
+alter table if exists participants
+    add constraint FK8a9arb37oimv2hx0kxajkw4ov
+    foreign key (together_id)
+    references challenges;
+
+alter table if exists refresh_tokens
+    add constraint FK9bb9t1ma4ltt5ngdk10bkna2c
+    foreign key (member_id)
+    references members;
+
+alter table if exists toss_payments
+    add constraint FK7cda03t77a5l9vlwampa46ox5
+    foreign key (donation_id)
+    references donations;
+
+alter table if exists toss_payments
+    add constraint FKmuj2i7nyoj6moqkq8n7156hh0
+    foreign key (member_id)
+    references members;
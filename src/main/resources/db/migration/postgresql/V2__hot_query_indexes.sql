@@ -0,0 +1,93 @@
+-- 조회 경로별 인덱스 (리포지토리 메서드의 WHERE / ORDER BY 기준)
+--
+-- 원칙
+-- - 외래 키 컬럼은 전체 인덱스: 목록 조회 외에 일괄 soft delete, 회원 탈퇴, FK 검사에서도 사용된다.
+-- - 전체 목록 정렬(최신순/인기순)은 deleted_at IS NULL 부분 인덱스: 삭제된 피드는 인덱스에 담지 않는다.
+-- - 이름은 엔티티 @Index와 같게 둔다. (H2 개발 스키마는 부분 인덱스 대신 같은 컬럼의 전체 인덱스)
+
+-- ========== feed ==========
+
+-- 작성자/함께하기별 커서 스크롤: WHERE member_id = ? AND id < ? AND deleted_at IS NULL ORDER BY id DESC
+create index idx_feed_member_id
+    on feed (member_id, id);
+
+create index idx_feed_together_id
+    on feed (together_id, id);
+
+-- 최신순 목록/검색: WHERE deleted_at IS NULL ORDER BY created_at DESC
+create index idx_feed_created_at
+    on feed (created_at)
+    where deleted_at is null;
+
+-- 인기순 / 댓글순 / 북마크순 Top N
+create index idx_feed_reaction_count
+    on feed (reaction_count, created_at)
+    where deleted_at is null;
+
+create index idx_feed_comment_count
+    on feed (comment_count, created_at)
+    where deleted_at is null;
+
+create index idx_feed_bookmark_count
+    on feed (bookmark_count, created_at)
+    where deleted_at is null;
+
+-- 태그 컬렉션 로딩 + 태그 검색
+create index idx_feed_tags_feed_id
+    on feed_tags (feed_id);
+
+create index idx_feed_tags_tag_name
+    on feed_tags (tag_name, feed_id);
+
+-- 회원/피드별 리액션, 북마크 목록 (최신순)
+drop index if exists idx_feed_reaction_feed_id;
+create index idx_feed_reaction_feed_id
+    on feed_reaction (feed_id, created_at);
+
+drop index if exists idx_feed_reaction_member_id;
+create index idx_feed_reaction_member_id
+    on feed_reaction (member_id, created_at);
+
+drop index if exists idx_feed_bookmark_member_id;
+create index idx_feed_bookmark_member_id
+    on feed_bookmark (member_id, created_at);
+
+-- ========== comment ==========
+
+-- 대상별 최상위 댓글: WHERE feed_id = ? AND parent_id IS NULL AND deleted_at IS NULL ORDER BY created_at
+-- (feed_id 단독 조건인 댓글 수 집계, 피드 삭제 시 일괄 soft delete도 같은 인덱스 사용)
+create index idx_comment_feed_parent
+    on comment (feed_id, parent_id, deleted_at, created_at);
+
+create index idx_comment_together_parent
+    on comment (together_id, parent_id, deleted_at, created_at);
+
+-- 대댓글: WHERE parent_id = ? AND deleted_at IS NULL ORDER BY created_at
+create index idx_comment_parent
+    on comment (parent_id, deleted_at, created_at);
+
+-- 회원별 댓글: WHERE member_id = ? AND deleted_at IS NULL ORDER BY created_at DESC
+create index idx_comment_member
+    on comment (member_id, deleted_at, created_at);
+
+-- ========== member ==========
+
+-- 토큰 재발급: WHERE token_hash = ?
+alter table refresh_tokens
+    add constraint uk_refresh_tokens_token_hash unique (token_hash);
+
+create index idx_refresh_tokens_member_id
+    on refresh_tokens (member_id);
+
+create index idx_member_social_accounts_member_id
+    on member_social_accounts (member_id, provider);
+
+-- ========== together ==========
+
+-- 상태 조건 없는 목록: WHERE start_date IS NOT NULL ORDER BY start_date DESC, id DESC
+-- (상태 조건이 있으면 idx_challenges_status_start_date)
+create index idx_challenges_start_date
+    on challenges (start_date, id);
+
+create index idx_participants_member_id
+    on participants (member_id);
@@ -0,0 +1,5 @@
+-- 피드 삭제 연쇄 처리 (CascadeDeleteService)
+-- 피드의 댓글 트리를 id 순 keyset 청크로 삭제 표시: WHERE feed_id = ? AND id > ? ORDER BY id (index only scan)
+-- 이미 삭제 표시된 댓글도 범위에 포함되므로 부분 인덱스가 아닌 전체 인덱스로 둔다.
+create index idx_comment_feed_id
+    on comment (feed_id, id);
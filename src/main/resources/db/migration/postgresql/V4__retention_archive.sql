@@ -0,0 +1,42 @@
+-- 보관 기간 정리 (RetentionService)
+
+-- 물리 삭제한 행을 배치 단위로 압축 보관 (append-only)
+create sequence retention_archive_seq start with 1 increment by 50;
+
+create table retention_archive (
+    created_at timestamp(6),
+    id bigint not null,
+    max_id bigint not null,
+    min_id bigint not null,
+    raw_bytes bigint not null,
+    row_count integer not null,
+    updated_at timestamp(6),
+    source_table varchar(50) not null,
+    payload bytea not null,
+    primary key (id)
+);
+
+create index idx_retention_archive_source
+    on retention_archive (source_table, min_id);
+
+-- 정책별 진행 위치 (중단된 실행을 이어서 처리)
+create table retention_checkpoint (
+    cursor_id bigint not null,
+    pass_started_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    policy varchar(50) not null,
+    primary key (policy)
+);
+
+-- 탈퇴 회원 정리 시 참조 확인: NOT EXISTS (SELECT 1 FROM ... WHERE member_id = ?)
+create index idx_challenges_organizer_id
+    on challenges (organizer_id);
+
+create index idx_donation_payments_user_id
+    on donation_payments (user_id);
+
+create index idx_donor_summary_user_id
+    on donation_donor_summaries (user_id);
+
+create index idx_toss_payments_member_id
+    on toss_payments (member_id);
@@ -0,0 +1,8 @@
+-- 탈퇴 후처리 복구 (MemberWithdrawalService.recoverPending)
+-- 후처리 완료 시점. 기존 탈퇴 회원은 비워 두며, 복구 범위(lookback) 안이면 한 번 더 실행된다 (다시 실행해도 결과가 같음)
+alter table members add column withdrawal_processed_at timestamp(6);
+
+-- 처리 전 탈퇴 회원: WHERE deleted_at >= ? AND deleted_at < ? AND withdrawal_processed_at IS NULL AND id > ? ORDER BY id
+create index idx_members_withdrawal_pending
+    on members (deleted_at)
+    where deleted_at is not null and withdrawal_processed_at is null;
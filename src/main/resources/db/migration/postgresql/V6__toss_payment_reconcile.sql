@@ -0,0 +1,5 @@
+-- PENDING 결제 재확인 (DonationPaymentService.reconcilePending)
+-- 승인 결과가 확정되지 않은 결제: WHERE status = 'PENDING' AND created_at >= ? AND created_at < ? AND id > ? ORDER BY id
+create index idx_toss_payments_pending
+    on toss_payments (created_at)
+    where status = 'PENDING';
@@ -0,0 +1,51 @@
+package com.back.domain.comment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CascadeDeleteExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CascadeDeleteExecutor executor = new CascadeDeleteExecutor(1, 1, meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 작업을 호출 스레드에서 실행하지 않고 버린 뒤 센다")
+    void rejectedTaskIsDroppedAndCounted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit(this::awaitRelease);
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.submit(() -> ranOn.set(Thread.currentThread()));
+
+        assertThat(ranOn.get()).isNull();
+        assertThat(meterRegistry.counter("app.cascade.delete.rejected").count()).isEqualTo(1.0);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.back.domain.comment.service;
+
+import com.back.domain.feed.service.FeedService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 피드/댓글 연쇄 삭제 검증 (청크 크기 50)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cascade-delete;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.cascade-delete.chunk-size=50"
+})
+class CascadeDeleteServiceTest {
+
+    @Autowired
+    private CascadeDeleteService cascadeDeleteService;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("피드를 삭제하면 커밋 이후 댓글 트리, 리액션, 북마크가 청크 단위로 정리된다")
+    void deleteFeedCascadesAsynchronously() {
+        List<Long> members = insertMembers(120);
+        long owner = members.getFirst();
+        long feedId = insertFeed(owner);
+        long otherFeedId = insertFeed(owner);
+
+        List<Long> topComments = insertComments(feedId, null, owner, 230);
+        List<Long> replies = insertComments(feedId, topComments.getFirst(), owner, 70);
+        insertComments(feedId, replies.getFirst(), owner, 5);
+        insertCommentReactions(topComments.subList(0, 60), members.get(1));
+        insertFeedChildren("feed_reaction", feedId, members);
+        insertFeedChildren("feed_bookmark", feedId, members);
+
+        List<Long> otherComments = insertComments(otherFeedId, null, owner, 10);
+        insertCommentReactions(otherComments, members.get(1));
+        insertFeedChildren("feed_reaction", otherFeedId, members.subList(0, 10));
+
+        double rowsBefore = rowsCounter("feed", "comment");
+
+        feedService.deleteFeed(feedId, owner);
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            assertThat(liveComments(feedId)).isZero();
+            assertThat(count("feed_reaction", feedId)).isZero();
+            assertThat(count("feed_bookmark", feedId)).isZero();
+        });
+        assertThat(commentReactions(feedId)).isZero();
+        assertThat(rowsCounter("feed", "comment") - rowsBefore).isEqualTo(305);
+
+        // 다른 피드는 그대로
+        assertThat(liveComments(otherFeedId)).isEqualTo(10);
+        assertThat(commentReactions(otherFeedId)).isEqualTo(10);
+        assertThat(count("feed_reaction", otherFeedId)).isEqualTo(10);
+        // 마지막 청크 커밋 직후에 기록되므로 기록될 때까지 기다림
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(meterRegistry
+                .find("app.cascade.delete").tag("target", "feed").tag("outcome", "success").timer())
+                .isNotNull());
+    }
+
+    @Test
+    @DisplayName("피드 연쇄 삭제는 청크 크기만큼씩 나눠 처리하고 다시 실행해도 결과가 같다")
+    void deleteFeedChildrenInChunks() {
+        List<Long> members = insertMembers(80);
+        long owner = members.getFirst();
+        long feedId = insertFeed(owner);
+        insertComments(feedId, null, owner, 260);
+        insertFeedChildren("feed_reaction", feedId, members);
+        insertFeedChildren("feed_bookmark", feedId, members.subList(0, 30));
+
+        CascadeDeleteService.Result result = cascadeDeleteService.deleteFeedChildren(feedId, LocalDateTime.now());
+
+        assertThat(result.comments()).isEqualTo(260);
+        assertThat(result.feedReactions()).isEqualTo(80);
+        assertThat(result.feedBookmarks()).isEqualTo(30);
+        // 댓글 6청크 + 리액션 2청크 + 북마크 1청크
+        assertThat(result.chunks()).isEqualTo(6 + 2 + 1);
+        assertThat(liveComments(feedId)).isZero();
+
+        CascadeDeleteService.Result again = cascadeDeleteService.deleteFeedChildren(feedId, LocalDateTime.now());
+        assertThat(again.comments() + again.feedReactions() + again.feedBookmarks()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글을 삭제하면 하위 대댓글 트리 전체가 정리되고 피드 댓글 수가 줄어든다")
+    void deleteCommentCascadesToReplyTree() {
+        List<Long> members = insertMembers(2);
+        long owner = members.getFirst();
+        long feedId = insertFeed(owner);
+
+        List<Long> topComments = insertComments(feedId, null, owner, 3);
+        long target = topComments.getFirst();
+        List<Long> replies = insertComments(feedId, target, owner, 120);
+        List<Long> nested = insertComments(feedId, replies.get(7), owner, 60);
+        insertComments(feedId, nested.getLast(), owner, 3);
+        List<Long> untouched = insertComments(feedId, topComments.get(1), owner, 4);
+        insertCommentReactions(replies.subList(0, 55), members.get(1));
+        int replyCount = 120 + 60 + 3;
+        int total = 3 + replyCount + untouched.size();
+        jdbcTemplate.update("UPDATE feed SET comment_count = ? WHERE id = ?", total, feedId);
+
+        commentService.deleteComment(target, owner);
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() ->
+                assertThat(liveComments(feedId)).isEqualTo(2 + untouched.size()));
+        assertThat(commentReactions(feedId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT comment_count FROM feed WHERE id = ?", Integer.class, feedId))
+                .isEqualTo(total - 1 - replyCount);
+    }
+
+    @Test
+    @DisplayName("실패하거나 유실된 연쇄 삭제는 복구 실행에서 다시 처리되고, 최근 삭제 대상은 건너뛴다")
+    void recoverPendingRerunsUnfinishedCascades() {
+        List<Long> members = insertMembers(60);
+        long owner = members.getFirst();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 삭제 표시만 되고 연쇄 삭제가 실행되지 않은 피드 (작업 실패/서버 종료)
+        long lostFeedId = insertFeed(owner);
+        List<Long> lostComments = insertComments(lostFeedId, null, owner, 120);
+        insertCommentReactions(lostComments.subList(0, 30), members.get(1));
+        insertFeedChildren("feed_reaction", lostFeedId, members);
+        insertFeedChildren("feed_bookmark", lostFeedId, members.subList(0, 10));
+        jdbcTemplate.update("UPDATE feed SET deleted_at = ? WHERE id = ?", now.minusHours(1), lostFeedId);
+
+        // 대댓글 정리가 중간에 실패한 댓글
+        long feedId = insertFeed(owner);
+        long target = insertComments(feedId, null, owner, 1).getFirst();
+        List<Long> replies = insertComments(feedId, target, owner, 70);
+        insertComments(feedId, replies.getFirst(), owner, 5);
+        jdbcTemplate.update("UPDATE feed SET comment_count = ? WHERE id = ?", 1 + 70 + 5, feedId);
+        jdbcTemplate.update("UPDATE comment SET deleted_at = ? WHERE id = ?", now.minusHours(1), target);
+        jdbcTemplate.update("UPDATE feed SET comment_count = comment_count - 1 WHERE id = ?", feedId);
+        jdbcTemplate.update("UPDATE comment SET deleted_at = ? WHERE id IN (?, ?)", now.minusHours(1),
+                replies.get(1), replies.get(2));
+        jdbcTemplate.update("UPDATE feed SET comment_count = comment_count - 2 WHERE id = ?", feedId);
+
+        // 방금 삭제되어 비동기 작업이 처리 중일 수 있는 피드
+        long recentFeedId = insertFeed(owner);
+        insertComments(recentFeedId, null, owner, 3);
+        jdbcTemplate.update("UPDATE feed SET deleted_at = ? WHERE id = ?", now, recentFeedId);
+
+        LocalDateTime to = now.minusMinutes(10);
+        int recovered = cascadeDeleteService.recoverPending(to.minusDays(7), to);
+
+        assertThat(recovered).isEqualTo(2);
+        assertThat(liveComments(lostFeedId)).isZero();
+        assertThat(commentReactions(lostFeedId)).isZero();
+        assertThat(count("feed_reaction", lostFeedId)).isZero();
+        assertThat(count("feed_bookmark", lostFeedId)).isZero();
+        assertThat(liveComments(feedId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT comment_count FROM feed WHERE id = ?", Integer.class, feedId))
+                .isZero();
+        assertThat(liveComments(recentFeedId)).isEqualTo(3);
+        assertThat(meterRegistry.counter("app.cascade.delete.recovered", "target", "feed").count()).isPositive();
+
+        // 모두 정리되면 다시 조회되지 않음
+        assertThat(cascadeDeleteService.recoverPending(to.minusDays(7), to)).isZero();
+    }
+
+    private List<Long> insertMembers(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = nextId("members_seq");
+            jdbcTemplate.update("INSERT INTO members (id, member_code, role, created_at) VALUES (?, ?, 'USER', CURRENT_TIMESTAMP)",
+                    id, UUID.randomUUID().toString().substring(0, 10));
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private long insertFeed(long memberId) {
+        long id = nextId("feed_seq");
+        jdbcTemplate.update("""
+                INSERT INTO feed (id, member_id, content, feed_type, visibility, reaction_count, comment_count, bookmark_count, created_at)
+                VALUES (?, ?, '연쇄 삭제', 'GENERAL', 'PUBLIC', 0, 0, 0, CURRENT_TIMESTAMP)
+                """, id, memberId);
+        return id;
+    }
+
+    private List<Long> insertComments(long feedId, Long parentId, long memberId, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = nextId("comment_seq");
+            ids.add(id);
+            rows.add(new Object[]{id, feedId, parentId, memberId});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO comment (id, comment_type, content, feed_id, parent_id, member_id, reaction_count, created_at)
+                VALUES (?, 'FEED', '댓글', ?, ?, ?, 0, CURRENT_TIMESTAMP)
+                """, rows);
+        return ids;
+    }
+
+    private void insertCommentReactions(List<Long> commentIds, long memberId) {
+        List<Object[]> rows = commentIds.stream()
+                .map(commentId -> new Object[]{nextId("comment_reaction_seq"), commentId, memberId})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comment_reaction (id, comment_id, member_id, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)", rows);
+    }
+
+    private void insertFeedChildren(String table, long feedId, List<Long> memberIds) {
+        List<Object[]> rows = memberIds.stream()
+                .map(memberId -> new Object[]{nextId(table + "_seq"), feedId, memberId})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table + " (id, feed_id, member_id, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)", rows);
+    }
+
+    private long nextId(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+    }
+
+    private long liveComments(long feedId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comment WHERE feed_id = ? AND deleted_at IS NULL", Long.class, feedId);
+    }
+
+    private long commentReactions(long feedId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM comment_reaction cr JOIN comment c ON c.id = cr.comment_id WHERE c.feed_id = ?
+                """, Long.class, feedId);
+    }
+
+    private long count(String table, long feedId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE feed_id = ?", Long.class, feedId);
+    }
+
+    private double rowsCounter(String target, String kind) {
+        var counter = meterRegistry.find("app.cascade.delete.rows").tag("target", target).tag("kind", kind).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
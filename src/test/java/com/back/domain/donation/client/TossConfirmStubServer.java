@@ -0,0 +1,122 @@
+package com.back.domain.donation.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토스 결제 승인 API 로컬 스텁 (테스트용)
+ *
+ * POST /v1/payments/confirm 에 지정한 지연 시간 후 DONE 응답을 돌려준다.
+ * 금액이 rejectAmount와 같으면 400으로 승인을 거절하고,
+ * failureStatus가 설정되면 모든 요청에 해당 상태 코드(5xx 등)로 응답한다.
+ */
+public class TossConfirmStubServer {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final AtomicInteger confirmCount = new AtomicInteger();
+    private final Map<String, AtomicInteger> confirmCountByOrder = new ConcurrentHashMap<>();
+
+    private volatile long latencyMillis;
+    private volatile long rejectAmount = -1;
+    private volatile int failureStatus = -1;
+
+    public TossConfirmStubServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/payments/confirm", this::handleConfirm);
+    }
+
+    public TossConfirmStubServer start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setRejectAmount(long rejectAmount) {
+        this.rejectAmount = rejectAmount;
+    }
+
+    public void setFailureStatus(int failureStatus) {
+        this.failureStatus = failureStatus;
+    }
+
+    public int confirmCount() {
+        return confirmCount.get();
+    }
+
+    public int confirmCount(String orderId) {
+        AtomicInteger count = confirmCountByOrder.get(orderId);
+        return count == null ? 0 : count.get();
+    }
+
+    private void handleConfirm(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        String orderId = request.path("orderId").asText();
+        long amount = request.path("amount").asLong();
+
+        confirmCount.incrementAndGet();
+        confirmCountByOrder.computeIfAbsent(orderId, key -> new AtomicInteger()).incrementAndGet();
+
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (failureStatus > 0) {
+            respond(exchange, failureStatus, Map.of("code", "PROVIDER_ERROR", "message", "일시적인 오류"));
+            return;
+        }
+
+        if (amount == rejectAmount) {
+            respond(exchange, 400, Map.of("code", "REJECT_CARD_PAYMENT", "message", "승인 거절"));
+            return;
+        }
+
+        respond(exchange, 200, Map.of(
+                "paymentKey", request.path("paymentKey").asText(),
+                "orderId", orderId,
+                "totalAmount", amount,
+                "status", "DONE",
+                "approvedAt", "2025-01-01T10:00:00+09:00"
+        ));
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.back.domain.donation.client;
+
+import com.back.domain.donation.dto.request.DonationTossRequest;
+import com.back.domain.donation.dto.response.DonationTossResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossPaymentsClientTest {
+
+    private TossConfirmStubServer stub;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        stub = new TossConfirmStubServer().start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop();
+    }
+
+    @Test
+    @DisplayName("승인 성공 시 응답을 반환하고 지연 시간을 기록한다")
+    void confirmSuccess() {
+        TossPaymentsClient client = client(Duration.ofSeconds(2), 4, 5, Duration.ofSeconds(30));
+
+        DonationTossResponse response = client.confirm(request(1_000L));
+
+        assertThat(response.getStatus()).isEqualTo("DONE");
+        assertThat(response.getTotalAmount()).isEqualTo(1_000L);
+        assertThat(meterRegistry.get("toss.payments.confirm").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃을 넘기면 ResourceAccessException으로 끝난다")
+    void readTimeout() {
+        stub.setLatencyMillis(1_000);
+        TossPaymentsClient client = client(Duration.ofMillis(200), 4, 5, Duration.ofSeconds(30));
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.confirm(request(1_000L)))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(900));
+    }
+
+    @Test
+    @DisplayName("연속 장애가 임계치에 도달하면 서킷이 열려 토스를 호출하지 않는다")
+    void circuitOpensAfterConsecutiveFailures() throws Exception {
+        stub.setFailureStatus(500);
+        TossPaymentsClient client = client(Duration.ofSeconds(2), 4, 3, Duration.ofMillis(300));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.confirm(request(1_000L)))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(client.getCircuitState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+
+        // OPEN 동안에는 토스 호출 없이 즉시 거절
+        int callsBefore = stub.confirmCount();
+        assertThatThrownBy(() -> client.confirm(request(1_000L)))
+                .isInstanceOf(TossPaymentsUnavailableException.class);
+        assertThat(stub.confirmCount()).isEqualTo(callsBefore);
+
+        // OPEN 시간이 지나면 시험 호출 성공 → CLOSED
+        stub.setFailureStatus(-1);
+        Thread.sleep(400);
+        assertThat(client.confirm(request(1_000L)).getStatus()).isEqualTo("DONE");
+        assertThat(client.getCircuitState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("카드 거절(4xx)은 토스 장애로 보지 않아 서킷이 열리지 않는다")
+    void clientErrorsDoNotOpenCircuit() {
+        stub.setRejectAmount(9_999L);
+        TossPaymentsClient client = client(Duration.ofSeconds(2), 4, 2, Duration.ofSeconds(30));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.confirm(request(9_999L)))
+                    .isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(client.getCircuitState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 요청은 토스를 호출하지 않고 거절한다")
+    void bulkheadLimitsConcurrentCalls() throws Exception {
+        stub.setLatencyMillis(500);
+        TossPaymentsClient client = client(Duration.ofSeconds(2), 2, 5, Duration.ofSeconds(30));
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 6; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        client.confirm(request(1_000L));
+                        return true;
+                    } catch (TossPaymentsUnavailableException e) {
+                        return false;
+                    }
+                }));
+            }
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                succeeded += result.get() ? 1 : 0;
+            }
+
+            assertThat(succeeded).isEqualTo(2);
+            assertThat(stub.confirmCount()).isEqualTo(2);
+            assertThat(meterRegistry.get("toss.payments.confirm").tag("outcome", "bulkhead_full").timer().count())
+                    .isEqualTo(4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TossPaymentsClient client(Duration readTimeout, int maxConcurrentCalls,
+                                      int failureThreshold, Duration openDuration) {
+        return new TossPaymentsClient(
+                "test_sk", stub.baseUrl(),
+                Duration.ofSeconds(1), readTimeout,
+                maxConcurrentCalls, Duration.ofMillis(50),
+                failureThreshold, openDuration,
+                meterRegistry
+        );
+    }
+
+    private DonationTossRequest request(long amount) {
+        String orderId = "order-" + UUID.randomUUID();
+        return DonationTossRequest.builder()
+                .paymentKey("pk-" + orderId)
+                .orderId(orderId)
+                .amount(amount)
+                .build();
+    }
+}
@@ -0,0 +1,277 @@
+package com.back.domain.donation.service;
+
+import com.back.domain.donation.client.TossConfirmStubServer;
+import com.back.domain.donation.dto.request.DonationTossRequest;
+import com.back.domain.donation.dto.response.DonationPaymentResponse;
+import com.back.domain.donation.dto.response.DonationProgressResponse;
+import com.back.domain.donation.dto.response.TopDonorResponse;
+import com.back.domain.donation.entity.Donations;
+import com.back.domain.donation.repository.DonationRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.MemberRole;
+import com.back.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DonationPaymentServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DonationPaymentServiceTest.class);
+
+    private static final TossConfirmStubServer TOSS_STUB = new TossConfirmStubServer().start();
+
+    @DynamicPropertySource
+    static void tossProperties(DynamicPropertyRegistry registry) {
+        registry.add("payment.toss.base-url", TOSS_STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        TOSS_STUB.stop();
+    }
+
+    @Autowired
+    private DonationPaymentService donationPaymentService;
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Donations donation;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        TOSS_STUB.setLatencyMillis(0);
+        TOSS_STUB.setRejectAmount(-1);
+        TOSS_STUB.setFailureStatus(-1);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 6);
+        member = memberRepository.save(Member.builder()
+                .name("후원자")
+                .nickname("pay" + suffix)
+                .memberCode("PAY" + suffix)
+                .role(MemberRole.USER)
+                .build());
+        donation = donationRepository.save(Donations.builder()
+                .title("숲 가꾸기 후원")
+                .description("결제 테스트")
+                .goalAmount(100_000_000)
+                .startDate(LocalDateTime.now())
+                .endDate(LocalDateTime.now().plusDays(30))
+                .status("ACTIVE")
+                .build());
+    }
+
+    @Test
+    @DisplayName("느린 토스 응답에서도 모든 결제가 한 번씩 반영된다")
+    void throughputUnderSlowUpstream() throws Exception {
+        TOSS_STUB.setLatencyMillis(200);
+        int paymentCount = 300;
+        long amount = 1_000L;
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        List<CompletableFuture<DonationPaymentResponse>> results = new ArrayList<>();
+
+        long startedAt = System.nanoTime();
+        try {
+            for (int i = 0; i < paymentCount; i++) {
+                DonationTossRequest request = request("order-" + UUID.randomUUID(), amount);
+                results.add(CompletableFuture
+                        .supplyAsync(() -> donationPaymentService.pay(donation.getId(), member.getId(), request), clients)
+                        .thenCompose(future -> future));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } finally {
+            clients.shutdown();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        log.info("토스 지연 200ms, 결제 {}건 처리: {}ms ({}건/초)",
+                paymentCount, elapsedMillis, paymentCount * 1000L / Math.max(elapsedMillis, 1));
+
+        assertThat(results).allMatch(result -> "DONE".equals(result.join().getStatus()));
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getCurrentAmount())
+                .isEqualTo(paymentCount * amount);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 고액 후원이 정확히 합산된다 (int 범위 초과)")
+    void concurrentDonationsExactTotal() throws Exception {
+        int paymentCount = 500;
+        long amount = 10_000_000L;   // 합계 50억 → int 범위 초과
+
+        // 진행 현황 스냅샷에 적재해 두고 결제 확정 이벤트로 증분 갱신되는지 확인
+        assertThat(donationService.getProgress(donation.getId()).getCurrentAmount()).isZero();
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        List<CompletableFuture<DonationPaymentResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < paymentCount; i++) {
+                DonationTossRequest request = request("order-big-" + UUID.randomUUID(), amount);
+                results.add(CompletableFuture
+                        .supplyAsync(() -> donationPaymentService.pay(donation.getId(), member.getId(), request), clients)
+                        .thenCompose(future -> future));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } finally {
+            clients.shutdown();
+        }
+
+        long expected = paymentCount * amount;
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getCurrentAmount())
+                .isEqualTo(expected);
+
+        // 원장 합계로 재계산해도 같은 값
+        transactionTemplate.executeWithoutResult(status -> donationRepository.rebuildCurrentAmount(donation.getId()));
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getCurrentAmount())
+                .isEqualTo(expected);
+
+        // 후원자 집계도 한 행에 정확히 누적
+        List<TopDonorResponse> topDonors = donationService.getTopDonors(donation.getId(), 10);
+        assertThat(topDonors).hasSize(1);
+        assertThat(topDonors.get(0).getMemberId()).isEqualTo(member.getId());
+        assertThat(topDonors.get(0).getTotalAmount()).isEqualTo(expected);
+        assertThat(topDonors.get(0).getDonationCount()).isEqualTo(paymentCount);
+
+        DonationProgressResponse progress = donationService.getProgress(donation.getId());
+        assertThat(progress.getCurrentAmount()).isEqualTo(expected);
+        assertThat(progress.getDonorCount()).isEqualTo(1);
+        assertThat(progress.getProgressRate()).isEqualTo(5_000.0);
+    }
+
+    @Test
+    @DisplayName("같은 주문을 동시에 여러 번 요청해도 한 번만 반영된다")
+    void duplicateOrderCreditedOnce() throws Exception {
+        TOSS_STUB.setLatencyMillis(100);
+        DonationTossRequest request = request("order-dup-" + UUID.randomUUID(), 5_000L);
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        List<CompletableFuture<DonationPaymentResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 20; i++) {
+                results.add(CompletableFuture
+                        .supplyAsync(() -> donationPaymentService.pay(donation.getId(), member.getId(), request), clients)
+                        .thenCompose(future -> future));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } finally {
+            clients.shutdown();
+        }
+
+        // 재요청 (이미 완료된 주문)
+        DonationPaymentResponse replay = donationPaymentService
+                .pay(donation.getId(), member.getId(), request).get(5, TimeUnit.SECONDS);
+
+        assertThat(replay.getStatus()).isEqualTo("DONE");
+        assertThat(TOSS_STUB.confirmCount(request.getOrderId())).isEqualTo(1);
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getCurrentAmount())
+                .isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("토스가 승인을 거절하면 FAILED로 기록되고 모금액은 변하지 않는다")
+    void rejectedPaymentIsFailed() throws Exception {
+        TOSS_STUB.setRejectAmount(7_777L);
+        DonationTossRequest request = request("order-reject-" + UUID.randomUUID(), 7_777L);
+
+        DonationPaymentResponse response = donationPaymentService
+                .pay(donation.getId(), member.getId(), request).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getStatus()).isEqualTo("FAILED");
+        assertThat(donationPaymentService.getPayment(request.getOrderId()).getStatus()).isEqualTo("FAILED");
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getCurrentAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("승인 결과를 받지 못해 PENDING에 남은 결제를 재확인으로 한 번만 확정한다")
+    void reconcilePendingFinalizesStuckPayments() throws Exception {
+        TOSS_STUB.setFailureStatus(500);
+        DonationTossRequest request = request("order-stuck-" + UUID.randomUUID(), 3_000L);
+
+        DonationPaymentResponse response = donationPaymentService
+                .pay(donation.getId(), member.getId(), request).get(5, TimeUnit.SECONDS);
+        assertThat(response.getStatus()).isEqualTo("PENDING");
+
+        // 토스 복구 후 재확인: 같은 주문번호로 다시 승인 요청
+        TOSS_STUB.setFailureStatus(-1);
+        LocalDateTime now = LocalDateTime.now();
+        donationPaymentService.reconcilePending(now.minusHours(1), now.plusMinutes(1));
+
+        assertThat(donationPaymentService.getPayment(request.getOrderId()).getStatus()).isEqualTo("DONE");
+        assertThat(TOSS_STUB.confirmCount(request.getOrderId())).isEqualTo(2);
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getCurrentAmount())
+                .isEqualTo(3_000L);
+
+        // 확정된 결제는 다시 조회되지 않음
+        donationPaymentService.reconcilePending(now.minusHours(1), now.plusMinutes(1));
+        assertThat(TOSS_STUB.confirmCount(request.getOrderId())).isEqualTo(2);
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getCurrentAmount())
+                .isEqualTo(3_000L);
+    }
+
+    @Test
+    @DisplayName("승인이 응답 제한 시간을 넘기면 PENDING으로 먼저 응답하고 확정은 계속 진행한다")
+    void slowConfirmRespondsPending() throws Exception {
+        TOSS_STUB.setLatencyMillis(1_000);
+        ReflectionTestUtils.setField(donationPaymentService, "responseTimeout", Duration.ofMillis(200));
+        DonationTossRequest request = request("order-slow-" + UUID.randomUUID(), 2_000L);
+        try {
+            DonationPaymentResponse response = donationPaymentService
+                    .pay(donation.getId(), member.getId(), request).get(5, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo("PENDING");
+        } finally {
+            ReflectionTestUtils.setField(donationPaymentService, "responseTimeout", Duration.ofSeconds(35));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"DONE".equals(donationPaymentService.getPayment(request.getOrderId()).getStatus())
+                && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertThat(donationPaymentService.getPayment(request.getOrderId()).getStatus()).isEqualTo("DONE");
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getCurrentAmount())
+                .isEqualTo(2_000L);
+    }
+
+    private DonationTossRequest request(String orderId, long amount) {
+        return DonationTossRequest.builder()
+                .paymentKey("pk-" + orderId)
+                .orderId(orderId)
+                .amount(amount)
+                .memberId(member.getId())
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.back.domain.donation.service;
+
+import com.back.domain.donation.dto.response.DonationProgressResponse;
+import com.back.domain.donation.dto.response.DonationResponse;
+import com.back.domain.donation.dto.response.DonationScrollResponse;
+import com.back.domain.donation.dto.response.DonorListResponse;
+import com.back.domain.donation.dto.response.DonorScrollResponse;
+import com.back.domain.donation.entity.Donations;
+import com.back.domain.donation.repository.DonationRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.MemberRole;
+import com.back.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DonationServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DonationServiceTest.class);
+
+    private static final int PAYMENT_COUNT = 20_000;
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Donations donation;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 6);
+        Member member = memberRepository.save(Member.builder()
+                .name("후원자")
+                .nickname("donor" + suffix)
+                .memberCode("DNR" + suffix)
+                .role(MemberRole.USER)
+                .build());
+        donation = donationRepository.save(Donations.builder()
+                .title("후원자 목록 테스트")
+                .goalAmount(100_000_000L)
+                .startDate(LocalDateTime.now())
+                .endDate(LocalDateTime.now().plusDays(30))
+                .status("ACTIVE")
+                .build());
+
+        // 같은 후원일시가 여러 건 겹치도록 생성 (ID 보조 정렬 검증)
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        List<Object[]> rows = new ArrayList<>(PAYMENT_COUNT);
+        for (int i = 0; i < PAYMENT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.minusSeconds(i / 7));
+            rows.add(new Object[]{donation.getId(), member.getId(), 1_000L, "TOSS", createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO donation_payments (id, donation_id, user_id, amount, payment_method, created_at, updated_at)
+                VALUES (NEXT VALUE FOR donation_payments_seq, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @Test
+    @DisplayName("후원자 목록을 키셋 페이징으로 끝까지 넘기면 모든 후원이 중복/누락 없이 최신순으로 조회된다")
+    void donorListKeysetWalk() {
+        Set<Long> seen = new HashSet<>();
+        DonorListResponse previous = null;
+        LocalDateTime lastCreatedAt = null;
+        Long lastId = null;
+        int pages = 0;
+        long slowestNanos = 0;
+
+        while (true) {
+            long startedAt = System.nanoTime();
+            DonorScrollResponse page = donationService.getDonorList(donation.getId(), lastCreatedAt, lastId, 50);
+            slowestNanos = Math.max(slowestNanos, System.nanoTime() - startedAt);
+            pages++;
+
+            for (DonorListResponse donor : page.getContent()) {
+                assertThat(seen.add(donor.getDonationPaymentId())).isTrue();
+                if (previous != null) {
+                    boolean ordered = donor.getCreatedAt().isBefore(previous.getCreatedAt())
+                            || (donor.getCreatedAt().isEqual(previous.getCreatedAt())
+                                && donor.getDonationPaymentId() < previous.getDonationPaymentId());
+                    assertThat(ordered).isTrue();
+                }
+                previous = donor;
+            }
+
+            if (!page.isHasNext()) {
+                break;
+            }
+            lastCreatedAt = page.getNextCreatedAt();
+            lastId = page.getNextCursor();
+        }
+
+        log.info("후원자 {}건, {}페이지 조회 - 가장 느린 페이지 {}ms",
+                PAYMENT_COUNT, pages, TimeUnit.NANOSECONDS.toMillis(slowestNanos));
+
+        assertThat(seen).hasSize(PAYMENT_COUNT);
+    }
+
+    @Test
+    @DisplayName("후원 목록을 키셋 페이징으로 끝까지 넘기면 ID 내림차순으로 중복 없이 조회된다")
+    void donationListKeysetWalk() {
+        Set<Long> seen = new HashSet<>();
+        Long lastId = null;
+        while (true) {
+            DonationScrollResponse page = donationService.getDonations(lastId, 3);
+            for (DonationResponse response : page.getContent()) {
+                assertThat(lastId == null || response.getId() < lastId).isTrue();
+                assertThat(seen.add(response.getId())).isTrue();
+                lastId = response.getId();
+            }
+            if (!page.isHasNext()) {
+                break;
+            }
+            assertThat(page.getNextCursor()).isEqualTo(lastId);
+        }
+
+        assertThat(seen).contains(donation.getId());
+        assertThat(seen).hasSize((int) donationRepository.count());
+    }
+
+    @Test
+    @DisplayName("진행 현황은 후원자 집계 기준 후원자 수를 포함하고 리더보드는 모금액 내림차순이다")
+    void progressAndLeaderboard() {
+        DonationProgressResponse progress = donationService.getProgress(donation.getId());
+        assertThat(progress.getGoalAmount()).isEqualTo(100_000_000L);
+
+        List<DonationProgressResponse> leaderboard = donationService.getLeaderboard(100);
+        for (int i = 1; i < leaderboard.size(); i++) {
+            assertThat(leaderboard.get(i - 1).getCurrentAmount())
+                    .isGreaterThanOrEqualTo(leaderboard.get(i).getCurrentAmount());
+        }
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 후원의 후원자 목록은 예외")
+    void donorListOfMissingDonation() {
+        assertThatThrownBy(() -> donationService.getDonorList(Long.MAX_VALUE, null, null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,165 @@
+package com.back.domain.feed.service;
+
+import com.back.domain.feed.dto.feed.request.FeedCreateRequest;
+import com.back.domain.feed.dto.feed.request.FeedImageRequest;
+import com.back.domain.feed.entity.FeedType;
+import com.back.domain.feed.entity.FeedVisibility;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.MemberRole;
+import com.back.domain.member.repository.MemberRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 생성 시 DB 왕복 횟수 검증
+ * 이미지/태그 수와 관계없이 같은 횟수의 JDBC 실행(배치는 1회)으로 저장되어야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:feed-statement-count;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class FeedCreateStatementCountTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedCreateStatementCountTest.class);
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 6);
+        member = memberRepository.save(Member.builder()
+                .name("작성자")
+                .nickname("feed" + suffix)
+                .memberCode("FEED" + suffix)
+                .role(MemberRole.USER)
+                .build());
+    }
+
+    @Test
+    @DisplayName("이미지/태그 수와 관계없이 피드 생성의 DB 왕복 횟수가 같다")
+    void constantRoundTrips() {
+        // 시퀀스 할당 블록을 미리 채워 측정 중 시퀀스 조회가 섞이지 않게 함
+        feedService.createFeed(request(10, 30), member.getId());
+
+        int single = countRoundTrips(request(1, 1));
+        int many = countRoundTrips(request(10, 30));
+
+        log.info("피드 생성 DB 왕복 - 이미지 1/태그 1: {}회, 이미지 10/태그 30: {}회", single, many);
+
+        assertThat(many).isEqualTo(single);
+        // 회원 조회 + 피드 insert + 이미지 배치 insert + 태그 배치 insert
+        assertThat(many).isLessThanOrEqualTo(4);
+    }
+
+    private int countRoundTrips(FeedCreateRequest request) {
+        statementCounter.reset();
+        feedService.createFeed(request, member.getId());
+        return statementCounter.count();
+    }
+
+    private FeedCreateRequest request(int imageCount, int tagCount) {
+        List<FeedImageRequest> images = IntStream.range(0, imageCount)
+                .mapToObj(i -> FeedImageRequest.builder()
+                        .imageUrl("https://cdn.example.com/" + i + ".jpg")
+                        .width(1080)
+                        .height(1080)
+                        .displayOrder(i)
+                        .build())
+                .toList();
+        List<String> tags = IntStream.range(0, tagCount)
+                .mapToObj(i -> "태그" + i)
+                .toList();
+
+        return FeedCreateRequest.builder()
+                .feedType(FeedType.GENERAL)
+                .content("플로깅 인증")
+                .visibility(FeedVisibility.PUBLIC)
+                .images(images)
+                .tags(tags)
+                .build();
+    }
+
+    /**
+     * JDBC 실행 횟수 집계 (배치 실행은 1회로 계산, 시퀀스 조회 제외)
+     */
+    static class StatementCounter implements QueryExecutionListener {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            boolean sequenceCall = queryInfoList.stream()
+                    .allMatch(queryInfo -> queryInfo.getQuery().toLowerCase().contains("next value for"));
+            if (!sequenceCall) {
+                count.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            count.set(0);
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCountConfig {
+
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<StatementCounter> counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(counter.getObject())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.back.domain.feed.service;
+
+import com.back.domain.feed.dto.feed.request.FeedSearchCondition;
+import com.back.domain.feed.dto.feed.response.FeedSummaryResponse;
+import com.back.domain.feed.dto.feed.response.FeedVersion;
+import com.back.domain.feed.repository.FeedRepository;
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import com.back.global.web.SerializedJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 응답 JSON 캐시 검증
+ *
+ * 템플릿 출력이 같은 응답을 ObjectMapper로 UTF-8 직렬화한 결과(Jackson 컨버터 출력)와 바이트 단위로 같은지 확인한다.
+ * 요청당 CPU 시간/할당 바이트 비교는 loadTest 태스크(FeedJsonCacheLoadTest)에서 실행한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:feed-json-cache;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FeedJsonCacheTest {
+
+    private static final int POPULAR_SIZE = 20;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private FeedJsonCache feedJsonCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long feedId;
+    private long memberId;
+
+    @BeforeAll
+    void seed() {
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(50)
+                .feeds(200)
+                .togethers(5)
+                .donations(1)
+                .donationPayments(0)
+                .days(7)
+                .build());
+        feedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM feed WHERE deleted_at IS NULL ORDER BY reaction_count DESC, id LIMIT 1", Long.class);
+        memberId = jdbcTemplate.queryForObject(
+                "SELECT member_id FROM feed_reaction WHERE feed_id = ? ORDER BY id LIMIT 1", Long.class, feedId);
+    }
+
+    @Test
+    @DisplayName("피드 상세 템플릿은 카운트와 리액션 여부가 바뀌어도 Jackson 직렬화 결과와 같다")
+    void detailMatchesJackson() throws Exception {
+        jdbcTemplate.update("UPDATE feed SET content = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?",
+                "따옴표 \" 역슬래시 \\ 줄바꿈\n탭\t이모지 😀 <script>", feedId);
+
+        // 캐시 미스 / 캐시 적중 / 카운트 변경 후 적중 / 다른 회원(리액션 없음)
+        assertDetailMatches(memberId);
+        assertDetailMatches(memberId);
+        jdbcTemplate.update("UPDATE feed SET reaction_count = reaction_count + 7, comment_count = 0 WHERE id = ?", feedId);
+        assertDetailMatches(memberId);
+        assertDetailMatches(null);
+    }
+
+    @Test
+    @DisplayName("인기 피드 목록은 캐시 적중 여부와 관계없이 Jackson 직렬화 결과와 같다")
+    void popularMatchesJackson() throws Exception {
+        feedJsonCache.clear();
+        // 일부만 캐시된 상태에서 나머지를 채우는 경우 포함
+        assertPopularMatches(5);
+        assertPopularMatches(POPULAR_SIZE);
+        assertPopularMatches(POPULAR_SIZE);
+
+        jdbcTemplate.update("UPDATE members SET nickname = '바뀐닉네임', updated_at = CURRENT_TIMESTAMP WHERE id = "
+                + "(SELECT member_id FROM feed WHERE id = ?)", feedService.getPopularFeedVersions(1).getFirst().id());
+        assertPopularMatches(POPULAR_SIZE);
+    }
+
+    private void assertDetailMatches(Long viewerId) throws Exception {
+        FeedVersion version = feedService.getFeedVersion(feedId, viewerId);
+        byte[] expected = objectMapper.writeValueAsBytes(feedService.getFeed(feedId, viewerId));
+
+        SerializedJson actual = feedJsonCache.detail(version);
+        assertThat(actual.toString()).isEqualTo(new String(expected, StandardCharsets.UTF_8));
+        assertThat(actual.length()).isEqualTo(expected.length);
+    }
+
+    private void assertPopularMatches(int size) throws Exception {
+        byte[] expected = objectMapper.writeValueAsBytes(popularFeeds(size));
+
+        assertThat(feedJsonCache.summaries(feedService.getPopularFeedVersions(size)).toByteArray()).isEqualTo(expected);
+    }
+
+    /** 템플릿 도입 전 인기 피드 응답 (엔티티 조회 + FeedSummaryResponse, getPopularFeedVersions와 같은 조건/순서) */
+    private List<FeedSummaryResponse> popularFeeds(int size) {
+        FeedSearchCondition condition = FeedSearchCondition.builder()
+                .startDate(LocalDateTime.now().minusDays(7))
+                .build();
+        return transactionTemplate.execute(status -> feedRepository.findPopularFeedsWithCondition(condition, size).stream()
+                .map(FeedSummaryResponse::from)
+                .toList());
+    }
+}
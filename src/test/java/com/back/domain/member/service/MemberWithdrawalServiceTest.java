@@ -0,0 +1,284 @@
+package com.back.domain.member.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 회원 탈퇴 후처리 검증 (청크 크기 50)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-withdrawal;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.cascade-delete.chunk-size=50"
+})
+class MemberWithdrawalServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberWithdrawalService memberWithdrawalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("탈퇴하면 커밋 이후 리액션/북마크가 삭제되고 대상 피드/댓글의 카운트가 줄어든다")
+    void withdrawRemovesReactionsAndAdjustsCounts() {
+        long withdrawn = insertMember("탈퇴회원");
+        long author = insertMember("작성자");
+
+        List<Long> feeds = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            feeds.add(insertFeed(author, 3, 2));
+        }
+        insertFeedChildren("feed_reaction", feeds, withdrawn);
+        insertFeedChildren("feed_bookmark", feeds.subList(0, 70), withdrawn);
+        List<Long> comments = insertComments(feeds.getFirst(), null, author, 60);
+        jdbcTemplate.update("UPDATE comment SET reaction_count = 4 WHERE feed_id = ?", feeds.getFirst());
+        insertCommentReactions(comments.subList(0, 55), withdrawn);
+        // 다른 회원의 리액션은 그대로
+        insertFeedChildren("feed_reaction", feeds.subList(0, 5), author);
+        insertTokens(withdrawn, 2);
+
+        long runsBefore = successfulRuns();
+        memberService.withdrawMember(withdrawn, "테스트");
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            assertThat(countByMember("feed_reaction", withdrawn)).isZero();
+            assertThat(countByMember("feed_bookmark", withdrawn)).isZero();
+            assertThat(countByMember("comment_reaction", withdrawn)).isZero();
+            // 후처리가 끝까지 실행된 뒤에 기록된다.
+            assertThat(successfulRuns()).isGreaterThan(runsBefore);
+        });
+        assertThat(countByMember("feed_reaction", author)).isEqualTo(5);
+        assertThat(countByMember("refresh_tokens", withdrawn)).isZero();
+
+        assertThat(feedCount("reaction_count", feeds.getFirst())).isEqualTo(2);
+        assertThat(feedCount("reaction_count", feeds.getLast())).isEqualTo(2);
+        assertThat(feedCount("bookmark_count", feeds.get(69))).isEqualTo(1);
+        assertThat(feedCount("bookmark_count", feeds.get(70))).isEqualTo(2);
+        assertThat(commentReactionCount(comments.getFirst())).isEqualTo(3);
+        assertThat(commentReactionCount(comments.getLast())).isEqualTo(4);
+
+        Map<String, Object> member = jdbcTemplate.queryForMap(
+                "SELECT name, nickname, email, deleted_at FROM members WHERE id = ?", withdrawn);
+        assertThat(member.get("name")).isNull();
+        assertThat(member.get("nickname")).isNull();
+        assertThat(member.get("email")).isNull();
+        assertThat(member.get("deleted_at")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원의 댓글과 피드는 청크 단위로 삭제 표시되고 다시 실행해도 결과가 같다")
+    void processSoftDeletesContentInChunks() {
+        long withdrawn = insertMember("탈퇴회원");
+        long other = insertMember("다른회원");
+
+        long otherFeed = insertFeed(other, 0, 0);
+        long anotherFeed = insertFeed(other, 0, 0);
+        List<Long> comments = insertComments(otherFeed, null, withdrawn, 80);
+        insertComments(anotherFeed, null, withdrawn, 30);
+        // 탈퇴 회원 댓글에 달린 다른 회원의 대댓글
+        insertComments(otherFeed, comments.getFirst(), other, 3);
+        insertComments(otherFeed, null, other, 7);
+        insertCommentReactions(comments.subList(0, 10), other);
+        jdbcTemplate.update("UPDATE feed SET comment_count = ? WHERE id = ?", 80 + 3 + 7, otherFeed);
+        jdbcTemplate.update("UPDATE feed SET comment_count = ? WHERE id = ?", 30, anotherFeed);
+
+        List<Long> ownFeeds = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ownFeeds.add(insertFeed(withdrawn, 0, 0));
+        }
+        insertComments(ownFeeds.getFirst(), null, other, 12);
+        insertFeedChildren("feed_reaction", ownFeeds.subList(0, 3), other);
+
+        LocalDateTime withdrawnAt = LocalDateTime.now();
+        jdbcTemplate.update("UPDATE members SET deleted_at = ? WHERE id = ?", withdrawnAt, withdrawn);
+
+        MemberWithdrawalService.Result result = memberWithdrawalService.process(withdrawn, withdrawnAt);
+
+        assertThat(result.comments()).isEqualTo(110);
+        assertThat(result.feeds()).isEqualTo(60);
+        // 댓글 3청크 + 피드 2청크
+        assertThat(result.chunks()).isEqualTo(3 + 2);
+
+        assertThat(liveCommentsByMember(withdrawn)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM feed WHERE member_id = ? AND deleted_at IS NULL", Long.class, withdrawn)).isZero();
+        assertThat(liveComments(otherFeed)).isEqualTo(7);
+        assertThat(feedCount("comment_count", otherFeed)).isEqualTo(7);
+        assertThat(feedCount("comment_count", anotherFeed)).isZero();
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM comment_reaction cr JOIN comment c ON c.id = cr.comment_id WHERE c.feed_id = ?
+                """, Long.class, otherFeed)).isZero();
+
+        // 탈퇴 회원 피드의 하위 데이터는 피드 연쇄 삭제로 정리
+        assertThat(liveComments(ownFeeds.getFirst())).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM feed_reaction WHERE feed_id = ?", Long.class, ownFeeds.getFirst())).isZero();
+
+        MemberWithdrawalService.Result again = memberWithdrawalService.process(withdrawn, withdrawnAt);
+        assertThat(again.comments() + again.feeds() + again.feedReactions()).isZero();
+        assertThat(feedCount("comment_count", otherFeed)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("후처리가 실패하거나 유실된 탈퇴는 복구 실행에서 다시 처리되고, 완료된 탈퇴와 최근 탈퇴는 건너뛴다")
+    void recoverPendingRerunsUnprocessedWithdrawals() {
+        long lost = insertMember("유실회원");
+        long done = insertMember("완료회원");
+        long recent = insertMember("최근회원");
+        long author = insertMember("작성자");
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> feeds = List.of(insertFeed(author, 1, 1), insertFeed(author, 1, 1));
+        insertFeedChildren("feed_reaction", feeds, lost);
+        insertFeedChildren("feed_bookmark", feeds, lost);
+        insertComments(feeds.getFirst(), null, lost, 3);
+        jdbcTemplate.update("UPDATE feed SET comment_count = 3 WHERE id = ?", feeds.getFirst());
+        long ownFeed = insertFeed(lost, 0, 0);
+        insertTokens(lost, 1);
+        insertFeedChildren("feed_reaction", List.of(feeds.getLast()), done);
+        insertFeedChildren("feed_reaction", List.of(feeds.getLast()), recent);
+
+        // 탈퇴 표시만 되고 후처리가 끝나지 않은 회원 (작업 실패/서버 종료)
+        jdbcTemplate.update("UPDATE members SET deleted_at = ? WHERE id = ?", now.minusHours(1), lost);
+        jdbcTemplate.update("UPDATE members SET deleted_at = ?, withdrawal_processed_at = ? WHERE id = ?",
+                now.minusHours(1), now.minusHours(1), done);
+        jdbcTemplate.update("UPDATE members SET deleted_at = ? WHERE id = ?", now, recent);
+
+        LocalDateTime to = now.minusMinutes(10);
+        int recovered = memberWithdrawalService.recoverPending(to.minusDays(7), to);
+
+        assertThat(recovered).isEqualTo(1);
+        assertThat(countByMember("feed_reaction", lost)).isZero();
+        assertThat(countByMember("feed_bookmark", lost)).isZero();
+        assertThat(countByMember("refresh_tokens", lost)).isZero();
+        assertThat(liveCommentsByMember(lost)).isZero();
+        assertThat(feedCount("reaction_count", feeds.getFirst())).isZero();
+        assertThat(feedCount("comment_count", feeds.getFirst())).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted_at FROM feed WHERE id = ?", LocalDateTime.class, ownFeed))
+                .isNotNull();
+        Map<String, Object> member = jdbcTemplate.queryForMap(
+                "SELECT nickname, withdrawal_processed_at FROM members WHERE id = ?", lost);
+        assertThat(member.get("nickname")).isNull();
+        assertThat(member.get("withdrawal_processed_at")).isNotNull();
+
+        // 완료된 탈퇴와 최근 탈퇴는 그대로
+        assertThat(countByMember("feed_reaction", done)).isEqualTo(1);
+        assertThat(countByMember("feed_reaction", recent)).isEqualTo(1);
+
+        // 완료 시점이 남았으므로 다시 조회되지 않음
+        assertThat(memberWithdrawalService.recoverPending(to.minusDays(7), to)).isZero();
+    }
+
+    private long insertMember(String name) {
+        long id = nextId("members_seq");
+        String code = UUID.randomUUID().toString().substring(0, 10);
+        jdbcTemplate.update("""
+                INSERT INTO members (id, name, nickname, email, member_code, role, created_at)
+                VALUES (?, ?, ?, ?, ?, 'USER', CURRENT_TIMESTAMP)
+                """, id, name, code, code + "@test.com", code);
+        return id;
+    }
+
+    private long insertFeed(long memberId, int reactionCount, int bookmarkCount) {
+        long id = nextId("feed_seq");
+        jdbcTemplate.update("""
+                INSERT INTO feed (id, member_id, content, feed_type, visibility, reaction_count, comment_count, bookmark_count, created_at)
+                VALUES (?, ?, '탈퇴 정리', 'GENERAL', 'PUBLIC', ?, 0, ?, CURRENT_TIMESTAMP)
+                """, id, memberId, reactionCount, bookmarkCount);
+        return id;
+    }
+
+    private List<Long> insertComments(long feedId, Long parentId, long memberId, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = nextId("comment_seq");
+            ids.add(id);
+            rows.add(new Object[]{id, feedId, parentId, memberId});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO comment (id, comment_type, content, feed_id, parent_id, member_id, reaction_count, created_at)
+                VALUES (?, 'FEED', '댓글', ?, ?, ?, 0, CURRENT_TIMESTAMP)
+                """, rows);
+        return ids;
+    }
+
+    private void insertCommentReactions(List<Long> commentIds, long memberId) {
+        List<Object[]> rows = commentIds.stream()
+                .map(commentId -> new Object[]{nextId("comment_reaction_seq"), commentId, memberId})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comment_reaction (id, comment_id, member_id, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)", rows);
+    }
+
+    private void insertFeedChildren(String table, List<Long> feedIds, long memberId) {
+        List<Object[]> rows = feedIds.stream()
+                .map(feedId -> new Object[]{nextId(table + "_seq"), feedId, memberId})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table + " (id, feed_id, member_id, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)", rows);
+    }
+
+    private void insertTokens(long memberId, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO refresh_tokens (id, member_id, token_hash, expires_at, revoked, created_at) "
+                            + "VALUES (?, ?, ?, ?, FALSE, CURRENT_TIMESTAMP)",
+                    nextId("refresh_tokens_seq"), memberId, UUID.randomUUID().toString(), LocalDateTime.now().plusDays(7));
+        }
+    }
+
+    private long successfulRuns() {
+        var timer = meterRegistry.find("app.member.withdrawal").tag("outcome", "success").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private long nextId(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+    }
+
+    private long countByMember(String table, long memberId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE member_id = ?", Long.class, memberId);
+    }
+
+    private int feedCount(String column, long feedId) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM feed WHERE id = ?", Integer.class, feedId);
+    }
+
+    private int commentReactionCount(long commentId) {
+        return jdbcTemplate.queryForObject("SELECT reaction_count FROM comment WHERE id = ?", Integer.class, commentId);
+    }
+
+    private long liveComments(long feedId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comment WHERE feed_id = ? AND deleted_at IS NULL", Long.class, feedId);
+    }
+
+    private long liveCommentsByMember(long memberId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comment WHERE member_id = ? AND deleted_at IS NULL", Long.class, memberId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.back.domain.member.service;
+
+import com.back.domain.member.dto.OAuth2UserInfo;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.SocialProvider;
+import com.back.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SocialLoginServiceConcurrencyTest {
+
+    private static final int SIGNUP_COUNT = 1000;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private SocialLoginService socialLoginService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("같은 기본 닉네임으로 동시에 가입해도 닉네임이 중복되지 않는다")
+    void concurrentSignupWithSameBaseNickname() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<Member>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < SIGNUP_COUNT; i++) {
+                OAuth2UserInfo userInfo = OAuth2UserInfo.builder()
+                        .provider(SocialProvider.KAKAO)
+                        .providerId("nickname-load-" + i)
+                        .build();
+                futures.add(executor.submit(() -> socialLoginService.findOrCreateMember(userInfo)));
+            }
+
+            Set<String> nicknames = new HashSet<>();
+            for (Future<Member> future : futures) {
+                nicknames.add(future.get().getNickname());
+            }
+
+            assertThat(nicknames).hasSize(SIGNUP_COUNT);
+            assertThat(nicknames).allMatch(nickname -> nickname.length() <= 12);
+            assertThat(memberRepository.findNicknamesLike("카카오 사%")).hasSize(SIGNUP_COUNT);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 소셜 계정으로 동시에 로그인하면 회원은 하나만 생성된다")
+    void concurrentFirstLoginWithSameSocialAccount() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<Member>> futures = new ArrayList<>();
+
+        try {
+            OAuth2UserInfo userInfo = OAuth2UserInfo.builder()
+                    .provider(SocialProvider.NAVER)
+                    .providerId("same-account")
+                    .build();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(() -> socialLoginService.findOrCreateMember(userInfo)));
+            }
+
+            Set<Long> memberIds = new HashSet<>();
+            for (Future<Member> future : futures) {
+                memberIds.add(future.get().getId());
+            }
+
+            assertThat(memberIds).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
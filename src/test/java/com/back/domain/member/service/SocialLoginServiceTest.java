@@ -0,0 +1,214 @@
+package com.back.domain.member.service;
+
+import com.back.domain.member.dto.OAuth2UserInfo;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.SocialProvider;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재로그인 경로 검증 (소셜 계정 캐시, 마지막 로그인 시각 지연 반영)
+ * 주기 반영이 측정 중에 끼어들지 않도록 반영 간격을 길게 두고 flush()를 직접 호출한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:social-login;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.social-login.last-login-flush-interval=3600000"
+})
+class SocialLoginServiceTest {
+
+    @Autowired
+    private SocialLoginService socialLoginService;
+
+    @Autowired
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Test
+    @DisplayName("재로그인은 소셜 계정 조회 없이 회원 PK 조회 한 번으로 끝난다")
+    void returningLoginRunsSinglePrimaryKeyLookup() {
+        OAuth2UserInfo userInfo = userInfo();
+        Member member = socialLoginService.findOrCreateMember(userInfo);
+        // 2차 캐시가 아닌 DB 조회 횟수를 보기 위해 회원 캐시를 비움
+        entityManagerFactory.getCache().evict(Member.class);
+
+        List<String> statements = statementRecorder.record(() ->
+                assertThat(socialLoginService.findOrCreateMember(userInfo).getId()).isEqualTo(member.getId()));
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.getFirst().toLowerCase())
+                .startsWith("select")
+                .contains("from members")
+                .doesNotContain("member_social_accounts");
+    }
+
+    @Test
+    @DisplayName("재로그인 시각은 flush() 이후에 last_login_at에 반영된다")
+    void lastLoginIsWrittenOnFlush() {
+        OAuth2UserInfo userInfo = userInfo();
+        socialLoginService.findOrCreateMember(userInfo);
+        lastLoginWriteBehind.flush();
+        LocalDateTime before = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        setLastLogin(userInfo, before);
+
+        socialLoginService.findOrCreateMember(userInfo);
+        assertThat(lastLogin(userInfo)).isEqualTo(before);
+
+        lastLoginWriteBehind.flush();
+        assertThat(lastLogin(userInfo)).isAfter(before);
+    }
+
+    @Test
+    @DisplayName("배치 반영에 실패한 로그인 시각은 다시 모아 두었다가 다음 flush()에서 반영한다")
+    void failedFlushIsRetried() {
+        OAuth2UserInfo userInfo = userInfo();
+        socialLoginService.findOrCreateMember(userInfo);
+        LocalDateTime before = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        setLastLogin(userInfo, before);
+
+        LastLoginWriteBehind writeBehind = new LastLoginWriteBehind(new FailingOnceJdbcTemplate(dataSource));
+        LocalDateTime loginAt = before.plusHours(2);
+        writeBehind.record(userInfo.getProvider(), userInfo.getProviderId(), loginAt);
+
+        writeBehind.flush();
+        assertThat(lastLogin(userInfo)).isEqualTo(before);
+
+        // 실패 뒤에 더 이른 시각이 기록되어도 늦은 시각이 남는다.
+        writeBehind.record(userInfo.getProvider(), userInfo.getProviderId(), loginAt.minusHours(1));
+        writeBehind.flush();
+        assertThat(lastLogin(userInfo)).isEqualTo(loginAt);
+    }
+
+    private OAuth2UserInfo userInfo() {
+        return OAuth2UserInfo.builder()
+                .provider(SocialProvider.KAKAO)
+                .providerId("returning-" + UUID.randomUUID())
+                .build();
+    }
+
+    private void setLastLogin(OAuth2UserInfo userInfo, LocalDateTime lastLoginAt) {
+        jdbcTemplate.update("UPDATE member_social_accounts SET last_login_at = ? WHERE provider = ? AND provider_id = ?",
+                lastLoginAt, userInfo.getProvider().name(), userInfo.getProviderId());
+    }
+
+    private LocalDateTime lastLogin(OAuth2UserInfo userInfo) {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_login_at FROM member_social_accounts WHERE provider = ? AND provider_id = ?",
+                LocalDateTime.class, userInfo.getProvider().name(), userInfo.getProviderId());
+    }
+
+    /** 첫 배치 UPDATE만 실패하는 JdbcTemplate */
+    static class FailingOnceJdbcTemplate extends JdbcTemplate {
+
+        private boolean failed;
+
+        FailingOnceJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (!failed) {
+                failed = true;
+                throw new DataAccessResourceFailureException("배치 반영 실패");
+            }
+            return super.batchUpdate(sql, batchArgs);
+        }
+    }
+
+    /**
+     * record() 실행 중 호출 스레드에서 나간 SQL 기록 (시퀀스 조회 제외)
+     */
+    static class StatementRecorder implements QueryExecutionListener {
+
+        private final List<String> statements = new ArrayList<>();
+        private volatile Thread recordingThread;
+
+        synchronized List<String> record(Runnable call) {
+            statements.clear();
+            recordingThread = Thread.currentThread();
+            try {
+                call.run();
+            } finally {
+                recordingThread = null;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (recordingThread != Thread.currentThread()) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (!queryInfo.getQuery().toLowerCase().contains("next value for")) {
+                    statements.add(queryInfo.getQuery());
+                }
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor statementRecorderDataSourcePostProcessor(ObjectProvider<StatementRecorder> recorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(recorder.getObject())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.back.domain.together.controller;
 
+import com.back.domain.together.dto.request.TogetherSearchCondition;
 import com.back.domain.together.dto.response.TogetherResponse;
+import com.back.domain.together.dto.response.TogetherScrollResponse;
 import com.back.domain.together.entity.TogetherCategory;
 import com.back.domain.together.entity.TogetherMode;
 import com.back.domain.together.entity.TogetherStatus;
+import com.back.domain.together.service.ParticipationService;
 import com.back.domain.together.service.TogetherService;
 import com.back.global.jwt.JwtTokenProvider;
 import com.back.global.security.JwtAuthenticationFilter;
@@ -21,6 +24,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,6 +47,9 @@ public class TogetherControllerTest {
     @MockBean
     private TogetherService togetherService;
 
+    @MockBean
+    private ParticipationService participationService;
+
     @Test
     @DisplayName("1. 함께하기 게시글 등록")
     void createTogether_success() throws Exception {
@@ -78,4 +88,52 @@ public class TogetherControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.data.id").value(1L));
     }
+
+    @Test
+    @DisplayName("2. 함께하기 목록 커서 조회")
+    void getTogetherList_cursor() throws Exception {
+
+        TogetherResponse item = TogetherResponse.builder()
+                .id(7L)
+                .title("주말 플로깅 같이 해요")
+                .category(TogetherCategory.PLOGGING)
+                .mode(TogetherMode.OFFLINE)
+                .capacity(10)
+                .startDate(LocalDate.of(2025, 1, 18))
+                .status(TogetherStatus.RECRUITING)
+                .organizerId(1L)
+                .build();
+
+        TogetherScrollResponse<TogetherResponse> response = TogetherScrollResponse.<TogetherResponse>builder()
+                .content(List.of(item))
+                .nextStartDate(LocalDate.of(2025, 1, 18))
+                .nextCursor(7L)
+                .hasNext(true)
+                .size(1)
+                .requestedSize(1)
+                .build();
+
+        Mockito.when(togetherService.getTogetherList(
+                        Mockito.argThat((TogetherSearchCondition condition) ->
+                                condition.getStatus() == TogetherStatus.RECRUITING
+                                        && condition.getCategory() == TogetherCategory.PLOGGING),
+                        Mockito.eq(LocalDate.of(2025, 1, 20)),
+                        Mockito.eq(10L),
+                        Mockito.eq(1)))
+                .thenReturn(response);
+
+        mockMvc.perform(
+                        get("/api/v1/together/list")
+                                .param("status", "RECRUITING")
+                                .param("category", "PLOGGING")
+                                .param("lastStartDate", "2025-01-20")
+                                .param("lastId", "10")
+                                .param("size", "1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(7L))
+                .andExpect(jsonPath("$.data.nextCursor").value(7L))
+                .andExpect(jsonPath("$.data.nextStartDate").value("2025-01-18"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
 }
@@ -0,0 +1,222 @@
+package com.back.domain.together.service;
+
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.MemberRole;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.together.entity.ParticipantStatus;
+import com.back.domain.together.entity.Together;
+import com.back.domain.together.entity.TogetherCategory;
+import com.back.domain.together.entity.TogetherMode;
+import com.back.domain.together.entity.TogetherStatus;
+import com.back.domain.together.repository.ParticipantsRepository;
+import com.back.domain.together.repository.TogetherRepository;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ParticipationServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private TogetherRepository togetherRepository;
+
+    @Autowired
+    private ParticipantsRepository participantsRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("수천 명이 동시에 참여해도 정원을 넘지 않는다")
+    void concurrentJoinNeverExceedsCapacity() throws Exception {
+        int capacity = 50;
+        int attempts = 3000;
+
+        List<Member> members = createMembers("cap", attempts);
+        Together together = createTogether(members.get(0), capacity);
+
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(attempts, i -> {
+            try {
+                participationService.join(together.getId(), members.get(i).getId());
+                joined.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage()).isIn(
+                        ErrorCode.TOGETHER_CAPACITY_EXCEEDED.getMessage(),
+                        ErrorCode.TOGETHER_JOIN_BUSY.getMessage());
+                rejected.incrementAndGet();
+            }
+        });
+
+        Together result = togetherRepository.findById(together.getId()).orElseThrow();
+        assertThat(joined.get()).isEqualTo(capacity);
+        assertThat(rejected.get()).isEqualTo(attempts - capacity);
+        assertThat(result.getParticipantCount()).isEqualTo(capacity);
+        assertThat(participantsRepository.countByTogetherIdAndStatus(together.getId(), ParticipantStatus.JOINED))
+                .isEqualTo(capacity);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 여러 번 참여해도 한 번만 참여된다")
+    void concurrentDuplicateJoinCountsOnce() throws Exception {
+        List<Member> members = createMembers("dup", 1);
+        Together together = createTogether(members.get(0), 10);
+        Long memberId = members.get(0).getId();
+
+        AtomicInteger joined = new AtomicInteger();
+        runConcurrently(THREAD_COUNT * 4, i -> {
+            try {
+                participationService.join(together.getId(), memberId);
+                joined.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage()).isEqualTo(ErrorCode.TOGETHER_ALREADY_JOINED.getMessage());
+            }
+        });
+
+        assertThat(joined.get()).isEqualTo(1);
+        assertThat(togetherRepository.findById(together.getId()).orElseThrow().getParticipantCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참여 취소 후 빈 자리에 다시 참여할 수 있다")
+    void leaveFreesSlot() {
+        List<Member> members = createMembers("lv", 2);
+        Together together = createTogether(members.get(0), 1);
+
+        participationService.join(together.getId(), members.get(0).getId());
+        participationService.leave(together.getId(), members.get(0).getId());
+        participationService.join(together.getId(), members.get(1).getId());
+
+        assertThat(togetherRepository.findById(together.getId()).orElseThrow().getParticipantCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 여러 번 참여 취소해도 인원은 한 번만 줄어든다")
+    void concurrentDuplicateLeaveCountsOnce() throws Exception {
+        List<Member> members = createMembers("dlv", 2);
+        Together together = createTogether(members.get(0), 10);
+        Long memberId = members.get(0).getId();
+        participationService.join(together.getId(), memberId);
+        participationService.join(together.getId(), members.get(1).getId());
+
+        AtomicInteger left = new AtomicInteger();
+        runConcurrently(THREAD_COUNT * 4, i -> {
+            try {
+                participationService.leave(together.getId(), memberId);
+                left.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage()).isEqualTo(ErrorCode.TOGETHER_NOT_JOINED.getMessage());
+            }
+        });
+
+        assertThat(left.get()).isEqualTo(1);
+        assertThat(togetherRepository.findById(together.getId()).orElseThrow().getParticipantCount()).isEqualTo(1);
+        assertThat(participantsRepository.countByTogetherIdAndStatus(together.getId(), ParticipantStatus.JOINED))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참여 취소한 회원이 동시에 여러 번 재참여해도 인원은 한 번만 늘어난다")
+    void concurrentDuplicateRejoinCountsOnce() throws Exception {
+        List<Member> members = createMembers("drj", 1);
+        Together together = createTogether(members.get(0), 10);
+        Long memberId = members.get(0).getId();
+        participationService.join(together.getId(), memberId);
+        participationService.leave(together.getId(), memberId);
+
+        AtomicInteger joined = new AtomicInteger();
+        runConcurrently(THREAD_COUNT * 4, i -> {
+            try {
+                participationService.join(together.getId(), memberId);
+                joined.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage()).isIn(
+                        ErrorCode.TOGETHER_ALREADY_JOINED.getMessage(),
+                        ErrorCode.TOGETHER_JOIN_BUSY.getMessage());
+            }
+        });
+
+        assertThat(joined.get()).isEqualTo(1);
+        assertThat(togetherRepository.findById(together.getId()).orElseThrow().getParticipantCount()).isEqualTo(1);
+        assertThat(participantsRepository.countByTogetherIdAndStatus(together.getId(), ParticipantStatus.JOINED))
+                .isEqualTo(1);
+    }
+
+    // ========== 헬퍼 메서드 ==========
+
+    private void runConcurrently(int taskCount, IntTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Member> createMembers(String prefix, int count) {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            members.add(Member.builder()
+                    .name("참여자")
+                    .nickname(prefix + i)
+                    .memberCode(String.format("%s%06d", prefix.toUpperCase(), i))
+                    .role(MemberRole.USER)
+                    .build());
+        }
+        return memberRepository.saveAll(members);
+    }
+
+    private Together createTogether(Member organizer, int capacity) {
+        return togetherRepository.save(Together.builder()
+                .title("동시 참여 테스트")
+                .description("정원 " + capacity + "명")
+                .category(TogetherCategory.PLOGGING)
+                .mode(TogetherMode.OFFLINE)
+                .capacity(capacity)
+                .startDate(LocalDate.now().plusDays(7))
+                .endDate(LocalDate.now().plusDays(7))
+                .member(organizer)
+                .status(TogetherStatus.RECRUITING)
+                .build());
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int index);
+    }
+}
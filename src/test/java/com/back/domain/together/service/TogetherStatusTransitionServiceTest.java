@@ -0,0 +1,121 @@
+package com.back.domain.together.service;
+
+import com.back.domain.together.entity.TogetherStatus;
+import com.back.domain.together.event.TogetherStatusChangedEvent;
+import com.back.domain.together.repository.TogetherRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class TogetherStatusTransitionServiceTest {
+
+    @Autowired
+    private TogetherStatusTransitionService transitionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @MockitoSpyBean
+    private TogetherRepository togetherRepository;
+
+    @Test
+    @DisplayName("자정에 종료되는 수만 건의 함께하기를 한 번에 전환한다")
+    void transitionsTensOfThousandsAtMidnight() {
+        LocalDate today = LocalDate.of(2030, 3, 2);
+        int endingCount = 20_000;
+        int startingCount = 3_000;
+
+        // 어제 종료된 진행 중 함께하기
+        insertTogethers("midnight-end", TogetherStatus.IN_PROGRESS, today.minusDays(10), today.minusDays(1), endingCount);
+        // 오늘 시작하는 모집 중 함께하기
+        insertTogethers("midnight-start", TogetherStatus.RECRUITING, today, today.plusDays(3), startingCount);
+        // 서버 중단 중에 시작과 종료가 모두 지나간 함께하기 (따라잡기)
+        insertTogethers("midnight-missed", TogetherStatus.RECRUITING, today.minusDays(5), today.minusDays(2), 10);
+        // 아직 시작 전인 함께하기
+        insertTogethers("midnight-future", TogetherStatus.RECRUITING, today.plusDays(1), today.plusDays(2), 10);
+
+        transitionService.transition(today);
+
+        assertThat(countByTitleAndStatus("midnight-end", TogetherStatus.COMPLETED)).isEqualTo(endingCount);
+        assertThat(countByTitleAndStatus("midnight-start", TogetherStatus.IN_PROGRESS)).isEqualTo(startingCount);
+        assertThat(countByTitleAndStatus("midnight-missed", TogetherStatus.COMPLETED)).isEqualTo(10);
+        assertThat(countByTitleAndStatus("midnight-future", TogetherStatus.RECRUITING)).isEqualTo(10);
+
+        long completedEvents = events.stream(TogetherStatusChangedEvent.class)
+                .filter(event -> event.to() == TogetherStatus.COMPLETED)
+                .mapToLong(event -> event.togetherIds().size())
+                .sum();
+        assertThat(completedEvents).isGreaterThanOrEqualTo(endingCount + 10);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 먼저 전환된 함께하기는 전환 이벤트에 넣지 않는다")
+    void publishesOnlyRowsChangedByThisRun() {
+        LocalDate today = LocalDate.of(2031, 5, 1);
+        insertTogethers("race-end", TogetherStatus.IN_PROGRESS, today.minusDays(10), today.minusDays(1), 5);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM challenges WHERE title = 'race-end' ORDER BY id", Long.class);
+        Long takenId = ids.getFirst();
+
+        // 전환 대상을 조회한 직후 다른 곳에서 한 건을 먼저 종료한 상황
+        // (Repository 프록시의 실제 메서드는 호출할 수 없어 같은 조건을 SQL로 조회)
+        doAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(2);
+            List<Long> found = jdbcTemplate.queryForList(
+                    "SELECT id FROM challenges WHERE status = 'IN_PROGRESS' AND end_date < ? ORDER BY id LIMIT ?",
+                    Long.class, Date.valueOf(today), pageable.getPageSize());
+            jdbcTemplate.update("UPDATE challenges SET status = 'COMPLETED' WHERE id = ? AND status = 'IN_PROGRESS'",
+                    takenId);
+            return found;
+        }).when(togetherRepository).findIdsToComplete(eq(TogetherStatus.IN_PROGRESS), eq(today), any());
+
+        transitionService.transition(today);
+
+        List<Long> published = events.stream(TogetherStatusChangedEvent.class)
+                .filter(event -> event.to() == TogetherStatus.COMPLETED)
+                .flatMap(event -> event.togetherIds().stream())
+                .filter(ids::contains)
+                .toList();
+        assertThat(published).containsExactlyElementsOf(ids.subList(1, ids.size()));
+    }
+
+    private void insertTogethers(String title, TogetherStatus status, LocalDate startDate, LocalDate endDate, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{title, status.name(), Date.valueOf(startDate), Date.valueOf(endDate)});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO challenges (id, title, category, mode, capacity, participant_count, status, start_date, end_date) " +
+                "VALUES (NEXT VALUE FOR challenges_seq, ?, 'PLOGGING', 'OFFLINE', 10, 0, ?, ?, ?)",
+                rows);
+    }
+
+    private long countByTitleAndStatus(String title, TogetherStatus status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM challenges WHERE title = ? AND status = ?",
+                Long.class, title, status.name());
+    }
+}
@@ -0,0 +1,64 @@
+package com.back.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedConcurrentMapTest {
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 오래 사용하지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsed() throws InterruptedException {
+        BoundedConcurrentMap<Integer, String> map = new BoundedConcurrentMap<>(10);
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "v" + i);
+        }
+        // 사용 시각 갱신 간격(1ms)보다 뒤에 읽어 0번을 가장 최근 사용 항목으로 만든다.
+        TimeUnit.MILLISECONDS.sleep(5);
+        assertThat(map.get(0)).isEqualTo("v0");
+
+        map.put(10, "v10");
+
+        // 여유분(10%)까지 한 번에 제거: 11개 → 9개
+        assertThat(map.size()).isEqualTo(9);
+        assertThat(map.evictionCount()).isEqualTo(2);
+        assertThat(map.get(0)).isEqualTo("v0");
+        assertThat(map.get(10)).isEqualTo("v10");
+        assertThat(map.containsKey(1)).isFalse();
+        assertThat(map.containsKey(2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 저장해도 제거가 끝나면 최대 항목 수 이하로 유지된다")
+    void staysBoundedUnderConcurrentPuts() throws Exception {
+        BoundedConcurrentMap<Integer, Integer> map = new BoundedConcurrentMap<>(1_000);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                int offset = t * 100_000;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        map.put(offset + i, i);
+                        map.get(offset + i / 2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        // 마지막 제거와 겹친 저장은 다음 저장 때 정리된다.
+        map.put(-1, -1);
+
+        assertThat(map.size()).isLessThanOrEqualTo(1_000);
+        assertThat(map.evictionCount()).isPositive();
+    }
+}
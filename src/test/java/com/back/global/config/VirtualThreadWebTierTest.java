@@ -0,0 +1,43 @@
+package com.back.global.config;
+
+import com.back.domain.donation.service.TossConfirmExecutor;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true) 실행기 확인
+ * 플랫폼 스레드와의 동시 부하 비교는 loadTest 태스크(VirtualThreadWebTierLoadTest / PlatformThreadWebTierLoadTest)에서 실행한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:virtual-threads;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+class VirtualThreadWebTierTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private TossConfirmExecutor tossConfirmExecutor;
+
+    @Test
+    @DisplayName("가상 스레드 모드에서 Tomcat 요청 처리와 토스 승인 실행기가 가상 스레드를 사용한다")
+    void usesVirtualThreads() throws Exception {
+        TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+                .isInstanceOf(VirtualThreadExecutor.class);
+
+        assertThat(tossConfirmExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+    }
+}
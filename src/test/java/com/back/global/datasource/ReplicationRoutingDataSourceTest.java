@@ -0,0 +1,153 @@
+package com.back.global.datasource;
+
+import com.back.domain.feed.dto.feed.request.FeedCreateRequest;
+import com.back.domain.feed.entity.FeedType;
+import com.back.domain.feed.entity.FeedVisibility;
+import com.back.domain.feed.service.FeedService;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.MemberRole;
+import com.back.domain.member.repository.MemberRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * primary / 레플리카 라우팅 검증 (H2 인메모리 DB 2개, 복제는 없음)
+ * 레플리카에는 스키마만 복사해 두므로 primary에만 쓴 데이터가 보이면 primary에서 읽은 것이다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.read-your-writes-window=1s"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicationRoutingDataSourceTest {
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private Member writer;
+    private Member reader;
+
+    @BeforeAll
+    void copySchemaToReplica() {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(sql -> !sql.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+
+        writer = memberRepository.save(member());
+        reader = memberRepository.save(member());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로, 쓰기 트랜잭션은 primary로 간다")
+    void readOnlyTransactionsGoToReplica() {
+        Long feedId = feedService.createFeed(request(), writer.getId());
+
+        // 다른 회원은 레플리카에서 읽음 → 복제되지 않은 글은 보이지 않음
+        newRequest();
+        loginAs(reader);
+        assertThatThrownBy(() -> feedService.getFeed(feedId, reader.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new JdbcTemplate(primaryDataSource)
+                .queryForObject("SELECT COUNT(*) FROM feed WHERE id = ?", Long.class, feedId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 본인 읽기는 window 동안 primary로 가고, 이후에는 레플리카로 돌아간다")
+    void readYourWritesWithinWindow() throws InterruptedException {
+        loginAs(writer);
+        Long feedId = feedService.createFeed(request(), writer.getId());
+
+        newRequest();
+        assertThat(feedService.getFeed(feedId, writer.getId()).getId()).isEqualTo(feedId);
+
+        Thread.sleep(1_100);
+        newRequest();
+        assertThatThrownBy(() -> feedService.getFeed(feedId, writer.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("비로그인 요청도 같은 요청 안에서는 자기 쓰기를 읽는다")
+    void readYourWritesWithinRequest() {
+        newRequest();
+        Long feedId = feedService.createFeed(request(), writer.getId());
+
+        assertThat(feedService.getFeed(feedId, null).getId()).isEqualTo(feedId);
+
+        newRequest();
+        assertThatThrownBy(() -> feedService.getFeed(feedId, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** 다음 HTTP 요청 흉내 (테스트 메서드 전체가 하나의 요청으로 묶이지 않도록 요청 속성 교체) */
+    private void newRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private void loginAs(Member member) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(member.getId(), null, List.of()));
+    }
+
+    private Member member() {
+        String suffix = UUID.randomUUID().toString().substring(0, 6);
+        return Member.builder()
+                .name("회원")
+                .nickname("rw" + suffix)
+                .memberCode("RW" + suffix)
+                .role(MemberRole.USER)
+                .build();
+    }
+
+    private FeedCreateRequest request() {
+        return FeedCreateRequest.builder()
+                .feedType(FeedType.GENERAL)
+                .content("라우팅 확인")
+                .visibility(FeedVisibility.PUBLIC)
+                .images(List.of())
+                .tags(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.back.global.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스키마 마이그레이션 실행기 검증 (테스트마다 새 H2 인메모리 DB)
+ */
+class SchemaMigratorTest {
+
+    private static final String LOCATION = "classpath:db/migration-test/{vendor}";
+    private static final String CHANGED_LOCATION = "classpath:db/migration-test-changed/{vendor}";
+
+    @Test
+    @DisplayName("버전 순서대로 적용하고 이력을 남긴다")
+    void appliesMigrationsInOrder() {
+        DataSource dataSource = newDatabase();
+
+        int applied = new SchemaMigrator(dataSource, LOCATION, true).migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(applied).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT description FROM " + SchemaMigrator.HISTORY_TABLE + " ORDER BY version", String.class))
+                .containsExactly("create sample", "add sample index");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM sample WHERE id = 1", String.class)).isEqualTo("first");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_SAMPLE_NAME'", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 적용된 버전은 다시 실행하지 않는다")
+    void skipsAppliedMigrations() {
+        DataSource dataSource = newDatabase();
+        new SchemaMigrator(dataSource, LOCATION, true).migrate();
+
+        int applied = new SchemaMigrator(dataSource, LOCATION, true).migrate();
+
+        assertThat(applied).isZero();
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM sample", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적용된 스크립트의 내용이 바뀌면 실패한다")
+    void failsWhenAppliedMigrationChanged() {
+        DataSource dataSource = newDatabase();
+        new SchemaMigrator(dataSource, LOCATION, true).migrate();
+
+        assertThatThrownBy(() -> new SchemaMigrator(dataSource, CHANGED_LOCATION, true).migrate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("V1__create_sample.sql");
+    }
+
+    @Test
+    @DisplayName("이력 없이 테이블이 있는 DB는 V1을 기준선으로 기록하고 이후 버전만 실행한다")
+    void baselinesExistingSchema() {
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // ddl-auto 로 이미 만들어진 스키마
+        jdbcTemplate.execute("CREATE TABLE sample (id BIGINT PRIMARY KEY, name VARCHAR(50) NOT NULL, deleted_at TIMESTAMP)");
+
+        int applied = new SchemaMigrator(dataSource, LOCATION, true).migrate();
+
+        assertThat(applied).isEqualTo(1);
+        List<String> history = jdbcTemplate.queryForList(
+                "SELECT description FROM " + SchemaMigrator.HISTORY_TABLE + " ORDER BY version", String.class);
+        assertThat(history).containsExactly("<< baseline >> create sample", "add sample index");
+    }
+
+    @Test
+    @DisplayName("기준선을 쓰지 않으면 기존 테이블과 충돌한 스크립트를 롤백하고 실패한다")
+    void failsWithoutBaselineOnExistingSchema() {
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE sample (id BIGINT PRIMARY KEY, name VARCHAR(50) NOT NULL, deleted_at TIMESTAMP)");
+
+        assertThatThrownBy(() -> new SchemaMigrator(dataSource, LOCATION, false).migrate())
+                .isInstanceOf(RuntimeException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + SchemaMigrator.HISTORY_TABLE, Integer.class))
+                .isZero();
+    }
+
+    private DataSource newDatabase() {
+        return new DriverManagerDataSource("jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    }
+}
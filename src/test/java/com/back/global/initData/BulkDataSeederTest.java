@@ -0,0 +1,102 @@
+package com.back.global.initData;
+
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.MemberRole;
+import com.back.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:bulk-seed;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class BulkDataSeederTest {
+
+    private static final int MEMBERS = 2_000;
+    private static final int FEEDS = 10_000;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("대량 시드 데이터는 집계 컬럼과 실제 행이 일치하고, 인기도가 한쪽으로 쏠리며, 이후 JPA 저장과 ID가 겹치지 않는다")
+    void seed() {
+        boolean seeded = bulkDataSeeder.seed(SeedPlan.builder()
+                .members(MEMBERS)
+                .feeds(FEEDS)
+                .togethers(100)
+                .donations(20)
+                .donationPayments(5_000)
+                .build());
+
+        assertThat(seeded).isTrue();
+        assertThat(count("SELECT COUNT(*) FROM members")).isEqualTo(MEMBERS);
+        assertThat(count("SELECT COUNT(*) FROM feed")).isEqualTo(FEEDS);
+
+        // 피드 카운트 컬럼 = 실제 자식 행 수
+        assertThat(count("""
+                SELECT COUNT(*) FROM feed f
+                WHERE f.reaction_count <> (SELECT COUNT(*) FROM feed_reaction r WHERE r.feed_id = f.id)
+                   OR f.bookmark_count <> (SELECT COUNT(*) FROM feed_bookmark b WHERE b.feed_id = f.id)
+                   OR f.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.feed_id = f.id)
+                """)).isZero();
+
+        // 대댓글은 같은 피드의 최상위 댓글에만 달림 (깊이 1)
+        assertThat(count("""
+                SELECT COUNT(*) FROM comment c JOIN comment p ON c.parent_id = p.id
+                WHERE c.feed_id <> p.feed_id OR p.parent_id IS NOT NULL
+                """)).isZero();
+
+        // 모금액 = 결제 원장 합계, 후원자 집계 합계 = 결제 원장 합계
+        assertThat(count("""
+                SELECT COUNT(*) FROM donations d
+                WHERE d.current_amount <> (SELECT COALESCE(SUM(p.amount), 0) FROM donation_payments p WHERE p.donation_id = d.id)
+                """)).isZero();
+        assertThat(count("SELECT SUM(total_amount) FROM donation_donor_summaries"))
+                .isEqualTo(count("SELECT SUM(amount) FROM donation_payments"));
+
+        // 함께하기 참여 인원 = 참여자 행 수, 정원 이하
+        assertThat(count("""
+                SELECT COUNT(*) FROM challenges t
+                WHERE t.participant_count <> (SELECT COUNT(*) FROM participants p WHERE p.together_id = t.id)
+                   OR t.participant_count > t.capacity
+                """)).isZero();
+
+        // Zipf 분포: 상위 1% 피드가 리액션의 상당 부분을 차지
+        List<Long> topReactions = jdbcTemplate.queryForList(
+                "SELECT reaction_count FROM feed ORDER BY reaction_count DESC LIMIT " + FEEDS / 100, Long.class);
+        long topSum = topReactions.stream().mapToLong(Long::longValue).sum();
+        assertThat(topSum).isGreaterThan(count("SELECT SUM(reaction_count) FROM feed") / 5);
+
+        // 시퀀스가 생성한 ID 뒤로 이동 → JPA로 저장해도 충돌 없음
+        Member saved = memberRepository.save(Member.builder()
+                .name("신규")
+                .nickname("newbie")
+                .memberCode("NEWBIE0001")
+                .role(MemberRole.USER)
+                .build());
+        assertThat(saved.getId()).isGreaterThan(MEMBERS);
+
+        // 데이터가 있으면 다시 생성하지 않음
+        assertThat(bulkDataSeeder.seed(SeedPlan.builder().members(10).feeds(10).build())).isFalse();
+    }
+
+    private long count(String sql) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,148 @@
+package com.back.global.jpa;
+
+import com.back.domain.feed.entity.Feed;
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import com.back.global.metrics.QueryCountHeaderAdvice;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * OSIV 없이 조회 API가 서비스 안에서 응답을 완성하는지, 목록 크기가 늘어도 SQL 수가 늘지 않는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:fetch-plan;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FetchPlanTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FetchPlanTest.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long feedId;
+    private long commentId;
+    private long memberId;
+    private long togetherId;
+
+    @BeforeAll
+    void seed() {
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(100)
+                .feeds(300)
+                .togethers(20)
+                .donations(5)
+                .donationPayments(200)
+                .build());
+
+        feedId = jdbcTemplate.queryForObject("SELECT id FROM feed ORDER BY comment_count DESC, id LIMIT 1", Long.class);
+        commentId = jdbcTemplate.queryForObject(
+                "SELECT parent_id FROM comment WHERE parent_id IS NOT NULL ORDER BY id LIMIT 1", Long.class);
+        memberId = jdbcTemplate.queryForObject(
+                "SELECT member_id FROM feed_bookmark GROUP BY member_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        togetherId = jdbcTemplate.queryForObject(
+                "SELECT together_id FROM feed WHERE together_id IS NOT NULL LIMIT 1", Long.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/feeds/scroll?size=%d",
+            "/api/feeds?size=%d",
+            "/api/feeds/members/{member}/scroll?size=%d",
+            "/api/feeds/together/{together}/scroll?size=%d",
+            "/api/feeds/popular?size=%d",
+            "/api/feeds/most-commented?size=%d",
+            "/api/feeds/most-bookmarked?size=%d",
+            "/api/feeds/bookmarks/members/{member}?size=%d",
+            "/api/comments/feeds/{feed}?size=%d",
+            "/api/comments/members/{member}?size=%d",
+            "/api/v1/together/list?size=%d"
+    })
+    @DisplayName("목록 API는 트랜잭션 밖 지연 로딩 없이 응답하고, 목록 크기와 무관하게 SQL 수가 일정하다")
+    void listQueryCountDoesNotGrowWithPageSize(String template) throws Exception {
+        int small = queryCount(template, 2);
+        int large = queryCount(template, 20);
+
+        log.info("{} - size=2: {}건, size=20: {}건", template, small, large);
+        assertThat(large).isLessThanOrEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("상세/대댓글 API는 트랜잭션 밖 지연 로딩 없이 응답한다")
+    void detailEndpointsRespond() throws Exception {
+        // 피드 상세/댓글 전체는 조건부 GET(ETag) 버전 조회 1건 포함
+        assertThat(queryCount("/api/feeds/" + feedId)).isLessThanOrEqualTo(6);
+        assertThat(queryCount("/api/comments/" + commentId + "/replies")).isLessThanOrEqualTo(3);
+        assertThat(queryCount("/api/comments/feeds/" + feedId + "/all")).isLessThanOrEqualTo(5);
+        assertThat(queryCount("/api/v1/together/list/" + togetherId)).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 처리 중 트랜잭션 밖에서 지연 로딩하면 가드가 막는다")
+    void guardRejectsLazyLoadingOutsideTransaction() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            Feed feed = entityManager.find(Feed.class, feedId);
+
+            assertThatThrownBy(() -> feed.getImages().size())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("트랜잭션 밖에서 지연 로딩");
+        } finally {
+            entityManager.close();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private int queryCount(String template, int size) throws Exception {
+        return queryCount(template.formatted(size)
+                .replace("{member}", String.valueOf(memberId))
+                .replace("{together}", String.valueOf(togetherId))
+                .replace("{feed}", String.valueOf(feedId)));
+    }
+
+    private int queryCount(String path) throws Exception {
+        // 앞선 요청이 채운 2차 캐시에 따라 SQL 수가 달라지지 않도록 매번 비우고 측정
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        MvcResult result = mockMvc.perform(get(path)).andReturn();
+        assertThat(result.getResponse().getStatus())
+                .as("%s → %s", path, result.getResponse().getContentAsString())
+                .isEqualTo(200);
+        return Integer.parseInt(result.getResponse().getHeader(QueryCountHeaderAdvice.HEADER_NAME));
+    }
+}
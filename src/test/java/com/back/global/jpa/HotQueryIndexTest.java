@@ -0,0 +1,345 @@
+package com.back.global.jpa;
+
+import com.back.domain.comment.repository.CommentRepository;
+import com.back.domain.donation.repository.DonationPaymentsRepository;
+import com.back.domain.feed.dto.feed.request.FeedSearchCondition;
+import com.back.domain.feed.repository.FeedBookmarkRepository;
+import com.back.domain.feed.repository.FeedReactionRepository;
+import com.back.domain.feed.repository.FeedRepository;
+import com.back.domain.member.entity.SocialProvider;
+import com.back.domain.member.repository.MemberSocialAccountRepository;
+import com.back.domain.member.repository.RefreshTokenRepository;
+import com.back.domain.together.dto.request.TogetherSearchCondition;
+import com.back.domain.together.entity.TogetherStatus;
+import com.back.domain.together.repository.TogetherRepository;
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로별 인덱스 사용 확인
+ *
+ * 시드 데이터를 넣은 DB에서 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 가로채고,
+ * 같은 SQL과 파라미터로 EXPLAIN 을 실행해 기대한 인덱스를 타는지 본다.
+ * (H2 개발 스키마 기준, PostgreSQL 부분 인덱스는 db/migration/postgresql 참고)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:hot-query-index;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotQueryIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HotQueryIndexTest.class);
+
+    private static final Pattern MIGRATION_INDEX_NAME = Pattern.compile(
+            "(?:create index|add constraint)\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SelectRecorder selectRecorder;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private FeedBookmarkRepository feedBookmarkRepository;
+
+    @Autowired
+    private FeedReactionRepository feedReactionRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MemberSocialAccountRepository memberSocialAccountRepository;
+
+    @Autowired
+    private TogetherRepository togetherRepository;
+
+    @Autowired
+    private DonationPaymentsRepository donationPaymentsRepository;
+
+    private long memberId;
+    private long feedId;
+    private long togetherId;
+    private long parentCommentId;
+    private long donationId;
+
+    @BeforeAll
+    void seed() {
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(200)
+                .feeds(2000)
+                .togethers(50)
+                .donations(5)
+                .donationPayments(500)
+                .build());
+
+        memberId = jdbcTemplate.queryForObject(
+                "SELECT member_id FROM feed_bookmark GROUP BY member_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        feedId = jdbcTemplate.queryForObject("SELECT id FROM feed ORDER BY comment_count DESC, id LIMIT 1", Long.class);
+        togetherId = jdbcTemplate.queryForObject(
+                "SELECT together_id FROM feed WHERE together_id IS NOT NULL LIMIT 1", Long.class);
+        parentCommentId = jdbcTemplate.queryForObject(
+                "SELECT parent_id FROM comment WHERE parent_id IS NOT NULL ORDER BY id LIMIT 1", Long.class);
+        donationId = jdbcTemplate.queryForObject(
+                "SELECT donation_id FROM donation_payments GROUP BY donation_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        // 시드 데이터에는 함께하기 댓글이 없어 직접 넣는다. (together_id 통계가 전부 NULL 이면 인덱스 선택이 왜곡됨)
+        jdbcTemplate.update("""
+                INSERT INTO comment (id, comment_type, content, member_id, together_id, reaction_count, created_at, updated_at)
+                SELECT (SELECT MAX(id) FROM comment) + X, 'TOGETHER', '함께하기 댓글',
+                       (SELECT MIN(id) FROM members), (SELECT MIN(id) FROM challenges) + MOD(X, 50),
+                       0, DATEADD('MINUTE', -X, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, 500)
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    Stream<Arguments> hotQueries() {
+        FeedSearchCondition noCondition = FeedSearchCondition.builder().build();
+        return Stream.of(
+                Arguments.of("피드 최신순 목록", (Runnable) () ->
+                        feedRepository.searchFeeds(noCondition, PageRequest.of(0, 20)), "FEED", "IDX_FEED_CREATED_AT"),
+                Arguments.of("작성자 피드 스크롤", (Runnable) () ->
+                        feedRepository.findMemberFeedsForInfiniteScroll(memberId, Long.MAX_VALUE, 21), "FEED", "IDX_FEED_MEMBER_ID"),
+                Arguments.of("함께하기 피드 스크롤", (Runnable) () ->
+                        feedRepository.findTogetherFeedsForInfiniteScroll(togetherId, Long.MAX_VALUE, 21), "FEED", "IDX_FEED_TOGETHER_ID"),
+                Arguments.of("인기 피드", (Runnable) () ->
+                        feedRepository.findPopularFeedsWithCondition(noCondition, 20), "FEED", "IDX_FEED_REACTION_COUNT"),
+                Arguments.of("인기 피드 버전", (Runnable) () ->
+                        feedRepository.findPopularFeedVersions(noCondition, 20), "FEED", "IDX_FEED_REACTION_COUNT"),
+                Arguments.of("댓글 많은 피드", (Runnable) () ->
+                        feedRepository.findTop20ByDeletedAtIsNullOrderByCommentCountDescCreatedAtDesc(), "FEED", "IDX_FEED_COMMENT_COUNT"),
+                Arguments.of("북마크 많은 피드", (Runnable) () ->
+                        feedRepository.findTop20ByDeletedAtIsNullOrderByBookmarkCountDescCreatedAtDesc(), "FEED", "IDX_FEED_BOOKMARK_COUNT"),
+                Arguments.of("태그 검색", (Runnable) () ->
+                        feedRepository.findByTagsWithDynamicQuery(List.of("플로깅"), PageRequest.of(0, 20)), "FEED_TAGS", "IDX_FEED_TAGS_TAG_NAME"),
+                Arguments.of("피드 최상위 댓글", (Runnable) () ->
+                        commentRepository.findByFeedIdAndParentIsNullAndDeletedAtIsNull(
+                                feedId, PageRequest.of(0, 20, Sort.by("createdAt"))), "COMMENT", "IDX_COMMENT_FEED_PARENT"),
+                Arguments.of("함께하기 최상위 댓글", (Runnable) () ->
+                        commentRepository.findByTogetherIdAndParentIsNullAndDeletedAtIsNullOrderByCreatedAtAsc(togetherId),
+                        "COMMENT", "IDX_COMMENT_TOGETHER_PARENT"),
+                Arguments.of("대댓글", (Runnable) () ->
+                        commentRepository.findByParentIdAndDeletedAtIsNullOrderByCreatedAtAsc(parentCommentId), "COMMENT", "IDX_COMMENT_PARENT"),
+                Arguments.of("피드 댓글 목록 버전", (Runnable) () ->
+                        commentRepository.findListVersionByFeedId(feedId), "COMMENT", "IDX_COMMENT_FEED_ID"),
+                Arguments.of("피드 삭제 댓글 청크", (Runnable) () ->
+                        commentRepository.findIdsByFeedId(feedId, 0L, PageRequest.of(0, 500)), "COMMENT", "IDX_COMMENT_FEED_ID"),
+                Arguments.of("대댓글 삭제 청크", (Runnable) () ->
+                        commentRepository.findLiveReplyIds(List.of(parentCommentId), PageRequest.of(0, 500)),
+                        "COMMENT", "IDX_COMMENT_PARENT"),
+                Arguments.of("회원 댓글", (Runnable) () ->
+                        commentRepository.findByMemberIdAndDeletedAtIsNullOrderByCreatedAtDesc(memberId, PageRequest.of(0, 20)),
+                        "COMMENT", "IDX_COMMENT_MEMBER"),
+                Arguments.of("회원 북마크", (Runnable) () ->
+                        feedBookmarkRepository.findBookmarkedFeedsByMemberId(memberId, PageRequest.of(0, 20)),
+                        "FEED_BOOKMARK", "IDX_FEED_BOOKMARK_MEMBER_ID"),
+                Arguments.of("피드 리액션 목록", (Runnable) () ->
+                        feedReactionRepository.findByFeedIdOrderByCreatedAtDesc(feedId, PageRequest.of(0, 20)),
+                        "FEED_REACTION", "IDX_FEED_REACTION_FEED_ID"),
+                Arguments.of("리프레시 토큰 조회", (Runnable) () ->
+                        refreshTokenRepository.findByTokenHash("hash"), "REFRESH_TOKENS", "UK_REFRESH_TOKENS_TOKEN_HASH"),
+                Arguments.of("회원 리프레시 토큰", (Runnable) () ->
+                        refreshTokenRepository.findByMemberId(memberId), "REFRESH_TOKENS", "IDX_REFRESH_TOKENS_MEMBER_ID"),
+                Arguments.of("회원 소셜 계정", (Runnable) () ->
+                        memberSocialAccountRepository.findByMemberIdAndProvider(memberId, SocialProvider.KAKAO),
+                        "MEMBER_SOCIAL_ACCOUNTS", "IDX_MEMBER_SOCIAL_ACCOUNTS_MEMBER_ID"),
+                Arguments.of("함께하기 목록", (Runnable) () ->
+                        togetherRepository.searchForInfiniteScroll(null, null, null, 21), "CHALLENGES", "IDX_CHALLENGES_START_DATE"),
+                Arguments.of("상태별 함께하기 목록", (Runnable) () ->
+                        togetherRepository.searchForInfiniteScroll(
+                                TogetherSearchCondition.builder().status(TogetherStatus.RECRUITING).build(), null, null, 21),
+                        "CHALLENGES", "IDX_CHALLENGES_STATUS_START_DATE"),
+                Arguments.of("후원자 목록", (Runnable) () ->
+                        donationPaymentsRepository.findDonorFirstPage(donationId, PageRequest.of(0, 20)),
+                        "DONATION_PAYMENTS", "IDX_DONATION_PAYMENTS_DONATION_CREATED")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("조회 경로마다 기대한 인덱스를 사용한다")
+    void hotQueryUsesIndex(String name, Runnable repositoryCall, String table, String expectedIndex) {
+        List<RecordedQuery> queries = selectRecorder.record(repositoryCall);
+        assertThat(queries).as(name).isNotEmpty();
+
+        // 목록 조회 뒤에 따라오는 count 쿼리 등은 제외하고 첫 SELECT 기준
+        String plan = explain(queries.getFirst());
+        String usedIndex = indexUsedFor(plan, table);
+        log.info("[{}] {} -> {}", name, table, usedIndex);
+
+        assertThat(usedIndex).as("%s 실행 계획%n%s", name, plan).isNotNull().doesNotContain("tableScan");
+        // H2는 FK마다 단일 컬럼 인덱스를 따로 만들고 비용이 같으면 먼저 만든 쪽을 고른다.
+        // 그 인덱스가 기대한 인덱스의 선두 컬럼과 같으면 같은 접근 경로로 본다. (PostgreSQL 에는 FK 인덱스가 자동 생성되지 않음)
+        // 유니크 제약의 인덱스는 <제약 이름>_INDEX_xx 로 만들어진다.
+        if (!usedIndex.startsWith(expectedIndex)) {
+            assertThat(indexColumns(expectedIndex)).as("%s 실행 계획%n%s", name, plan)
+                    .startsWith(indexColumns(usedIndex).toArray(String[]::new));
+        }
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 마이그레이션의 인덱스/제약 이름은 엔티티에 선언된 이름과 같다")
+    void migrationIndexNamesMatchEntities() throws Exception {
+        Set<String> schemaNames = new HashSet<>();
+        schemaNames.addAll(jdbcTemplate.queryForList(
+                "SELECT UPPER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class));
+        schemaNames.addAll(jdbcTemplate.queryForList(
+                "SELECT UPPER(CONSTRAINT_NAME) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS WHERE TABLE_SCHEMA = 'PUBLIC'",
+                String.class));
+
+        Resource[] migrations = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/postgresql/V*__*.sql");
+        assertThat(migrations).isNotEmpty();
+
+        List<String> migrationNames = new ArrayList<>();
+        for (Resource migration : Stream.of(migrations).sorted(Comparator.comparing(Resource::getFilename)).toList()) {
+            Matcher matcher = MIGRATION_INDEX_NAME.matcher(migration.getContentAsString(StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                if (!matcher.group(1).startsWith("FK")) {
+                    migrationNames.add(matcher.group(1).toUpperCase());
+                }
+            }
+        }
+
+        assertThat(migrationNames).isNotEmpty().allSatisfy(indexName -> assertThat(schemaNames).contains(indexName));
+    }
+
+    /** EXPLAIN 결과에서 테이블 접근에 사용한 인덱스 이름 */
+    private String indexUsedFor(String plan, String table) {
+        Matcher matcher = Pattern.compile("FROM \"PUBLIC\"\\.\"" + table + "\" \"\\w+\"\\s+/\\* PUBLIC\\.([\\w.]+)")
+                .matcher(plan.replace("JOIN \"PUBLIC\"", "FROM \"PUBLIC\""));
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private List<String> indexColumns(String indexName) {
+        return jdbcTemplate.queryForList("""
+                SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS
+                WHERE TABLE_SCHEMA = 'PUBLIC' AND INDEX_NAME = ?
+                ORDER BY ORDINAL_POSITION
+                """, String.class, indexName);
+    }
+
+    private String explain(RecordedQuery query) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query.sql(), String.class, query.parameters()));
+    }
+
+    record RecordedQuery(String sql, Object[] parameters) {
+    }
+
+    /**
+     * record() 실행 중에 나간 SELECT 와 바인딩 파라미터 기록
+     */
+    static class SelectRecorder implements QueryExecutionListener {
+
+        private final List<RecordedQuery> queries = new ArrayList<>();
+        private volatile boolean recording;
+
+        synchronized List<RecordedQuery> record(Runnable call) {
+            queries.clear();
+            recording = true;
+            try {
+                call.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(queries);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (!recording) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (!queryInfo.getQuery().trim().toLowerCase().startsWith("select")) {
+                    continue;
+                }
+                List<ParameterSetOperation> operations = queryInfo.getParametersList().isEmpty()
+                        ? List.of()
+                        : queryInfo.getParametersList().getFirst();
+                Object[] parameters = operations.stream()
+                        .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                        .map(operation -> operation.getArgs()[1])
+                        .toArray();
+                queries.add(new RecordedQuery(queryInfo.getQuery(), parameters));
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class SelectRecorderConfig {
+
+        @Bean
+        SelectRecorder selectRecorder() {
+            return new SelectRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor selectRecorderDataSourcePostProcessor(ObjectProvider<SelectRecorder> recorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(recorder.getObject())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.back.global.jpa.cache;
+
+import com.back.domain.donation.entity.Donations;
+import com.back.domain.donation.repository.DonationRepository;
+import com.back.domain.feed.entity.Feed;
+import com.back.domain.feed.repository.FeedRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.together.entity.Together;
+import com.back.domain.together.repository.TogetherRepository;
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import com.back.global.metrics.QueryCountHeaderAdvice;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 2차 캐시 동작 확인 (회원/피드 이미지 엔티티 영역, 피드 이미지/태그 컬렉션 영역)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2-cache;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.bounded.max_entries.feed-tags=3"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SecondLevelCacheTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheTest.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TogetherRepository togetherRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    private Cache cache;
+    private BoundedRegionFactory regionFactory;
+
+    @BeforeAll
+    void seed() {
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(20)
+                .feeds(30)
+                .togethers(5)
+                .donations(5)
+                .donationPayments(10)
+                .build());
+
+        cache = entityManagerFactory.getCache();
+        regionFactory = (BoundedRegionFactory) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+    }
+
+    @Test
+    @DisplayName("회원은 두 번째 트랜잭션부터 2차 캐시에서 읽는다")
+    void memberIsServedFromCache() {
+        long memberId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM members", Long.class);
+        cache.evict(Member.class, memberId);
+        BoundedStorageAccess storage = storage("member");
+
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findById(memberId).orElseThrow());
+        long hitsBefore = storage.hitCount();
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findById(memberId).orElseThrow());
+
+        assertThat(cache.contains(Member.class, memberId)).isTrue();
+        assertThat(storage.hitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("엔티티 변경은 커밋 후 캐시에 반영된다 (read-write)")
+    void entityUpdateIsVisibleThroughCache() {
+        long memberId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM members", Long.class);
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findById(memberId).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status ->
+                memberRepository.findById(memberId).orElseThrow().updateNickname("캐시갱신"));
+
+        String nickname = transactionTemplate.execute(status ->
+                memberRepository.findById(memberId).orElseThrow().getNickname());
+        assertThat(nickname).isEqualTo("캐시갱신");
+    }
+
+    @Test
+    @DisplayName("카운터를 JPQL 일괄 UPDATE로 바꾸는 함께하기/후원은 캐시하지 않고, 그 UPDATE가 다른 영역을 비우지 않는다")
+    void counterEntitiesAreNotCached() {
+        long togetherId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM challenges", Long.class);
+        long donationId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM donations", Long.class);
+        long memberId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM members", Long.class);
+        jdbcTemplate.update("UPDATE challenges SET participant_count = 1 WHERE id = ?", togetherId);
+        transactionTemplate.executeWithoutResult(status -> {
+            togetherRepository.findById(togetherId).orElseThrow();
+            donationRepository.findById(donationId).orElseThrow();
+            memberRepository.findById(memberId).orElseThrow();
+        });
+        assertThat(cache.contains(Together.class, togetherId)).isFalse();
+        assertThat(cache.contains(Donations.class, donationId)).isFalse();
+        assertThat(cache.contains(Member.class, memberId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            togetherRepository.decreaseParticipantCount(togetherId);
+            donationRepository.increaseCurrentAmount(donationId, 1000L);
+        });
+
+        assertThat(cache.contains(Member.class, memberId)).isTrue();
+        int participantCount = transactionTemplate.execute(status ->
+                togetherRepository.findById(togetherId).orElseThrow().getParticipantCount());
+        assertThat(participantCount).isZero();
+    }
+
+    @Test
+    @DisplayName("피드 이미지/태그 컬렉션은 컬렉션 영역에 캐시된다")
+    void feedCollectionsAreCached() {
+        long feedId = jdbcTemplate.queryForObject(
+                "SELECT feed_id FROM feed_image GROUP BY feed_id ORDER BY feed_id LIMIT 1", Long.class);
+
+        List<String> firstLoad = transactionTemplate.execute(status -> imageUrls(feedRepository.findById(feedId).orElseThrow()));
+        long hitsBefore = storage("feed-images").hitCount();
+        List<String> secondLoad = transactionTemplate.execute(status -> imageUrls(feedRepository.findById(feedId).orElseThrow()));
+
+        assertThat(secondLoad).isNotEmpty().isEqualTo(firstLoad);
+        assertThat(storage("feed-images").hitCount()).isEqualTo(hitsBefore + 1);
+        assertThat(storage("feed-tags").size()).isPositive();
+    }
+
+    @Test
+    @DisplayName("영역별 최대 항목 수를 넘으면 오래 사용하지 않은 항목부터 제거된다")
+    void regionIsBounded() {
+        List<Long> feedIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT feed_id FROM feed_tags ORDER BY feed_id LIMIT 6", Long.class);
+        assertThat(feedIds).hasSizeGreaterThan(3);
+
+        BoundedStorageAccess storage = storage("feed-tags");
+        long missesBefore = storage.missCount();
+        for (Long feedId : feedIds) {
+            transactionTemplate.executeWithoutResult(status -> feedRepository.findById(feedId).orElseThrow().getTags().size());
+        }
+        // 마지막에 읽은 피드의 태그는 남아 있어 다시 읽어도 캐시 미스가 늘지 않는다.
+        long missesAfterLoad = storage.missCount();
+        transactionTemplate.executeWithoutResult(status ->
+                feedRepository.findById(feedIds.getLast()).orElseThrow().getTags().size());
+
+        assertThat(storage.getMaxEntries()).isEqualTo(3);
+        assertThat(storage.size()).isLessThanOrEqualTo(3);
+        assertThat(storage.evictionCount()).isPositive();
+        assertThat(missesAfterLoad).isGreaterThan(missesBefore);
+        assertThat(storage.missCount()).isEqualTo(missesAfterLoad);
+    }
+
+    @Test
+    @DisplayName("영역 통계가 Micrometer 캐시 메트릭으로 노출된다")
+    void regionStatisticsAreExposed() {
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "member").tag("result", "hit").functionCounter())
+                .isNotNull();
+        assertThat(meterRegistry.find("cache.size").tag("cache", "feed-images").gauge()).isNotNull();
+        assertThat(meterRegistry.find("app.cache.max.entries").tag("cache", "member").gauge().value())
+                .isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("캐시가 채워지면 피드 상세와 함께하기 댓글 작성의 SQL 수가 줄어든다")
+    void warmCacheReducesStatements() throws Exception {
+        long feedId = jdbcTemplate.queryForObject(
+                "SELECT feed_id FROM feed_image GROUP BY feed_id ORDER BY feed_id LIMIT 1", Long.class);
+        long togetherId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM challenges", Long.class);
+        RequestBuilder detail = get("/api/feeds/" + feedId);
+        RequestBuilder comment = post("/api/comments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"commentType":"TOGETHER","content":"캐시 확인","targetId":%d}
+                        """.formatted(togetherId));
+
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictAllRegions();
+        int coldDetail = queryCount(detail);
+        int warmDetail = queryCount(detail);
+        int coldComment = queryCount(comment);
+        int warmComment = queryCount(comment);
+
+        log.info("SQL 수 - 피드 상세: {} → {}, 함께하기 댓글 작성: {} → {}", coldDetail, warmDetail, coldComment, warmComment);
+        assertThat(warmDetail).isLessThan(coldDetail);
+        assertThat(warmComment).isLessThan(coldComment);
+    }
+
+    private int queryCount(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus())
+                .as(result.getResponse().getContentAsString())
+                .isBetween(200, 201);
+        return Integer.parseInt(result.getResponse().getHeader(QueryCountHeaderAdvice.HEADER_NAME));
+    }
+
+    private List<String> imageUrls(Feed feed) {
+        feed.getTags().size();
+        return feed.getImages().stream().map(image -> image.getImageUrl()).toList();
+    }
+
+    private BoundedStorageAccess storage(String regionName) {
+        return regionFactory.getStorages().stream()
+                .filter(storage -> storage.getRegionName().equals(regionName))
+                .findFirst()
+                .orElseThrow();
+    }
+}
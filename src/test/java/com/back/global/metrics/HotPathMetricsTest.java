@@ -0,0 +1,63 @@
+package com.back.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:metrics;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class HotPathMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("요청 시 서비스 메서드 시간, 요청당 SQL 수, X-Query-Count 헤더가 기록된다")
+    void recordsHotPathMetrics() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/feeds/scroll").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String header = result.getResponse().getHeader(QueryCountHeaderAdvice.HEADER_NAME);
+        assertThat(header).isNotNull();
+        assertThat(Integer.parseInt(header)).isPositive();
+
+        Timer serviceTimer = meterRegistry.find("app.service.method")
+                .tags("class", "FeedService", "method", "getFeedListInfiniteScroll", "exception", "none")
+                .timer();
+        assertThat(serviceTimer).isNotNull();
+        assertThat(serviceTimer.count()).isEqualTo(1);
+
+        Timer repositoryTimer = meterRegistry.find("app.repository.method")
+                .tags("class", "FeedRepositoryImpl")
+                .timer();
+        assertThat(repositoryTimer).isNotNull();
+
+        DistributionSummary statements = meterRegistry.find("app.http.jdbc.statements")
+                .tags("method", "GET", "uri", "/api/feeds/scroll")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(Double.parseDouble(header));
+
+        assertThat(meterRegistry.find("app.jdbc.statements").tag("type", "select").counter().count()).isPositive();
+    }
+}
@@ -0,0 +1,269 @@
+package com.back.global.retention;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 기간 정리 검증 (배치 크기 20, 대기 없음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:retention;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.retention.batch-size=20",
+        "app.retention.batch-pause=0ms"
+})
+class RetentionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 4, 30);
+
+    @Autowired
+    private RetentionService retentionService;
+
+    @Autowired
+    private List<RetentionPolicy> policies;
+
+    @Autowired
+    private RetentionArchiveRepository archiveRepository;
+
+    @Autowired
+    private RetentionCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void resetBatchLimit() {
+        ReflectionTestUtils.setField(retentionService, "maxBatchesPerRun", 2000);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 피드는 댓글 트리, 이미지, 태그, 리액션과 함께 보관 후 물리 삭제된다")
+    void purgeExpiredFeedWithChildren() throws IOException {
+        long owner = insertMember(null);
+        long other = insertMember(null);
+        LocalDateTime expired = NOW.minusDays(40);
+
+        long feedId = insertFeed(owner, expired);
+        long recentFeedId = insertFeed(owner, NOW.minusDays(5));
+        long liveFeedId = insertFeed(owner, null);
+
+        // 부모/대댓글이 같은 배치에 걸리도록 작은 트리 여러 개
+        List<Long> comments = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            long parent = insertComment(feedId, null, owner, expired);
+            comments.add(parent);
+            long reply = insertComment(feedId, parent, owner, expired);
+            comments.add(reply);
+            comments.add(insertComment(feedId, reply, owner, expired));
+        }
+        insertCommentReaction(comments.getFirst(), other);
+        insertComment(liveFeedId, null, owner, null);
+
+        jdbcTemplate.update("INSERT INTO feed_image (id, feed_id, image_url, display_order, width, height, created_at) "
+                + "VALUES (NEXT VALUE FOR feed_image_seq, ?, 'https://img/1.jpg', 0, 10, 10, CURRENT_TIMESTAMP)", feedId);
+        jdbcTemplate.update("INSERT INTO feed_tags (feed_id, tag_name) VALUES (?, '보관')", feedId);
+        jdbcTemplate.update("INSERT INTO feed_reaction (id, feed_id, member_id, created_at) "
+                + "VALUES (NEXT VALUE FOR feed_reaction_seq, ?, ?, CURRENT_TIMESTAMP)", feedId, other);
+
+        List<RetentionService.Result> results = retentionService.purgeAll(NOW);
+
+        RetentionService.Result commentResult = result(results, "comment");
+        assertThat(commentResult.deletedRows("comment")).isEqualTo(45);
+        assertThat(commentResult.deletedRows("comment_reaction")).isEqualTo(1);
+        RetentionService.Result feedResult = result(results, "feed");
+        assertThat(feedResult.deletedRows("feed")).isEqualTo(1);
+        assertThat(feedResult.deletedRows("feed_image")).isEqualTo(1);
+        assertThat(feedResult.deletedRows("feed_tags")).isEqualTo(1);
+        assertThat(feedResult.deletedRows("feed_reaction")).isEqualTo(1);
+        assertThat(feedResult.reclaimedBytes()).isPositive();
+        assertThat(feedResult.archivedBytes()).isPositive();
+
+        assertThat(count("SELECT COUNT(*) FROM feed WHERE id IN (?, ?, ?)", feedId, recentFeedId, liveFeedId)).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM comment WHERE feed_id = ?", feedId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comment WHERE feed_id = ?", liveFeedId)).isEqualTo(1);
+
+        List<Map<String, Object>> archivedFeeds = archivedRows("feed");
+        assertThat(archivedFeeds).anySatisfy(row -> {
+            assertThat(((Number) row.get("id")).longValue()).isEqualTo(feedId);
+            assertThat(row.get("content")).isEqualTo("보관 대상");
+        });
+        assertThat(archivedRows("feed_tags")).anySatisfy(row -> assertThat(row.get("tag_name")).isEqualTo("보관"));
+        assertThat(archivedRows("comment")).hasSizeGreaterThanOrEqualTo(45);
+        assertThat(checkpointRepository.findAll()).isEmpty();
+        assertThat(meterRegistry.find("app.retention.rows").tag("table", "feed").tag("action", "archived").counter())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원은 참조가 남아 있지 않을 때만 소셜 계정, 토큰과 함께 삭제된다")
+    void purgeWithdrawnMembersWithoutReferences() {
+        LocalDateTime withdrawn = NOW.minusDays(100);
+        long clean = insertMember(withdrawn);
+        long author = insertMember(withdrawn);
+        long recent = insertMember(NOW.minusDays(10));
+        insertFeed(author, null);
+        jdbcTemplate.update("INSERT INTO member_social_accounts (id, member_id, provider, provider_id, created_at) "
+                + "VALUES (NEXT VALUE FOR member_social_accounts_seq, ?, 'KAKAO', ?, CURRENT_TIMESTAMP)", clean, "k-" + clean);
+        insertRefreshToken(clean, NOW.plusDays(3), false);
+
+        RetentionService.Result result = retentionService.purge(policy("members"), NOW);
+
+        assertThat(result.deletedRows("members")).isEqualTo(1);
+        assertThat(result.deletedRows("member_social_accounts")).isEqualTo(1);
+        assertThat(result.deletedRows("refresh_tokens")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM members WHERE id = ?", clean)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM members WHERE id IN (?, ?)", author, recent)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료/무효화 후 보관 기간이 지난 Refresh Token만 보관 없이 삭제된다")
+    void purgeExpiredAndRevokedRefreshTokens() {
+        long member = insertMember(null);
+        long expired = insertRefreshToken(member, NOW.minusDays(8), false);
+        long revoked = insertRefreshToken(member, NOW.plusDays(3), true);
+        long valid = insertRefreshToken(member, NOW.plusDays(3), false);
+        long recentlyExpired = insertRefreshToken(member, NOW.minusDays(1), false);
+        int archivesBefore = archiveRepository.findBySourceTableOrderByMinIdDesc("refresh_tokens").size();
+
+        retentionService.purge(policy("refresh_tokens"), NOW);
+
+        assertThat(count("SELECT COUNT(*) FROM refresh_tokens WHERE id IN (?, ?)", expired, revoked)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM refresh_tokens WHERE id IN (?, ?)", valid, recentlyExpired)).isEqualTo(2);
+        assertThat(archiveRepository.findBySourceTableOrderByMinIdDesc("refresh_tokens")).hasSize(archivesBefore);
+    }
+
+    @Test
+    @DisplayName("배치 수 한도에서 멈추면 체크포인트를 남기고 다음 실행이 이어서 처리한다")
+    void resumeFromCheckpoint() {
+        long owner = insertMember(null);
+        long feedId = insertFeed(owner, null);
+        LocalDateTime expired = NOW.minusDays(40);
+        List<Long> comments = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            comments.add(insertComment(feedId, null, owner, expired));
+        }
+        ReflectionTestUtils.setField(retentionService, "maxBatchesPerRun", 2);
+
+        RetentionService.Result first = retentionService.purge(policy("comment"), NOW);
+
+        assertThat(first.paused()).isTrue();
+        assertThat(first.deletedRows("comment")).isEqualTo(40);
+        RetentionCheckpoint checkpoint = checkpointRepository.findById("comment").orElseThrow();
+        assertThat(checkpoint.getCursorId()).isEqualTo(comments.get(60));
+        // 체크포인트 위쪽은 이미 처리됨
+        assertThat(count("SELECT COUNT(*) FROM comment WHERE feed_id = ? AND id >= ?", feedId, comments.get(60)))
+                .isZero();
+
+        RetentionService.Result second = retentionService.purge(policy("comment"), NOW);
+        RetentionService.Result third = retentionService.purge(policy("comment"), NOW);
+
+        assertThat(second.deletedRows("comment")).isEqualTo(40);
+        assertThat(third.deletedRows("comment")).isEqualTo(20);
+        assertThat(third.paused()).isFalse();
+        assertThat(count("SELECT COUNT(*) FROM comment WHERE feed_id = ?", feedId)).isZero();
+        assertThat(checkpointRepository.findById("comment")).isEmpty();
+    }
+
+    private RetentionPolicy policy(String table) {
+        return policies.stream().filter(policy -> policy.table().equals(table)).findFirst().orElseThrow();
+    }
+
+    private RetentionService.Result result(List<RetentionService.Result> results, String policy) {
+        return results.stream().filter(result -> result.policy().equals(policy)).findFirst().orElseThrow();
+    }
+
+    private List<Map<String, Object>> archivedRows(String table) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (RetentionArchive archive : archiveRepository.findBySourceTableOrderByMinIdDesc(table)) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(archive.getPayload()))) {
+                List<Map<String, Object>> segment = objectMapper.readValue(in, new TypeReference<>() {
+                });
+                assertThat(segment).hasSize(archive.getRowCount());
+                rows.addAll(segment);
+            }
+        }
+        return rows;
+    }
+
+    private long insertMember(LocalDateTime deletedAt) {
+        long id = nextId("members_seq");
+        jdbcTemplate.update("INSERT INTO members (id, member_code, role, created_at, deleted_at) "
+                        + "VALUES (?, ?, 'USER', CURRENT_TIMESTAMP, ?)",
+                id, UUID.randomUUID().toString().substring(0, 10), timestamp(deletedAt));
+        return id;
+    }
+
+    private long insertFeed(long memberId, LocalDateTime deletedAt) {
+        long id = nextId("feed_seq");
+        jdbcTemplate.update("""
+                INSERT INTO feed (id, member_id, content, feed_type, visibility, reaction_count, comment_count, bookmark_count,
+                                  created_at, deleted_at)
+                VALUES (?, ?, '보관 대상', 'GENERAL', 'PUBLIC', 0, 0, 0, CURRENT_TIMESTAMP, ?)
+                """, id, memberId, timestamp(deletedAt));
+        return id;
+    }
+
+    private long insertComment(long feedId, Long parentId, long memberId, LocalDateTime deletedAt) {
+        long id = nextId("comment_seq");
+        jdbcTemplate.update("""
+                INSERT INTO comment (id, comment_type, content, feed_id, parent_id, member_id, reaction_count, created_at, deleted_at)
+                VALUES (?, 'FEED', '댓글', ?, ?, ?, 0, CURRENT_TIMESTAMP, ?)
+                """, id, feedId, parentId, memberId, timestamp(deletedAt));
+        return id;
+    }
+
+    private void insertCommentReaction(long commentId, long memberId) {
+        jdbcTemplate.update("INSERT INTO comment_reaction (id, comment_id, member_id, created_at) "
+                + "VALUES (NEXT VALUE FOR comment_reaction_seq, ?, ?, CURRENT_TIMESTAMP)", commentId, memberId);
+    }
+
+    private long insertRefreshToken(long memberId, LocalDateTime expiresAt, boolean revoked) {
+        long id = nextId("refresh_tokens_seq");
+        Timestamp updatedAt = timestamp(NOW.minusDays(10));
+        jdbcTemplate.update("INSERT INTO refresh_tokens (id, member_id, token_hash, expires_at, revoked, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                id, memberId, UUID.randomUUID().toString(), timestamp(expiresAt), revoked, updatedAt, updatedAt);
+        return id;
+    }
+
+    private long nextId(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
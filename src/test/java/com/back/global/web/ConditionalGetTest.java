@@ -0,0 +1,120 @@
+package com.back.global.web;
+
+import com.back.domain.feed.dto.feed.request.FeedUpdateRequest;
+import com.back.domain.feed.service.FeedService;
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 GET 검증 (ETag / If-None-Match)
+ * 동시 요청으로 본문 크기와 SQL 수를 비교하는 측정은 loadTest 태스크(ConditionalGetLoadTest)에서 실행한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:conditional-get;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalGetTest {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long feedId;
+
+    @BeforeAll
+    void seed() {
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(20)
+                .feeds(30)
+                .togethers(2)
+                .donations(1)
+                .donationPayments(0)
+                .days(7)
+                .build());
+        feedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM feed WHERE deleted_at IS NULL ORDER BY comment_count DESC, id LIMIT 1", Long.class);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 일치하면 본문 없이 304를 반환한다")
+    void matchingETagReturnsNotModified() throws Exception {
+        for (String path : List.of("/api/feeds/" + feedId, "/api/feeds/popular?size=20",
+                "/api/comments/feeds/" + feedId + "?size=20", "/api/comments/feeds/" + feedId + "/all")) {
+            HttpResponse<String> first = send(path, null);
+            assertThat(first.statusCode()).as(first.body()).isEqualTo(200);
+            assertThat(first.headers().firstValue("Cache-Control")).get().asString().contains("no-cache");
+            String eTag = first.headers().firstValue("ETag").orElseThrow();
+
+            HttpResponse<String> notModified = send(path, eTag);
+            assertThat(notModified.statusCode()).as(path).isEqualTo(304);
+            assertThat(notModified.body()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("내용이 바뀌면 이전 ETag로 요청해도 새 ETag와 함께 200을 반환한다")
+    void changedResourceReturnsNewETag() throws Exception {
+        String feedPath = "/api/feeds/" + feedId;
+        String commentsPath = "/api/comments/feeds/" + feedId + "?size=20";
+        String feedETag = send(feedPath, null).headers().firstValue("ETag").orElseThrow();
+        String commentsETag = send(commentsPath, null).headers().firstValue("ETag").orElseThrow();
+        assertThat(send(feedPath, feedETag).statusCode()).isEqualTo(304);
+        assertThat(send(commentsPath, commentsETag).statusCode()).isEqualTo(304);
+
+        // 태그만 바꿔도 (피드 행의 컬럼 변경 없음) 수정 시각이 바뀌어 ETag가 달라진다.
+        long ownerId = jdbcTemplate.queryForObject("SELECT member_id FROM feed WHERE id = ?", Long.class, feedId);
+        feedService.updateFeed(feedId, FeedUpdateRequest.builder().tags(List.of("조건부요청")).images(null).build(), ownerId);
+        HttpResponse<String> feedResponse = send(feedPath, feedETag);
+        assertThat(feedResponse.statusCode()).isEqualTo(200);
+        assertThat(feedResponse.body()).contains("조건부요청");
+        assertThat(feedResponse.headers().firstValue("ETag")).get().isNotEqualTo(feedETag);
+
+        jdbcTemplate.update("""
+                UPDATE comment SET content = '수정된 댓글', updated_at = DATEADD('SECOND', 1, updated_at)
+                WHERE id = (SELECT MAX(id) FROM comment WHERE feed_id = ?)
+                """, feedId);
+        HttpResponse<String> commentsResponse = send(commentsPath, commentsETag);
+        assertThat(commentsResponse.statusCode()).isEqualTo(200);
+        assertThat(commentsResponse.headers().firstValue("ETag")).get().isNotEqualTo(commentsETag);
+    }
+
+    private HttpResponse<String> send(String path, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path)).GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,185 @@
+package com.back.global.web;
+
+import com.back.global.initData.BulkDataSeeder;
+import com.back.global.initData.SeedPlan;
+import com.back.global.metrics.QueryCountHeaderAdvice;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 응답 필드 선택 (fields) / 본문 미리보기 (previewLength) 검증
+ *
+ * 1. 전체 필드를 요청하면 기존 응답 DTO와 같은 JSON
+ * 2. 요청한 필드만 응답하고 본문은 SQL에서 잘라 조회 (응답 크기, 요청당 SQL 수 비교)
+ * 3. 지원하지 않는 필드는 400
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:sparse-fields;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SparseFieldsTest {
+
+    private static final String FEED_FIELDS = "id,feedType,content,thumbnailUrl,imageCount,tags,reactionCount,"
+            + "commentCount,bookmarkCount,authorId,authorName,authorNickname,authorProfileImage,togetherId,"
+            + "togetherTitle,createdAt";
+    private static final String COMMENT_FIELDS = "id,commentType,content,authorId,authorName,authorNickname,"
+            + "authorProfileImage,targetId,parentId,reply,replies,replyCount,reactionCount,isReacted,createdAt,updatedAt";
+    private static final String TOGETHER_FIELDS = "id,title,description,category,mode,capacity,participantCount,"
+            + "startDate,endDate,status,organizerId";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long feedId;
+    private long memberId;
+
+    @BeforeAll
+    void seed() {
+        bulkDataSeeder.seed(SeedPlan.builder()
+                .members(50)
+                .feeds(300)
+                .togethers(30)
+                .donations(1)
+                .donationPayments(0)
+                .days(7)
+                .build());
+        feedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM feed WHERE deleted_at IS NULL ORDER BY comment_count DESC, id LIMIT 1", Long.class);
+        memberId = jdbcTemplate.queryForObject(
+                "SELECT member_id FROM feed GROUP BY member_id ORDER BY COUNT(*) DESC, member_id LIMIT 1", Long.class);
+        // 미리보기 길이보다 긴 본문
+        jdbcTemplate.update("UPDATE feed SET content = CONCAT(content, ' ', REPEAT('긴 본문 ', 50))");
+        // 태그 이름순과 다른 순서로 저장된 태그 (첫 페이지의 피드)
+        long latestFeedId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM feed WHERE deleted_at IS NULL", Long.class);
+        jdbcTemplate.update("DELETE FROM feed_tags WHERE feed_id = ?", latestFeedId);
+        for (String tag : List.of("하늘", "가을", "바다")) {
+            jdbcTemplate.update("INSERT INTO feed_tags (feed_id, tag_name) VALUES (?, ?)", latestFeedId, tag);
+        }
+    }
+
+    @Test
+    @DisplayName("전체 필드를 요청하면 기존 응답과 같은 JSON을 반환한다")
+    void allFieldsMatchFullResponse() throws Exception {
+        assertSameContent("/api/feeds/scroll?size=20", FEED_FIELDS, "/content");
+        assertSameContent("/api/feeds/members/" + memberId + "/scroll?size=20", FEED_FIELDS, "/content");
+        assertSameContent("/api/comments/feeds/" + feedId + "?size=20", COMMENT_FIELDS, "/content");
+        assertSameContent("/api/v1/together/list?size=20", TOGETHER_FIELDS, "/data/content");
+    }
+
+    @Test
+    @DisplayName("요청한 필드만 응답하고 본문은 미리보기 길이로 잘라 한 번의 쿼리로 조회한다")
+    void selectsOnlyRequestedFieldsWithPreview() throws Exception {
+        Response full = call("/api/feeds/scroll?size=20");
+        Response sparse = call("/api/feeds/scroll?size=20&fields=id,content&previewLength=10");
+
+        assertThat(sparse.json().get("nextCursor")).isEqualTo(full.json().get("nextCursor"));
+        assertPreview(full.json().get("content"), sparse.json().get("content"), "content", 10, List.of("id", "content"));
+        // 작성자/함께하기 조인, 이미지/태그 조회 없이 피드 한 번
+        assertThat(sparse.queryCount()).isEqualTo(1);
+        assertThat(sparse.bytes()).isLessThan(full.bytes() / 5);
+
+        // 대댓글도 같은 필드로 응답 (대댓글의 replies는 null)
+        String commentsPath = "/api/comments/feeds/" + feedId + "?size=20";
+        Response fullComments = call(commentsPath);
+        Response sparseComments = call(commentsPath + "&fields=id,content,replies&previewLength=5");
+        assertPreview(fullComments.json().get("content"), sparseComments.json().get("content"), "content", 5,
+                List.of("id", "content", "replies"));
+        assertThat(sparseComments.json().get("totalElements")).isEqualTo(fullComments.json().get("totalElements"));
+        assertThat(sparseComments.bytes()).isLessThan(fullComments.bytes());
+
+        Response fullTogethers = call("/api/v1/together/list?size=20");
+        Response sparseTogethers = call("/api/v1/together/list?size=20&fields=id,description&previewLength=3");
+        JsonNode fullData = fullTogethers.json().get("data");
+        JsonNode sparseData = sparseTogethers.json().get("data");
+        assertThat(sparseData.get("nextStartDate")).isEqualTo(fullData.get("nextStartDate"));
+        assertThat(sparseData.get("nextCursor")).isEqualTo(fullData.get("nextCursor"));
+        assertPreview(fullData.get("content"), sparseData.get("content"), "description", 3, List.of("id", "description"));
+        assertThat(sparseTogethers.bytes()).isLessThan(fullTogethers.bytes());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 필드를 요청하면 400을 반환한다")
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/api/feeds/scroll").param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("COMMON008"));
+        mockMvc.perform(get("/api/comments/feeds/" + feedId).param("fields", "member"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/together/list").param("fields", "title,member"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void assertSameContent(String path, String fields, String contentPointer) throws Exception {
+        JsonNode expected = call(path).json().at(contentPointer);
+        JsonNode actual = call(path + "&fields=" + fields).json().at(contentPointer);
+
+        assertThat(expected.isEmpty()).isFalse();
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void assertPreview(JsonNode fullItems, JsonNode sparseItems, String textField, int previewLength,
+                               List<String> fieldNames) {
+        assertThat(sparseItems.size()).isEqualTo(fullItems.size()).isPositive();
+        for (int i = 0; i < fullItems.size(); i++) {
+            JsonNode sparseItem = sparseItems.get(i);
+            List<String> names = new ArrayList<>();
+            sparseItem.fieldNames().forEachRemaining(names::add);
+            assertThat(names).containsExactlyElementsOf(fieldNames);
+            assertThat(sparseItem.get("id")).isEqualTo(fullItems.get(i).get("id"));
+
+            String text = fullItems.get(i).get(textField).asText();
+            assertThat(sparseItem.get(textField).asText()).isEqualTo(text.substring(0, Math.min(previewLength, text.length())));
+
+            if (sparseItem.has("replies")) {
+                for (JsonNode reply : sparseItem.get("replies")) {
+                    assertThat(reply.get(textField).asText().length()).isLessThanOrEqualTo(previewLength);
+                    assertThat(reply.get("replies").isNull()).isTrue();
+                }
+                assertThat(sparseItem.get("replies").size()).isEqualTo(fullItems.get(i).get("replies").size());
+            }
+        }
+    }
+
+    private Response call(String path) throws Exception {
+        MvcResult result = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn();
+        byte[] body = result.getResponse().getContentAsByteArray();
+        return new Response(objectMapper.readTree(body), body.length,
+                Integer.parseInt(result.getResponse().getHeader(QueryCountHeaderAdvice.HEADER_NAME)));
+    }
+
+    private record Response(JsonNode json, int bytes, int queryCount) {
+    }
+}
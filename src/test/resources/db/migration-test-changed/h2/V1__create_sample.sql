@@ -0,0 +1,6 @@
+-- 적용 후 내용이 바뀐 스크립트 (checksum 불일치)
+create table sample (
+    id bigint primary key,
+    name varchar(100) not null,
+    deleted_at timestamp
+);
@@ -0,0 +1,6 @@
+-- 마이그레이션 실행기 테스트용 기준 스키마
+create table sample (
+    id bigint primary key,
+    name varchar(50) not null,
+    deleted_at timestamp
+);
@@ -0,0 +1,3 @@
+create index idx_sample_name on sample (name, deleted_at);
+
+insert into sample (id, name) values (1, 'first');